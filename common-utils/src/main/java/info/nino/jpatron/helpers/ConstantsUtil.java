@@ -4,9 +4,15 @@ public class ConstantsUtil
 {
     //CONFIG KEYS
     public static final String ENTITY_SERVICE_DATE_FORMAT_PATTERN = "jpatron.database-service.parser.date.format-pattern";
+    public static final String ENTITY_SERVICE_SEARCH_TEXT_SEARCH_CONFIG = "jpatron.database-service.search.text-search-config";
+    public static final String ENTITY_SERVICE_QUERY_EXECUTOR_THREADS = "jpatron.database-service.query-executor.threads";
     public static final String JSON_API_INTERFACE_THROW_INVALID_PATH_EXCEPTION = "jpatron.json-api-interface.throw-invalid-path-exception";
+    public static final String JPATRON_API_INTERFACE_THROW_INVALID_PATH_EXCEPTION = "jpatron.jpatron-api-interface.throw-invalid-path-exception";
     public static final String EFD_API_INTERFACE_SEARCH_ESCAPE_CHARACTERS = "jpatron.efd-api-interface.search-escape-characters";
 
+    //FIELD NAMES
+    public static final String ID_FIELD = "id";
+
     //SPECIAL CHARACTERS
     public static final char COMMA = ',';
 }
@@ -1,8 +1,11 @@
 package info.nino.jpatron.helpers;
 
 import java.text.SimpleDateFormat;
+import java.time.format.DateTimeFormatter;
 import java.util.Date;
+import java.util.Map;
 import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -22,6 +25,19 @@ public class DateTimeFormatUtil
     public static final String TIMESTAMP_PATTERN_ISO8601 = "yyyy-MM-dd'T'HH:mm:ss.SSSXXX";  //2001-07-04T12:08:56.235-07:00
     //public static final String TIMESTAMP_PATTERN_ISO8601_ZONE = "yyyy-MM-dd'T'HH:mm:ss.SSSZ";  //2001-07-04T12:08:56.235-0700
 
+    //NOTICE: DateTimeFormatter is immutable &amp; thread-safe (unlike SimpleDateFormat) - formatters are shared by pattern
+    private static final Map<String, DateTimeFormatter> FORMATTERS_CACHE = new ConcurrentHashMap<>();
+
+    /**
+     * Cached java.time formatter of the format pattern (e.g. TIMESTAMP_PATTERN_ISO8601)
+     * @param pattern format pattern (DateTimeFormatter syntax - compatible with SimpleDateFormat for patterns defined here)
+     * @return thread-safe formatter
+     */
+    public static DateTimeFormatter getDateTimeFormatter(String pattern)
+    {
+        return FORMATTERS_CACHE.computeIfAbsent(pattern, DateTimeFormatter::ofPattern);
+    }
+
     public static String formatDateTime(String pattern, Date date)
     {
         return DateTimeFormatUtil.formatDateTime(pattern, date, null);
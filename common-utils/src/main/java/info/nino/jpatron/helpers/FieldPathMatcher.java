@@ -0,0 +1,169 @@
+package info.nino.jpatron.helpers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Allowed field-paths matcher - wildcard field-paths compiled once into path-segment trie
+ * Supported field-path wildcards (leading '.' is optional - field-paths are always relative to root object):
+ * '.' - matches any field in current path (e.g. '.' - any root field, 'person.' - any field directly in 'person' object)
+ * '*' - matches any field in current and subsequent paths (e.g. '.*' - every field, 'person.*' - any field under 'person' object)
+ * 'object.field' - exact field-path (e.g. 'person.name')
+ * '!' prefix - excludes matched field-paths (e.g. '!person.password', '!person.secrets.*')
+ * Matching of field-paths is thread-safe &amp; allocation-free
+ */
+public class FieldPathMatcher
+{
+    private static final char PATH_SEPARATOR = ReflectionHelper.PATH_SEPARATOR.charAt(0);
+    private static final String ANY_SEGMENT = "";
+    private static final String ANY_SEGMENTS = "*";
+    private static final String EXCLUDE_PREFIX = "!";
+
+    //NOTICE: allowed field-paths are endpoint (annotation) constants - compiled matchers are shared between requests
+    private static final Map<List<String>, FieldPathMatcher> MATCHERS_CACHE = new ConcurrentHashMap<>();
+
+    private final Node includes = new Node();
+    private final Node excludes = new Node();
+
+    private FieldPathMatcher(String... fieldPaths)
+    {
+        for(String fieldPath : fieldPaths)
+        {
+            if(fieldPath == null || fieldPath.isBlank()) continue;
+
+            fieldPath = fieldPath.trim();
+            if(fieldPath.startsWith(EXCLUDE_PREFIX)) this.excludes.add(FieldPathMatcher.toSegments(fieldPath.substring(EXCLUDE_PREFIX.length())), 0);
+            else this.includes.add(FieldPathMatcher.toSegments(fieldPath), 0);
+        }
+    }
+
+    /**
+     * Compiled (cached) matcher of the allowed field-paths
+     * @param fieldPaths allowed field-paths (exact or wildcard values)
+     * @return field-paths matcher or null if allowed field-paths are not defined
+     */
+    public static FieldPathMatcher of(String... fieldPaths)
+    {
+        if(fieldPaths == null || fieldPaths.length == 0) return null;
+
+        return MATCHERS_CACHE.computeIfAbsent(List.of(fieldPaths), k -> new FieldPathMatcher(fieldPaths));
+    }
+
+    /**
+     * Matches field-path against allowed (and excluded) field-paths
+     * @param fieldPath requested field-path (e.g. 'person.name')
+     * @return true if field-path is allowed
+     */
+    public boolean matches(String fieldPath)
+    {
+        if(fieldPath == null) return false;
+
+        int start = (!fieldPath.isEmpty() && fieldPath.charAt(0) == PATH_SEPARATOR) ? 1 : 0;   //".field.path"
+
+        return FieldPathMatcher.matches(this.includes, fieldPath, start) && !FieldPathMatcher.matches(this.excludes, fieldPath, start);
+    }
+
+    private static List<String> toSegments(String fieldPath)
+    {
+        if(fieldPath.startsWith(ReflectionHelper.PATH_SEPARATOR)) fieldPath = fieldPath.substring(1);   //'.' & '.field' wildcards
+
+        List<String> segments = new ArrayList<>(Arrays.asList(fieldPath.split("\\" + ReflectionHelper.PATH_SEPARATOR, -1)));
+        for(String segment : segments)
+        {
+            if(!ANY_SEGMENTS.equals(segment) && segment.contains(ANY_SEGMENTS))
+            {
+                throw new IllegalArgumentException(String.format("Invalid field-path wildcard '%s' - '*' must be whole path segment!", fieldPath));
+            }
+        }
+
+        return segments;
+    }
+
+    //NOTICE: start is index of the next path segment (-1 when field-path is consumed) - path segments are compared in place
+    private static boolean matches(Node node, String fieldPath, int start)
+    {
+        if(node.anySegments != null)
+        {
+            //'*' matches zero or more path segments
+            for(int next = start; ; next = FieldPathMatcher.nextSegment(fieldPath, next))
+            {
+                if(FieldPathMatcher.matches(node.anySegments, fieldPath, next)) return true;
+                if(next < 0) break;
+            }
+        }
+
+        if(start < 0) return node.terminal;
+
+        int end = fieldPath.indexOf(PATH_SEPARATOR, start);
+        int segmentEnd = (end >= 0) ? end : fieldPath.length();
+        int next = (end >= 0) ? end + 1 : -1;
+        int segmentLength = segmentEnd - start;
+
+        for(int i = 0; i < node.segments.length; i++)
+        {
+            String segment = node.segments[i];
+            if(segment.length() == segmentLength && fieldPath.regionMatches(start, segment, 0, segmentLength))
+            {
+                if(FieldPathMatcher.matches(node.children[i], fieldPath, next)) return true;
+            }
+        }
+
+        return node.anySegment != null && FieldPathMatcher.matches(node.anySegment, fieldPath, next);
+    }
+
+    private static int nextSegment(String fieldPath, int start)
+    {
+        int end = fieldPath.indexOf(PATH_SEPARATOR, start);
+        return (end >= 0) ? end + 1 : -1;
+    }
+
+    private static class Node
+    {
+        private String[] segments = new String[0];
+        private Node[] children = new Node[0];
+        private Node anySegment;
+        private Node anySegments;
+        private boolean terminal;
+
+        private void add(List<String> segments, int index)
+        {
+            if(index == segments.size())
+            {
+                this.terminal = true;
+                return;
+            }
+
+            String segment = segments.get(index);
+            Node child;
+            if(ANY_SEGMENT.equals(segment))
+            {
+                if(this.anySegment == null) this.anySegment = new Node();
+                child = this.anySegment;
+            }
+            else if(ANY_SEGMENTS.equals(segment))
+            {
+                if(this.anySegments == null) this.anySegments = new Node();
+                child = this.anySegments;
+            }
+            else
+            {
+                int childIndex = Arrays.asList(this.segments).indexOf(segment);
+                if(childIndex < 0)
+                {
+                    this.segments = Arrays.copyOf(this.segments, this.segments.length + 1);
+                    this.children = Arrays.copyOf(this.children, this.children.length + 1);
+                    childIndex = this.segments.length - 1;
+                    this.segments[childIndex] = segment;
+                    this.children[childIndex] = new Node();
+                }
+
+                child = this.children[childIndex];
+            }
+
+            child.add(segments, index + 1);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package info.nino.jpatron.helpers;
 
 import info.nino.jpatron.annotiation.EntityClass;
+import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.MutablePair;
 import org.apache.commons.lang3.tuple.Pair;
 
@@ -11,6 +12,8 @@ import java.beans.PropertyDescriptor;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -21,6 +24,19 @@ public class ReflectionHelper {
     public static final String PATH_SEPARATOR = "."; //PATH_DELIMITER
     private static final List<String> ENTITY_ANNOTATION_CLASSES = Arrays.asList("jakarta.persistence.Entity", "jakarta.persistence.Embeddable");
 
+    public static final int WARM_UP_MAX_DEPTH = 5;
+    private static final int INVALID_PATHS_CACHE_LIMIT = 1000;   //per root class - bounds negative cache of (request supplied) invalid paths
+
+    //NOTICE: reflection metadata is resolved once per class - ClassValue does not prevent unloading of (redeployed) classes
+    private static final ClassValue<ModelClassInfo> MODEL_CLASS_INFO = new ClassValue<>()
+    {
+        @Override
+        protected ModelClassInfo computeValue(Class<?> clazz)
+        {
+            return new ModelClassInfo(clazz);
+        }
+    };
+
     public static String getFieldNameFromPath(String fieldPath)
     {
         String fieldName = fieldPath;
@@ -65,16 +81,8 @@ public class ReflectionHelper {
 
         if(clazz != null)
         {
-            try
-            {
-                field = Optional.of(clazz.getDeclaredField(fieldName));
-                //field = Arrays.stream(clazz.getDeclaredFields()).filter(f -> fieldName.equals(f.getName())).findFirst();
-            }
-            catch(NoSuchFieldException e)
-            {
-                clazz = clazz.getSuperclass();
-                field = ReflectionHelper.findModelField(clazz, fieldName);
-            }
+            //NOTICE: sub-class field has priority over (shadowed) super-class field
+            field = Optional.ofNullable(MODEL_CLASS_INFO.get(clazz).fieldsByName.get(fieldName));
         }
 
         return field;
@@ -113,7 +121,15 @@ public class ReflectionHelper {
     }
     */
 
+    //NOTICE: returned List is cached &amp; unmodifiable
     public static List<Field> getAllModelFields(Class clazz)
+    {
+        if(clazz == null) return Collections.emptyList();
+
+        return MODEL_CLASS_INFO.get((Class<?>) clazz).fields;
+    }
+
+    private static List<Field> collectAllModelFields(Class<?> clazz)
     {
         List<Field> fields = new ArrayList<>();
 
@@ -129,38 +145,132 @@ public class ReflectionHelper {
     public static Optional<Field> findFieldByPath(Class<?> rootClass, String fieldPath) throws RuntimeException
     {
         Optional<Field> fieldOptional = Optional.empty();
+        if(fieldPath == null) return fieldOptional;
 
-        LinkedList<String> fieldPaths = ReflectionHelper.pathToLinkedList(fieldPath);
-        if(!fieldPaths.isEmpty())
+        //NOTICE: iterates path segments in place (no intermediate path Lists &amp; re-joined remaining paths)
+        Class<?> clazz = rootClass;
+        int segmentStart = 0;
+        while(true)
         {
-            String findField = fieldPaths.removeFirst();
+            int segmentEnd = fieldPath.indexOf(ReflectionHelper.PATH_SEPARATOR, segmentStart);
+            String findField = (segmentEnd >= 0) ? fieldPath.substring(segmentStart, segmentEnd) : fieldPath.substring(segmentStart);
 
-            fieldOptional = ReflectionHelper.findModelField(rootClass, findField);
+            fieldOptional = ReflectionHelper.findModelField(clazz, findField);
             //if(!fieldOptional.isPresent()) throw new IllegalStateException(String.format("Field '%s' NOT FOUND in Class: %s!", findField, rootClass.getSimpleName()));
-            //else System.out.println(String.format("Field '%s' (%s) FOUND in Class: %s!", findField, fieldOptional.get().getType().getSimpleName(), clazz.getSimpleName()));
 
-            if(fieldOptional.isPresent() && !fieldPaths.isEmpty())
-            {
-                Field field = fieldOptional.get();
-                String remainingPath = String.join(ReflectionHelper.PATH_SEPARATOR, fieldPaths);
+            if(!fieldOptional.isPresent() || segmentEnd < 0) break;
 
-                Class<?> nextClass = field.getType();
-                if(Collection.class.isAssignableFrom(nextClass)) nextClass = (Class<?>) ((ParameterizedType) field.getGenericType()).getActualTypeArguments()[0];
+            Field field = fieldOptional.get();
+            clazz = field.getType();
+            if(Collection.class.isAssignableFrom(clazz)) clazz = (Class<?>) ((ParameterizedType) field.getGenericType()).getActualTypeArguments()[0];
 
-                fieldOptional = ReflectionHelper.findFieldByPath(nextClass, remainingPath);
-            }
+            segmentStart = segmentEnd + ReflectionHelper.PATH_SEPARATOR.length();
         }
 
         return fieldOptional;
     }
 
+    //NOTICE: resolved (and invalid) paths are cached per (root class, path, entity-dive) - returned Pair is immutable
     public static Pair<Class<?>, String> findEntityFieldByPath(Class<?> clazz, String path, boolean allowEntityDive) throws RuntimeException
     {
-        LinkedList<String> paths = ReflectionHelper.pathToLinkedList(path);
-        return ReflectionHelper.findEntityFieldByPath(clazz, paths, null, allowEntityDive);
+        return ReflectionHelper.resolveEntityFieldPath(clazz, path, allowEntityDive).getEntityField();
+    }
+
+    //NOTICE: chain of DTO/ENTITY Fields matching each segment of the path (last Field is the path target)
+    public static List<Field> findEntityFieldChainByPath(Class<?> clazz, String path, boolean allowEntityDive) throws RuntimeException
+    {
+        return ReflectionHelper.resolveEntityFieldPath(clazz, path, allowEntityDive).getFieldChain();
+    }
+
+    private static ResolvedFieldPath resolveEntityFieldPath(Class<?> clazz, String path, boolean allowEntityDive) throws RuntimeException
+    {
+        ModelClassInfo classInfo = MODEL_CLASS_INFO.get(clazz);
+        FieldPathKey pathKey = new FieldPathKey(path, allowEntityDive);
+
+        ResolvedFieldPath resolvedPath = classInfo.resolvedPaths.get(pathKey);   //lock-free read
+        if(resolvedPath != null) return resolvedPath;
+
+        String invalidPathMessage = classInfo.invalidPaths.get(pathKey);
+        if(invalidPathMessage != null) throw new IllegalStateException(invalidPathMessage);
+
+        //WARNING: resolution is NOT done inside computeIfAbsent() - it recursively resolves (cached) entity field-paths
+        try
+        {
+            List<Field> fieldChain = new ArrayList<>();
+            Pair<Class<?>, String> entityField = ReflectionHelper.findEntityFieldByPath(clazz, ReflectionHelper.pathToLinkedList(path), null, allowEntityDive, fieldChain);
+
+            resolvedPath = new ResolvedFieldPath(ImmutablePair.of(entityField.getKey(), entityField.getValue()), Collections.unmodifiableList(fieldChain));
+            ResolvedFieldPath cachedPath = classInfo.resolvedPaths.putIfAbsent(pathKey, resolvedPath);
+
+            return (cachedPath != null) ? cachedPath : resolvedPath;
+        }
+        catch(IllegalStateException e)
+        {
+            if(classInfo.invalidPaths.size() < INVALID_PATHS_CACHE_LIMIT) classInfo.invalidPaths.putIfAbsent(pathKey, e.getMessage());
+            throw e;
+        }
+    }
+
+    /**
+     * Pre-resolves (and caches) every DTO field-path of the root class matching the allowed field-paths
+     * Meant to be invoked once per endpoint - so the first requests do not pay the reflection cost
+     * @param rootClass endpoint root DTO class
+     * @param allowEntityDive flag indicating entity-dive is allowed while resolving field-paths
+     * @param allowedPaths endpoint allowed field-paths (exact or wildcard values)
+     * @return number of resolved (valid) field-paths
+     */
+    public static int warmUpEntityFieldPaths(Class<?> rootClass, boolean allowEntityDive, String... allowedPaths)
+    {
+        FieldPathMatcher allowedPathsMatcher = FieldPathMatcher.of(allowedPaths);
+        if(allowedPathsMatcher == null) return 0;
+
+        return ReflectionHelper.warmUpEntityFieldPaths(rootClass, allowEntityDive, WARM_UP_MAX_DEPTH, allowedPathsMatcher::matches);
+    }
+
+    //NOTICE: walks DTO fields only (entity-level paths are resolved &amp; cached on first use)
+    public static int warmUpEntityFieldPaths(Class<?> rootClass, boolean allowEntityDive, int maxDepth, Predicate<String> isPathAllowed)
+    {
+        return ReflectionHelper.warmUpEntityFieldPaths(rootClass, rootClass, null, allowEntityDive, maxDepth, isPathAllowed, new HashSet<>());
     }
 
-    private static Pair<Class<?>, String> findEntityFieldByPath(Class<?> clazz, LinkedList<String> paths, String prefixPath, boolean allowEntityDive) throws RuntimeException
+    private static int warmUpEntityFieldPaths(Class<?> rootClass, Class<?> clazz, String prefixPath, boolean allowEntityDive, int maxDepth, Predicate<String> isPathAllowed, Set<Class<?>> pathClasses)
+    {
+        if(maxDepth <= 0 || !pathClasses.add(clazz)) return 0;   //depth &amp; cyclic DTO guard
+
+        int resolvedPaths = 0;
+        Set<String> fieldNames = new HashSet<>();
+        for(Field field : ReflectionHelper.getAllModelFields(clazz))
+        {
+            if(Modifier.isStatic(field.getModifiers()) || field.isSynthetic() || !fieldNames.add(field.getName())) continue;
+
+            String path = (prefixPath != null) ? prefixPath + ReflectionHelper.PATH_SEPARATOR + field.getName() : field.getName();
+            if(isPathAllowed.test(path))
+            {
+                try
+                {
+                    ReflectionHelper.findEntityFieldByPath(rootClass, path, allowEntityDive);
+                    resolvedPaths++;
+                }
+                catch(RuntimeException e)
+                {
+                    logger.log(Level.FINE, String.format("Field path '%s' of DTO Class %s NOT resolved: %s", path, rootClass.getSimpleName(), e.getMessage()));
+                }
+            }
+
+            Class<?> nextClass = field.getType();
+            if(Collection.class.isAssignableFrom(nextClass) && field.getGenericType() instanceof ParameterizedType parType && parType.getActualTypeArguments()[0] instanceof Class<?> elementClass) nextClass = elementClass;
+            if(nextClass.isAnnotationPresent(EntityClass.class))    //nested DTO
+            {
+                resolvedPaths += ReflectionHelper.warmUpEntityFieldPaths(rootClass, nextClass, path, allowEntityDive, maxDepth - 1, isPathAllowed, pathClasses);
+            }
+        }
+
+        pathClasses.remove(clazz);
+
+        return resolvedPaths;
+    }
+
+    private static Pair<Class<?>, String> findEntityFieldByPath(Class<?> clazz, LinkedList<String> paths, String prefixPath, boolean allowEntityDive, List<Field> fieldChain) throws RuntimeException
     {
         String findField = paths.removeFirst();
 
@@ -180,6 +290,7 @@ public class ReflectionHelper {
         //else logger.info(String.format("Field '%s' (%s) FOUND in DTO/ENTITY Class: %s!", findField, fieldOptional.get().getType().getSimpleName(), clazz.getSimpleName()));
 
         Field field = fieldOptional.get();
+        fieldChain.add(field);
         if(!paths.isEmpty())
         {
             Class<?> nextClass = field.getType();
@@ -194,7 +305,7 @@ public class ReflectionHelper {
 
             //String remainingPath = String.join(ReflectionHelper.PATH_SEPARATOR, paths);
             //Pair<Class<?>, String> nextField = ReflectionHelper.findClassFieldByPath(nextClass, remainingPath, allowEntityDive);
-            Pair<Class<?>, String> nextField = ReflectionHelper.findEntityFieldByPath(nextClass, paths, prefixPath, allowEntityDive);
+            Pair<Class<?>, String> nextField = ReflectionHelper.findEntityFieldByPath(nextClass, paths, prefixPath, allowEntityDive, fieldChain);
 
             return nextField;
         }
@@ -268,10 +379,7 @@ public class ReflectionHelper {
         if(fieldAnnotation == null) //if(!field.isAnnotationPresent(annotationClass))
         {
             //resolve @EntityClass from Field getter/setter Method
-            BeanInfo clazzBeanInfo = ReflectionHelper.getClassBeanInfo(declaringClass);
-            PropertyDescriptor[] clazzProps = clazzBeanInfo.getPropertyDescriptors();
-
-            Optional<PropertyDescriptor> fieldPd = Arrays.stream(clazzProps).filter(pd -> field.getName().equals(pd.getDisplayName())).findAny();
+            Optional<PropertyDescriptor> fieldPd = Optional.ofNullable(MODEL_CLASS_INFO.get(declaringClass).getPropertyDescriptors().get(field.getName()));
             if(fieldPd.isPresent())
             {
                 if(fieldAnnotation == null && fieldPd.get().getReadMethod() != null) fieldAnnotation = fieldPd.get().getReadMethod().getAnnotation(annotationClass);
@@ -301,6 +409,68 @@ public class ReflectionHelper {
         return clazzBeanInfo;
     }
 
+    private record FieldPathKey(String path, boolean allowEntityDive) { }
+
+    private static class ResolvedFieldPath
+    {
+        private final Pair<Class<?>, String> entityField;
+        private final List<Field> fieldChain;
+
+        private ResolvedFieldPath(Pair<Class<?>, String> entityField, List<Field> fieldChain)
+        {
+            this.entityField = entityField;
+            this.fieldChain = fieldChain;
+        }
+
+        private Pair<Class<?>, String> getEntityField()
+        {
+            return entityField;
+        }
+
+        private List<Field> getFieldChain()
+        {
+            return fieldChain;
+        }
+    }
+
+    //NOTICE: per-class reflection metadata - thread-safe, reads are lock-free after the first resolution
+    private static class ModelClassInfo
+    {
+        private final Class<?> clazz;
+        private final List<Field> fields;
+        private final Map<String, Field> fieldsByName;
+        private final Map<FieldPathKey, ResolvedFieldPath> resolvedPaths = new ConcurrentHashMap<>();
+        private final Map<FieldPathKey, String> invalidPaths = new ConcurrentHashMap<>();
+        private volatile Map<String, PropertyDescriptor> propertyDescriptors;
+
+        private ModelClassInfo(Class<?> clazz)
+        {
+            this.clazz = clazz;
+            this.fields = Collections.unmodifiableList(ReflectionHelper.collectAllModelFields(clazz));
+
+            Map<String, Field> fieldsByName = new HashMap<>();
+            for(Field field : this.fields) fieldsByName.putIfAbsent(field.getName(), field);
+            this.fieldsByName = fieldsByName;
+        }
+
+        private Map<String, PropertyDescriptor> getPropertyDescriptors()
+        {
+            Map<String, PropertyDescriptor> propertyDescriptors = this.propertyDescriptors;
+            if(propertyDescriptors == null) //NOTICE: benign race - BeanInfo may be resolved more than once
+            {
+                propertyDescriptors = new HashMap<>();
+                for(PropertyDescriptor pd : ReflectionHelper.getClassBeanInfo(this.clazz).getPropertyDescriptors())
+                {
+                    propertyDescriptors.putIfAbsent(pd.getDisplayName(), pd);
+                }
+
+                this.propertyDescriptors = propertyDescriptors;
+            }
+
+            return propertyDescriptors;
+        }
+    }
+
     /*
     @Deprecated
     //NOTICE: resolve Entity path field name by field Type - possibly ambiguous Field if more than one relation to same Entity type
@@ -4,6 +4,7 @@ import org.apache.commons.collections4.MultiValuedMap;
 
 import java.io.Serializable;
 import java.util.Map;
+import java.util.Set;
 
 /**
  *  Generic abstract class for API request implementations
@@ -31,6 +32,31 @@ public abstract class ApiRequest<T> implements Serializable {
      */
     protected boolean readOnlyDataset;
 
+    /**
+     * Total-count strategy of the paginated result-set
+     */
+    protected CountMode countMode = CountMode.EXACT;
+
+    /**
+     * Time-to-live (in seconds) of cached distinct &amp; meta values (0 - caching disabled)
+     */
+    protected long metaCacheTtl;
+
+    /**
+     * Slow-query threshold in milliseconds (-1 - threshold of the EntityService SlowQueryRecorder)
+     */
+    protected long slowQueryThreshold = -1;
+
+    /**
+     * Name of the originating endpoint (resource method)
+     */
+    protected String endpoint;
+
+    /**
+     * Search strategy of the search query-param
+     */
+    protected SearchMode searchMode = SearchMode.LIKE;
+
     /**
      * Paths for related entities to fetch
      */
@@ -135,6 +161,86 @@ public abstract class ApiRequest<T> implements Serializable {
         this.readOnlyDataset = readOnlyDataset;
     }
 
+    /**
+     * {@link ApiRequest#countMode}
+     * @return countMode
+     */
+    public CountMode getCountMode() {
+        return countMode;
+    }
+
+    /**
+     * {@link ApiRequest#countMode}
+     * @param countMode total-count strategy
+     */
+    public void setCountMode(CountMode countMode) {
+        this.countMode = countMode;
+    }
+
+    /**
+     * {@link ApiRequest#metaCacheTtl}
+     * @return metaCacheTtl
+     */
+    public long getMetaCacheTtl() {
+        return metaCacheTtl;
+    }
+
+    /**
+     * {@link ApiRequest#metaCacheTtl}
+     * @param metaCacheTtl cache TTL of distinct &amp; meta values in seconds
+     */
+    public void setMetaCacheTtl(long metaCacheTtl) {
+        this.metaCacheTtl = metaCacheTtl;
+    }
+
+    /**
+     * {@link ApiRequest#slowQueryThreshold}
+     * @return slowQueryThreshold
+     */
+    public long getSlowQueryThreshold() {
+        return slowQueryThreshold;
+    }
+
+    /**
+     * {@link ApiRequest#slowQueryThreshold}
+     * @param slowQueryThreshold slow-query threshold in milliseconds
+     */
+    public void setSlowQueryThreshold(long slowQueryThreshold) {
+        this.slowQueryThreshold = slowQueryThreshold;
+    }
+
+    /**
+     * {@link ApiRequest#endpoint}
+     * @return endpoint
+     */
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * {@link ApiRequest#endpoint}
+     * @param endpoint name of the originating endpoint
+     */
+    public void setEndpoint(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    /**
+     * {@link ApiRequest#searchMode}
+     * @return searchMode
+     */
+    public SearchMode getSearchMode() {
+        return searchMode;
+    }
+
+    /**
+     * {@link ApiRequest#searchMode}
+     * @param searchMode search strategy
+     */
+    public void setSearchMode(SearchMode searchMode) {
+        this.searchMode = searchMode;
+    }
+
     /**
      * {@link ApiRequest#fetchEntityPaths}
      * @return fetchEntityPaths array
@@ -176,12 +282,18 @@ public abstract class ApiRequest<T> implements Serializable {
         protected Integer pageSize;
         protected Integer pageNumber;
 
+        //opaque keyset-pagination cursor (empty value requests first page of keyset pagination)
+        protected String cursor;
+
         //SortFieldPath : Entity, SortDirection
         protected Map<String, Map.Entry<Class<?>, QuerySort.Direction>> sort;
 
         //Entity -> IncludeEntityPath(s)
         protected MultiValuedMap<Class<?>, String> includes;
 
+        //requested root DTO attribute names (sparse fieldset) - id attribute is always included
+        protected Set<String> fields;
+
         //compound/complex filter in nested object hierarchy
         protected QueryExpression.CompoundFilter compoundFilter;
 
@@ -218,6 +330,14 @@ public abstract class ApiRequest<T> implements Serializable {
             this.pageNumber = pageNumber;
         }
 
+        public String getCursor() {
+            return cursor;
+        }
+
+        public void setCursor(String cursor) {
+            this.cursor = cursor;
+        }
+
         public Map<String, Map.Entry<Class<?>, QuerySort.Direction>> getSort() {
             return sort;
         }
@@ -234,6 +354,14 @@ public abstract class ApiRequest<T> implements Serializable {
             this.includes = includes;
         }
 
+        public Set<String> getFields() {
+            return fields;
+        }
+
+        public void setFields(Set<String> fields) {
+            this.fields = fields;
+        }
+
         public QueryExpression.CompoundFilter getCompoundFilter() {
             return compoundFilter;
         }
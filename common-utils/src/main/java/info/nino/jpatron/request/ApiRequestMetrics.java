@@ -0,0 +1,172 @@
+package info.nino.jpatron.request;
+
+import org.apache.commons.collections4.MapUtils;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Request-level counters of the API request filter (one shared instance per API interface)
+ * Counters are lock-free (LongAdder) - values are read by getters or flat metrics snapshot (e.g. exposed by metrics endpoint)
+ */
+public final class ApiRequestMetrics {
+
+    private static final Map<String, ApiRequestMetrics> REGISTRY = new ConcurrentHashMap<>();
+
+    private final String api;
+
+    private final LongAdder requestCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+    private final LongAdder resolveTimeNs = new LongAdder();
+    private final LongAccumulator maxResolveTimeNs = new LongAccumulator(Long::max, 0L);
+
+    private final LongAdder paginatedCount = new LongAdder();
+    private final LongAdder keysetCount = new LongAdder();
+    private final LongAdder sortedCount = new LongAdder();
+    private final LongAdder filteredCount = new LongAdder();
+    private final LongAdder searchedCount = new LongAdder();
+    private final LongAdder distinctCount = new LongAdder();
+    private final LongAdder metaCount = new LongAdder();
+
+    private ApiRequestMetrics(String api) {
+        this.api = api;
+    }
+
+    /**
+     * Shared (registered) request metrics of the API interface
+     * @param api API interface name (e.g. 'json-api')
+     * @return ApiRequestMetrics object
+     */
+    public static ApiRequestMetrics of(String api) {
+        return REGISTRY.computeIfAbsent(api, ApiRequestMetrics::new);
+    }
+
+    /**
+     * All registered request metrics (one per API interface used by the application)
+     * @return unmodifiable collection of ApiRequestMetrics
+     */
+    public static Collection<ApiRequestMetrics> getAll() {
+        return Collections.unmodifiableCollection(REGISTRY.values());
+    }
+
+    /**
+     * Records resolved API request
+     * @param queryParams resolved query params of the request
+     * @param resolveTimeNs time spent resolving query params (nanoseconds)
+     */
+    public void recordRequest(ApiRequest.QueryParams queryParams, long resolveTimeNs) {
+        this.requestCount.increment();
+        this.recordResolveTime(resolveTimeNs);
+
+        if (queryParams.getPageSize() != null) this.paginatedCount.increment();
+        if (queryParams.getCursor() != null) this.keysetCount.increment();
+        if (MapUtils.isNotEmpty(queryParams.getSort())) this.sortedCount.increment();
+        if (MapUtils.isNotEmpty(queryParams.getFilters()) || queryParams.getCompoundFilter() != null) this.filteredCount.increment();
+        if (MapUtils.isNotEmpty(queryParams.getSearches())) this.searchedCount.increment();
+        if (MapUtils.isNotEmpty(queryParams.getDistinctValues())) this.distinctCount.increment();
+        if (MapUtils.isNotEmpty(queryParams.getMetaValues())) this.metaCount.increment();
+    }
+
+    /**
+     * Records API request rejected by request filter (invalid query params)
+     * @param resolveTimeNs time spent resolving query params (nanoseconds)
+     */
+    public void recordRejectedRequest(long resolveTimeNs) {
+        this.requestCount.increment();
+        this.rejectedCount.increment();
+        this.recordResolveTime(resolveTimeNs);
+    }
+
+    private void recordResolveTime(long resolveTimeNs) {
+        this.resolveTimeNs.add(resolveTimeNs);
+        this.maxResolveTimeNs.accumulate(resolveTimeNs);
+    }
+
+    /**
+     * Flat snapshot of the counters - keys are metric names prefixed by API interface name (e.g. 'json-api.requests')
+     * @return map of metric names &amp; values
+     */
+    public Map<String, Number> getSnapshot() {
+        Map<String, Number> snapshot = new LinkedHashMap<>();
+        snapshot.put(this.api + ".requests", this.getRequestCount());
+        snapshot.put(this.api + ".requests.rejected", this.getRejectedCount());
+        snapshot.put(this.api + ".resolve.time.total.ns", this.getResolveTimeNs());
+        snapshot.put(this.api + ".resolve.time.max.ns", this.getMaxResolveTimeNs());
+        snapshot.put(this.api + ".requests.paginated", this.getPaginatedCount());
+        snapshot.put(this.api + ".requests.keyset", this.getKeysetCount());
+        snapshot.put(this.api + ".requests.sorted", this.getSortedCount());
+        snapshot.put(this.api + ".requests.filtered", this.getFilteredCount());
+        snapshot.put(this.api + ".requests.searched", this.getSearchedCount());
+        snapshot.put(this.api + ".requests.distinct", this.getDistinctCount());
+        snapshot.put(this.api + ".requests.meta", this.getMetaCount());
+
+        return snapshot;
+    }
+
+    public void reset() {
+        this.requestCount.reset();
+        this.rejectedCount.reset();
+        this.resolveTimeNs.reset();
+        this.maxResolveTimeNs.reset();
+        this.paginatedCount.reset();
+        this.keysetCount.reset();
+        this.sortedCount.reset();
+        this.filteredCount.reset();
+        this.searchedCount.reset();
+        this.distinctCount.reset();
+        this.metaCount.reset();
+    }
+
+    public String getApi() {
+        return api;
+    }
+
+    public long getRequestCount() {
+        return requestCount.sum();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    public long getResolveTimeNs() {
+        return resolveTimeNs.sum();
+    }
+
+    public long getMaxResolveTimeNs() {
+        return maxResolveTimeNs.get();
+    }
+
+    public long getPaginatedCount() {
+        return paginatedCount.sum();
+    }
+
+    public long getKeysetCount() {
+        return keysetCount.sum();
+    }
+
+    public long getSortedCount() {
+        return sortedCount.sum();
+    }
+
+    public long getFilteredCount() {
+        return filteredCount.sum();
+    }
+
+    public long getSearchedCount() {
+        return searchedCount.sum();
+    }
+
+    public long getDistinctCount() {
+        return distinctCount.sum();
+    }
+
+    public long getMetaCount() {
+        return metaCount.sum();
+    }
+}
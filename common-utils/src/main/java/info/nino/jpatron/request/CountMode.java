@@ -0,0 +1,27 @@
+package info.nino.jpatron.request;
+
+/**
+ * Total-count strategy of the paginated data-query
+ */
+public enum CountMode {
+
+    /**
+     * Exact total-count query (default)
+     */
+    EXACT,
+
+    /**
+     * Total-count query is skipped (total items &amp; pages are not available)
+     */
+    NONE,
+
+    /**
+     * Total-count query is skipped - one extra row (page-size + 1) is fetched to resolve if next page exists
+     */
+    HAS_NEXT,
+
+    /**
+     * Dialect-provided estimate (e.g. planner statistics) is used above the estimate threshold (exact total-count below it)
+     */
+    ESTIMATED
+}
@@ -0,0 +1,425 @@
+package info.nino.jpatron.request;
+
+import info.nino.jpatron.helpers.ConstantsUtil;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Single-pass (linear) parser of the query-param filter expression language
+ * e.g. 'name:~"John" AND (age:>=18 OR status:^ACTIVE,PENDING) AND deleted:#'
+ * Syntax: term = field-path comparator [value] | expression = term | (expression) | expression AND/OR expression
+ * Operator priority: AND binds stronger than OR - parentheses override priority
+ * Parsed expressions are cached as immutable syntax trees (LRU) - filters are materialized for each request
+ */
+public class QueryExpressionParser {
+
+    public static final int DEFAULT_CACHE_SIZE = 1000;
+    private static final int MAX_NESTING_DEPTH = 64;
+
+    private static final char LEFT_BRACKET = '(';
+    private static final char RIGHT_BRACKET = ')';
+    private static final char ESCAPE_CHAR = '\\';
+    private static final char QUOTE = '"';
+    private static final char COMPARATOR_PREFIX = ':';
+    private static final String COMPARATOR_CHARS = "=<>!#^~";
+    private static final String FIELD_PATH_STOP_CHARS = ":=<>!#^~()";
+
+    private final Map<String, ApiRequest.QueryParams.ComparatorEnum> comparators = new HashMap<>();
+    private final ApiRequest.QueryParams.ComparatorEnum multiValueComparator;
+    private final String andOperator;
+    private final String orOperator;
+    private final int cacheSize;
+    private final Map<String, Node> cache;
+
+    /**
+     * @param comparators supported comparators of the API (e.g. ':', ':>=', ':^')
+     * @param andOperator API compound operator of the AND logic operator
+     * @param orOperator API compound operator of the OR logic operator
+     * @param cacheSize max number of cached (parsed) expressions - 0 disables cache
+     */
+    public QueryExpressionParser(ApiRequest.QueryParams.ComparatorEnum[] comparators,
+                                 ApiRequest.QueryParams.CompounderEnum andOperator,
+                                 ApiRequest.QueryParams.CompounderEnum orOperator,
+                                 int cacheSize) {
+        if (andOperator.getLogicOperator() != QueryExpression.LogicOperator.AND || orOperator.getLogicOperator() != QueryExpression.LogicOperator.OR) {
+            throw new IllegalArgumentException(String.format("Invalid compound operators: %s/%s", andOperator.getValue(), orOperator.getValue()));
+        }
+
+        ApiRequest.QueryParams.ComparatorEnum multiValueComparator = null;
+        for (ApiRequest.QueryParams.ComparatorEnum comparator : comparators) {
+            this.comparators.put(comparator.getValue(), comparator);
+            if (comparator.getCompareOperator() == QueryExpression.CompareOperator.IN) multiValueComparator = comparator;
+        }
+
+        this.multiValueComparator = multiValueComparator;
+        this.andOperator = andOperator.getValue();
+        this.orOperator = orOperator.getValue();
+        this.cacheSize = cacheSize;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) { //NOTICE: access-order (LRU)
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Node> eldest) {
+                return this.size() > QueryExpressionParser.this.cacheSize;
+            }
+        };
+    }
+
+    /**
+     * Parses query expressions (query-param values) into compound filter - multiple expressions are joined with AND operator
+     * @param expressions query expressions
+     * @param rootEntity root entity (or DTO) class of the filters
+     * @param fieldPathCheck field-path validation (e.g. allowed field-paths check) - invoked for each term
+     * @return compound filter or null if expressions are blank
+     */
+    public QueryExpression.CompoundFilter parse(List<String> expressions, Class<?> rootEntity, Consumer<String> fieldPathCheck) {
+        List<QueryExpression.CompoundFilter> compoundFilters = new ArrayList<>(expressions.size());
+        for (String expression : expressions) {
+            QueryExpression.CompoundFilter compoundFilter = this.parse(expression, rootEntity, fieldPathCheck);
+            if (compoundFilter != null) compoundFilters.add(compoundFilter);
+        }
+
+        if (compoundFilters.isEmpty()) return null;
+
+        return (compoundFilters.size() > 1)
+                ? new QueryExpression.CompoundFilter(QueryExpression.LogicOperator.AND, compoundFilters.toArray(new QueryExpression.CompoundFilter[0]))
+                : compoundFilters.get(0);
+    }
+
+    /**
+     * Parses query expression into compound filter
+     * @param expression query expression
+     * @param rootEntity root entity (or DTO) class of the filters
+     * @param fieldPathCheck field-path validation (e.g. allowed field-paths check) - invoked for each term
+     * @return compound filter or null if expression is blank
+     */
+    public QueryExpression.CompoundFilter parse(String expression, Class<?> rootEntity, Consumer<String> fieldPathCheck) {
+        Node node = this.parseExpression(expression);
+        if (node == null) return null;
+
+        //NOTICE: filters are mutable (resolved per request) - new filters are created from cached syntax tree
+        if (node instanceof Term term) {
+            QueryExpression.CompoundFilter compoundFilter = new QueryExpression.CompoundFilter(QueryExpression.LogicOperator.AND);
+            compoundFilter.addFilters(this.toFilter(term, rootEntity, fieldPathCheck));
+            return compoundFilter;
+        }
+
+        return this.toCompoundFilter((Compound) node, rootEntity, fieldPathCheck);
+    }
+
+    /**
+     * Parses (or finds cached) immutable syntax tree of the query expression
+     * @param expression query expression
+     * @return syntax tree root node or null if expression is blank
+     * @throws IllegalArgumentException if expression is invalid (message contains error position)
+     */
+    public Node parseExpression(String expression) {
+        if (expression == null || expression.isBlank()) return null;
+
+        Node node = null;
+        if (this.cacheSize > 0) {
+            synchronized (this.cache) {
+                node = this.cache.get(expression);
+            }
+        }
+
+        if (node == null) {
+            node = new Parser(expression).parse();
+
+            if (this.cacheSize > 0) {
+                synchronized (this.cache) {
+                    this.cache.put(expression, node);
+                }
+            }
+        }
+
+        return node;
+    }
+
+    public int getCacheSize() {
+        synchronized (this.cache) {
+            return this.cache.size();
+        }
+    }
+
+    private QueryExpression.CompoundFilter toCompoundFilter(Compound compound, Class<?> rootEntity, Consumer<String> fieldPathCheck) {
+        QueryExpression.CompoundFilter compoundFilter = new QueryExpression.CompoundFilter(compound.logicOperator());
+
+        for (Node operand : compound.operands()) {
+            if (operand instanceof Term term) {
+                compoundFilter.addFilters(this.toFilter(term, rootEntity, fieldPathCheck));
+            } else {
+                compoundFilter.addCompoundFilters(this.toCompoundFilter((Compound) operand, rootEntity, fieldPathCheck));
+            }
+        }
+
+        return compoundFilter;
+    }
+
+    private QueryExpression.Filter<?> toFilter(Term term, Class<?> rootEntity, Consumer<String> fieldPathCheck) {
+        if (fieldPathCheck != null) fieldPathCheck.accept(term.fieldPath());
+
+        String[] values = term.values().toArray(new String[0]);
+        return new QueryExpression.Filter<>(rootEntity, term.fieldPath(), term.compareOperator(), values);
+    }
+
+    /**
+     * Splits comma-separated value - commas inside quotes are ignored, surrounding quotes are removed ('\"' is escaped quote)
+     * @param csv comma-separated value
+     * @return array of values
+     */
+    public static String[] splitCSValue(String csv) {
+        List<String> result = new ArrayList<>();
+
+        boolean insideQuotes = false;
+        StringBuilder currentField = new StringBuilder();
+
+        for (int i = 0; i < csv.length(); i++) {
+            char c = csv.charAt(i);
+
+            // Check for escaped quotes
+            if (c == ESCAPE_CHAR && i + 1 < csv.length() && csv.charAt(i + 1) == QUOTE) {
+                currentField.append(QUOTE); // Add the quote to the field
+                i++; // Skip the backslash
+                continue;
+            } else if (c == QUOTE) {
+                insideQuotes = !insideQuotes;   // Toggle insideQuotes unless it is escaped
+            }
+
+            if (c == ConstantsUtil.COMMA && !insideQuotes) {
+                result.add(QueryExpressionParser.removeSurroundingQuotes(currentField.toString().trim()));
+                currentField.setLength(0);
+            } else {
+                currentField.append(c);
+            }
+        }
+
+        result.add(QueryExpressionParser.removeSurroundingQuotes(currentField.toString().trim())); // Add the last field
+        return result.toArray(new String[0]);
+    }
+
+    public static String removeSurroundingQuotes(String str) {
+        if (str != null && str.length() >= 2 && str.charAt(0) == QUOTE && str.charAt(str.length() - 1) == QUOTE) {
+            return str.substring(1, str.length() - 1);
+        }
+
+        return str;
+    }
+
+    /**
+     * Immutable syntax tree node of the query expression
+     */
+    public sealed interface Node permits Term, Compound { }
+
+    /**
+     * Simple term (filter) - e.g. 'age:>=18'
+     */
+    public record Term(String fieldPath, QueryExpression.CompareOperator compareOperator, List<String> values, int position) implements Node { }
+
+    /**
+     * Compound term - operands joined with logic operator
+     */
+    public record Compound(QueryExpression.LogicOperator logicOperator, List<Node> operands) implements Node { }
+
+    //NOTICE: recursive-descent parser - every character of the expression is visited once
+    private class Parser {
+
+        private final String expression;
+        private final int length;
+        private int position;
+
+        private Parser(String expression) {
+            this.expression = expression;
+            this.length = expression.length();
+        }
+
+        private Node parse() {
+            Node node = this.parseOr(0);
+
+            this.skipWhitespace();
+            if (this.position < this.length) {
+                throw this.error(this.position, String.format("unexpected character '%c'", this.expression.charAt(this.position)));
+            }
+
+            return node;
+        }
+
+        // expression = and-expression { OR and-expression }
+        private Node parseOr(int depth) {
+            List<Node> operands = new ArrayList<>();
+            operands.add(this.parseAnd(depth));
+
+            while (this.skipOperator(QueryExpressionParser.this.orOperator)) {
+                operands.add(this.parseAnd(depth));
+            }
+
+            return this.compound(QueryExpression.LogicOperator.OR, operands);
+        }
+
+        // and-expression = primary { AND primary }
+        private Node parseAnd(int depth) {
+            List<Node> operands = new ArrayList<>();
+            operands.add(this.parsePrimary(depth));
+
+            while (this.skipOperator(QueryExpressionParser.this.andOperator)) {
+                operands.add(this.parsePrimary(depth));
+            }
+
+            return this.compound(QueryExpression.LogicOperator.AND, operands);
+        }
+
+        // primary = ( expression ) | term
+        private Node parsePrimary(int depth) {
+            this.skipWhitespace();
+            if (this.position >= this.length) throw this.error(this.position, "term expected");
+
+            if (this.expression.charAt(this.position) == LEFT_BRACKET) {
+                int bracketPosition = this.position;
+                if (depth >= MAX_NESTING_DEPTH) throw this.error(bracketPosition, String.format("max nesting depth (%d) exceeded", MAX_NESTING_DEPTH));
+
+                this.position++;
+                Node node = this.parseOr(depth + 1);
+
+                this.skipWhitespace();
+                if (this.position >= this.length || this.expression.charAt(this.position) != RIGHT_BRACKET) {
+                    throw this.error(bracketPosition, "unclosed parenthesis");
+                }
+
+                this.position++;
+                return node;
+            }
+
+            return this.parseTerm();
+        }
+
+        // term = field-path [whitespace] comparator [whitespace] [value]
+        private Term parseTerm() {
+            int termPosition = this.position;
+
+            while (this.position < this.length && !Character.isWhitespace(this.expression.charAt(this.position))
+                    && FIELD_PATH_STOP_CHARS.indexOf(this.expression.charAt(this.position)) < 0) {
+                this.position++;
+            }
+
+            if (this.position == termPosition) throw this.error(termPosition, "field-path expected");
+            String fieldPath = this.expression.substring(termPosition, this.position);
+
+            this.skipWhitespace();
+            int comparatorPosition = this.position;
+            if (this.position >= this.length || this.expression.charAt(this.position) != COMPARATOR_PREFIX) {
+                throw this.error(comparatorPosition, String.format("comparator expected after field-path '%s'", fieldPath));
+            }
+
+            this.position++;
+            while (this.position < this.length && this.position - comparatorPosition < 3
+                    && COMPARATOR_CHARS.indexOf(this.expression.charAt(this.position)) >= 0) {
+                this.position++;
+            }
+
+            String comparatorValue = this.expression.substring(comparatorPosition, this.position);
+            ApiRequest.QueryParams.ComparatorEnum comparator = QueryExpressionParser.this.comparators.get(comparatorValue);
+            if (comparator == null) throw this.error(comparatorPosition, String.format("unknown comparator '%s'", comparatorValue));
+
+            String value = this.scanValue().trim();
+
+            List<String> values;
+            if (comparator == QueryExpressionParser.this.multiValueComparator) {
+                values = List.of(QueryExpressionParser.splitCSValue(value));
+            } else {
+                values = Collections.singletonList(QueryExpressionParser.removeSurroundingQuotes(value));
+            }
+
+            return new Term(fieldPath, comparator.getCompareOperator(), values, termPosition);
+        }
+
+        //NOTICE: value ends with logic operator or closing parenthesis (both outside of quotes &amp; value parentheses)
+        private String scanValue() {
+            int valueStart = this.position;
+            int quotePosition = -1;
+            int depth = 0;
+
+            while (this.position < this.length) {
+                char c = this.expression.charAt(this.position);
+
+                if (c == ESCAPE_CHAR && this.position + 1 < this.length) {
+                    this.position += 2;
+                    continue;
+                }
+
+                if (c == QUOTE) {
+                    quotePosition = (quotePosition < 0) ? this.position : -1;
+                } else if (quotePosition < 0) {
+                    if (c == LEFT_BRACKET) {
+                        depth++;
+                    } else if (c == RIGHT_BRACKET) {
+                        if (depth == 0) break;
+                        depth--;
+                    } else if (depth == 0 && Character.isWhitespace(c) && this.isOperatorAhead()) {
+                        break;
+                    }
+                }
+
+                this.position++;
+            }
+
+            if (quotePosition >= 0) throw this.error(quotePosition, "unclosed quote");
+
+            return this.expression.substring(valueStart, this.position);
+        }
+
+        private boolean isOperatorAhead() {
+            int start = this.position;
+            boolean isOperator = this.skipOperator(QueryExpressionParser.this.andOperator) || this.skipOperator(QueryExpressionParser.this.orOperator);
+            this.position = start;
+
+            return isOperator;
+        }
+
+        //NOTICE: operator must be surrounded with whitespaces (e.g. ' AND ') - trailing operator is reported as missing term
+        private boolean skipOperator(String operator) {
+            int start = this.position;
+            this.skipWhitespace();
+
+            int operatorEnd = this.position + operator.length();
+            if (this.position > start && operatorEnd <= this.length
+                    && this.expression.startsWith(operator, this.position)
+                    && (operatorEnd == this.length || Character.isWhitespace(this.expression.charAt(operatorEnd)))) {
+                this.position = operatorEnd;
+                return true;
+            }
+
+            this.position = start;
+            return false;
+        }
+
+        private void skipWhitespace() {
+            while (this.position < this.length && Character.isWhitespace(this.expression.charAt(this.position))) {
+                this.position++;
+            }
+        }
+
+        //NOTICE: nested compound of the same logic operator is flattened (e.g. '(a AND b) AND c')
+        private Node compound(QueryExpression.LogicOperator logicOperator, List<Node> operands) {
+            if (operands.size() == 1) return operands.get(0);
+
+            List<Node> flatOperands = new ArrayList<>(operands.size());
+            for (Node operand : operands) {
+                if (operand instanceof Compound compound && compound.logicOperator() == logicOperator) {
+                    flatOperands.addAll(compound.operands());
+                } else {
+                    flatOperands.add(operand);
+                }
+            }
+
+            return new Compound(logicOperator, List.copyOf(flatOperands));
+        }
+
+        private IllegalArgumentException error(int errorPosition, String message) {
+            return new IllegalArgumentException(String.format("Invalid query expression '%s' at position %d: %s", this.expression, errorPosition, message));
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package info.nino.jpatron.request;
+
+/**
+ * Search strategy of the search query-param (search paths are resolved the same way for all modes)
+ */
+public enum SearchMode {
+
+    /**
+     * Search values are matched with LIKE '%value%' on every search field (default)
+     */
+    LIKE,
+
+    /**
+     * Search values are matched with full-text search of the EntityService SearchProvider (e.g. PostgreSQL tsvector)
+     * LIKE matching is used if DB dialect doesn't support full-text search
+     */
+    FULL_TEXT
+}
@@ -3,6 +3,7 @@ package info.nino.jpatron.response;
 import java.io.Serializable;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Generic abstract class for page response implementations
@@ -23,19 +24,43 @@ public abstract class ApiPageResponse<T> implements Serializable
 
     /**
      * Total number of available pages (for current page size)
+     * Null if total-count is not resolved (CountMode.NONE/HAS_NEXT)
      */
-    protected long totalPages;
+    protected Long totalPages;
 
     /**
      * Total number of available resource items (&lt;= totalPages * pageSize)
+     * Null if total-count is not resolved (CountMode.NONE/HAS_NEXT)
      */
-    protected long totalItems;
+    protected Long totalItems;
+
+    /**
+     * Flag if totalItems &amp; totalPages are estimated values (CountMode.ESTIMATED)
+     */
+    protected boolean estimated;
+
+    /**
+     * Flag if next page exists - resolved only with CountMode.HAS_NEXT
+     */
+    protected Boolean hasNext;
+
+    /**
+     * Opaque keyset-pagination cursor pointing after the last item of current page
+     * Null if keyset pagination is not requested or there is no next page
+     */
+    protected String cursor;
 
     /**
      * Current page result-list of the resource objects
      */
     protected List<T> content;
 
+    /**
+     * Requested attribute names of the resource objects (sparse fieldset)
+     * Null if all attributes are requested
+     */
+    protected Set<String> fields;
+
     /**
      * Key-Value pairs of distinct values for the selected properties of resource type
      */
@@ -50,20 +75,24 @@ public abstract class ApiPageResponse<T> implements Serializable
      * Constructor with mandatory object properties
      * @param pageNumber current page number
      * @param pageSize current page size
-     * @param totalItems total resource items value
+     * @param totalItems total resource items value (null if not resolved)
      * @param content current page list of resource objects
      */
-    public ApiPageResponse(Integer pageNumber, Integer pageSize, long totalItems, List<T> content)
+    public ApiPageResponse(Integer pageNumber, Integer pageSize, Long totalItems, List<T> content)
     {
         this.pageNumber = pageNumber;
         this.pageSize = pageSize;
         this.totalItems = totalItems;
         this.content = content;
 
-        if(pageSize != null)
+        if(totalItems != null)
         {
-            this.totalPages = totalItems / pageSize;
-            if(totalItems % pageSize != 0) this.totalPages++;
+            this.totalPages = 0L;
+            if(pageSize != null && pageSize > 0)
+            {
+                this.totalPages = totalItems / pageSize;
+                if(totalItems % pageSize != 0) this.totalPages++;
+            }
         }
     }
 
@@ -89,7 +118,7 @@ public abstract class ApiPageResponse<T> implements Serializable
      * {@link ApiPageResponse#totalPages}
      * @return totalPages
      */
-    public long getTotalPages()
+    public Long getTotalPages()
     {
         return totalPages;
     }
@@ -98,11 +127,65 @@ public abstract class ApiPageResponse<T> implements Serializable
      * {@link ApiPageResponse#totalItems}
      * @return totalItems
      */
-    public long getTotalItems()
+    public Long getTotalItems()
     {
         return totalItems;
     }
 
+    /**
+     * {@link ApiPageResponse#estimated}
+     * @return estimated flag
+     */
+    public boolean isEstimated()
+    {
+        return estimated;
+    }
+
+    /**
+     * {@link ApiPageResponse#estimated}
+     * @param estimated flag
+     */
+    public void setEstimated(boolean estimated)
+    {
+        this.estimated = estimated;
+    }
+
+    /**
+     * {@link ApiPageResponse#hasNext}
+     * @return hasNext flag
+     */
+    public Boolean getHasNext()
+    {
+        return hasNext;
+    }
+
+    /**
+     * {@link ApiPageResponse#hasNext}
+     * @param hasNext flag
+     */
+    public void setHasNext(Boolean hasNext)
+    {
+        this.hasNext = hasNext;
+    }
+
+    /**
+     * {@link ApiPageResponse#cursor}
+     * @return cursor
+     */
+    public String getCursor()
+    {
+        return cursor;
+    }
+
+    /**
+     * {@link ApiPageResponse#cursor}
+     * @param cursor opaque keyset-pagination cursor
+     */
+    public void setCursor(String cursor)
+    {
+        this.cursor = cursor;
+    }
+
     /**
      * {@link ApiPageResponse#content}
      * @return content
@@ -112,6 +195,24 @@ public abstract class ApiPageResponse<T> implements Serializable
         return content;
     }
 
+    /**
+     * {@link ApiPageResponse#fields}
+     * @return fields
+     */
+    public Set<String> getFields()
+    {
+        return fields;
+    }
+
+    /**
+     * {@link ApiPageResponse#fields}
+     * @param fields requested attribute names (sparse fieldset)
+     */
+    public void setFields(Set<String> fields)
+    {
+        this.fields = fields;
+    }
+
     /**
      * {@link ApiPageResponse#distinctValues}
      * @return distinctValues
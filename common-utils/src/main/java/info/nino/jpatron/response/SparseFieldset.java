@@ -0,0 +1,100 @@
+package info.nino.jpatron.response;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.std.BeanSerializerBase;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Wrapper of resource object which is serialized with the requested (root) fields only (sparse fieldset)
+ * Object is serialized by its own Jackson bean serializer so all Jackson annotations (naming, inclusion, ignorals, custom serializers) are kept
+ * @param value resource object
+ * @param fields requested (root) field names
+ */
+@JsonSerialize(using = SparseFieldset.Serializer.class)
+public record SparseFieldset(Object value, Set<String> fields)
+{
+    /**
+     * Writes only bean properties whose field name (or JSON name) is requested
+     * Non-bean values (scalars, maps, collections) are written unchanged
+     */
+    public static class Serializer extends StdSerializer<SparseFieldset>
+    {
+        //NOTICE: field name to JSON property name mapping is resolved once per class (per ObjectMapper serializer instance)
+        private final Map<Class<?>, Map<String, String>> propertyNames = new ConcurrentHashMap<>();
+
+        public Serializer()
+        {
+            super(SparseFieldset.class);
+        }
+
+        @Override
+        public void serialize(SparseFieldset sparseFieldset, JsonGenerator gen, SerializerProvider provider) throws IOException
+        {
+            Object value = sparseFieldset.value();
+            if(value == null)
+            {
+                provider.defaultSerializeNull(gen);
+                return;
+            }
+
+            JsonSerializer<Object> serializer = provider.findValueSerializer(value.getClass());
+            if(sparseFieldset.fields() == null || !(serializer instanceof BeanSerializerBase))
+            {
+                serializer.serialize(value, gen, provider);
+                return;
+            }
+
+            Map<String, String> names = this.propertyNames.computeIfAbsent(value.getClass(), c -> Serializer.resolvePropertyNames(provider, c));
+            Set<String> requestedNames = new HashSet<>();
+            for(String field : sparseFieldset.fields())
+            {
+                requestedNames.add(names.getOrDefault(field, field));
+            }
+
+            gen.writeStartObject(value);
+            for(Iterator<PropertyWriter> properties = serializer.properties(); properties.hasNext(); )
+            {
+                PropertyWriter property = properties.next();
+                if(!requestedNames.contains(property.getName())) continue;
+
+                try
+                {
+                    property.serializeAsField(value, gen, provider);
+                }
+                catch(IOException | RuntimeException e)
+                {
+                    throw e;
+                }
+                catch(Exception e)
+                {
+                    throw new IllegalStateException(String.format("Error serializing field '%s' of class: %s", property.getName(), value.getClass().getSimpleName()), e);
+                }
+            }
+            gen.writeEndObject();
+        }
+
+        private static Map<String, String> resolvePropertyNames(SerializerProvider provider, Class<?> clazz)
+        {
+            Map<String, String> names = new HashMap<>();
+            for(BeanPropertyDefinition property : provider.getConfig().introspect(provider.constructType(clazz)).findProperties())
+            {
+                names.put(property.getInternalName(), property.getName());
+            }
+
+            return names;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package info.nino.jpatron.helpers;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FieldPathMatcherTest {
+
+    @Test
+    public void testRootFieldsWildcard() {
+        var matcher = FieldPathMatcher.of(".");
+
+        assertTrue(matcher.matches("name"));
+        assertTrue(matcher.matches(".name"));
+        assertFalse(matcher.matches("person.name"));
+    }
+
+    @Test
+    public void testNestedFieldsWildcards() {
+        var matcher = FieldPathMatcher.of(".gender.", "person.*.number", "title");
+
+        assertTrue(matcher.matches("gender.code"));
+        assertFalse(matcher.matches("gender.type.code"));
+        assertTrue(matcher.matches("person.phone.number"));
+        assertTrue(matcher.matches("person.address.phone.number"));
+        assertFalse(matcher.matches("person.phone.type"));
+        assertTrue(matcher.matches("title"));
+        assertFalse(matcher.matches("titles"));
+    }
+
+    @Test
+    public void testExcludedFieldPaths() {
+        var matcher = FieldPathMatcher.of(".*", "!person.password", "!secrets.*");
+
+        assertTrue(matcher.matches("person.name"));
+        assertFalse(matcher.matches("person.password"));
+        assertFalse(matcher.matches("secrets"));
+        assertFalse(matcher.matches("secrets.key.value"));
+    }
+
+    @Test
+    public void testCompiledMatcherIsShared() {
+        assertSame(FieldPathMatcher.of(".", "person.*"), FieldPathMatcher.of(".", "person.*"));
+    }
+
+    @Test
+    public void testInvalidWildcard() {
+        assertThrows(IllegalArgumentException.class, () -> FieldPathMatcher.of("person.na*"));
+    }
+}
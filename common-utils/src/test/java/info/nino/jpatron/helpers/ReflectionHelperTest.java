@@ -6,6 +6,8 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class ReflectionHelperTest {
 
@@ -87,4 +89,18 @@ public class ReflectionHelperTest {
         var type = ReflectionHelper.findGenericClassParameterType(converterClass.getClass(), IConverter.class, 1);
         assertEquals(Integer.class, type);
     }
+
+    private static class BaseDto { private Long id = 1L; }
+    private static class PersonDto extends BaseDto { private String name = "Nino"; private String gender = "male"; }
+
+    @Test
+    public void testModelFieldsAndInvalidPathsAreCached() {
+        assertSame(ReflectionHelper.getAllModelFields(PersonDto.class), ReflectionHelper.getAllModelFields(PersonDto.class));
+        assertEquals("id", ReflectionHelper.findModelField(PersonDto.class, "id").map(f -> f.getName()).orElse(null));
+        assertEquals("name", ReflectionHelper.findFieldByPath(PersonDto.class, "name").map(f -> f.getName()).orElse(null));
+
+        var firstException = assertThrows(IllegalStateException.class, () -> ReflectionHelper.findEntityFieldByPath(PersonDto.class, "unknown", false));
+        var cachedException = assertThrows(IllegalStateException.class, () -> ReflectionHelper.findEntityFieldByPath(PersonDto.class, "unknown", false));
+        assertEquals(firstException.getMessage(), cachedException.getMessage());
+    }
 }
@@ -0,0 +1,108 @@
+package info.nino.jpatron.request;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class QueryExpressionParserTest {
+
+    private final QueryExpressionParser parser = new QueryExpressionParser(Comparator.values(), CompoundOperator.AND, CompoundOperator.OR, 10);
+
+    @Test
+    public void testOperatorPriority() {
+        var root = assertInstanceOf(QueryExpressionParser.Compound.class, parser.parseExpression("a:1 OR b:>=2 AND c:#"));
+
+        assertEquals(QueryExpression.LogicOperator.OR, root.logicOperator());
+        assertEquals("a", ((QueryExpressionParser.Term) root.operands().get(0)).fieldPath());
+
+        var and = assertInstanceOf(QueryExpressionParser.Compound.class, root.operands().get(1));
+        assertEquals(QueryExpression.LogicOperator.AND, and.logicOperator());
+        assertEquals(QueryExpression.CompareOperator.GToE, ((QueryExpressionParser.Term) and.operands().get(0)).compareOperator());
+        assertEquals(QueryExpression.CompareOperator.IsNULL, ((QueryExpressionParser.Term) and.operands().get(1)).compareOperator());
+    }
+
+    @Test
+    public void testParenthesesAndQuotedValues() {
+        var root = assertInstanceOf(QueryExpressionParser.Compound.class, parser.parseExpression("(a:1 OR b:2) AND c:~\"x AND (y\" AND (d:^1,\"2,3\")"));
+
+        assertEquals(QueryExpression.LogicOperator.AND, root.logicOperator());
+        assertEquals(3, root.operands().size());
+        assertInstanceOf(QueryExpressionParser.Compound.class, root.operands().get(0));
+        assertEquals(List.of("x AND (y"), ((QueryExpressionParser.Term) root.operands().get(1)).values());
+        assertEquals(List.of("1", "2,3"), ((QueryExpressionParser.Term) root.operands().get(2)).values());
+    }
+
+    @Test
+    public void testInvalidExpressions() {
+        assertNull(parser.parseExpression("  "));
+
+        var error = assertThrows(IllegalArgumentException.class, () -> parser.parseExpression("a:1 AND (b:2"));
+        assertTrue(error.getMessage().contains("position 8"));
+
+        assertThrows(IllegalArgumentException.class, () -> parser.parseExpression("a:1 AND"));
+        assertThrows(IllegalArgumentException.class, () -> parser.parseExpression("a 1"));
+        assertThrows(IllegalArgumentException.class, () -> parser.parseExpression("a:\"1"));
+        assertThrows(IllegalArgumentException.class, () -> parser.parseExpression("(a:1))"));
+    }
+
+    @Test
+    public void testParsedExpressionsAreCached() {
+        var node = parser.parseExpression("a:1 AND b:2");
+
+        assertSame(node, parser.parseExpression("a:1 AND b:2"));
+        assertEquals(1, parser.getCacheSize());
+    }
+
+    @Test
+    public void testSplitCSValue() {
+        assertArrayEquals(new String[] { "a", "b,c", "d" }, QueryExpressionParser.splitCSValue("a, \"b,c\" ,d"));
+    }
+
+    private enum CompoundOperator implements ApiRequest.QueryParams.CompounderEnum {
+        AND, OR;
+
+        @Override
+        public QueryExpression.LogicOperator getLogicOperator() {
+            return QueryExpression.LogicOperator.valueOf(this.name());
+        }
+
+        @Override
+        public String getValue() {
+            return this.name();
+        }
+    }
+
+    private enum Comparator implements ApiRequest.QueryParams.ComparatorEnum {
+        IsNULL(":#", QueryExpression.CompareOperator.IsNULL),
+        EQ(":", QueryExpression.CompareOperator.EQ),
+        LIKE(":~", QueryExpression.CompareOperator.LIKE),
+        GToE(":>=", QueryExpression.CompareOperator.GToE),
+        IN(":^", QueryExpression.CompareOperator.IN);
+
+        private final String value;
+        private final QueryExpression.CompareOperator compareOperator;
+
+        Comparator(String value, QueryExpression.CompareOperator compareOperator) {
+            this.value = value;
+            this.compareOperator = compareOperator;
+        }
+
+        @Override
+        public QueryExpression.CompareOperator getCompareOperator() {
+            return compareOperator;
+        }
+
+        @Override
+        public String getValue() {
+            return value;
+        }
+    }
+}
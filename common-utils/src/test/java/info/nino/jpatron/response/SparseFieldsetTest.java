@@ -0,0 +1,57 @@
+package info.nino.jpatron.response;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class SparseFieldsetTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class BaseDto {
+        @JsonProperty("id")
+        public Long id = 1L;
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class PersonDto extends BaseDto {
+        @JsonProperty("full_name")
+        public String name = "Nino";
+
+        public String gender = "male";
+
+        public String nickname = null;
+
+        @JsonIgnore
+        public String password = "secret";
+    }
+
+    @Test
+    public void testSparseFieldsetKeepsJacksonAnnotations() throws Exception {
+        String json = this.objectMapper.writeValueAsString(new SparseFieldset(new PersonDto(), Set.of("id", "name", "nickname", "password")));
+
+        assertEquals(this.objectMapper.readTree("{\"id\":1,\"full_name\":\"Nino\"}"), this.objectMapper.readTree(json));
+    }
+
+    @Test
+    public void testSparseFieldsetByJsonName() throws Exception {
+        String json = this.objectMapper.writeValueAsString(new SparseFieldset(new PersonDto(), Set.of("full_name", "gender")));
+
+        assertEquals(this.objectMapper.readTree("{\"full_name\":\"Nino\",\"gender\":\"male\"}"), this.objectMapper.readTree(json));
+    }
+
+    @Test
+    public void testWithoutSparseFieldset() throws Exception {
+        String json = this.objectMapper.writeValueAsString(List.of(new SparseFieldset(new PersonDto(), null), new SparseFieldset("value", Set.of("id"))));
+
+        assertEquals(this.objectMapper.readTree("[{\"id\":1,\"full_name\":\"Nino\",\"gender\":\"male\"},\"value\"]"), this.objectMapper.readTree(json));
+    }
+}
@@ -12,10 +12,10 @@ public class Page<T> extends ApiPageResponse<T>
     /**
      * Constructor for main result data object returned by Entity Service
      * @param pageRequest initializes Page number &amp; size from request
-     * @param totalElements total number of target entity objects in datasource (by filters)
+     * @param totalElements total number of target entity objects in datasource (by filters) - null if not resolved
      * @param content result list of the target entity objects (size of page-size)
      */
-    public Page(PageRequest<T> pageRequest, long totalElements, List<T> content)
+    public Page(PageRequest<T> pageRequest, Long totalElements, List<T> content)
     {
         super(pageRequest.getPageNumber(), pageRequest.getPageSize(), totalElements, content);
     }
@@ -24,10 +24,10 @@ public class Page<T> extends ApiPageResponse<T>
      * Constructor for main result data object returned by Entity Service
      * @param pageNumber number of the page for the data result list
      * @param pageSize size of the page for the returned data result list
-     * @param totalItems total number of target entity objects in datasource (by filters)
+     * @param totalItems total number of target entity objects in datasource (by filters) - null if not resolved
      * @param content result list of the target entity objects (size of page-size)
      */
-    public Page(Integer pageNumber, Integer pageSize, long totalItems, List<T> content)
+    public Page(Integer pageNumber, Integer pageSize, Long totalItems, List<T> content)
     {
         super(pageNumber, pageSize, totalItems, content);
     }
@@ -45,6 +45,10 @@ public class Page<T> extends ApiPageResponse<T>
         Page<R> p = new Page<>(pageNumber, pageSize, totalItems, result);
         p.setDistinctValues(distinctValues);
         p.setMetaValues(metaValues);
+        p.setCursor(cursor);
+        p.setEstimated(estimated);
+        p.setHasNext(hasNext);
+        p.setFields(fields);
 
         return p;
     }
@@ -1,5 +1,7 @@
 package info.nino.jpatron.query;
 
+import info.nino.jpatron.request.CountMode;
+import info.nino.jpatron.request.SearchMode;
 import info.nino.jpatron.request.QueryExpression;
 import info.nino.jpatron.request.QuerySort;
 
@@ -28,6 +30,37 @@ public class PageRequest<T>
      */
     private Integer pageNumber;
 
+    /**
+     * Opaque keyset-pagination cursor (returned by previous page)
+     * Null cursor uses offset pagination, empty cursor requests first page of keyset pagination
+     */
+    private String cursor;
+
+    /**
+     * Total-count strategy of the paginated result list (exact count by default)
+     */
+    private CountMode countMode = CountMode.EXACT;
+
+    /**
+     * Time-to-live (in seconds) of cached distinct &amp; meta values (caching disabled by default)
+     */
+    private long metaCacheTtl = 0;
+
+    /**
+     * Slow-query threshold in milliseconds (threshold of the EntityService SlowQueryRecorder is used by default)
+     */
+    private long slowQueryThreshold = -1;
+
+    /**
+     * Name of the originating endpoint (recorded along with slow queries)
+     */
+    private String endpoint;
+
+    /**
+     * Search strategy of the search filters (LIKE by default)
+     */
+    private SearchMode searchMode = SearchMode.LIKE;
+
     /**
      * true/false flag for distinct-list of the result list
      */
@@ -48,6 +81,12 @@ public class PageRequest<T>
      */
     private String[] entityGraphPaths;
 
+    /**
+     * Requested root DTO attribute names (sparse fieldset) - all attributes if null
+     * Prunes projection-query select list &amp; serialized response attributes (id is always included)
+     */
+    private Set<String> fields;
+
     /**
      * Set of sorting parameters of QuerySort type
      */
@@ -141,6 +180,27 @@ public class PageRequest<T>
         this.sorts = sorts;
     }
 
+    /**
+     * Copy constructor for PageRequest (data-service) - sorts are copied to new set, other properties are shared
+     * @param request source PageRequest object
+     */
+    public PageRequest(PageRequest<T> request)
+    {
+        this(request.rootEntity, request.pageSize, request.pageNumber, request.distinctDataset, request.readOnlyDataset, (request.sorts != null) ? new LinkedHashSet<>(request.sorts) : null);
+        this.cursor = request.cursor;
+        this.countMode = request.countMode;
+        this.metaCacheTtl = request.metaCacheTtl;
+        this.slowQueryThreshold = request.slowQueryThreshold;
+        this.endpoint = request.endpoint;
+        this.searchMode = request.searchMode;
+        this.fetchEntityPaths = request.fetchEntityPaths;
+        this.entityGraphPaths = request.entityGraphPaths;
+        this.fields = request.fields;
+        this.queryFilters = request.queryFilters;
+        this.distinctColumns = request.distinctColumns;
+        this.metaColumns = request.metaColumns;
+    }
+
     /**
      * Requested root Entity of the PageRequest
      * @return rootEntity
@@ -168,6 +228,141 @@ public class PageRequest<T>
         return pageSize;
     }
 
+    /**
+     * Opaque keyset-pagination cursor
+     * @return cursor
+     */
+    public String getCursor()
+    {
+        return cursor;
+    }
+
+    /**
+     * Opaque keyset-pagination cursor (empty value requests first page of keyset pagination)
+     * @param cursor returned by previous page
+     */
+    public void setCursor(String cursor)
+    {
+        this.cursor = cursor;
+    }
+
+    /**
+     * Boolean flag if result-set should be paginated by keyset (seek) instead of offset
+     * @return true if cursor is set
+     */
+    public boolean isKeysetPagination()
+    {
+        return cursor != null;
+    }
+
+    /**
+     * Total-count strategy of the paginated result list
+     * @return countMode
+     */
+    public CountMode getCountMode()
+    {
+        return countMode;
+    }
+
+    /**
+     * Total-count strategy of the paginated result list
+     * @param countMode EXACT/NONE/HAS_NEXT/ESTIMATED
+     */
+    public void setCountMode(CountMode countMode)
+    {
+        this.countMode = countMode;
+    }
+
+    /**
+     * Time-to-live (in seconds) of cached distinct &amp; meta values
+     * @return metaCacheTtl
+     */
+    public long getMetaCacheTtl()
+    {
+        return metaCacheTtl;
+    }
+
+    /**
+     * Time-to-live (in seconds) of cached distinct &amp; meta values
+     * @param metaCacheTtl cache TTL in seconds (0 - caching disabled)
+     */
+    public void setMetaCacheTtl(long metaCacheTtl)
+    {
+        this.metaCacheTtl = metaCacheTtl;
+    }
+
+    /**
+     * Slow-query threshold in milliseconds
+     * @return slowQueryThreshold (negative - threshold of the EntityService SlowQueryRecorder)
+     */
+    public long getSlowQueryThreshold()
+    {
+        return slowQueryThreshold;
+    }
+
+    /**
+     * Slow-query threshold in milliseconds
+     * @param slowQueryThreshold threshold in milliseconds (negative - threshold of the EntityService SlowQueryRecorder)
+     */
+    public void setSlowQueryThreshold(long slowQueryThreshold)
+    {
+        this.slowQueryThreshold = slowQueryThreshold;
+    }
+
+    /**
+     * Name of the originating endpoint
+     * @return endpoint (e.g. resource method name)
+     */
+    public String getEndpoint()
+    {
+        return endpoint;
+    }
+
+    /**
+     * Name of the originating endpoint
+     * @param endpoint endpoint (e.g. resource method name)
+     */
+    public void setEndpoint(String endpoint)
+    {
+        this.endpoint = endpoint;
+    }
+
+    /**
+     * Search strategy of the search filters
+     * @return searchMode
+     */
+    public SearchMode getSearchMode()
+    {
+        return searchMode;
+    }
+
+    /**
+     * Search strategy of the search filters
+     * @param searchMode search strategy (FULL_TEXT search filters are SEARCH filters)
+     */
+    public void setSearchMode(SearchMode searchMode)
+    {
+        this.searchMode = searchMode;
+    }
+
+    /**
+     * Requested root DTO attribute names (sparse fieldset)
+     * @return fields (null if all attributes are requested)
+     */
+    public Set<String> getFields()
+    {
+        return fields;
+    }
+
+    /**
+     * Requested root DTO attribute names (sparse fieldset)
+     * @param fields requested attribute names (null - all attributes)
+     */
+    public void setFields(Set<String> fields)
+    {
+        this.fields = fields;
+    }
+
     /**
      * Boolean flag if result-set should be read-only
      * @return readOnlyDataset flag
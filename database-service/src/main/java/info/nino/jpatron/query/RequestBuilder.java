@@ -1,14 +1,18 @@
 package info.nino.jpatron.query;
 
+import info.nino.jpatron.helpers.ConstantsUtil;
 import info.nino.jpatron.request.ApiRequest;
+import info.nino.jpatron.request.CountMode;
 import info.nino.jpatron.request.QueryExpression;
 import info.nino.jpatron.request.QuerySort;
+import info.nino.jpatron.request.SearchMode;
 import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
 
 public final class RequestBuilder<T> {
@@ -71,8 +75,17 @@ public final class RequestBuilder<T> {
 
         RequestBuilder<T> requestBuilder = RequestBuilder.init(apiRequest.getRootEntity(), apiRequest.getQueryParams().getPageSize(), apiRequest.getQueryParams().getPageNumber());
 
+        requestBuilder.setCursor(apiRequest.getQueryParams().getCursor());
+        requestBuilder.setCountMode(apiRequest.getCountMode());
+        requestBuilder.setMetaCacheTtl(apiRequest.getMetaCacheTtl());
+        requestBuilder.setSlowQueryThreshold(apiRequest.getSlowQueryThreshold());
+        requestBuilder.setEndpoint(apiRequest.getEndpoint());
+        requestBuilder.setSearchMode(apiRequest.getSearchMode());
         requestBuilder.setDistinct(apiRequest.isDistinctDataset());
         requestBuilder.setReadOnly(apiRequest.isReadOnlyDataset());
+        if (apiRequest.getQueryParams().getFields() != null) {
+            requestBuilder.addFields(apiRequest.getQueryParams().getFields().toArray(new String[]{}));
+        }
         //requestBuilder.addFetchEntityPaths(apiRequest.getFetchEntityPaths());
         requestBuilder.addEntityGraphPaths(apiRequest.getEntityGraphPaths());
 
@@ -96,8 +109,7 @@ public final class RequestBuilder<T> {
         MapUtils.emptyIfNull(apiRequest.getQueryParams().getSearches()).forEach((clazz, searchFields) -> {
             searchFields.forEach((fieldPath, searchValues) -> {
                 searchValues.asMap().forEach((valueModifier, values) -> {
-                    QueryExpression.CompareOperator compareOperator = QueryExpression.CompareOperator.LIKE;
-                    var searchFilter = RequestBuilder.createNewFilter(requestBuilder, fieldPath, compareOperator, valueModifier, values.toArray(new Comparable[]{}));
+                    var searchFilter = RequestBuilder.createSearchFilter(requestBuilder, fieldPath, valueModifier, values.toArray(new Comparable[]{}));
                     searchFilters.add(searchFilter);
                 });
             });
@@ -137,6 +149,48 @@ public final class RequestBuilder<T> {
         return requestBuilder;
     }
 
+    //NOTICE: full-text search filters match whole search values (LIKE modifiers are dropped, SPLIT modifiers split values to words)
+    private static QueryExpression.Filter<?> createSearchFilter(RequestBuilder<?> requestBuilder, String fieldPath, QueryExpression.ValueModifier valueModifier, Comparable[] values) {
+        if (requestBuilder.getPageRequest().getSearchMode() != SearchMode.FULL_TEXT) {
+            return RequestBuilder.createNewFilter(requestBuilder, fieldPath, QueryExpression.CompareOperator.LIKE, valueModifier, values);
+        }
+
+        boolean split = valueModifier == QueryExpression.ValueModifier.SPLIT || valueModifier == QueryExpression.ValueModifier.SplitLikeL
+                || valueModifier == QueryExpression.ValueModifier.SplitLikeR || valueModifier == QueryExpression.ValueModifier.SplitLikeLR;
+        QueryExpression.ValueModifier searchModifier = (split) ? QueryExpression.ValueModifier.SPLIT : QueryExpression.ValueModifier.NONE;
+        return RequestBuilder.createNewFilter(requestBuilder, fieldPath, QueryExpression.CompareOperator.SEARCH, searchModifier, values);
+    }
+
+    public RequestBuilder<T> setCursor(String cursor) {
+        this.pageRequest.setCursor(cursor);
+        return this;
+    }
+
+    public RequestBuilder<T> setCountMode(CountMode countMode) {
+        this.pageRequest.setCountMode(countMode);
+        return this;
+    }
+
+    public RequestBuilder<T> setMetaCacheTtl(long metaCacheTtl) {
+        this.pageRequest.setMetaCacheTtl(metaCacheTtl);
+        return this;
+    }
+
+    public RequestBuilder<T> setSlowQueryThreshold(long slowQueryThreshold) {
+        this.pageRequest.setSlowQueryThreshold(slowQueryThreshold);
+        return this;
+    }
+
+    public RequestBuilder<T> setEndpoint(String endpoint) {
+        this.pageRequest.setEndpoint(endpoint);
+        return this;
+    }
+
+    public RequestBuilder<T> setSearchMode(SearchMode searchMode) {
+        this.pageRequest.setSearchMode(searchMode);
+        return this;
+    }
+
     public RequestBuilder<T> setDistinct(boolean distinct) {
         this.pageRequest.setDistinctDataset(distinct);
         return this;
@@ -147,6 +201,21 @@ public final class RequestBuilder<T> {
         return this;
     }
 
+    public RequestBuilder<T> clearFields() {
+        this.pageRequest.setFields(null);
+        return this;
+    }
+
+    //NOTICE: id attribute is always included in sparse fieldset
+    public RequestBuilder<T> addFields(String... fields) {
+        if (this.pageRequest.getFields() == null) {
+            this.pageRequest.setFields(new LinkedHashSet<>(List.of(ConstantsUtil.ID_FIELD)));
+        }
+
+        this.pageRequest.getFields().addAll(Arrays.asList(fields));
+        return this;
+    }
+
     public RequestBuilder<T> clearEntityGraphPaths() {
         this.pageRequest.setEntityGraphPaths(null);
         return this;
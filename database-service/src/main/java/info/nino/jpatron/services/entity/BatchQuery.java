@@ -0,0 +1,188 @@
+package info.nino.jpatron.services.entity;
+
+import info.nino.jpatron.pagination.Page;
+import info.nino.jpatron.query.PageRequest;
+import jakarta.persistence.*;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * BatchQuery executes multiple (named) data/projection-queries of (different) EntityServices in one call
+ * Sequential batch executes all queries on single separate EntityManager (same EntityManagerFactory) in one read-only transaction (single DB connection)
+ * Parallel batch executes each query on separate EntityManager (same EntityManagerFactory) using query executor - queries are executed concurrently
+ * NOTICE: caller EntityManager is NOT used for queries - its persistence context, flush mode &amp; read-only default are left untouched
+ * WARNING: batch queries are executed outside of caller persistence context - returned entities are detached &amp; caller changes are visible only if committed
+ * (or flushed within JTA transaction joined by batch EntityManager)
+ */
+public class BatchQuery
+{
+    private final Map<String, BatchItem<?, ?>> items = new LinkedHashMap<>();
+    private boolean parallel = false;
+    private Executor executor = EntityService.EsUtil.DEFAULT_QUERY_EXECUTOR;
+    private long timeoutMs = EntityService.DEFAULT_PARALLEL_QUERY_TIMEOUT_MS;
+
+    /**
+     * Adds data-query of the EntityService to the batch (result is Page of target entities)
+     * @param name unique name of the batch query (key of the result)
+     * @param es EntityService of the query
+     * @param request PageRequest of the query
+     * @return BatchQuery object
+     */
+    public <E> BatchQuery add(String name, EntityService<E> es, PageRequest<E> request)
+    {
+        return this.add(name, new BatchItem<E, E>(es, request, null));
+    }
+
+    /**
+     * Adds projection-query of the EntityService to the batch (result is Page of DTO objects)
+     * @param name unique name of the batch query (key of the result)
+     * @param es EntityService of the query
+     * @param request PageRequest of the query
+     * @param dtoClass DTO Class (annotated with @EntityClass of target entity)
+     * @return BatchQuery object
+     */
+    public <E, D> BatchQuery add(String name, EntityService<E> es, PageRequest<E> request, Class<D> dtoClass)
+    {
+        return this.add(name, new BatchItem<E, D>(es, request, dtoClass));
+    }
+
+    private BatchQuery add(String name, BatchItem<?, ?> item)
+    {
+        if(this.items.containsKey(name)) throw new IllegalArgumentException(String.format("BatchQuery '%s' name is duplicate!", name));
+        this.items.put(name, item);
+
+        return this;
+    }
+
+    /**
+     * Enable/Disable parallel execution of batch queries (disabled by default)
+     * @param parallel boolean true/false
+     * @return BatchQuery object
+     */
+    public BatchQuery parallel(boolean parallel)
+    {
+        this.parallel = parallel;
+        return this;
+    }
+
+    /**
+     * Executor of the parallel batch queries (EntityService default query executor by default)
+     * @param executor Executor object
+     * @return BatchQuery object
+     */
+    public BatchQuery executor(Executor executor)
+    {
+        this.executor = executor;
+        return this;
+    }
+
+    /**
+     * Timeout of the parallel batch queries (30s by default) - remaining batch queries are cancelled when timeout elapses
+     * @param timeoutMs timeout in milliseconds (0 waits without timeout)
+     * @return BatchQuery object
+     */
+    public BatchQuery timeout(long timeoutMs)
+    {
+        this.timeoutMs = timeoutMs;
+        return this;
+    }
+
+    /**
+     * Executes batch queries - sequentially on separate EntityManager or in parallel on separate EntityManagers of the EntityManagerFactory
+     * @param em EntityManager (of the caller) - only its EntityManagerFactory is used
+     * @return named Page objects (in order of added queries)
+     */
+    public Map<String, Page<?>> execute(EntityManager em)
+    {
+        EntityManagerFactory emf = em.getEntityManagerFactory();
+        if(this.parallel && this.items.size() > 1) return this.executeParallel(emf);
+
+        //NOTICE: read-only session settings would leak to entities of caller persistence context - batch uses its own EntityManager
+        EntityManager batchEm = emf.createEntityManager();
+        try
+        {
+            return BatchQuery.executeReadOnly(batchEm, bem ->
+            {
+                Map<String, Page<?>> pages = new LinkedHashMap<>();
+                this.items.forEach((name, item) -> pages.put(name, item.execute(bem)));
+
+                return pages;
+            });
+        }
+        finally
+        {
+            batchEm.close();
+        }
+    }
+
+    private Map<String, Page<?>> executeParallel(EntityManagerFactory emf)
+    {
+        if(this.executor == null) throw new RuntimeException("BatchQuery - query executor must NOT be null!");
+
+        Map<String, CompletableFuture<Page<?>>> pageFutures = new LinkedHashMap<>();
+        this.items.forEach((name, item) -> pageFutures.put(name, EntityService.EsUtil.supplyQueryAsync(emf, this.executor, qem -> BatchQuery.executeReadOnly(qem, item::execute))));
+
+        //NOTICE: remaining batch queries are cancelled if one of them fails or if they do NOT complete within timeout
+        EntityService.EsUtil.joinAllQueries(pageFutures.values(), this.timeoutMs);
+
+        Map<String, Page<?>> pages = new LinkedHashMap<>();
+        pageFutures.forEach((name, pageFuture) -> pages.put(name, EntityService.EsUtil.joinQuery(pageFuture)));
+
+        return pages;
+    }
+
+    /**
+     * Executes queries in read-only session (entities are loaded read-only &amp; session is NOT flushed) of the batch EntityManager
+     * Resource-local transaction is started (and rolled back) if EntityManager is not joined to transaction - queries share single DB connection
+     */
+    private static <T> T executeReadOnly(EntityManager em, Function<EntityManager, T> queries)
+    {
+        Session session = em.unwrap(Session.class);
+        boolean defaultReadOnly = session.isDefaultReadOnly();
+        FlushMode flushMode = session.getHibernateFlushMode();
+
+        EntityTransaction transaction = (!em.isJoinedToTransaction()) ? EntityService.EsUtil.getResourceLocalTransaction(em) : null;
+        if(transaction != null) transaction.begin();
+
+        session.setDefaultReadOnly(true);
+        session.setHibernateFlushMode(FlushMode.MANUAL);
+        try
+        {
+            return queries.apply(em);
+        }
+        finally
+        {
+            session.setDefaultReadOnly(defaultReadOnly);
+            session.setHibernateFlushMode(flushMode);
+
+            if(transaction != null && transaction.isActive()) transaction.rollback();  //read-only transaction
+        }
+    }
+
+    private static class BatchItem<E, D>
+    {
+        private final EntityService<E> es;
+        private final PageRequest<E> request;
+        private final Class<D> dtoClass;
+
+        private BatchItem(EntityService<E> es, PageRequest<E> request, Class<D> dtoClass)
+        {
+            this.es = es;
+            this.request = request;
+            this.dtoClass = dtoClass;
+        }
+
+        private Page<?> execute(EntityManager em)
+        {
+            EntityService.QueryBuilder<E> queryBuilder = this.es.getQueryBuilderInstance();
+            if(this.dtoClass == null) return queryBuilder.dataQuery(this.es, em, this.es.getEntityClass(), this.request);
+
+            return queryBuilder.projectionQuery(this.es, em, this.es.getEntityClass(), this.request, DtoProjection.of(this.dtoClass, this.request.getFields()));
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package info.nino.jpatron.services.entity;
+
+import jakarta.persistence.*;
+import jakarta.persistence.criteria.*;
+
+import java.util.function.Consumer;
+
+/**
+ * CountEstimator provides estimated total-count of the data-query (used by CountMode.ESTIMATED)
+ */
+public interface CountEstimator
+{
+    /**
+     * Estimates total-count of the data-query
+     * @param em EntityManager of the data-query
+     * @param query count-query (including data-query filters) which total-count is estimated
+     * @param entity root entity of the data-query
+     * @param parameterBinder binds parameter values of the count-query (query-plan cache templates) to the executed query
+     * @return estimated total-count or null if estimate is not available (fallback to exact count-query)
+     */
+    public Long estimateCount(EntityManager em, CriteriaQuery<?> query, Class<?> entity, Consumer<Query> parameterBinder);
+}
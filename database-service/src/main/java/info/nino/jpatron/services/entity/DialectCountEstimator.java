@@ -0,0 +1,138 @@
+package info.nino.jpatron.services.entity;
+
+import jakarta.persistence.*;
+import jakarta.persistence.criteria.*;
+import jakarta.persistence.metamodel.EntityType;
+import org.hibernate.Session;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.dialect.OracleDialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.dialect.SQLServerDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.persister.entity.Joinable;
+
+import java.sql.Savepoint;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * DialectCountEstimator resolves estimated total-count from DB planner statistics (PostgreSQL, MySQL/MariaDB, MSSQL, Oracle)
+ * Unrestricted data-query is estimated from table statistics, filtered data-query is estimated from EXPLAIN row estimate (PostgreSQL only)
+ * NOTICE: estimate queries are executed within savepoint on PostgreSQL (failed query does NOT abort caller transaction)
+ */
+public class DialectCountEstimator implements CountEstimator
+{
+    public static final DialectCountEstimator DEFAULT = new DialectCountEstimator();
+
+    private static final String EXPLAIN_PREFIX = "EXPLAIN ";
+    private static final Pattern EXPLAIN_ROWS_PATTERN = Pattern.compile("rows=(\\d+)");
+
+    @Override
+    public Long estimateCount(EntityManager em, CriteriaQuery<?> query, Class<?> entity, Consumer<Query> parameterBinder)
+    {
+        try
+        {
+            SessionFactoryImplementor sessionFactory = em.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class);
+            Dialect dialect = sessionFactory.getJdbcServices().getDialect();
+
+            if(query.getRestriction() != null)
+            {
+                if(!(dialect instanceof PostgreSQLDialect)) return null;
+                return DialectCountEstimator.executeInSavepoint(em, () -> DialectCountEstimator.explainCount(em, query, entity, parameterBinder));
+            }
+
+            String statisticsQuery = DialectCountEstimator.getStatisticsQuery(dialect);
+            if(statisticsQuery == null) return null;
+
+            EntityPersister entityPersister = sessionFactory.getRuntimeMetamodels().getMappingMetamodel().getEntityDescriptor(entity);
+            if(!(entityPersister instanceof Joinable)) return null;
+
+            String tableName = ((Joinable) entityPersister).getTableName();
+            Supplier<Long> statisticsEstimate = () ->
+            {
+                Object estimate = em.createNativeQuery(statisticsQuery).setParameter(1, tableName).getSingleResult();
+                return (estimate instanceof Number && ((Number) estimate).longValue() >= 0) ? ((Number) estimate).longValue() : null;
+            };
+
+            return (dialect instanceof PostgreSQLDialect) ? DialectCountEstimator.executeInSavepoint(em, statisticsEstimate) : statisticsEstimate.get();
+        }
+        catch(RuntimeException ex)
+        {
+            EntityService.logger.log(Level.WARNING, String.format("Could NOT resolve estimated count for ENTITY Class: %s - using exact count!", entity.getSimpleName()), ex);
+            return null;
+        }
+    }
+
+    /**
+     * Planner row estimate of the filtered data-query - EXPLAIN of the root-id query (count-query restriction &amp; joins)
+     * Query is executed on child session sharing JDBC connection (same transaction) - its statement inspector prefixes SQL with EXPLAIN
+     * NOTICE: root-id is selected as String (plan rows of EXPLAIN output are read as String values)
+     */
+    private static Long explainCount(EntityManager em, CriteriaQuery<?> query, Class<?> entity, Consumer<Query> parameterBinder)
+    {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Tuple> explainQuery = EntityService.Core.replicateTupleQuery(cb, query);
+        Root<?> root = EntityService.Core.findEntityRootPath(explainQuery.getRoots(), entity);
+        if(root == null) return null;
+
+        EntityType<?> entityType = em.getMetamodel().entity(entity);
+        String idPath = entityType.getId(entityType.getIdType().getJavaType()).getName();
+
+        explainQuery.select(cb.tuple(root.get(idPath).as(String.class)));
+        explainQuery.distinct(EntityService.Core.queryContainsJoinToMany(explainQuery));
+        explainQuery.groupBy(new ArrayList<Expression<?>>());
+        explainQuery.orderBy();
+
+        try(Session explainSession = em.unwrap(Session.class).sessionWithOptions().connection().statementInspector(sql -> EXPLAIN_PREFIX + sql).openSession())
+        {
+            TypedQuery<Tuple> explainTypedQuery = explainSession.createQuery(explainQuery);
+            if(parameterBinder != null) parameterBinder.accept(explainTypedQuery);
+
+            //NOTICE: first plan row is top plan node - its row estimate is estimated row count of the query
+            List<Tuple> planRows = explainTypedQuery.getResultList();
+            if(planRows.isEmpty()) return null;
+
+            Matcher rowsMatcher = EXPLAIN_ROWS_PATTERN.matcher(String.valueOf(planRows.get(0).get(0)));
+            return (rowsMatcher.find()) ? Long.valueOf(rowsMatcher.group(1)) : null;
+        }
+    }
+
+    //NOTICE: failed statement aborts current transaction on PostgreSQL - estimate query is rolled back to savepoint on failure
+    private static Long executeInSavepoint(EntityManager em, Supplier<Long> estimate)
+    {
+        return em.unwrap(Session.class).doReturningWork(connection ->
+        {
+            if(connection.getAutoCommit()) return estimate.get();
+
+            Savepoint savepoint = connection.setSavepoint();
+            try
+            {
+                Long estimatedCount = estimate.get();
+                connection.releaseSavepoint(savepoint);
+
+                return estimatedCount;
+            }
+            catch(RuntimeException ex)
+            {
+                connection.rollback(savepoint);
+                throw ex;
+            }
+        });
+    }
+
+    private static String getStatisticsQuery(Dialect dialect)
+    {
+        if(dialect instanceof PostgreSQLDialect) return "SELECT CAST(c.reltuples AS BIGINT) FROM pg_class c WHERE c.oid = to_regclass(?1)";
+        if(dialect instanceof MySQLDialect) return "SELECT t.table_rows FROM information_schema.tables t WHERE t.table_schema = DATABASE() AND t.table_name = ?1";
+        if(dialect instanceof SQLServerDialect) return "SELECT SUM(p.rows) FROM sys.partitions p WHERE p.object_id = OBJECT_ID(?1) AND p.index_id IN (0, 1)";
+        if(dialect instanceof OracleDialect) return "SELECT t.num_rows FROM user_tables t WHERE t.table_name = UPPER(?1)";
+
+        return null;
+    }
+}
@@ -0,0 +1,62 @@
+package info.nino.jpatron.services.entity;
+
+import info.nino.jpatron.helpers.ConstantsUtil;
+import jakarta.persistence.*;
+import jakarta.persistence.criteria.*;
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.type.StandardBasicTypes;
+
+import java.util.regex.Pattern;
+
+/**
+ * DialectSearchProvider uses full-text search of the DB dialect - PostgreSQL: to_tsvector(config, column) @@ plainto_tsquery(config, value)
+ * Text search configuration is set by 'jpatron.database-service.search.text-search-config' system property ('simple' by default)
+ * Search columns should be indexed with matching GIN expression index, e.g. CREATE INDEX ... USING GIN (to_tsvector('simple', name))
+ * NOTICE: search values are matched with LIKE '%value%' if full-text function is not registered (e.g. H2, MySQL, MSSQL, Oracle dialects)
+ * LIKE fallback is identical to LIKE filter of LikeLR modifier (SearchMode.LIKE) - LIKE wildcards (%, _) of the search value are NOT escaped
+ */
+public class DialectSearchProvider implements SearchProvider
+{
+    public static final DialectSearchProvider DEFAULT = new DialectSearchProvider();
+
+    public static final String FULL_TEXT_FUNCTION = "jpatron_full_text";
+
+    private static final Pattern TEXT_SEARCH_CONFIG_PATTERN = Pattern.compile("[A-Za-z_][A-Za-z0-9_.]*");
+
+    @Override
+    public Predicate createSearchPredicate(EntityManager em, CriteriaBuilder cb, Expression<String> column, Expression<String> value)
+    {
+        if(EntityService.EsUtil.isFunctionRegistered(em, FULL_TEXT_FUNCTION))
+        {
+            return cb.isTrue(cb.function(FULL_TEXT_FUNCTION, Boolean.class, column, value));
+        }
+
+        //NOTICE: same pattern as LikeLR value modifier ('%' + value + '%') - search value might be parameter expression (query-plan template)
+        return cb.like(column, cb.concat(cb.concat("%", value), "%"));
+    }
+
+    /**
+     * Registers full-text search function for dialects supporting full-text search (PostgreSQL)
+     * Registered by Hibernate service loader (META-INF/services/org.hibernate.boot.model.FunctionContributor)
+     */
+    public static class FullTextFunctionContributor implements FunctionContributor
+    {
+        @Override
+        public void contributeFunctions(FunctionContributions functionContributions)
+        {
+            if(!(functionContributions.getDialect() instanceof PostgreSQLDialect)) return;
+
+            //WARNING: text search configuration is rendered as SQL literal (must match the GIN expression index)
+            String config = System.getProperty(ConstantsUtil.ENTITY_SERVICE_SEARCH_TEXT_SEARCH_CONFIG, "simple");
+            if(!TEXT_SEARCH_CONFIG_PATTERN.matcher(config).matches()) throw new IllegalArgumentException(String.format("Invalid text search configuration: %s", config));
+
+            String pattern = String.format("(to_tsvector('%1$s', ?1) @@ plainto_tsquery('%1$s', ?2))", config);
+            functionContributions.getFunctionRegistry().patternDescriptorBuilder(FULL_TEXT_FUNCTION, pattern)
+                    .setInvariantType(functionContributions.getTypeConfiguration().getBasicTypeRegistry().resolve(StandardBasicTypes.BOOLEAN))
+                    .setExactArgumentCount(2)
+                    .register();
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package info.nino.jpatron.services.entity;
+
+import info.nino.jpatron.annotiation.EntityClass;
+import info.nino.jpatron.helpers.ConstantsUtil;
+import info.nino.jpatron.helpers.ReflectionHelper;
+import org.apache.commons.lang3.ClassUtils;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.lang.reflect.*;
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * DtoProjection maps DTO Class fields to entity column-paths (@EntityClass mapping resolved by ReflectionHelper)
+ * Projection query selects only mapped columns and DTO objects are populated directly from result rows (no entity hydration)
+ * NOTICE: nested DTO objects are projected recursively - collection fields, entity-typed fields &amp; not mapped (calculated) fields are left null
+ * @param <D> type of DTO object
+ */
+public class DtoProjection<D>
+{
+    private static final Map<Class<?>, DtoProjection<?>> PROJECTIONS = new ConcurrentHashMap<>();
+
+    private final Class<D> dtoClass;
+    private final Set<String> fields;
+    private final List<Pair<Class<?>, String>> columnPaths = new ArrayList<>();
+    private final ProjectionNode rootNode;
+
+    private DtoProjection(Class<D> dtoClass, Set<String> fields)
+    {
+        if(!dtoClass.isAnnotationPresent(EntityClass.class)) throw new IllegalArgumentException(String.format("DtoProjection - DTO Class %s must be annotated with @EntityClass!", dtoClass.getSimpleName()));
+
+        this.dtoClass = dtoClass;
+        this.fields = fields;
+        this.rootNode = this.createNode(dtoClass, null, Collections.singleton(dtoClass));
+        if(this.columnPaths.isEmpty()) throw new IllegalArgumentException(String.format("DtoProjection - NO entity mapped fields FOUND in DTO Class: %s!", dtoClass.getSimpleName()));
+    }
+
+    /**
+     * Resolves (cached) projection of the DTO Class
+     * @param dtoClass DTO Class (annotated with @EntityClass)
+     * @return DtoProjection of the DTO Class
+     * @param <D> type of DTO object
+     */
+    public static <D> DtoProjection<D> of(Class<D> dtoClass)
+    {
+        return (DtoProjection<D>) PROJECTIONS.computeIfAbsent(dtoClass, c -> new DtoProjection<>(c, null));
+    }
+
+    /**
+     * Resolves projection of the DTO Class pruned to requested root DTO attributes (sparse fieldset)
+     * NOTICE: only full projections are cached - pruned projections are resolved per request (client-defined field combinations)
+     * @param dtoClass DTO Class (annotated with @EntityClass)
+     * @param fields requested root DTO attribute names (null - all attributes) - id attribute is always selected
+     * @return DtoProjection of the DTO Class
+     * @param <D> type of DTO object
+     */
+    public static <D> DtoProjection<D> of(Class<D> dtoClass, Set<String> fields)
+    {
+        return (fields != null) ? new DtoProjection<>(dtoClass, fields) : DtoProjection.of(dtoClass);
+    }
+
+    public Class<D> getDtoClass()
+    {
+        return this.dtoClass;
+    }
+
+    List<Pair<Class<?>, String>> getColumnPaths()
+    {
+        return this.columnPaths;
+    }
+
+    D createDto(Object[] row)
+    {
+        return (D) this.rootNode.createObject(row, true);
+    }
+
+    private ProjectionNode createNode(Class<?> nodeClass, String nodePath, Set<Class<?>> nodeClasses)
+    {
+        ProjectionNode node = new ProjectionNode(nodeClass);
+        Set<String> fieldNames = new HashSet<>();
+
+        for(Field field : ReflectionHelper.getAllModelFields(nodeClass))
+        {
+            Class<?> fieldType = field.getType();
+            if(Modifier.isStatic(field.getModifiers()) || Modifier.isTransient(field.getModifiers()) || field.isSynthetic()) continue;
+            if(!fieldNames.add(field.getName())) continue;  //shadowed super-class field
+            if(nodePath == null && this.fields != null && !this.fields.contains(field.getName()) && !ConstantsUtil.ID_FIELD.equals(field.getName())) continue;   //sparse fieldset
+            if(Collection.class.isAssignableFrom(fieldType) || Map.class.isAssignableFrom(fieldType) || fieldType.isAnnotationPresent(Entity.class)) continue;
+
+            String fieldPath = (nodePath != null) ? nodePath + ReflectionHelper.PATH_SEPARATOR + field.getName() : field.getName();
+            field.setAccessible(true);
+
+            if(fieldType.isAnnotationPresent(EntityClass.class))    //nested DTO object
+            {
+                if(nodeClasses.contains(fieldType)) continue;   //NOTICE: recursive DTO relations are NOT projected
+
+                Set<Class<?>> nestedClasses = new HashSet<>(nodeClasses);
+                nestedClasses.add(fieldType);
+
+                ProjectionNode nestedNode = this.createNode(fieldType, fieldPath, nestedClasses);
+                if(!nestedNode.isEmpty()) node.nestedNodes.add(new ImmutablePair<>(field, nestedNode));
+                continue;
+            }
+
+            Pair<Class<?>, String> columnPath = null;
+            try
+            {
+                columnPath = ReflectionHelper.findEntityFieldByPath(this.dtoClass, fieldPath, false);
+            }
+            catch(RuntimeException ex)
+            {
+                EntityService.logger.fine(String.format("DtoProjection - DTO field '%s' NOT mapped to entity column: %s", fieldPath, ex.getMessage()));
+                continue;
+            }
+
+            node.columns.add(new ImmutablePair<>(field, this.columnPaths.size()));
+            this.columnPaths.add(columnPath);
+        }
+
+        return node;
+    }
+
+    private static Object convertValue(Field field, Object value)
+    {
+        Class<?> fieldType = ClassUtils.primitiveToWrapper(field.getType());
+        if(value == null || fieldType.isInstance(value)) return value;
+        if(String.class.equals(fieldType)) return String.valueOf(value);
+
+        if(value instanceof Number && Number.class.isAssignableFrom(fieldType))
+        {
+            Number number = (Number) value;
+            if(Long.class.equals(fieldType)) return number.longValue();
+            if(Integer.class.equals(fieldType)) return number.intValue();
+            if(Short.class.equals(fieldType)) return number.shortValue();
+            if(Byte.class.equals(fieldType)) return number.byteValue();
+            if(Double.class.equals(fieldType)) return number.doubleValue();
+            if(Float.class.equals(fieldType)) return number.floatValue();
+            if(BigDecimal.class.equals(fieldType)) return new BigDecimal(number.toString());
+        }
+
+        throw new RuntimeException(String.format("DtoProjection - value type %s NOT assignable to DTO field '%s' (%s)!", value.getClass().getSimpleName(), field.getName(), field.getType().getSimpleName()));
+    }
+
+    private static class ProjectionNode
+    {
+        private final Constructor<?> constructor;
+        private final List<Pair<Field, Integer>> columns = new ArrayList<>();
+        private final List<Pair<Field, ProjectionNode>> nestedNodes = new ArrayList<>();
+
+        private ProjectionNode(Class<?> nodeClass)
+        {
+            try
+            {
+                this.constructor = nodeClass.getDeclaredConstructor();
+                this.constructor.setAccessible(true);
+            }
+            catch(NoSuchMethodException ex)
+            {
+                throw new IllegalArgumentException(String.format("DtoProjection - DTO Class %s must have no-args constructor!", nodeClass.getSimpleName()), ex);
+            }
+        }
+
+        private boolean isEmpty()
+        {
+            return this.columns.isEmpty() && this.nestedNodes.isEmpty();
+        }
+
+        //NOTICE: nested DTO object is NOT created if all of its values are null (e.g. missing LEFT JOIN relation)
+        private Object createObject(Object[] row, boolean required)
+        {
+            try
+            {
+                Object dto = this.constructor.newInstance();
+                boolean hasValues = false;
+
+                for(Pair<Field, Integer> column : this.columns)
+                {
+                    Object value = row[column.getValue()];
+                    if(value == null) continue;
+
+                    column.getKey().set(dto, DtoProjection.convertValue(column.getKey(), value));
+                    hasValues = true;
+                }
+
+                for(Pair<Field, ProjectionNode> nestedNode : this.nestedNodes)
+                {
+                    Object nestedDto = nestedNode.getValue().createObject(row, false);
+                    if(nestedDto == null) continue;
+
+                    nestedNode.getKey().set(dto, nestedDto);
+                    hasValues = true;
+                }
+
+                return (hasValues || required) ? dto : null;
+            }
+            catch(ReflectiveOperationException ex)
+            {
+                throw new RuntimeException(String.format("DtoProjection - DTO object %s could NOT be created!", this.constructor.getDeclaringClass().getSimpleName()), ex);
+            }
+        }
+    }
+}
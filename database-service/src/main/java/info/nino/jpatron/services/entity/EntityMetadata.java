@@ -0,0 +1,90 @@
+package info.nino.jpatron.services.entity;
+
+import jakarta.persistence.*;
+import jakarta.persistence.metamodel.Metamodel;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * EntityMetadata is per service-class registry (ClassValue) of resolved entity metadata &amp; reusable query builders
+ * Entity Class is resolved by reflection once per service Class, Id attribute once per JPA metamodel (persistence unit)
+ * NOTICE: EntityService.QueryBuilder &amp; EntityService.PredicateBuilder are stateless (service &amp; request state are passed as method parameters) - one builder is shared per service Class
+ * WARNING: registry is static - metamodels (holding EntityManagerFactory) are referenced only weakly &amp; service instances are NOT referenced at all
+ */
+public class EntityMetadata
+{
+    private static final ClassValue<EntityMetadata> REGISTRY = new ClassValue<>()
+    {
+        @Override
+        protected EntityMetadata computeValue(Class<?> serviceClass)
+        {
+            return new EntityMetadata(serviceClass);
+        }
+    };
+
+    private final Class<?> serviceClass;
+    private volatile Class<?> entityClass;
+    private final Map<Metamodel, Map<Class<?>, String>> idAttributes = Collections.synchronizedMap(new WeakHashMap<>());
+    private volatile EntityService.QueryBuilder<?> queryBuilder;
+
+    private EntityMetadata(Class<?> serviceClass)
+    {
+        this.serviceClass = serviceClass;
+    }
+
+    /**
+     * Resolves metadata registry entry of the EntityService Class
+     * @param serviceClass EntityService implementation Class
+     * @return EntityMetadata of the service Class
+     */
+    public static EntityMetadata of(Class<?> serviceClass)
+    {
+        return REGISTRY.get(serviceClass);
+    }
+
+    /**
+     * Target entity Class resolved by reflection from EntityService generic parameter (resolved once)
+     * @return target entity Class
+     * @param <E> type of entity resource object
+     */
+    public <E> Class<E> getEntityClass()
+    {
+        Class<?> entity = this.entityClass;
+        if(entity == null)
+        {
+            entity = EntityService.Base.findEntityClass(this.serviceClass);
+            this.entityClass = entity;
+        }
+
+        return (Class<E>) entity;
+    }
+
+    /**
+     * Single Id attribute name of the entity (resolved once per JPA metamodel)
+     * @param em EntityManager of the entity persistence unit
+     * @param entity entity Class
+     * @return Id attribute name
+     */
+    public String getIdAttributeName(EntityManager em, Class<?> entity)
+    {
+        //NOTICE: metamodel attributes are resolved per persistence unit (metamodel) - weak keys release closed persistence units
+        Map<Class<?>, String> metamodelIdAttributes = this.idAttributes.computeIfAbsent(em.getMetamodel(), m -> new ConcurrentHashMap<>());
+
+        return metamodelIdAttributes.computeIfAbsent(entity, e -> EntityService.EsUtil.getIdAttributeName(em, e));
+    }
+
+    <E> EntityService.QueryBuilder<E> getQueryBuilder(EntityService<E> es)
+    {
+        //NOTICE: builder does NOT hold service instance - pooled, request-scoped or per-call service instances share the same builder
+        //concurrent first calls may create equal builders (last one is kept)
+        EntityService.QueryBuilder<E> qb = (EntityService.QueryBuilder<E>) this.queryBuilder;
+        if(qb == null)
+        {
+            qb = new EntityService.QueryBuilder<E>(es.getPredicateBuilderInstance());
+            this.queryBuilder = qb;
+        }
+
+        return qb;
+    }
+}
@@ -1,18 +1,21 @@
 package info.nino.jpatron.services.entity;
 
-import com.github.sisyphsu.dateparser.DateParserUtils;
 import com.google.common.collect.Sets;
 import info.nino.jpatron.helpers.ConstantsUtil;
 import info.nino.jpatron.helpers.DateTimeFormatUtil;
 import info.nino.jpatron.helpers.ReflectionHelper;
 import info.nino.jpatron.pagination.Page;
 import info.nino.jpatron.query.PageRequest;
+import info.nino.jpatron.request.CountMode;
 import info.nino.jpatron.request.QueryExpression;
 import info.nino.jpatron.request.QuerySort;
 import jakarta.persistence.*;
 import jakarta.persistence.criteria.*;
 import jakarta.persistence.metamodel.Attribute;
 import jakarta.persistence.metamodel.Bindable;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.Metamodel;
+import jakarta.persistence.metamodel.SingularAttribute;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.NotImplementedException;
@@ -20,9 +23,21 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.commons.text.WordUtils;
+import org.hibernate.FlushMode;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
 import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.CockroachDialect;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.HSQLDialect;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.jpa.HibernateHints;
 import org.hibernate.jpa.SpecHints;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
 import org.hibernate.query.sqm.tree.SqmCopyContext;
 import org.hibernate.query.sqm.tree.domain.AbstractSqmSimplePath;
 import org.hibernate.query.sqm.tree.select.SqmQuerySpec;
@@ -30,16 +45,28 @@ import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
 
 import java.lang.reflect.*;
 import java.math.BigDecimal;
-import java.time.Year;
-import java.time.YearMonth;
-import java.time.temporal.Temporal;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Backbone implementation of entity query engine
@@ -52,11 +79,14 @@ public interface EntityService<E>
     Logger logger = Logger.getLogger(EntityService.class.getName());
 
     String LABEL_PATHS_SEPARATOR = String.valueOf(ConstantsUtil.COMMA);
+    String KEYSET_CURSOR_SEPARATOR = ".";
+    String KEYSET_CURSOR_NULL_VALUE = "~";
+    long DEFAULT_PARALLEL_QUERY_TIMEOUT_MS = 30000L;
 
     List<QueryExpression.CompareOperator> booleanComparators = Arrays.asList(QueryExpression.CompareOperator.TRUE, QueryExpression.CompareOperator.FALSE);
     List<QueryExpression.CompareOperator> subqueryComparators = Arrays.asList(QueryExpression.CompareOperator.EACH, QueryExpression.CompareOperator.NotEACH, QueryExpression.CompareOperator.EXCEPT, QueryExpression.CompareOperator.NotEXCEPT);
     List<QueryExpression.CompareOperator> nonValueComparators = Arrays.asList(QueryExpression.CompareOperator.IsNULL, QueryExpression.CompareOperator.IsNotNULL, QueryExpression.CompareOperator.IsEMPTY, QueryExpression.CompareOperator.IsNotEMPTY);
-    List<QueryExpression.CompareOperator> valueComparators = Arrays.asList(QueryExpression.CompareOperator.EQ, QueryExpression.CompareOperator.NEQ, QueryExpression.CompareOperator.LIKE, QueryExpression.CompareOperator.GT, QueryExpression.CompareOperator.LT, QueryExpression.CompareOperator.GToE, QueryExpression.CompareOperator.LToE, QueryExpression.CompareOperator.IN, QueryExpression.CompareOperator.NotIN, QueryExpression.CompareOperator.EACH, QueryExpression.CompareOperator.NotEACH, QueryExpression.CompareOperator.EXCEPT, QueryExpression.CompareOperator.NotEXCEPT);
+    List<QueryExpression.CompareOperator> valueComparators = Arrays.asList(QueryExpression.CompareOperator.EQ, QueryExpression.CompareOperator.NEQ, QueryExpression.CompareOperator.LIKE, QueryExpression.CompareOperator.GT, QueryExpression.CompareOperator.LT, QueryExpression.CompareOperator.GToE, QueryExpression.CompareOperator.LToE, QueryExpression.CompareOperator.IN, QueryExpression.CompareOperator.NotIN, QueryExpression.CompareOperator.EACH, QueryExpression.CompareOperator.NotEACH, QueryExpression.CompareOperator.EXCEPT, QueryExpression.CompareOperator.NotEXCEPT, QueryExpression.CompareOperator.SEARCH);
 
     //@PersistenceContext(unitName = "primary")
     //EntityManager em = null;
@@ -76,7 +106,186 @@ public interface EntityService<E>
         return false;
     }
 
-    //TODO: fix unnecessary instantiation
+    /**
+     * Total-count estimator used by CountMode.ESTIMATED (DB planner statistics by default)
+     * You can override this method and provide custom estimator (e.g. materialized count table)
+     * @return CountEstimator object (shared instance)
+     */
+    default CountEstimator getCountEstimator()
+    {
+        return DialectCountEstimator.DEFAULT;
+    }
+
+    /**
+     * Search provider of the full-text search filters (SearchMode.FULL_TEXT of the endpoint) - DB dialect full-text search by default
+     * You can override this method and provide custom provider (e.g. weighted tsvector column or external search index)
+     * @return SearchProvider object
+     */
+    default SearchProvider getSearchProvider()
+    {
+        return DialectSearchProvider.DEFAULT;
+    }
+
+    /**
+     * Estimated total-count threshold above which exact count-query is skipped (CountMode.ESTIMATED)
+     * @return estimated row count threshold
+     */
+    default long getCountEstimateThreshold()
+    {
+        return 100000L;
+    }
+
+    /**
+     * Query-plan cache of the compiled data-query templates (disabled by default)
+     * You can override this method and provide shared QueryPlanCache instance (e.g. static field of the service)
+     * @return QueryPlanCache object or null if query-plan caching is disabled
+     */
+    default QueryPlanCache getQueryPlanCache()
+    {
+        return null;
+    }
+
+    /**
+     * SQL form of the multi-value filters (IN, NotIN, EACH families) by value count - padded IN-lists by default (array binding disabled)
+     * You can override this method and provide InListStrategy with array threshold (e.g. PostgreSQL filters with thousands of values)
+     * @return InListStrategy object (must NOT be null)
+     */
+    default InListStrategy getInListStrategy()
+    {
+        return InListStrategy.DEFAULT;
+    }
+
+    /**
+     * SQL form of the to-many collection comparators (EACH, NotEACH, EXCEPT, NotEXCEPT) - resolved by DB dialect by default
+     * You can override this method and force COUNT or SEMI_JOIN strategy (e.g. per service or per DB)
+     * NOTICE: EACH matches distinct values in both strategies (duplicate values in collection or in filter are NOT counted twice)
+     * @return SubqueryStrategy enum
+     */
+    default SubqueryStrategy getSubqueryStrategy()
+    {
+        return SubqueryStrategy.DIALECT;
+    }
+
+    /**
+     * JDBC fetch size of the streaming data-query (rows fetched per DB round-trip)
+     * NOTICE: MySQL driver streams rows only with Integer.MIN_VALUE fetch size (or useCursorFetch=true connection property)
+     * @return fetch size of streamQuery
+     */
+    default int getStreamFetchSize()
+    {
+        return 1000;
+    }
+
+    /**
+     * Number of streamed rows after which persistence context is cleared - memory stays flat regardless of result size
+     * NOTICE: independent of fetch size (e.g. MySQL streaming fetch size Integer.MIN_VALUE)
+     * @return positive clear interval of streamQuery
+     */
+    default int getStreamClearInterval()
+    {
+        return 1000;
+    }
+
+    /**
+     * Result cache of the distinct &amp; meta values (disabled by default)
+     * You can override this method and provide shared ResultCache instance (e.g. static field of the service)
+     * NOTICE: values are cached only for requests with positive cache TTL (metaCacheTtl of API annotation)
+     * @return ResultCache object or null if result caching is disabled
+     */
+    default ResultCache getResultCache()
+    {
+        return null;
+    }
+
+    /**
+     * Metrics of the EntityService queries - criteria-build, execution &amp; post-processing times and returned rows (no-op by default)
+     * You can override this method and provide shared QueryMetrics instance (e.g. static InMemoryQueryMetrics field of the service)
+     * @return QueryMetrics object (must NOT be null)
+     */
+    default QueryMetrics getQueryMetrics()
+    {
+        return QueryMetrics.NOOP;
+    }
+
+    /**
+     * Recorder of the slow EntityService queries (disabled by default)
+     * You can override this method and provide shared SlowQueryRecorder instance (e.g. static field of the service)
+     * NOTICE: threshold of the recorder can be overridden per endpoint (slowQueryThreshold of API annotation)
+     * @return SlowQueryRecorder object or null if slow-query recording is disabled
+     */
+    default SlowQueryRecorder getSlowQueryRecorder()
+    {
+        return null;
+    }
+
+    /**
+     * Enable/Disable parallel execution of dataQuery side-queries (disabled by default)
+     * Count, distinct &amp; meta queries are executed concurrently with data-query on separate EntityManagers (same EntityManagerFactory)
+     * WARNING: side-queries are executed outside of current transaction (uncommitted changes are NOT visible to them)
+     * @return boolean true/false
+     */
+    default boolean isParallelQueryEnabled()
+    {
+        return false;
+    }
+
+    /**
+     * Enable/Disable two-phase (ID-first) pagination of data-query (disabled by default)
+     * Applied to paginated data-queries with DISTINCT, fetched to-many relations or entity-graph paths:
+     * 1st phase selects sorted &amp; paginated root ids (all filters applied), 2nd phase loads entities by ids (original order restored)
+     * NOTICE: page is paginated in DB (no in-memory pagination of fetch-joins) &amp; DISTINCT of whole entity rows is avoided
+     * NOTICE: to-many joined rows are grouped by root id - to-many sort columns are ordered by MIN (ASC) or MAX (DESC) value of the root entity
+     * NOTICE: keyset pagination does NOT support to-many sort columns - keyset sort columns are grouped along with root id
+     * @return boolean true/false
+     */
+    default boolean isTwoPhasePaginationEnabled()
+    {
+        return false;
+    }
+
+    /**
+     * Enable/Disable batching of distinct-queries (disabled by default)
+     * All requested distinct columns are resolved by single UNION ALL query (one SELECT DISTINCT branch per column tagged by distinct-value key)
+     * NOTICE: per-column distinct-queries are used if DB dialect does NOT support UNION ALL
+     * @return boolean true/false
+     */
+    default boolean isDistinctQueryBatchingEnabled()
+    {
+        return false;
+    }
+
+    /**
+     * Enable/Disable batching of meta-queries (disabled by default)
+     * Meta-expressions sharing label columns, filters &amp; distinct flag are aggregated by single query (one select item per expression)
+     * Batches with different label columns, filters or distinct flag are combined by UNION ALL query (one branch per batch tagged by meta-value key)
+     * NOTICE: per-batch meta-queries are used if DB dialect does NOT support UNION ALL
+     * @return boolean true/false
+     */
+    default boolean isMetaQueryBatchingEnabled()
+    {
+        return false;
+    }
+
+    /**
+     * Executor of the parallel side-queries (shared virtual-thread executor by default - fixed thread-pool on runtimes without virtual threads)
+     * Each running side-query holds its own DB connection - number of concurrently running side-queries is set by 'jpatron.database-service.query-executor.threads' system property (10 by default)
+     * NOTICE: default concurrency should NOT exceed DB connection pool size (side-queries would wait for connections instead of executor permits)
+     * @return Executor object
+     */
+    default Executor getQueryExecutor()
+    {
+        return EsUtil.DEFAULT_QUERY_EXECUTOR;
+    }
+
+    /**
+     * Timeout (in milliseconds) of waiting for parallel side-queries - remaining side-queries are cancelled when timeout elapses (30s by default)
+     * @return timeout in milliseconds (0 waits without timeout)
+     */
+    default long getParallelQueryTimeoutMs()
+    {
+        return DEFAULT_PARALLEL_QUERY_TIMEOUT_MS;
+    }
+
     default Base<E> getBaseInstance()
     {
         EntityManager em = this.getEntityManager();
@@ -85,14 +294,16 @@ public interface EntityService<E>
 
     default PredicateBuilder<E> getPredicateBuilderInstance()
     {
-        Base<E> base = this.getBaseInstance();
-        return new PredicateBuilder<E>(this, base);
+        return new PredicateBuilder<E>();
     }
 
+    /**
+     * Returns (stateless) QueryBuilder of the service - shared by all instances of the service Class (EntityMetadata registry)
+     * @return QueryBuilder object
+     */
     default QueryBuilder<E> getQueryBuilderInstance()
     {
-        PredicateBuilder<E> pb = this.getPredicateBuilderInstance();
-        return new QueryBuilder<E>(this, pb);
+        return EntityMetadata.of(this.getClass()).getQueryBuilder(this);
     }
 
     /**
@@ -109,7 +320,7 @@ public interface EntityService<E>
 
         try
         {
-            type = this.getBaseInstance().findEntityClass();
+            type = EntityMetadata.of(this.getClass()).getEntityClass();
         }
         catch(RuntimeException ex)
         {
@@ -134,7 +345,81 @@ public interface EntityService<E>
         Class<E> entity = this.getEntityClass();
         EntityManager em = this.getBaseInstance().resolveEntityManager();
 
-        return this.getQueryBuilderInstance().dataQuery(em, entity, request);
+        return this.getQueryBuilderInstance().dataQuery(this, em, entity, request);
+    }
+
+    /**
+     * Projection data-query method - selects only columns mapped by DTO fields (@EntityClass mapping) and populates DTO objects directly
+     * Managed entities are NOT hydrated - filters, sorts, pagination, distinct &amp; meta values are applied same as in dataQuery (fetch/graph paths are ignored)
+     * NOTICE: nested DTO objects are projected recursively - collection &amp; entity-typed DTO fields are NOT projected (left null)
+     * Requested sparse fieldset (PageRequest fields) prunes select list to requested root DTO attributes (id is always selected)
+     * @param request (PageRequest) with query parameters (filters, pagination, sorting, etc...)
+     * @param dtoClass DTO Class (annotated with @EntityClass of target entity)
+     * @return Page object with list of DTO objects
+     * @param <D> type of DTO object
+     */
+    default <D> Page<D> projectionQuery(PageRequest<E> request, Class<D> dtoClass)
+    {
+        Class<E> entity = this.getEntityClass();
+        EntityManager em = this.getBaseInstance().resolveEntityManager();
+
+        return this.getQueryBuilderInstance().projectionQuery(this, em, entity, request, DtoProjection.of(dtoClass, request.getFields()));
+    }
+
+    /**
+     * Streaming data-query method - fetches target entity objects one by one using DB cursor (Hibernate ScrollableResults)
+     * Filters, sorts, pagination &amp; fetch/graph paths are applied same as in dataQuery (distinct/meta values are ignored)
+     * NOTICE: returned Stream must be closed (try-with-resources) - it holds DB cursor of separate read-only EntityManager (same EntityManagerFactory)
+     * WARNING: streamed entities are NOT managed by current EntityManager (read-only &amp; detached periodically) - uncommitted changes of current transaction are NOT visible
+     * @param request (PageRequest) with query parameters (filters, sorting, etc...)
+     * @return Stream of target Entity objects from DB
+     */
+    default Stream<E> streamQuery(PageRequest<E> request)
+    {
+        Class<E> entity = this.getEntityClass();
+        EntityManager em = this.getBaseInstance().resolveEntityManager();
+
+        return this.getQueryBuilderInstance().streamQuery(this, em, entity, request);
+    }
+
+    /**
+     * Streaming data-query method - passes target entity objects one by one to the consumer (see streamQuery(PageRequest))
+     * @param request (PageRequest) with query parameters (filters, sorting, etc...)
+     * @param consumer target Entity object consumer
+     * @return number of consumed Entity objects
+     */
+    default long streamQuery(PageRequest<E> request, Consumer<? super E> consumer)
+    {
+        long count = 0;
+        try(Stream<E> entityStream = this.streamQuery(request))
+        {
+            Iterator<E> entityIterator = entityStream.iterator();
+            while(entityIterator.hasNext())
+            {
+                consumer.accept(entityIterator.next());
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Batch data-query method - executes multiple (named) data-queries of the service in one call (see BatchQuery)
+     * Queries are executed sequentially on separate EntityManager of the service EntityManagerFactory (read-only session, single transaction/connection)
+     * WARNING: returned entities are detached (NOT managed by service EntityManager)
+     * @param requests named PageRequests (with query parameters - filters, pagination, sorting, etc...)
+     * @return named Page objects with lists of target Entity objects from DB (in order of requests)
+     */
+    default Map<String, Page<E>> batchQuery(Map<String, PageRequest<E>> requests)
+    {
+        BatchQuery batchQuery = new BatchQuery();
+        requests.forEach((name, request) -> batchQuery.add(name, this, request));
+
+        Map<String, Page<E>> pages = new LinkedHashMap<>();
+        batchQuery.execute(this.getBaseInstance().resolveEntityManager()).forEach((name, page) -> pages.put(name, (Page<E>) page));
+
+        return pages;
     }
 
     /**
@@ -147,13 +432,16 @@ public interface EntityService<E>
         Class<E> entity = this.getEntityClass();
         EntityManager em = this.getBaseInstance().resolveEntityManager();
 
+        QueryBuilder<E> queryBuilder = this.getQueryBuilderInstance();
+        String resultCacheKey = queryBuilder.createResultCacheKey(this, entity, request);
+
         CriteriaBuilder cb = em.getCriteriaBuilder();
         CriteriaQuery<Tuple> query = Core.createTupleQuery(cb, entity);
 
         if(request.getQueryFilters() != null)
         {
             Predicate queryPredicate = query.getRestriction();
-            List<Predicate> newPredicates = this.getQueryBuilderInstance().getFilters(cb, query, entity, request.getQueryFilters());
+            List<Predicate> newPredicates = queryBuilder.getFilters(this, em, cb, query, entity, request.getQueryFilters());
             for(Predicate p : newPredicates)
             {
                 queryPredicate = PredicateUtil.combinePredicates(cb, queryPredicate, p, QueryExpression.LogicOperator.AND);
@@ -165,7 +453,8 @@ public interface EntityService<E>
             }
         }
 
-        return this.getQueryBuilderInstance().getDistinctValues(em, query, entity, request.getDistinctColumns());
+        ResultCache.CacheLookup distinctLookup = queryBuilder.lookupResultCache(this, em, entity, request, resultCacheKey, QueryType.DISTINCT, request.getDistinctColumns());
+        return distinctLookup.complete(queryBuilder.getDistinctValues(this, em, query, entity, request, distinctLookup.getMissingColumns(), null));
     }
 
     /**
@@ -178,13 +467,16 @@ public interface EntityService<E>
         Class<E> entity = this.getEntityClass();
         EntityManager em = this.getBaseInstance().resolveEntityManager();
 
+        QueryBuilder<E> queryBuilder = this.getQueryBuilderInstance();
+        String resultCacheKey = queryBuilder.createResultCacheKey(this, entity, request);
+
         CriteriaBuilder cb = em.getCriteriaBuilder();
         CriteriaQuery<Tuple> query = Core.createTupleQuery(cb, entity);
 
         if(request.getQueryFilters() != null)
         {
             Predicate queryPredicate = query.getRestriction();
-            List<Predicate> newPredicates = this.getQueryBuilderInstance().getFilters(cb, query, entity, request.getQueryFilters());
+            List<Predicate> newPredicates = queryBuilder.getFilters(this, em, cb, query, entity, request.getQueryFilters());
             for(Predicate p : newPredicates)
             {
                 queryPredicate = PredicateUtil.combinePredicates(cb, queryPredicate, p, QueryExpression.LogicOperator.AND);
@@ -196,7 +488,8 @@ public interface EntityService<E>
             }
         }
 
-        return this.getQueryBuilderInstance().getMetaValues(em, query, entity, request.getMetaColumns());
+        ResultCache.CacheLookup metaLookup = queryBuilder.lookupResultCache(this, em, entity, request, resultCacheKey, QueryType.AGGREGATION, request.getMetaColumns());
+        return metaLookup.complete(queryBuilder.getMetaValues(this, em, query, entity, request, metaLookup.getMissingColumns(), null));
     }
 
     /**
@@ -214,27 +507,28 @@ public interface EntityService<E>
             this.em = em;
         }
 
-        private Class<E> findEntityClass()
+        //NOTICE: resolved once per service Class (EntityMetadata registry)
+        static <E> Class<E> findEntityClass(Class<?> serviceClass)
         {
             Class<E> type = null;
 
             try
             {
-                type = ReflectionHelper.findGenericClassParameterType(es.getClass(), EntityService.class, 0);
+                type = ReflectionHelper.findGenericClassParameterType(serviceClass, EntityService.class, 0);
             }
             catch(RuntimeException ex)  //TODO: remove fallback after verifying new findGenericClassParameter is wholesome!
             {
-                if(es.isLoggingEnabled()) logger.log(Level.WARNING, String.format("EntityClass not resolved by EntityService superclass (fallback to manual resolver): %s", ex.getMessage()));
+                logger.log(Level.FINE, String.format("EntityClass not resolved by EntityService superclass (fallback to manual resolver): %s", ex.getMessage()));
 
-                Class<?> genericInterfaceImpl = Helper.findGenericClassImplementation(es.getClass(), EntityService.class);
+                Class<?> genericInterfaceImpl = Helper.findGenericClassImplementation(serviceClass, EntityService.class);
                 Optional<Type> genericInterface = Helper.findGenericClassInterface(genericInterfaceImpl, EntityService.class);
 
                 ParameterizedType parametrizedType = null;
                 if(genericInterface.isPresent() && genericInterface.get() instanceof ParameterizedType) parametrizedType = (ParameterizedType) genericInterface.get();
-                else throw new RuntimeException(String.format("%s type is not instance of ParameterizedType!", genericInterface.orElse(es.getClass()).getTypeName()));
+                else throw new RuntimeException(String.format("%s type is not instance of ParameterizedType!", genericInterface.orElse(serviceClass).getTypeName()));
 
                 Type entityType = parametrizedType.getActualTypeArguments()[0];
-                if(!(entityType instanceof Class<?>)) throw new RuntimeException(String.format("%s type is not instance of Class!", genericInterface.orElse(es.getClass()).getTypeName()));
+                if(!(entityType instanceof Class<?>)) throw new RuntimeException(String.format("%s type is not instance of Class!", genericInterface.orElse(serviceClass).getTypeName()));
 
                 type = (Class<E>) entityType;
             }
@@ -316,22 +610,55 @@ public interface EntityService<E>
 
     /**
      * EntityService.QueryBuilder implements essential interface methods of EntityService query engine
+     * NOTICE: builder is stateless - EntityService (configuration of the query engine) is passed to every query method
      * @param <E> type of entity resource object
      */
     public static class QueryBuilder<E>
     {
-        private EntityService<E> es = null;
-        private PredicateBuilder<E> pb = null;
+        private final PredicateBuilder<E> pb;
 
-        public QueryBuilder(EntityService<E> es, PredicateBuilder<E> pb)
+        public QueryBuilder(PredicateBuilder<E> pb)
         {
-            this.es = es;
             this.pb = pb;
         }
 
-        private Long countQuery(EntityManager em, CriteriaQuery<?> criteria, Class<E> clazz)
+        private void recordBuild(EntityService<E> es, QueryType queryType, long buildStartTimeNs)
+        {
+            es.getQueryMetrics().recordBuild(es.getEntityClass(), queryType, System.nanoTime() - buildStartTimeNs);
+        }
+
+        private long startQuery(EntityService<E> es)
+        {
+            SlowQueryRecorder slowQueryRecorder = es.getSlowQueryRecorder();
+            if(slowQueryRecorder != null) slowQueryRecorder.startCapture();
+
+            return System.nanoTime();
+        }
+
+        //NOTICE: capture of SQL statements is cleared even if query execution fails (thread-local must NOT leak to pooled threads)
+        private void stopQuery(EntityService<E> es)
+        {
+            SlowQueryRecorder slowQueryRecorder = es.getSlowQueryRecorder();
+            if(slowQueryRecorder != null) slowQueryRecorder.stopCapture();
+        }
+
+        private void recordExecution(EntityService<E> es, QueryType queryType, PageRequest<E> request, Query query, long queryStartTimeNs, long rows)
+        {
+            long executionTimeNs = System.nanoTime() - queryStartTimeNs;
+            es.getQueryMetrics().recordExecution(es.getEntityClass(), queryType, executionTimeNs, rows);
+
+            SlowQueryRecorder slowQueryRecorder = es.getSlowQueryRecorder();
+            if(slowQueryRecorder != null) slowQueryRecorder.record(es.getEntityClass(), queryType, request, query, executionTimeNs, rows);
+        }
+
+        private void recordPostProcessing(EntityService<E> es, QueryType queryType, long processingStartTimeNs)
+        {
+            es.getQueryMetrics().recordPostProcessing(es.getEntityClass(), queryType, System.nanoTime() - processingStartTimeNs);
+        }
+
+        private Long countQuery(EntityService<E> es, EntityManager em, CriteriaQuery<Tuple> countQuery, PageRequest<E> request, QueryPlanCache.PlanBinding binding)
         {
-            Stream<Tuple> countTuples = this.aggQuery(em, criteria, clazz, new QueryExpression(clazz));
+            Stream<Tuple> countTuples = this.executeAggQuery(es, em, countQuery, request, binding, QueryType.COUNT);
 
             List<Tuple> countTuple = countTuples.collect(Collectors.toList());
             if(countTuple.size() != 1)
@@ -342,9 +669,218 @@ public interface EntityService<E>
             return (Long) countTuple.get(0).get(0);
         }
 
-        private Page<E> dataQuery(EntityManager em, Class<E> entity, PageRequest<E> request)
+        private Page<E> dataQuery(EntityService<E> es, EntityManager em, Class<E> entity, PageRequest<E> request)
+        {
+            CriteriaBuilder cb = em.getCriteriaBuilder();
+            String resultCacheKey = this.createResultCacheKey(es, entity, request);
+
+            //NOTICE: keyset tie-breaker sort is part of the query shape (resolved before query-plan lookup)
+            if(request.isKeysetPagination())
+            {
+                request = this.createKeysetRequest(es, em, entity, request);
+            }
+
+            CriteriaQuery<E> query = null;
+            QueryPlanCache.PlanBinding binding = null;
+
+            QueryPlanCache queryPlanCache = es.getQueryPlanCache();
+            String shapeKey = (queryPlanCache != null) ? QueryPlanCache.createShapeKey(entity, request, em, es.getInListStrategy()) : null;
+            QueryPlanCache.QueryPlan queryPlan = (shapeKey != null) ? queryPlanCache.getPlan(shapeKey) : null;
+
+            long buildStartTimeNs = System.nanoTime();
+            if(queryPlan != null && queryPlan.isCacheable())
+            {
+                query = (CriteriaQuery<E>) queryPlan.copyDataQuery();
+                binding = new QueryPlanCache.PlanBinding(queryPlan, queryPlan.resolveParameters(em, request.getQueryFilters(), es.getInListStrategy()));
+            }
+            else if(shapeKey != null && queryPlan == null)
+            {
+                QueryPlanCache.ParameterBinder binder = new QueryPlanCache.ParameterBinder(request.getQueryFilters());
+                query = this.createDataQuery(es, em, cb, entity, request, binder);
+
+                queryPlan = queryPlanCache.putPlan(shapeKey, query, binder);
+                binding = new QueryPlanCache.PlanBinding(queryPlan, binder.getParameterValues());
+            }
+            else
+            {
+                query = this.createDataQuery(es, em, cb, entity, request, null);
+            }
+            this.recordBuild(es, QueryType.DATA, buildStartTimeNs);
+
+            if(es.isParallelQueryEnabled())
+            {
+                return this.parallelPageQuery(es, em, query, entity, request, binding, resultCacheKey);
+            }
+
+            Page<E> page = this.pageQuery(es, em, query, entity, request, binding);
+            this.setSideQueryValues(es, em, query, entity, request, page, binding, resultCacheKey);
+
+            return page;
+        }
+
+        private void setSideQueryValues(EntityService<E> es, EntityManager em, CriteriaQuery<E> query, Class<E> entity, PageRequest<E> request, Page<?> page, QueryPlanCache.PlanBinding binding, String resultCacheKey)
+        {
+            if(request.getDistinctColumns() != null)
+            {
+                ResultCache.CacheLookup distinctLookup = this.lookupResultCache(es, em, entity, request, resultCacheKey, QueryType.DISTINCT, request.getDistinctColumns());
+                page.setDistinctValues(distinctLookup.complete(this.getDistinctValues(es, em, query, entity, request, distinctLookup.getMissingColumns(), binding)));
+            }
+
+            if(request.getMetaColumns() != null)
+            {
+                ResultCache.CacheLookup metaLookup = this.lookupResultCache(es, em, entity, request, resultCacheKey, QueryType.AGGREGATION, request.getMetaColumns());
+                page.setMetaValues(metaLookup.complete(this.getMetaValues(es, em, query, entity, request, metaLookup.getMissingColumns(), binding)));
+            }
+        }
+
+        private <D> Page<D> projectionQuery(EntityService<E> es, EntityManager em, Class<E> entity, PageRequest<E> request, DtoProjection<D> projection)
         {
             CriteriaBuilder cb = em.getCriteriaBuilder();
+            String resultCacheKey = this.createResultCacheKey(es, entity, request);
+            if(request.isKeysetPagination())
+            {
+                request = this.createKeysetRequest(es, em, entity, request);
+            }
+
+            long buildStartTimeNs = System.nanoTime();
+            CriteriaQuery<E> query = this.createDataQuery(es, em, cb, entity, request, null);
+            this.recordBuild(es, QueryType.DATA, buildStartTimeNs);
+
+            CountMode countMode = QueryBuilder.resolveCountMode(request);
+            CriteriaQuery<Tuple> countQuery = this.createCountQuery(es, em, cb, query, entity, request, countMode, null);
+
+            List<Object[]> contentRows = this.projectionContentQuery(es, em, query, entity, request, countMode, projection);
+            Map.Entry<Long, Boolean> count = (countQuery != null) ? this.resolveCount(es, em, countQuery, entity, request, countMode, null) : null;
+
+            //NOTICE: sort values are selected after projected DTO columns - keyset cursor is resolved from last row sort values
+            int sortIndex = projection.getColumnPaths().size();
+            Page<Object[]> rowPage = this.createPage(request, countMode, contentRows, count, lastRow -> EsUtil.createKeysetCursor(lastRow, sortIndex));
+
+            long processingStartTimeNs = System.nanoTime();
+            Page<D> page = rowPage.convert(projection::createDto);
+            this.recordPostProcessing(es, QueryType.DATA, processingStartTimeNs);
+
+            this.setSideQueryValues(es, em, query, entity, request, page, null, resultCacheKey);
+
+            return page;
+        }
+
+        private List<Object[]> projectionContentQuery(EntityService<E> es, EntityManager em, CriteriaQuery<E> query, Class<E> entity, PageRequest<E> request, CountMode countMode, DtoProjection<?> projection)
+        {
+            Predicate orgRestriction = query.getRestriction();
+            if(request.isKeysetPagination())
+            {
+                this.setKeysetRestriction(es, em, query, entity, request);
+            }
+
+            CriteriaQuery<Tuple> projectionQuery = this.createProjectionQuery(em.getCriteriaBuilder(), query, entity, projection);
+            if(request.isKeysetPagination())
+            {
+                if(orgRestriction != null) query.where(orgRestriction);
+                else query.where(new Predicate[]{});
+            }
+
+            TypedQuery<Tuple> dataQuery = em.createQuery(projectionQuery);
+            QueryBuilder.setPagination(dataQuery, request, countMode);
+            dataQuery.setHint(HibernateHints.HINT_READ_ONLY, true);
+
+            long queryStartTimeNs = this.startQuery(es);
+            List<Object[]> contentRows;
+            try
+            {
+                contentRows = dataQuery.getResultStream().map(Tuple::toArray).collect(Collectors.toList());
+                this.recordExecution(es, QueryType.DATA, request, dataQuery, queryStartTimeNs, contentRows.size());
+            }
+            finally
+            {
+                this.stopQuery(es);
+            }
+
+            if(es.isLoggingEnabled())
+            {
+                EsUtil.logQuery(QueryType.DATA, dataQuery, queryStartTimeNs);
+            }
+
+            return contentRows;
+        }
+
+        private CriteriaQuery<Tuple> createProjectionQuery(CriteriaBuilder cb, CriteriaQuery<E> query, Class<E> entity, DtoProjection<?> projection)
+        {
+            CriteriaQuery<Tuple> projectionQuery = Core.replicateTupleQuery(cb, query);
+
+            List<Selection<?>> selectColumns = new ArrayList<>();
+            for(Pair<Class<?>, String> columnPath : projection.getColumnPaths())
+            {
+                Path<?> column = Core.findOrGenerateFieldJoinPath(projectionQuery.getRoots(), entity, columnPath);
+                selectColumns.add(column);
+            }
+
+            //NOTICE: sort expressions are selected as well (DISTINCT requires ORDER BY columns in select list & keyset cursor is resolved from them)
+            for(Order order : projectionQuery.getOrderList())
+            {
+                selectColumns.add(order.getExpression());
+            }
+
+            projectionQuery.select(cb.tuple(selectColumns.toArray(new Selection[0])));
+            projectionQuery.distinct(query.isDistinct());
+
+            return projectionQuery;
+        }
+
+        private Stream<E> streamQuery(EntityService<E> es, EntityManager em, Class<E> entity, PageRequest<E> request)
+        {
+            int fetchSize = es.getStreamFetchSize();
+            if(fetchSize == 0) throw new IllegalArgumentException("StreamQuery - fetch size must NOT be 0!");
+
+            int clearInterval = es.getStreamClearInterval();
+            if(clearInterval <= 0) throw new IllegalArgumentException(String.format("StreamQuery - clear interval must be positive: %d", clearInterval));
+
+            //NOTICE: stream is fetched by its own read-only EntityManager - periodic clear does NOT detach entities of caller persistence context
+            EntityManager streamEm = em.getEntityManagerFactory().createEntityManager();
+            EntityTransaction transaction = null;
+            try
+            {
+                transaction = EsUtil.beginReadOnly(streamEm);
+
+                CriteriaBuilder cb = streamEm.getCriteriaBuilder();
+                if(request.isKeysetPagination())
+                {
+                    request = this.createKeysetRequest(es, streamEm, entity, request);
+                }
+
+                //NOTICE: query-plan cache is not used (streaming query is executed once per export)
+                long buildStartTimeNs = System.nanoTime();
+                CriteriaQuery<E> query = this.createDataQuery(es, streamEm, cb, entity, request, null);
+                this.recordBuild(es, QueryType.DATA, buildStartTimeNs);
+                if(request.isKeysetPagination())
+                {
+                    this.setKeysetRestriction(es, streamEm, query, entity, request);
+                }
+
+                TypedQuery<E> dataQuery = this.createContentQuery(streamEm, query, entity, request, CountMode.NONE, null);
+                dataQuery.setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize);
+
+                //NOTICE: execution metrics & slow queries of streaming query are not recorded (rows are fetched lazily by stream consumer)
+                long queryStartTimeNs = System.nanoTime();
+                ScrollableResults<E> scrollableResults = dataQuery.unwrap(org.hibernate.query.Query.class).scroll(ScrollMode.FORWARD_ONLY);
+
+                if(es.isLoggingEnabled())
+                {
+                    EsUtil.logQuery(QueryType.DATA, dataQuery, queryStartTimeNs);
+                }
+
+                EntityTransaction streamTransaction = transaction;
+                return EsUtil.streamScrollableResults(streamEm, scrollableResults, clearInterval).onClose(() -> EsUtil.endReadOnly(streamEm, streamTransaction));
+            }
+            catch(RuntimeException ex)
+            {
+                EsUtil.endReadOnly(streamEm, transaction);
+                throw ex;
+            }
+        }
+
+        private CriteriaQuery<E> createDataQuery(EntityService<E> es, EntityManager em, CriteriaBuilder cb, Class<E> entity, PageRequest<E> request, QueryPlanCache.ParameterBinder binder)
+        {
             CriteriaQuery<E> query = Core.createEntityQuery(cb, entity);
             //CriteriaQuery<Tuple> query = this.createTupleQuery(cb, entity);
             Root<? extends E> root = Core.findEntityRootPath(query.getRoots(), entity);
@@ -352,7 +888,8 @@ public interface EntityService<E>
 
             if(request.getQueryFilters() != null)
             {
-                List<Predicate> newPredicates = this.getFilters(cb, query, entity, request.getQueryFilters());
+                //NOTICE: query-plan template binds filter values as named parameters (parameter binder is passed with predicate context)
+                List<Predicate> newPredicates = this.getFilters(es, em, cb, query, entity, request.getQueryFilters(), binder);
 
                 List<Expression> orgPredicates = (query.getRestriction() != null) ? new ArrayList(query.getRestriction().getExpressions()) : new ArrayList();
                 orgPredicates.addAll(newPredicates);
@@ -372,7 +909,7 @@ public interface EntityService<E>
 
             if(request.getSorts() != null && !request.getSorts().isEmpty())
             {
-                List<Order> orders = this.getSorting(cb, query, entity, request.getSorts());
+                List<Order> orders = this.getSorting(cb, query, entity, request.getSorts(), request.isKeysetPagination());
                 query.orderBy(orders.toArray(new Order[]{}));
             }
 
@@ -391,125 +928,659 @@ public interface EntityService<E>
                 //}
             }
 
-            Page<E> page = this.pageQuery(em, query, entity, request);
+            return query;
+        }
+
+        private Page<E> pageQuery(EntityService<E> es, EntityManager em, CriteriaQuery<E> query, Class<E> entity, PageRequest<E> request, QueryPlanCache.PlanBinding binding)
+        {
+            CountMode countMode = QueryBuilder.resolveCountMode(request);
+            CriteriaQuery<Tuple> countQuery = this.createCountQuery(es, em, em.getCriteriaBuilder(), query, entity, request, countMode, binding);
 
-            if(request.getDistinctColumns() != null) page.setDistinctValues(this.getDistinctValues(em, query, entity, request.getDistinctColumns()));
-            if(request.getMetaColumns() != null) page.setMetaValues(this.getMetaValues(em, query, entity, request.getMetaColumns()));
+            if(request.isKeysetPagination())
+            {
+                List<Object[]> contentRows = this.keysetContentQuery(es, em, query, entity, request, countMode, binding);
+                Map.Entry<Long, Boolean> count = (countQuery != null) ? this.resolveCount(es, em, countQuery, entity, request, countMode, binding) : null;
 
-            return page;
+                return this.createKeysetPage(request, countMode, contentRows, count);
+            }
+
+            List<E> contentResult = this.contentQuery(es, em, query, entity, request, countMode, binding);
+            Map.Entry<Long, Boolean> count = (countQuery != null) ? this.resolveCount(es, em, countQuery, entity, request, countMode, binding) : null;
+
+            return this.createPage(request, countMode, contentResult, count, null);
+        }
+
+        /**
+         * Parallel variant of pageQuery - count, distinct &amp; meta queries are executed concurrently with data-query
+         * Each side-query is executed on separate EntityManager (same EntityManagerFactory) using EntityService query executor
+         */
+        private Page<E> parallelPageQuery(EntityService<E> es, EntityManager em, CriteriaQuery<E> query, Class<E> entity, PageRequest<E> request, QueryPlanCache.PlanBinding binding, String resultCacheKey)
+        {
+            CriteriaBuilder cb = em.getCriteriaBuilder();
+            EntityManagerFactory emf = em.getEntityManagerFactory();
+            Executor executor = es.getQueryExecutor();
+            if(executor == null) throw new RuntimeException("ParallelPageQuery - EntityService query executor must NOT be null!");
+
+            //NOTICE: side-queries are replicated on the calling thread before data-query execution (CriteriaQuery is NOT thread-safe)
+            CountMode countMode = QueryBuilder.resolveCountMode(request);
+            CriteriaQuery<Tuple> countQuery = this.createCountQuery(es, em, cb, query, entity, request, countMode, binding);
+            CompletableFuture<Map.Entry<Long, Boolean>> countFuture = (countQuery != null) ? EsUtil.supplyQueryAsync(emf, executor, qem -> this.resolveCount(es, qem, countQuery, entity, request, countMode, binding)) : CompletableFuture.completedFuture(null);
+
+            //NOTICE: cached distinct & meta values are resolved on the calling thread - only missing values are queried
+            ResultCache.CacheLookup distinctLookup = (request.getDistinctColumns() != null) ? this.lookupResultCache(es, em, entity, request, resultCacheKey, QueryType.DISTINCT, request.getDistinctColumns()) : null;
+            ResultCache.CacheLookup metaLookup = (request.getMetaColumns() != null) ? this.lookupResultCache(es, em, entity, request, resultCacheKey, QueryType.AGGREGATION, request.getMetaColumns()) : null;
+
+            Map<String, CompletableFuture<Map<Object, Object>>> distinctFutures = new LinkedHashMap<>();
+            List<CompletableFuture<Map<String, Map<Object, Object>>>> distinctUnionFutures = new ArrayList<>();
+            if(distinctLookup != null && this.isDistinctUnionEnabled(es, em, distinctLookup.getMissingColumns()))
+            {
+                for(Map.Entry<List<String>, CriteriaQuery<Tuple>> unionQuery : this.createDistinctUnionQueries(es, em, cb, query, entity, distinctLookup.getMissingColumns()).entrySet())
+                {
+                    distinctUnionFutures.add(EsUtil.supplyQueryAsync(emf, executor, qem -> this.collectDistinctUnionValues(es, unionQuery.getKey(), this.executeDistinctQuery(es, qem, unionQuery.getValue(), request, binding))));
+                }
+            }
+            else if(distinctLookup != null)
+            {
+                for(QueryExpression dtc : distinctLookup.getMissingColumns())
+                {
+                    String key = EsUtil.getDistinctValueKey(dtc);
+                    if(distinctFutures.containsKey(key)) throw new RuntimeException(String.format("DistinctValues '%s' key is duplicate!", key));
+
+                    CriteriaQuery<Tuple> distQuery = this.createDistinctQuery(es, em, cb, query, entity, dtc, binding);
+                    distinctFutures.put(key, EsUtil.supplyQueryAsync(emf, executor, qem -> this.collectDistinctValues(es, this.executeDistinctQuery(es, qem, distQuery, request, binding).map(Tuple::toArray))));
+                }
+            }
+
+            List<CompletableFuture<Map<String, Map<Object, Object>>>> metaFutures = new ArrayList<>();
+            Collection<List<QueryExpression>> metaBatches = (metaLookup != null) ? this.getMetaBatches(es, metaLookup.getMissingColumns()) : null;
+            if(metaBatches != null && this.isMetaUnionEnabled(es, em, metaBatches))
+            {
+                for(Map.Entry<List<List<QueryExpression>>, CriteriaQuery<Tuple>> unionQuery : this.createMetaUnionQueries(es, em, cb, query, entity, metaBatches).entrySet())
+                {
+                    metaFutures.add(EsUtil.supplyQueryAsync(emf, executor, qem -> this.collectMetaUnionValues(es, unionQuery.getKey(), this.executeAggQuery(es, qem, unionQuery.getValue(), request, binding, QueryType.AGGREGATION))));
+                }
+            }
+            else if(metaBatches != null)
+            {
+                for(List<QueryExpression> metaBatch : metaBatches)
+                {
+                    CriteriaQuery<Tuple> aggQuery = this.createMetaQuery(es, em, cb, query, entity, metaBatch, binding);
+                    metaFutures.add(EsUtil.supplyQueryAsync(emf, executor, qem -> this.collectMetaValues(es, metaBatch, this.executeAggQuery(es, qem, aggQuery, request, binding, QueryType.AGGREGATION))));
+                }
+            }
+
+            List<CompletableFuture<?>> sideQueryFutures = new ArrayList<>();
+            sideQueryFutures.add(countFuture);
+            sideQueryFutures.addAll(distinctFutures.values());
+            sideQueryFutures.addAll(distinctUnionFutures);
+            sideQueryFutures.addAll(metaFutures);
+
+            //NOTICE: side-queries are cancelled if data-query fails, if any side-query fails or if they do NOT complete within timeout
+            List<E> contentResult = null;
+            List<Object[]> contentRows = null;
+            try
+            {
+                if(request.isKeysetPagination()) contentRows = this.keysetContentQuery(es, em, query, entity, request, countMode, binding);
+                else contentResult = this.contentQuery(es, em, query, entity, request, countMode, binding);
+            }
+            catch(RuntimeException ex)
+            {
+                EsUtil.cancelQueries(sideQueryFutures);
+                throw ex;
+            }
+            EsUtil.joinAllQueries(sideQueryFutures, es.getParallelQueryTimeoutMs());
+
+            Page<E> page = (request.isKeysetPagination())
+                    ? this.createKeysetPage(request, countMode, contentRows, EsUtil.joinQuery(countFuture))
+                    : this.createPage(request, countMode, contentResult, EsUtil.joinQuery(countFuture), null);
+            if(distinctLookup != null)
+            {
+                Map<String, Map<Object, Object>> distinctValues = EsUtil.joinQueries(distinctFutures);
+                distinctValues.putAll(EsUtil.joinBatchQueries(distinctUnionFutures));
+                page.setDistinctValues(distinctLookup.complete(distinctValues));
+            }
+            if(metaLookup != null) page.setMetaValues(metaLookup.complete(EsUtil.joinBatchQueries(metaFutures)));
+
+            return page;
+        }
+
+        @SuppressWarnings("unchecked")
+        private List<E> contentQuery(EntityService<E> es, EntityManager em, CriteriaQuery<E> query, Class<E> entity, PageRequest<E> request, CountMode countMode, QueryPlanCache.PlanBinding binding)
+        {
+            if(this.isTwoPhasePagination(es, query, request))
+            {
+                return this.twoPhaseContentQuery(es, em, query, entity, request, countMode, binding).stream().map(row -> (E) row[0]).collect(Collectors.toList());
+            }
+
+            TypedQuery<E> dataQuery = this.createContentQuery(em, query, entity, request, countMode, binding);
+
+            long queryStartTimeNs = this.startQuery(es);
+            List<E> contentResult = null;
+            try
+            {
+                contentResult = dataQuery.getResultList();
+                this.recordExecution(es, QueryType.DATA, request, dataQuery, queryStartTimeNs, contentResult.size());
+            }
+            finally
+            {
+                this.stopQuery(es);
+            }
+            //List<Tuple> result = dataQuery.getResultList();
+            //List<E> contentResult = result.stream().map(e -> (T) e.get(0)).collect(Collectors.toList());
+
+            if(es.isLoggingEnabled())
+            {
+                EsUtil.logQuery(QueryType.DATA, dataQuery, queryStartTimeNs);
+            }
+
+            return contentResult;
+        }
+
+        /**
+         * Keyset variant of data-query - content rows contain root entity followed by values of the sort columns
+         * NOTICE: keyset cursor is resolved from selected sort values of the last row (NOT from entity accessors)
+         */
+        private List<Object[]> keysetContentQuery(EntityService<E> es, EntityManager em, CriteriaQuery<E> query, Class<E> entity, PageRequest<E> request, CountMode countMode, QueryPlanCache.PlanBinding binding)
+        {
+            //NOTICE: keyset predicate is applied only to data-query (count/distinct/meta queries are restored to original restriction)
+            Predicate orgRestriction = query.getRestriction();
+            this.setKeysetRestriction(es, em, query, entity, request);
+
+            List<Object[]> contentRows = null;
+            if(this.isTwoPhasePagination(es, query, request))
+            {
+                contentRows = this.twoPhaseContentQuery(es, em, query, entity, request, countMode, binding);
+            }
+            else
+            {
+                TypedQuery<Tuple> dataQuery = this.createContentQuery(em, this.createKeysetQuery(em.getCriteriaBuilder(), query, entity), entity, request, countMode, binding);
+
+                long queryStartTimeNs = this.startQuery(es);
+                try
+                {
+                    contentRows = dataQuery.getResultStream().map(Tuple::toArray).collect(Collectors.toList());
+                    this.recordExecution(es, QueryType.DATA, request, dataQuery, queryStartTimeNs, contentRows.size());
+                }
+                finally
+                {
+                    this.stopQuery(es);
+                }
+
+                if(es.isLoggingEnabled())
+                {
+                    EsUtil.logQuery(QueryType.DATA, dataQuery, queryStartTimeNs);
+                }
+            }
+
+            if(orgRestriction != null) query.where(orgRestriction);
+            else query.where(new Predicate[]{});
+
+            return contentRows;
+        }
+
+        private CriteriaQuery<Tuple> createKeysetQuery(CriteriaBuilder cb, CriteriaQuery<E> query, Class<E> entity)
+        {
+            CriteriaQuery<Tuple> keysetQuery = Core.replicateTupleQuery(cb, query);
+            Root<? extends E> root = Core.findEntityRootPath(keysetQuery.getRoots(), entity);
+            if(root == null) throw new RuntimeException(String.format("KeysetQuery - RootPath NOT FOUND for ENTITY Class: %s!", entity.getSimpleName()));
+
+            //NOTICE: sort expressions are selected after root entity (same as projection query)
+            List<Selection<?>> selectColumns = new ArrayList<>();
+            selectColumns.add(root);
+            keysetQuery.getOrderList().forEach(o -> selectColumns.add(o.getExpression()));
+
+            keysetQuery.select(cb.tuple(selectColumns.toArray(new Selection[0])));
+            keysetQuery.distinct(query.isDistinct());
+
+            return keysetQuery;
+        }
+
+        @SuppressWarnings("unchecked")
+        private Page<E> createKeysetPage(PageRequest<E> request, CountMode countMode, List<Object[]> contentRows, Map.Entry<Long, Boolean> count)
+        {
+            //NOTICE: sort values are selected after root entity - keyset cursor is resolved from last row sort values
+            Page<Object[]> rowPage = this.createPage(request, countMode, contentRows, count, lastRow -> EsUtil.createKeysetCursor(lastRow, 1));
+
+            return rowPage.convert(row -> (E) row[0]);
+        }
+
+        private boolean isTwoPhasePagination(EntityService<E> es, CriteriaQuery<E> query, PageRequest<E> request)
+        {
+            if(!es.isTwoPhasePaginationEnabled() || request.getPageSize() == null) return false;
+
+            //NOTICE: single-phase query is cheaper if rows are not multiplied (nor DISTINCT) & nothing is fetched along with root entity
+            return query.isDistinct() || Core.queryContainsFetchToMany(query) || ArrayUtils.isNotEmpty(request.getEntityGraphPaths());
+        }
+
+        /**
+         * Two-phase (ID-first) variant of data-query - 1st phase selects sorted &amp; paginated root ids, 2nd phase loads entities by ids
+         * Fetch joins &amp; entity-graph are applied only to 2nd phase query (bounded by page size) - DISTINCT &amp; in-memory pagination are avoided
+         * Content rows contain root entity followed by values of the sort columns selected by 1st phase query
+         */
+        private List<Object[]> twoPhaseContentQuery(EntityService<E> es, EntityManager em, CriteriaQuery<E> query, Class<E> entity, PageRequest<E> request, CountMode countMode, QueryPlanCache.PlanBinding binding)
+        {
+            CriteriaBuilder cb = em.getCriteriaBuilder();
+            String idPath = EntityMetadata.of(es.getClass()).getIdAttributeName(em, entity);
+
+            TypedQuery<Tuple> idDataQuery = em.createQuery(this.createIdQuery(cb, query, entity, idPath, request.isKeysetPagination()));
+            QueryPlanCache.bindParameters(idDataQuery, binding);
+            QueryBuilder.setPagination(idDataQuery, request, countMode);
+
+            long queryStartTimeNs = this.startQuery(es);
+            List<Object[]> idRows;
+            try
+            {
+                idRows = idDataQuery.getResultStream().map(Tuple::toArray).collect(Collectors.toList());
+                this.recordExecution(es, QueryType.DATA, request, idDataQuery, queryStartTimeNs, idRows.size());
+            }
+            finally
+            {
+                this.stopQuery(es);
+            }
+
+            if(es.isLoggingEnabled())
+            {
+                EsUtil.logQuery(QueryType.DATA, idDataQuery, queryStartTimeNs);
+            }
+
+            if(idRows.isEmpty()) return new ArrayList<>();
+            List<Object> ids = idRows.stream().map(row -> row[0]).collect(Collectors.toList());
+
+            CriteriaQuery<E> entityQuery = Core.createEntityQuery(cb, entity);
+            Root<? extends E> root = Core.findEntityRootPath(entityQuery.getRoots(), entity);
+            entityQuery.select(root);
+            entityQuery.where(root.get(idPath).in(ids));
+
+            if(request.getFetchEntityPaths() != null)
+            {
+                this.setFetchEntityJoins(entityQuery, entity, request.getFetchEntityPaths());
+            }
+
+            TypedQuery<E> dataQuery = em.createQuery(entityQuery);
+            Map.Entry<String, Object> entityGraphHint = QueryBuilder.getEntityGraphHint(em, entity, request.getEntityGraphPaths());
+            if(entityGraphHint != null)
+            {
+                dataQuery.setHint(entityGraphHint.getKey(), entityGraphHint.getValue());
+            }
+
+            dataQuery.setHint(HibernateHints.HINT_READ_ONLY, request.isReadOnlyDataset());
+
+            queryStartTimeNs = this.startQuery(es);
+            List<E> entities;
+            try
+            {
+                entities = dataQuery.getResultList();
+                this.recordExecution(es, QueryType.DATA, request, dataQuery, queryStartTimeNs, entities.size());
+            }
+            finally
+            {
+                this.stopQuery(es);
+            }
+
+            if(es.isLoggingEnabled())
+            {
+                EsUtil.logQuery(QueryType.DATA, dataQuery, queryStartTimeNs);
+            }
+
+            //restore sort order of 1st phase ids (entities are de-duplicated by id)
+            long processingStartTimeNs = System.nanoTime();
+            PersistenceUnitUtil persistenceUnitUtil = em.getEntityManagerFactory().getPersistenceUnitUtil();
+            Map<Object, E> entitiesById = new HashMap<>();
+            entities.forEach(e -> entitiesById.putIfAbsent(persistenceUnitUtil.getIdentifier(e), e));
+
+            List<Object[]> contentRows = new ArrayList<>(idRows.size());
+            for(Object[] idRow : idRows)
+            {
+                E e = entitiesById.get(idRow[0]);
+                if(e == null) continue;
+
+                idRow[0] = e;
+                contentRows.add(idRow);
+            }
+            this.recordPostProcessing(es, QueryType.DATA, processingStartTimeNs);
+
+            return contentRows;
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private CriteriaQuery<Tuple> createIdQuery(CriteriaBuilder cb, CriteriaQuery<E> query, Class<E> entity, String idPath, boolean keysetPagination)
+        {
+            CriteriaQuery<Tuple> idQuery = Core.replicateTupleQuery(cb, query);
+            Root<? extends E> root = Core.findEntityRootPath(idQuery.getRoots(), entity);
+            if(root == null) throw new RuntimeException(String.format("IdQuery - RootPath NOT FOUND for ENTITY Class: %s!", entity.getSimpleName()));
+
+            Expression<?> idColumn = root.get(idPath);
+            idQuery.distinct(false);
+
+            //NOTICE: rows multiplied by to-many joins are grouped by root id (instead of DISTINCT of whole entity rows)
+            //each root id occurs once - sort expressions are aggregated (MIN for ASC & MAX for DESC) so to-many sort columns do not shorten the page
+            //keyset sort columns are single-valued (to-many sorts are rejected by createKeysetRequest) - they are grouped along with root id (NOT aggregated)
+            //so ORDER BY & row-level keyset predicate (WHERE) compare the same values
+            if(Core.queryContainsJoinToMany(idQuery) && keysetPagination)
+            {
+                List<Expression<?>> groupColumns = new ArrayList<>();
+                groupColumns.add(idColumn);
+                idQuery.getOrderList().forEach(o -> groupColumns.add(o.getExpression()));
+
+                idQuery.groupBy(groupColumns);
+            }
+            else if(Core.queryContainsJoinToMany(idQuery))
+            {
+                List<Order> orders = new ArrayList<>();
+                for(Order order : idQuery.getOrderList())
+                {
+                    Expression<Comparable> sortColumn = (Expression<Comparable>) order.getExpression();
+                    Expression<?> sortAggregate = (order.isAscending()) ? cb.least(sortColumn) : cb.greatest(sortColumn);
+                    orders.add((order.isAscending()) ? cb.asc(sortAggregate) : cb.desc(sortAggregate));
+                }
+
+                idQuery.orderBy(orders);
+                idQuery.groupBy(idColumn);
+            }
+
+            //NOTICE: sort expressions are selected as well (required by ORDER BY of DISTINCT/grouped query on some DBs)
+            List<Selection<?>> selectColumns = new ArrayList<>();
+            selectColumns.add(idColumn);
+            idQuery.getOrderList().forEach(o -> selectColumns.add(o.getExpression()));
+
+            idQuery.select(cb.tuple(selectColumns.toArray(new Selection[0])));
+
+            return idQuery;
+        }
+
+        private <T> TypedQuery<T> createContentQuery(EntityManager em, CriteriaQuery<T> query, Class<E> entity, PageRequest<E> request, CountMode countMode, QueryPlanCache.PlanBinding binding)
+        {
+            TypedQuery<T> dataQuery = em.createQuery(query);
+            //TypedQuery<Tuple> dataQuery = em.createQuery(query);
+            //Query dataQuery = sessionImpl.createSQLQuery(jpqlQuery);
+            QueryPlanCache.bindParameters(dataQuery, binding);
+            QueryBuilder.setPagination(dataQuery, request, countMode);
+
+            //MSSQL DISTINCT+SORT technical-limitation: sorting by non-select fields is not allowed when using DISTINCT clause
+            //ERROR: ORDER BY items must appear in the select list if SELECT DISTINCT is specified
+            //WORKAROUND: add Sort-Field-Entity to Entity-Graph select list (eager load sort-entity with root-select query)
+            if(query.isDistinct())  //TODO: check if DBMS = MSSQL
+            {
+                this.extendEntityGraphBySortEntities(request);
+            }
+
+            Map.Entry<String, Object> entityGraphHint = QueryBuilder.getEntityGraphHint(em, entity, request.getEntityGraphPaths());
+            if(entityGraphHint != null)
+            {
+                dataQuery.setHint(entityGraphHint.getKey(), entityGraphHint.getValue());
+            }
+
+            dataQuery.setHint(HibernateHints.HINT_READ_ONLY, request.isReadOnlyDataset());
+
+            return dataQuery;
+        }
+
+        private CriteriaQuery<Tuple> createCountQuery(EntityService<E> es, EntityManager em, CriteriaBuilder cb, CriteriaQuery<E> query, Class<E> entity, PageRequest<E> request, CountMode countMode, QueryPlanCache.PlanBinding binding)
+        {
+            //NOTICE: count-query is not required for un-paginated requests (total-count equals content size) and skipped for NONE/HAS_NEXT count modes
+            if(request.getPageSize() == null || countMode == CountMode.NONE || countMode == CountMode.HAS_NEXT) return null;
+
+            long buildStartTimeNs = System.nanoTime();
+            CriteriaQuery<Tuple> countQuery = this.createAggQuery(es, em, cb, query, entity, new QueryExpression(entity), binding);
+            this.recordBuild(es, QueryType.COUNT, buildStartTimeNs);
+
+            return countQuery;
+        }
+
+        private Map.Entry<Long, Boolean> resolveCount(EntityService<E> es, EntityManager em, CriteriaQuery<Tuple> countQuery, Class<E> entity, PageRequest<E> request, CountMode countMode, QueryPlanCache.PlanBinding binding)
+        {
+            switch(countMode)
+            {
+                case EXACT: return new ImmutablePair<>(this.countQuery(es, em, countQuery, request, binding), false);
+
+                case ESTIMATED:
+                {
+                    Long estimate = es.getCountEstimator().estimateCount(em, countQuery, entity, q -> QueryPlanCache.bindParameters(q, binding));
+                    boolean estimatedCount = estimate != null && estimate > es.getCountEstimateThreshold();
+                    return (estimatedCount) ? new ImmutablePair<>(estimate, true) : new ImmutablePair<>(this.countQuery(es, em, countQuery, request, binding), false);
+                }
+
+                default: throw new NotImplementedException(String.format("Missing implementation for CountMode: %s", countMode));
+            }
+        }
+
+        private static void setPagination(TypedQuery<?> dataQuery, PageRequest<?> request, CountMode countMode)
+        {
+            if(request.getPageSize() != null)
+            {
+                //NOTICE: keyset pagination seeks by last-row sort values - OFFSET is never used (page N costs same as page 1)
+                if(request.getPageNumber() != null && !request.isKeysetPagination()) dataQuery.setFirstResult((request.getPageNumber() - 1) * request.getPageSize());
+                dataQuery.setMaxResults((countMode == CountMode.HAS_NEXT) ? request.getPageSize() + 1 : request.getPageSize()); //NOTICE: extra row resolves next page existence
+            }
+        }
+
+        private <T> Page<T> createPage(PageRequest<E> request, CountMode countMode, List<T> contentResult, Map.Entry<Long, Boolean> count, Function<T, String> keysetCursor)
+        {
+            Boolean hasNext = null;
+            if(request.getPageSize() != null && countMode == CountMode.HAS_NEXT)
+            {
+                hasNext = contentResult.size() > request.getPageSize();
+                if(hasNext) contentResult = new ArrayList<>(contentResult.subList(0, request.getPageSize()));
+            }
+
+            Long totalCount = (request.getPageSize() == null) ? Long.valueOf(contentResult.size()) : (count != null) ? count.getKey() : null;
+            Page<T> page = new Page<>(request.getPageNumber(), request.getPageSize(), totalCount, contentResult);
+            page.setEstimated(count != null && Boolean.TRUE.equals(count.getValue()));
+            page.setHasNext(hasNext);
+            page.setFields(request.getFields());
+
+            //NOTICE: next-page cursor is returned only for full pages (partial page is the last one)
+            boolean nextPageAvailable = (hasNext != null) ? hasNext : request.getPageSize() != null && contentResult.size() == request.getPageSize();
+            if(request.isKeysetPagination() && nextPageAvailable && !contentResult.isEmpty())
+            {
+                T lastItem = contentResult.get(contentResult.size() - 1);
+                page.setCursor(keysetCursor.apply(lastItem));
+            }
+
+            return page;
+        }
+
+        private static CountMode resolveCountMode(PageRequest<?> request)
+        {
+            return (request.getCountMode() != null) ? request.getCountMode() : CountMode.EXACT;
+        }
+
+        //NOTICE: tie-breaker sort is added to the copy of PageRequest (caller's request sorts are NOT modified)
+        private PageRequest<E> createKeysetRequest(EntityService<E> es, EntityManager em, Class<E> entity, PageRequest<E> request)
+        {
+            if(request.getSorts() == null) throw new RuntimeException("KeysetPagination - PageRequest sorts must NOT be null!");
+
+            //NOTICE: unique entity-id must be the last sort column - otherwise rows with equal sort values could be skipped/repeated
+            String idPath = EntityMetadata.of(es.getClass()).getIdAttributeName(em, entity);
+
+            //NOTICE: keyset cursor holds single value per sort column - to-many sort columns (multiple values per root entity) are NOT supported
+            for(QuerySort sort : request.getSorts())
+            {
+                String sortPath = sort.getColumnEntityPath().getValue();
+                if(EsUtil.isToManyPath(em.getMetamodel(), entity, sortPath)) throw new IllegalArgumentException(String.format("Keyset pagination does NOT support sorting by to-many relation column: %s!", sortPath));
+            }
+
+            PageRequest<E> keysetRequest = new PageRequest<>(request);
+            boolean idSortPresent = keysetRequest.getSorts().stream().anyMatch(s -> entity.equals(s.getColumnEntityPath().getKey()) && idPath.equals(s.getColumnEntityPath().getValue()));
+            if(!idSortPresent) keysetRequest.addSort(entity, idPath, QuerySort.Direction.ASC);
+
+            return keysetRequest;
+        }
+
+        private void setKeysetRestriction(EntityService<E> es, EntityManager em, CriteriaQuery<E> query, Class<E> entity, PageRequest<E> request)
+        {
+            String[] lastValues = EsUtil.decodeKeysetCursor(request.getCursor());
+            if(ArrayUtils.isEmpty(lastValues)) return; //first page of keyset pagination
+
+            List<QuerySort> sorts = new ArrayList<>(request.getSorts());
+            if(lastValues.length != sorts.size()) throw new IllegalArgumentException(String.format("Keyset cursor (%d values) does NOT match requested sorting (%d columns)!", lastValues.length, sorts.size()));
+
+            CriteriaBuilder cb = em.getCriteriaBuilder();
+            Predicate keysetPredicate = pb.createKeysetPredicate(new PredicateBuilder.PredicateContext<>(es, em, null), cb, query, entity, sorts, lastValues);
+            Predicate queryPredicate = PredicateUtil.combinePredicates(cb, query.getRestriction(), keysetPredicate, QueryExpression.LogicOperator.AND);
+
+            if(queryPredicate != null)
+            {
+                query.where(queryPredicate);
+            }
+        }
+
+        private CriteriaQuery<Tuple> createAggQuery(EntityService<E> es, EntityManager em, CriteriaBuilder cb, CriteriaQuery<?> query, Class<E> clazz, QueryExpression metaVQ, QueryPlanCache.PlanBinding binding)
+        {
+            return this.createAggQuery(es, em, cb, query, clazz, Collections.singletonList(metaVQ), binding);
+        }
+
+        private CriteriaQuery<Tuple> createAggQuery(EntityService<E> es, EntityManager em, CriteriaBuilder cb, CriteriaQuery<?> query, Class<E> clazz, List<QueryExpression> metaVQs, QueryPlanCache.PlanBinding binding)
+        {
+            if(binding == null || binding.getPlan() == null) return this.buildAggQuery(es, em, cb, query, clazz, metaVQs);
+
+            String sideQueryKey = metaVQs.stream().map(metaVQ -> QueryPlanCache.createSideQueryKey(QueryType.AGGREGATION, metaVQ)).collect(Collectors.joining("||"));
+            return binding.getPlan().resolveSideQuery(sideQueryKey, () -> this.buildAggQuery(es, em, cb, query, clazz, metaVQs));
+        }
+
+        private CriteriaQuery<Tuple> createMetaQuery(EntityService<E> es, EntityManager em, CriteriaBuilder cb, CriteriaQuery<?> query, Class<E> clazz, List<QueryExpression> metaBatch, QueryPlanCache.PlanBinding binding)
+        {
+            long buildStartTimeNs = System.nanoTime();
+            CriteriaQuery<Tuple> aggQuery = this.createAggQuery(es, em, cb, query, clazz, metaBatch, binding);
+            this.recordBuild(es, QueryType.AGGREGATION, buildStartTimeNs);
+
+            return aggQuery;
+        }
+
+        /**
+         * Creates UNION ALL meta-queries of meta-batches with different label columns, filters or distinct flag (key: meta-batches of union branches)
+         * Each branch is tagged by meta-value key of its first expression (first select column) followed by aggregations of the batch
+         * Label columns of each branch have their own select columns - other branches select typed NULL literals instead (label columns differ in count &amp; types)
+         * UNION ALL branches must select type-compatible aggregations - branches are grouped by java-types of selected aggregations
+         * NOTICE: union queries are built from current data-query on each request (side-query templates are cached per batch only)
+         */
+        private Map<List<List<QueryExpression>>, CriteriaQuery<Tuple>> createMetaUnionQueries(EntityService<E> es, EntityManager em, CriteriaBuilder cb, CriteriaQuery<?> query, Class<E> clazz, Collection<List<QueryExpression>> metaBatches)
+        {
+            long buildStartTimeNs = System.nanoTime();
+            Map<String, List<Map.Entry<List<QueryExpression>, CriteriaQuery<Tuple>>>> branchGroups = new LinkedHashMap<>();
+
+            for(List<QueryExpression> metaBatch : metaBatches)
+            {
+                CriteriaQuery<Tuple> branchQuery = this.buildAggQuery(es, em, cb, query, clazz, metaBatch);
+                String aggTypes = branchQuery.getSelection().getCompoundSelectionItems().stream().limit(EsUtil.getAggSelectionSize(metaBatch)).map(si -> String.valueOf(si.getJavaType())).collect(Collectors.joining(","));
+                branchGroups.computeIfAbsent(aggTypes, k -> new ArrayList<>()).add(new ImmutablePair<>(metaBatch, branchQuery));
+            }
+
+            Map<List<List<QueryExpression>>, CriteriaQuery<Tuple>> unionQueries = new LinkedHashMap<>();
+            for(List<Map.Entry<List<QueryExpression>, CriteriaQuery<Tuple>>> branchGroup : branchGroups.values())
+            {
+                List<List<Selection<?>>> branchLabels = branchGroup.stream()
+                        .map(b -> b.getValue().getSelection().getCompoundSelectionItems())
+                        .map(si -> si.subList(EsUtil.getAggSelectionSize(branchGroup.get(0).getKey()), si.size()))
+                        .collect(Collectors.toList());
+
+                for(int i = 0; i < branchGroup.size(); i++)
+                {
+                    List<QueryExpression> metaBatch = branchGroup.get(i).getKey();
+                    CriteriaQuery<Tuple> branchQuery = branchGroup.get(i).getValue();
+
+                    //SELECT meta-value key (branch tag), aggregations of the batch & label columns of all branches (own labels or typed NULLs)
+                    List<Selection<?>> selectColumns = new ArrayList<>();
+                    selectColumns.add(cb.literal(EsUtil.getMetaValueKey(metaBatch.get(0))));
+                    selectColumns.addAll(branchQuery.getSelection().getCompoundSelectionItems().subList(0, EsUtil.getAggSelectionSize(metaBatch)));
+                    for(int j = 0; j < branchLabels.size(); j++)
+                    {
+                        if(j == i) selectColumns.addAll(branchLabels.get(j));
+                        else branchLabels.get(j).forEach(l -> selectColumns.add(cb.nullLiteral(l.getJavaType())));
+                    }
+
+                    branchQuery.select(cb.tuple(selectColumns.toArray(new Selection[0])));
+                }
+
+                List<List<QueryExpression>> unionBatches = branchGroup.stream().map(Map.Entry::getKey).collect(Collectors.toList());
+                CriteriaQuery<Tuple> firstBranch = branchGroup.get(0).getValue();
+                CriteriaQuery<?>[] otherBranches = branchGroup.stream().skip(1).map(Map.Entry::getValue).toArray(CriteriaQuery[]::new);
+
+                CriteriaQuery<Tuple> unionQuery = (otherBranches.length > 0) ? ((HibernateCriteriaBuilder) cb).unionAll(firstBranch, otherBranches) : firstBranch;
+                unionQueries.put(unionBatches, unionQuery);
+            }
+            this.recordBuild(es, QueryType.AGGREGATION, buildStartTimeNs);
+
+            return unionQueries;
+        }
+
+        private boolean isMetaUnionEnabled(EntityService<E> es, EntityManager em, Collection<List<QueryExpression>> metaBatches)
+        {
+            if(!es.isMetaQueryBatchingEnabled() || metaBatches.size() < 2) return false;
+            if(!(em.getCriteriaBuilder() instanceof HibernateCriteriaBuilder)) return false;
+
+            return EsUtil.supportsUnionAll(em);
         }
 
-        private Page<E> pageQuery(EntityManager em, CriteriaQuery<E> query, Class<E> entity, PageRequest<E> request)
+        private CriteriaQuery<Tuple> buildAggQuery(EntityService<E> es, EntityManager em, CriteriaBuilder cb, CriteriaQuery<?> query, Class<E> clazz, List<QueryExpression> metaVQs)
         {
-            TypedQuery<E> dataQuery = em.createQuery(query);
-            //TypedQuery<Tuple> dataQuery = em.createQuery(query);
-            //Query dataQuery = sessionImpl.createSQLQuery(jpqlQuery);
+            //NOTICE: batched meta-expressions share label columns, filters & distinct flag (EsUtil.getMetaBatchKey) - first expression defines them
+            QueryExpression batchVQ = metaVQs.get(0);
+            CriteriaQuery<Tuple> aggQuery = Core.replicateTupleQuery(cb, query);
 
-            if(request.getPageSize() != null)
+            List<Expression<?>> selectColumns = new ArrayList<>();
+            for(QueryExpression metaVQ : metaVQs)
             {
-                if(request.getPageNumber() != null) dataQuery.setFirstResult((request.getPageNumber() - 1) * request.getPageSize());
-                dataQuery.setMaxResults(request.getPageSize());
+                selectColumns.addAll(Arrays.asList(this.createAggSelection(cb, aggQuery, clazz, metaVQ)));
             }
 
-            //MSSQL DISTINCT+SORT technical-limitation: sorting by non-select fields is not allowed when using DISTINCT clause
-            //ERROR: ORDER BY items must appear in the select list if SELECT DISTINCT is specified
-            //WORKAROUND: add Sort-Field-Entity to Entity-Graph select list (eager load sort-entity with root-select query)
-            if(query.isDistinct())  //TODO: check if DBMS = MSSQL
+            Path[] labelColumns = null;
+            if(batchVQ.getValueColumnEntityPath() != null && batchVQ.getLabelColumnEntityPath() != null)
             {
-                this.extendEntityGraphBySortEntities(request);
-            }
+                String[] labelColumnsPaths = batchVQ.getLabelColumnEntityPath().getValue().split(EntityService.LABEL_PATHS_SEPARATOR);
+                labelColumns = Arrays.stream(labelColumnsPaths).map(l -> Core.findOrGenerateFieldJoinPath(aggQuery.getRoots(), clazz, new ImmutablePair<>(batchVQ.getLabelColumnEntityPath().getKey(), l.trim()))).toArray(Path[]::new);
+                //labelColumn = Arrays.stream(labelColumns).map(l -> (Expression<String>) l).reduce(cb::concat).orElse(null);
+                //.reduce(cb.literal(StringUtils.EMPTY),                                      //identity
+                //(concat, nextLabel) -> cb.concat(concat, (Expression<String>) nextLabel),   //accumulator
+                //(concat, nextLabel) -> cb.concat(concat, nextLabel));                       //combiner
 
-            Map.Entry<String, Object> entityGraphHint = QueryBuilder.getEntityGraphHint(em, entity, request.getEntityGraphPaths());
-            if(entityGraphHint != null)
-            {
-                dataQuery.setHint(entityGraphHint.getKey(), entityGraphHint.getValue());
+                selectColumns.addAll(Arrays.asList(labelColumns));
             }
 
-            dataQuery.setHint(HibernateHints.HINT_READ_ONLY, request.isReadOnlyDataset());
+            aggQuery.select(cb.tuple(selectColumns.toArray(new Expression[0])));   //SELECT aggregations of each expression followed by shared label columns
+            aggQuery.distinct(batchVQ.isDistinct());
+            aggQuery.orderBy(); //clear order-by from copied query
 
-            long queryStartTimeNs = System.nanoTime();
-            List<E> contentResult = dataQuery.getResultList();
-            //List<Tuple> result = dataQuery.getResultList();
-            //List<E> contentResult = result.stream().map(e -> (T) e.get(0)).collect(Collectors.toList());
+            Predicate orgPredicate = aggQuery.getRestriction();
+            if(ArrayUtils.isNotEmpty(batchVQ.getFilters()))
+            {
+                Predicate p = pb.createPredicate(new PredicateBuilder.PredicateContext<>(es, em, null), cb, aggQuery, clazz, QueryExpression.LogicOperator.AND, batchVQ.getFilters());
+                orgPredicate = PredicateUtil.combinePredicates(cb, orgPredicate, p, QueryExpression.LogicOperator.AND);
+            }
 
-            if(es.isLoggingEnabled())
+            if(orgPredicate != null)
             {
-                EsUtil.logQuery(QueryType.DATA, dataQuery, queryStartTimeNs);
+                aggQuery.where(orgPredicate);
             }
 
-            long count = (request.getPageSize() != null) ? this.countQuery(em, query, entity) : contentResult.size();
+            //TODO verify: incorrect aggregation value (duplicate root Entity values with one-to-many relations)?
+            if(labelColumns != null)
+            {
+                aggQuery.groupBy(labelColumns);
+            }
 
-            return new Page<>(request, count, contentResult);
+            return aggQuery;
         }
 
-        private Stream<Tuple> aggQuery(EntityManager em, CriteriaQuery<?> query, Class<E> clazz, QueryExpression metaVQ)
+        private Expression<?>[] createAggSelection(CriteriaBuilder cb, CriteriaQuery<Tuple> aggQuery, Class<E> clazz, QueryExpression metaVQ)
         {
-            CriteriaBuilder cb = em.getCriteriaBuilder();
-            CriteriaQuery<Tuple> aggQuery = Core.replicateTupleQuery(cb, query);
-
-            Path[] labelColumns = null;
-            Expression<?>[] selectColumns = null;
             if(metaVQ.getValueColumnEntityPath() != null)
             {
                 //TODO: check if any operations with non-number columns
                 Path<? extends Number> valueColumn = Core.findOrGenerateFieldJoinPath(aggQuery.getRoots(), clazz, metaVQ.getValueColumnEntityPath());
                 //Path<?> labelColumn = this.findOrGenerateFieldJoinPath(aggQuery.getRoots(), clazz, metaVQ.getEntity(), metaVQ.getLabelColumnPath());
 
-                if(metaVQ.getLabelColumnEntityPath() != null)
-                {
-                    String[] labelColumnsPaths = metaVQ.getLabelColumnEntityPath().getValue().split(EntityService.LABEL_PATHS_SEPARATOR);
-                    labelColumns = Arrays.stream(labelColumnsPaths).map(l -> Core.findOrGenerateFieldJoinPath(aggQuery.getRoots(), clazz, new ImmutablePair<>(metaVQ.getLabelColumnEntityPath().getKey(), l.trim()))).toArray(Path[]::new);
-                    //labelColumn = Arrays.stream(labelColumns).map(l -> (Expression<String>) l).reduce(cb::concat).orElse(null);
-                    //.reduce(cb.literal(StringUtils.EMPTY),                                      //identity
-                    //(concat, nextLabel) -> cb.concat(concat, (Expression<String>) nextLabel),   //accumulator
-                    //(concat, nextLabel) -> cb.concat(concat, nextLabel));                       //combiner
-                }
-
                 QueryExpression.Function function = metaVQ.getFunc();
                 if(function == null) throw new RuntimeException(String.format("AggQuery (%s) - QueryExpression.Func must NOT be null!", EsUtil.getMetaValueKey(metaVQ)));
                 switch(function)
                 {
-                    case COUNT:
-                    {
-                        selectColumns = new Expression[] { cb.count(valueColumn) };
-                        if(labelColumns != null) selectColumns = ArrayUtils.addAll(selectColumns, labelColumns);
-                        break;
-                    }
-
-                    case COUNT_DISTINCT:
-                    {
-                        selectColumns = new Expression[] { cb.countDistinct(valueColumn) };
-                        if(labelColumns != null) selectColumns = ArrayUtils.addAll(selectColumns, labelColumns);
-                        break;
-                    }
-
-                    case SUM:
-                    {
-                        selectColumns = new Expression[] { cb.sum(valueColumn) };
-                        if(labelColumns != null) selectColumns = ArrayUtils.addAll(selectColumns, labelColumns);
-                        break;
-                    }
-
-                    case AVG:
-                    {
-                        selectColumns = new Expression[] { cb.avg(valueColumn), cb.count(valueColumn) };
-                        if(labelColumns != null) selectColumns = ArrayUtils.addAll(selectColumns, labelColumns);
-                        break;
-                    }
-
-                    case MIN:
-                    {
-                        selectColumns = new Expression[] { cb.min(valueColumn) };
-                        if(labelColumns != null) selectColumns = ArrayUtils.addAll(selectColumns, labelColumns);
-                        break;
-                    }
-
-                    case MAX:
-                    {
-                        selectColumns = new Expression[] { cb.max(valueColumn) };
-                        if(labelColumns != null) selectColumns = ArrayUtils.addAll(selectColumns, labelColumns);
-                        break;
-                    }
+                    case COUNT: return new Expression[] { cb.count(valueColumn) };
+                    case COUNT_DISTINCT: return new Expression[] { cb.countDistinct(valueColumn) };
+                    case SUM: return new Expression[] { cb.sum(valueColumn) };
+                    case AVG: return new Expression[] { cb.avg(valueColumn), cb.count(valueColumn) };  //NOTICE: value count is required for weighted-average of duplicate label keys
+                    case MIN: return new Expression[] { cb.min(valueColumn) };
+                    case MAX: return new Expression[] { cb.max(valueColumn) };
+                    default: throw new NotImplementedException(String.format("Missing implementation for QueryExpression.Function: %s", function));
                 }
             }
             else    //entity-count
@@ -518,48 +1589,108 @@ public interface EntityService<E>
                 //Path<?> path = Core.findFromPath(aggQuery.getRoots(), metaVQ.getValueColumnEntityPath().getKey(), joinPathString);
                 Path<?> path = Core.findEntityRootPath(aggQuery.getRoots(), metaVQ.getRootEntity());
                 if(path == null) throw new RuntimeException(String.format("AggQuery - Path NOT FOUND for ENTITY Class: %s!", metaVQ.getRootEntity()));
-                selectColumns = new Expression[] { cb.countDistinct(path) };
+                return new Expression[] { cb.countDistinct(path) };
             }
+        }
 
-            aggQuery.select(cb.tuple(selectColumns));   //SELECT selectColumns from switch-case/entity-count
-            aggQuery.distinct(metaVQ.isDistinct());
-            aggQuery.orderBy(); //clear order-by from copied query
+        private Stream<Tuple> executeAggQuery(EntityService<E> es, EntityManager em, CriteriaQuery<Tuple> aggQuery, PageRequest<E> request, QueryPlanCache.PlanBinding binding, QueryType queryType)
+        {
+            TypedQuery<Tuple> aggregationQuery = em.createQuery(aggQuery);
+            QueryPlanCache.bindParameters(aggregationQuery, binding);
+            aggregationQuery.setHint(HibernateHints.HINT_READ_ONLY, true);
 
-            Predicate orgPredicate = aggQuery.getRestriction();
-            if(ArrayUtils.isNotEmpty(metaVQ.getFilters()))
+            //NOTICE: aggregation results are fetched eagerly (execution time includes result fetching)
+            long queryStartTimeNs = this.startQuery(es);
+            List<Tuple> aggResult;
+            try
             {
-                Predicate p = pb.createPredicate(cb, aggQuery, clazz, QueryExpression.LogicOperator.AND, metaVQ.getFilters());
-                orgPredicate = PredicateUtil.combinePredicates(cb, orgPredicate, p, QueryExpression.LogicOperator.AND);
+                aggResult = aggregationQuery.getResultList();
+                this.recordExecution(es, queryType, request, aggregationQuery, queryStartTimeNs, aggResult.size());
+            }
+            finally
+            {
+                this.stopQuery(es);
             }
 
-            if(orgPredicate != null)
+            if(es.isLoggingEnabled())
             {
-                aggQuery.where(orgPredicate);
+                EsUtil.logQuery(queryType, aggregationQuery, queryStartTimeNs);
             }
 
-            //TODO verify: incorrect aggregation value (duplicate root Entity values with one-to-many relations)?
-            if(labelColumns != null)
+            return aggResult.stream();
+        }
+
+        private Stream<Tuple> distinctQuery(EntityService<E> es, EntityManager em, CriteriaQuery<?> query, Class<E> clazz, QueryExpression metaVQ, PageRequest<E> request, QueryPlanCache.PlanBinding binding)
+        {
+            CriteriaQuery<Tuple> distQuery = this.createDistinctQuery(es, em, em.getCriteriaBuilder(), query, clazz, metaVQ, binding);
+
+            return this.executeDistinctQuery(es, em, distQuery, request, binding);
+        }
+
+        private CriteriaQuery<Tuple> createDistinctQuery(EntityService<E> es, EntityManager em, CriteriaBuilder cb, CriteriaQuery<?> query, Class<E> clazz, QueryExpression metaVQ, QueryPlanCache.PlanBinding binding)
+        {
+            long buildStartTimeNs = System.nanoTime();
+            CriteriaQuery<Tuple> distQuery = null;
+            if(binding == null || binding.getPlan() == null)
             {
-                aggQuery.groupBy(labelColumns);
+                distQuery = this.buildDistinctQuery(es, em, cb, query, clazz, metaVQ, null);
+            }
+            else
+            {
+                String sideQueryKey = QueryPlanCache.createSideQueryKey(QueryType.DISTINCT, metaVQ);
+                distQuery = binding.getPlan().resolveSideQuery(sideQueryKey, () -> this.buildDistinctQuery(es, em, cb, query, clazz, metaVQ, null));
             }
+            this.recordBuild(es, QueryType.DISTINCT, buildStartTimeNs);
 
-            TypedQuery<Tuple> aggregationQuery = em.createQuery(aggQuery);
-            aggregationQuery.setHint(HibernateHints.HINT_READ_ONLY, true);
+            return distQuery;
+        }
+
+        /**
+         * Creates UNION ALL distinct-queries of requested distinct columns (key: distinct-value keys of union branches)
+         * UNION ALL branches must select type-compatible columns - branches are grouped by java-types of selected value &amp; label columns
+         * NOTICE: union queries are built from current data-query on each request (side-query templates are cached per column only)
+         */
+        private Map<List<String>, CriteriaQuery<Tuple>> createDistinctUnionQueries(EntityService<E> es, EntityManager em, CriteriaBuilder cb, CriteriaQuery<?> query, Class<E> clazz, Set<QueryExpression> distinctColumns)
+        {
+            long buildStartTimeNs = System.nanoTime();
+            Set<String> distinctKeys = new HashSet<>();
+            Map<String, List<Map.Entry<String, CriteriaQuery<Tuple>>>> branchGroups = new LinkedHashMap<>();
+
+            for(QueryExpression dtc : distinctColumns)
+            {
+                String key = EsUtil.getDistinctValueKey(dtc);
+                if(!distinctKeys.add(key)) throw new RuntimeException(String.format("DistinctValues '%s' key is duplicate!", key));
 
-            long queryStartTimeNs = System.nanoTime();
-            Stream<Tuple> aggResult = aggregationQuery.getResultStream();
+                CriteriaQuery<Tuple> branchQuery = this.buildDistinctQuery(es, em, cb, query, clazz, dtc, key);
+                String selectionTypes = branchQuery.getSelection().getCompoundSelectionItems().stream().map(si -> String.valueOf(si.getJavaType())).collect(Collectors.joining(","));
+                branchGroups.computeIfAbsent(selectionTypes, k -> new ArrayList<>()).add(new ImmutablePair<>(key, branchQuery));
+            }
 
-            if(es.isLoggingEnabled())
+            Map<List<String>, CriteriaQuery<Tuple>> unionQueries = new LinkedHashMap<>();
+            for(List<Map.Entry<String, CriteriaQuery<Tuple>>> branchGroup : branchGroups.values())
             {
-                EsUtil.logQuery(QueryType.AGGREGATION, aggregationQuery, queryStartTimeNs);
+                List<String> unionKeys = branchGroup.stream().map(Map.Entry::getKey).collect(Collectors.toList());
+                CriteriaQuery<Tuple> firstBranch = branchGroup.get(0).getValue();
+                CriteriaQuery<?>[] otherBranches = branchGroup.stream().skip(1).map(Map.Entry::getValue).toArray(CriteriaQuery[]::new);
+
+                CriteriaQuery<Tuple> unionQuery = (otherBranches.length > 0) ? ((HibernateCriteriaBuilder) cb).unionAll(firstBranch, otherBranches) : firstBranch;
+                unionQueries.put(unionKeys, unionQuery);
             }
+            this.recordBuild(es, QueryType.DISTINCT, buildStartTimeNs);
 
-            return aggResult;
+            return unionQueries;
         }
 
-        private Stream<Tuple> distinctQuery(EntityManager em, CriteriaQuery<?> query, Class<E> clazz, QueryExpression metaVQ)
+        private boolean isDistinctUnionEnabled(EntityService<E> es, EntityManager em, Set<QueryExpression> distinctColumns)
+        {
+            if(!es.isDistinctQueryBatchingEnabled() || distinctColumns.size() < 2) return false;
+            if(!(em.getCriteriaBuilder() instanceof HibernateCriteriaBuilder)) return false;
+
+            return EsUtil.supportsUnionAll(em);
+        }
+
+        private CriteriaQuery<Tuple> buildDistinctQuery(EntityService<E> es, EntityManager em, CriteriaBuilder cb, CriteriaQuery<?> query, Class<E> clazz, QueryExpression metaVQ, String unionKey)
         {
-            CriteriaBuilder cb = em.getCriteriaBuilder();
             CriteriaQuery<Tuple> distQuery = Core.replicateTupleQuery(cb, query);
             //Path<?> path = Core.findFromPath(distinctQuery.getRoots(), metaVQ.getEntity());
             //if(path == null) throw new RuntimeException(String.format("DistinctQuery - Path NOT FOUND for ENTITY Class: %s!", metaVQ.getEntity().getSimpleName()));
@@ -576,6 +1707,11 @@ public interface EntityService<E>
                 selectColumns = new Expression[] { valueColumn };
             }
 
+            if(unionKey != null)    //UNION ALL branch is tagged by distinct-value key (first select column)
+            {
+                selectColumns = ArrayUtils.addAll(new Expression[] { cb.literal(unionKey) }, selectColumns);
+            }
+
             distQuery.select(cb.tuple(selectColumns));
             distQuery.distinct(true);
             distQuery.orderBy(); //clear order-by from copied query
@@ -583,7 +1719,7 @@ public interface EntityService<E>
             Predicate orgPredicate = distQuery.getRestriction();
             if(ArrayUtils.isNotEmpty(metaVQ.getFilters()))
             {
-                Predicate p = pb.createPredicate(cb, distQuery, clazz, QueryExpression.LogicOperator.AND, metaVQ.getFilters());
+                Predicate p = pb.createPredicate(new PredicateBuilder.PredicateContext<>(es, em, null), cb, distQuery, clazz, QueryExpression.LogicOperator.AND, metaVQ.getFilters());
                 orgPredicate = PredicateUtil.combinePredicates(cb, orgPredicate, p, QueryExpression.LogicOperator.AND);
             }
 
@@ -592,21 +1728,38 @@ public interface EntityService<E>
                 distQuery.where(orgPredicate);
             }
 
+            return distQuery;
+        }
+
+        private Stream<Tuple> executeDistinctQuery(EntityService<E> es, EntityManager em, CriteriaQuery<Tuple> distQuery, PageRequest<E> request, QueryPlanCache.PlanBinding binding)
+        {
             TypedQuery<Tuple> distinctQuery = em.createQuery(distQuery);
+            QueryPlanCache.bindParameters(distinctQuery, binding);
             distinctQuery.setHint(HibernateHints.HINT_READ_ONLY, true);
 
-            long queryStartTimeNs = System.nanoTime();
-            Stream<Tuple> distinctResult = distinctQuery.getResultStream();
+            //NOTICE: distinct results are fetched eagerly (execution time includes result fetching)
+            long queryStartTimeNs = this.startQuery(es);
+            List<Tuple> distinctResult;
+            try
+            {
+                distinctResult = distinctQuery.getResultList();
+                this.recordExecution(es, QueryType.DISTINCT, request, distinctQuery, queryStartTimeNs, distinctResult.size());
+            }
+            finally
+            {
+                this.stopQuery(es);
+            }
 
             if(es.isLoggingEnabled())
             {
                 EsUtil.logQuery(QueryType.DISTINCT, distinctQuery, queryStartTimeNs);
             }
 
-            return distinctResult;
+            return distinctResult.stream();
         }
 
-        private <E> List<Order> getSorting(CriteriaBuilder cb, CriteriaQuery<?> query, Class<E> clazz, Set<QuerySort> sorts)
+        //NOTICE: keyset pagination renders explicit null-ordering (NULLS FIRST in ASC & NULLS LAST in DESC order) matching keyset seek predicate
+        private <E> List<Order> getSorting(CriteriaBuilder cb, CriteriaQuery<?> query, Class<E> clazz, Set<QuerySort> sorts, boolean keysetNullOrdering)
         {
             return sorts.stream()
                     .map(s ->
@@ -615,6 +1768,18 @@ public interface EntityService<E>
                         Expression<?> sortColumn = Core.findOrGenerateFieldJoinPath(query.getRoots(), clazz, s.getColumnEntityPath());
                         if(s.getSortType() != null) sortColumn = sortColumn.as(s.getSortType());
 
+                        if(keysetNullOrdering)
+                        {
+                            if(!(cb instanceof HibernateCriteriaBuilder)) throw new RuntimeException("KeysetPagination - explicit null-ordering requires HibernateCriteriaBuilder!");
+
+                            switch(s.getDirection())
+                            {
+                                case ASC: return ((HibernateCriteriaBuilder) cb).asc(sortColumn, true);
+                                case DESC: return ((HibernateCriteriaBuilder) cb).desc(sortColumn, false);
+                                default: throw new RuntimeException(String.format("Unknown Sort direction: %s!", s.getDirection()));
+                            }
+                        }
+
                         switch(s.getDirection())
                         {
                             case ASC: return cb.asc(sortColumn);
@@ -700,34 +1865,102 @@ public interface EntityService<E>
             if(CollectionUtils.isNotEmpty(entityGraphPaths)) request.setEntityGraphPaths(entityGraphPaths.toArray(new String[]{}));
         }
 
-        private List<Predicate> getFilters(CriteriaBuilder cb, CriteriaQuery<?> query, Class<E> clazz, QueryExpression.CompoundFilter queryFilters)
+        private List<Predicate> getFilters(EntityService<E> es, EntityManager em, CriteriaBuilder cb, CriteriaQuery<?> query, Class<E> clazz, QueryExpression.CompoundFilter queryFilters)
+        {
+            return this.getFilters(es, em, cb, query, clazz, queryFilters, null);
+        }
+
+        private List<Predicate> getFilters(EntityService<E> es, EntityManager em, CriteriaBuilder cb, CriteriaQuery<?> query, Class<E> clazz, QueryExpression.CompoundFilter queryFilters, QueryPlanCache.ParameterBinder binder)
         {
             List<Predicate> predicates = new ArrayList<>();
 
-            Predicate complexConditionalPredicate = pb.createPredicate(cb, query, clazz, QueryExpression.LogicOperator.AND, queryFilters);
+            Predicate complexConditionalPredicate = pb.createPredicate(new PredicateBuilder.PredicateContext<>(es, em, binder), cb, query, clazz, QueryExpression.LogicOperator.AND, queryFilters);
             if(complexConditionalPredicate != null) predicates.add(complexConditionalPredicate);
 
             return predicates;
         }
 
-        private Map<String, Map<Object, Object>> getDistinctValues(EntityManager em, CriteriaQuery<?> query, Class<E> clazz, Set<QueryExpression> distinctColumns)
+        //NOTICE: result-cache key is resolved before query build (filter values are converted in place by PredicateBuilder) - cache hit & miss paths use same key
+        private String createResultCacheKey(EntityService<E> es, Class<E> entity, PageRequest<E> request)
+        {
+            ResultCache resultCache = es.getResultCache();
+            return (resultCache != null && request.getMetaCacheTtl() > 0) ? ResultCache.createFiltersKey(entity, request) : null;
+        }
+
+        private ResultCache.CacheLookup lookupResultCache(EntityService<E> es, EntityManager em, Class<E> entity, PageRequest<E> request, String resultCacheKey, QueryType queryType, Set<QueryExpression> columns)
+        {
+            ResultCache resultCache = es.getResultCache();
+            if(resultCache == null || columns == null || resultCacheKey == null) return new ResultCache.CacheLookup(columns);
+
+            return resultCache.lookup(em, entity, request, resultCacheKey, queryType, columns);
+        }
+
+        private Map<String, Map<Object, Object>> getDistinctValues(EntityService<E> es, EntityManager em, CriteriaQuery<?> query, Class<E> clazz, PageRequest<E> request, Set<QueryExpression> distinctColumns, QueryPlanCache.PlanBinding binding)
         {
             Map<String, Map<Object, Object>> distinctValues = new HashMap<>();
 
+            if(this.isDistinctUnionEnabled(es, em, distinctColumns))
+            {
+                for(Map.Entry<List<String>, CriteriaQuery<Tuple>> unionQuery : this.createDistinctUnionQueries(es, em, em.getCriteriaBuilder(), query, clazz, distinctColumns).entrySet())
+                {
+                    Stream<Tuple> unionDistincts = this.executeDistinctQuery(es, em, unionQuery.getValue(), request, binding);
+                    distinctValues.putAll(this.collectDistinctUnionValues(es, unionQuery.getKey(), unionDistincts));
+                }
+
+                return distinctValues;
+            }
+
             for(QueryExpression dtc : distinctColumns)
             {
                 //logger.info(String.format("%s - ADD new DistinctValue: %s", EntityService.class.getSimpleName(), dtc.toString()));
-                Stream<Tuple> columnDistincts = this.distinctQuery(em, query, clazz, dtc);
+                Stream<Tuple> columnDistincts = this.distinctQuery(es, em, query, clazz, dtc, request, binding);
+                Map<Object, Object> distinctPairs = this.collectDistinctValues(es, columnDistincts.map(Tuple::toArray));
+
+                String key = EsUtil.getDistinctValueKey(dtc);
+                if(distinctValues.containsKey(key)) throw new RuntimeException(String.format("DistinctValues '%s' key is duplicate!", key));
+                distinctValues.put(key, distinctPairs);
+            }
+
+            return distinctValues;
+        }
+
+        private Map<String, Map<Object, Object>> collectDistinctUnionValues(EntityService<E> es, List<String> unionKeys, Stream<Tuple> unionDistincts)
+        {
+            //NOTICE: union rows are tagged by distinct-value key (first column) followed by value & optional label column
+            long processingStartTimeNs = System.nanoTime();
+            Map<Object, List<Object[]>> branchRows = unionDistincts.map(Tuple::toArray).collect(Collectors.groupingBy((Object[] d) -> d[0]));
+
+            Map<String, Map<Object, Object>> distinctValues = new HashMap<>();
+            for(String key : unionKeys)
+            {
+                Stream<Object[]> columnDistincts = branchRows.getOrDefault(key, Collections.emptyList()).stream().map(d -> ArrayUtils.subarray(d, 1, d.length));
+                distinctValues.put(key, this.mergeDistinctValues(columnDistincts));
+            }
+            this.recordPostProcessing(es, QueryType.DISTINCT, processingStartTimeNs);
+
+            return distinctValues;
+        }
+
+        private Map<Object, Object> collectDistinctValues(EntityService<E> es, Stream<Object[]> columnDistincts)
+        {
+            long processingStartTimeNs = System.nanoTime();
+            Map<Object, Object> distinctPairs = this.mergeDistinctValues(columnDistincts);
+            this.recordPostProcessing(es, QueryType.DISTINCT, processingStartTimeNs);
+
+            return distinctPairs;
+        }
 
-                Map<Object, Object> distinctPairs = columnDistincts.map(d ->
+        private Map<Object, Object> mergeDistinctValues(Stream<Object[]> columnDistincts)
+        {
+            return columnDistincts.map(d ->
                 {
-                    //WARNING BUG: jakarta.persistence.Tuple.getElements().size() throws ArrayIndexOutOfBoundsException
-                    int size = d.toArray().length;
+                    //WARNING BUG: jakarta.persistence.Tuple.getElements().size() throws ArrayIndexOutOfBoundsException (tuples are collected as arrays)
+                    int size = d.length;
 
                     switch(size)
                     {
-                        case 1: return new AbstractMap.SimpleEntry(d.get(0), d.get(0));
-                        case 2: return new AbstractMap.SimpleEntry(d.get(0), d.get(1));
+                        case 1: return new AbstractMap.SimpleEntry(d[0], d[0]);
+                        case 2: return new AbstractMap.SimpleEntry(d[0], d[1]);
                         default: throw new RuntimeException(String.format("DistinctQuery returned %d results!", size));
                     }
                 })
@@ -737,31 +1970,118 @@ public interface EntityService<E>
                     if(Objects.equals(dp1, dp2)) return dp1;
                     else return dp1 +"/"+ dp2; //throw new RuntimeException(String.format("DistinctQuery result contains duplicate key for values '%s' <> '%s'!", dp1, dp2));
                 }));
+        }
 
-                String key = EsUtil.getDistinctValueKey(dtc);
-                if(distinctValues.containsKey(key)) throw new RuntimeException(String.format("DistinctValues '%s' key is duplicate!", key));
-                distinctValues.put(key, distinctPairs);
+        private Map<String, Map<Object, Object>> getMetaValues(EntityService<E> es, EntityManager em, CriteriaQuery<?> query, Class<E> clazz, PageRequest<E> request, Set<QueryExpression> metaColumns, QueryPlanCache.PlanBinding binding)
+        {
+            Map<String, Map<Object, Object>> metaValues = new HashMap<>();
+
+            Collection<List<QueryExpression>> metaBatches = this.getMetaBatches(es, metaColumns);
+            if(this.isMetaUnionEnabled(es, em, metaBatches))
+            {
+                for(Map.Entry<List<List<QueryExpression>>, CriteriaQuery<Tuple>> unionQuery : this.createMetaUnionQueries(es, em, em.getCriteriaBuilder(), query, clazz, metaBatches).entrySet())
+                {
+                    Stream<Tuple> unionAggs = this.executeAggQuery(es, em, unionQuery.getValue(), request, binding, QueryType.AGGREGATION);
+                    metaValues.putAll(this.collectMetaUnionValues(es, unionQuery.getKey(), unionAggs));
+                }
+
+                return metaValues;
             }
 
-            return distinctValues;
+            for(List<QueryExpression> metaBatch : metaBatches)
+            {
+                //logger.info(String.format("%s - ADD new MetaValues: %s", EntityService.class.getSimpleName(), metaBatch.toString()));
+                CriteriaQuery<Tuple> aggQuery = this.createMetaQuery(es, em, em.getCriteriaBuilder(), query, clazz, metaBatch, binding);
+                Stream<Tuple> batchAggs = this.executeAggQuery(es, em, aggQuery, request, binding, QueryType.AGGREGATION);
+                metaValues.putAll(this.collectMetaValues(es, metaBatch, batchAggs));
+            }
+
+            return metaValues;
         }
 
-        private Map<String, Map<Object, Object>> getMetaValues(EntityManager em, CriteriaQuery<?> query, Class<E> clazz, Set<QueryExpression> metaColumns)
+        /**
+         * Groups meta-expressions into batches executed by single aggregation query (each expression is separate batch if batching is disabled)
+         */
+        private Collection<List<QueryExpression>> getMetaBatches(EntityService<E> es, Set<QueryExpression> metaColumns)
         {
-            Map<String, Map<Object, Object>> metaValues = new HashMap<>();
+            Set<String> metaKeys = new HashSet<>();
+            Map<String, List<QueryExpression>> metaBatches = new LinkedHashMap<>();
 
             for(QueryExpression agg : metaColumns)
             {
-                //logger.info(String.format("%s - ADD new MetaValue: %s", EntityService.class.getSimpleName(), agg.toString()));
-                Stream<Tuple> columnAggs = this.aggQuery(em, query, clazz, agg);
+                String key = EsUtil.getMetaValueKey(agg);
+                if(!metaKeys.add(key)) throw new RuntimeException(String.format("MetaValues '%s' key is duplicate!", key));
+
+                String batchKey = (es.isMetaQueryBatchingEnabled()) ? EsUtil.getMetaBatchKey(agg) : key;
+                metaBatches.computeIfAbsent(batchKey, k -> new ArrayList<>()).add(agg);
+            }
+
+            return metaBatches.values();
+        }
+
+        private Map<String, Map<Object, Object>> collectMetaValues(EntityService<E> es, List<QueryExpression> metaBatch, Stream<Tuple> batchAggs)
+        {
+            long processingStartTimeNs = System.nanoTime();
+            Map<String, Map<Object, Object>> metaValues = this.splitBatchMetaValues(es, metaBatch, batchAggs.map(Tuple::toArray).collect(Collectors.toList()));
+            this.recordPostProcessing(es, QueryType.AGGREGATION, processingStartTimeNs);
+
+            return metaValues;
+        }
+
+        private Map<String, Map<Object, Object>> collectMetaUnionValues(EntityService<E> es, List<List<QueryExpression>> unionBatches, Stream<Tuple> unionAggs)
+        {
+            //NOTICE: union rows are tagged by meta-value key of the branch (first column) followed by aggregations of the branch & label columns of all branches
+            long processingStartTimeNs = System.nanoTime();
+            Map<Object, List<Object[]>> branchRows = unionAggs.map(Tuple::toArray).collect(Collectors.groupingBy((Object[] a) -> a[0]));
+
+            Map<String, Map<Object, Object>> metaValues = new HashMap<>();
+            int labelStartIndex = 1 + EsUtil.getAggSelectionSize(unionBatches.get(0));
+            for(List<QueryExpression> metaBatch : unionBatches)
+            {
+                int aggEndIndex = 1 + EsUtil.getAggSelectionSize(metaBatch);
+                int labelIndex = labelStartIndex;
+                int labelEndIndex = labelStartIndex + EsUtil.getLabelSelectionSize(metaBatch.get(0));
+
+                List<Object[]> batchRows = branchRows.getOrDefault(EsUtil.getMetaValueKey(metaBatch.get(0)), Collections.emptyList()).stream()
+                        .map(a -> (Object[]) ArrayUtils.addAll(ArrayUtils.subarray(a, 1, aggEndIndex), ArrayUtils.subarray(a, labelIndex, labelEndIndex)))
+                        .collect(Collectors.toList());
+                metaValues.putAll(this.splitBatchMetaValues(es, metaBatch, batchRows));
+                labelStartIndex = labelEndIndex;
+            }
+            this.recordPostProcessing(es, QueryType.AGGREGATION, processingStartTimeNs);
+
+            return metaValues;
+        }
+
+        private Map<String, Map<Object, Object>> splitBatchMetaValues(EntityService<E> es, List<QueryExpression> metaBatch, List<Object[]> batchRows)
+        {
+            //NOTICE: batch rows contain aggregations of each expression followed by shared label columns - rows are split per expression
+            int labelStartIndex = EsUtil.getAggSelectionSize(metaBatch);
+
+            Map<String, Map<Object, Object>> metaValues = new HashMap<>();
+            int aggStartIndex = 0;
+            for(QueryExpression agg : metaBatch)
+            {
+                int aggIndex = aggStartIndex;
+                int aggEndIndex = aggStartIndex + EsUtil.getAggSelectionSize(agg);
+                Stream<Object[]> columnAggs = batchRows.stream().map(r -> ArrayUtils.addAll(ArrayUtils.subarray(r, aggIndex, aggEndIndex), ArrayUtils.subarray(r, labelStartIndex, r.length)));
+
+                metaValues.put(EsUtil.getMetaValueKey(agg), this.collectMetaValues(es, agg, columnAggs));
+                aggStartIndex = aggEndIndex;
+            }
+
+            return metaValues;
+        }
 
-                Map<Object, Object> aggValues = columnAggs.map(a ->
+        private Map<Object, Object> collectMetaValues(EntityService<E> es, QueryExpression agg, Stream<Object[]> columnAggs)
+        {
+            int labelStartIndex = EsUtil.getAggSelectionSize(agg);
+            return columnAggs.map(a ->
                 {
-                    int labelStartIndex = (agg.getFunc() == QueryExpression.Function.AVG) ? 2 : 1;
-                    String labelsConcat = (a.getElements().size() > labelStartIndex) ? a.getElements().subList(labelStartIndex, a.getElements().size()).stream().map(te -> String.valueOf(a.get(te))).collect(Collectors.joining()) : "value";
+                    String labelsConcat = (a.length > labelStartIndex) ? Arrays.stream(a, labelStartIndex, a.length).map(String::valueOf).collect(Collectors.joining()) : "value";
 
-                    Number valueCount = (agg.getFunc() == QueryExpression.Function.AVG) ? (Number) a.get(1) : 1;
-                    return new AbstractMap.SimpleEntry<String, Map.Entry<Number, Number>>(labelsConcat, new AbstractMap.SimpleEntry<>((Number) a.get(0), valueCount));
+                    Number valueCount = (labelStartIndex > 1) ? (Number) a[1] : 1;  //AVG value count
+                    return new AbstractMap.SimpleEntry<String, Map.Entry<Number, Number>>(labelsConcat, new AbstractMap.SimpleEntry<>((Number) a[0], valueCount));
                 })
                 .filter(av -> av.getValue().getKey() != null && av.getValue().getValue() != null)
                 //.collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().getKey()));
@@ -799,13 +2119,6 @@ public interface EntityService<E>
                 })
                 .filter(av -> av.getKey() != null && av.getValue() != null)
                 .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-
-                String key = EsUtil.getMetaValueKey(agg);
-                if(metaValues.containsKey(key)) throw new RuntimeException(String.format("MetaValues '%s' key is duplicate!", key));
-                metaValues.put(key, aggValues);
-            }
-
-            return metaValues;
         }
     }
 
@@ -815,16 +2128,19 @@ public interface EntityService<E>
      */
     public static class PredicateBuilder<E>
     {
-        private EntityService<E> es = null;
-        private Base<E> base = null;
+        public PredicateBuilder()
+        {
+        }
 
-        public PredicateBuilder(EntityService<E> es, Base<E> base)
+        /**
+         * Per-query state of the (stateless) PredicateBuilder - service configuration, EntityManager of the query &amp; optional parameter binder of query-plan template
+         * NOTICE: dialect &amp; function registry are resolved from EntityManager that builds the query (NOT from default EntityManager of the service)
+         */
+        private record PredicateContext<E>(EntityService<E> es, EntityManager em, QueryPlanCache.ParameterBinder parameterBinder)
         {
-            this.es = es;
-            this.base = base;
         }
 
-        private <T> Predicate createPredicate(CriteriaBuilder cb, CriteriaQuery<?> query, Class<T> rootEntity, QueryExpression.LogicOperator logicOperator, QueryExpression.CompoundFilter... condFilters)
+        private <T> Predicate createPredicate(PredicateContext<E> context, CriteriaBuilder cb, CriteriaQuery<?> query, Class<T> rootEntity, QueryExpression.LogicOperator logicOperator, QueryExpression.CompoundFilter... condFilters)
         {
             Predicate condPredicate = null;
 
@@ -833,9 +2149,9 @@ public interface EntityService<E>
                 QueryExpression.LogicOperator condOperator = condFilter.getLogicOperator();
 
                 QueryExpression.Filter<?>[] simpleFilterArray = (condFilter.getFilters() != null) ? condFilter.getFilters().toArray(new QueryExpression.Filter[0]) : null;
-                Predicate simpleFilters = this.createPredicate(cb, query, rootEntity, condOperator, simpleFilterArray);
+                Predicate simpleFilters = this.createPredicate(context, cb, query, rootEntity, condOperator, simpleFilterArray);
                 QueryExpression.CompoundFilter[] complexFilterArray = (condFilter.getCompoundFilters() != null) ? condFilter.getCompoundFilters().toArray(new QueryExpression.CompoundFilter[0]) : null;
-                Predicate complexSubFilters = this.createPredicate(cb, query, rootEntity, condOperator, complexFilterArray);
+                Predicate complexSubFilters = this.createPredicate(context, cb, query, rootEntity, condOperator, complexFilterArray);
                 Predicate complexPredicate = PredicateUtil.combinePredicates(cb, simpleFilters, complexSubFilters, condOperator);
 
                 condPredicate = PredicateUtil.combinePredicates(cb, condPredicate, complexPredicate, logicOperator);
@@ -844,27 +2160,27 @@ public interface EntityService<E>
             return condPredicate;
         }
 
-        private <T extends Comparable<? super T>> Predicate createPredicate(CriteriaBuilder cb, CriteriaQuery<?> query, Class<?> rootEntity, QueryExpression.LogicOperator logicOperator, QueryExpression.Filter<?>... filters)
+        private <T extends Comparable<? super T>> Predicate createPredicate(PredicateContext<E> context, CriteriaBuilder cb, CriteriaQuery<?> query, Class<?> rootEntity, QueryExpression.LogicOperator logicOperator, QueryExpression.Filter<?>... filters)
         {
             Predicate filterPredicate = null;
 
             for(QueryExpression.Filter<T> f : ArrayUtils.nullToEmpty(filters, QueryExpression.Filter[].class))
             {
-                Predicate p = this.createPredicate(cb, query, rootEntity, f);
+                Predicate p = this.createPredicate(context, cb, query, rootEntity, f);
                 filterPredicate = PredicateUtil.combinePredicates(cb, filterPredicate, p, logicOperator);
             }
 
             return filterPredicate;
         }
 
-        private <T extends Comparable<? super T>> Predicate createPredicate(CriteriaBuilder cb, CriteriaQuery<?> query, Class<?> rootEntity, QueryExpression.Filter<T> filter)
+        private <T extends Comparable<? super T>> Predicate createPredicate(PredicateContext<E> context, CriteriaBuilder cb, CriteriaQuery<?> query, Class<?> rootEntity, QueryExpression.Filter<T> filter)
         {
             Predicate filterPredicate = null;
 
             //logger.info(String.format("%s - ADD new Filter: %s", EntityService.class.getSimpleName(), filter.toString()));
             //String entityPathString = this.removeLastItemFromPath(filter.getColumnPath());
             //Path<?> path = this.findFromPath(query.getRoots(), filter.getEntity(), entityPathString);
-            //Predicate p = this.createPredicateFromEntityPath(cb, path, filter);
+            //Predicate p = this.createPredicateFromEntityPath(context, cb, path, filter);
 
             Path<T> fieldPath = null;
             if(EntityService.subqueryComparators.contains(filter.getCompareOperator()))
@@ -898,11 +2214,78 @@ public interface EntityService<E>
             }
 
             //filterPredicate = PredicateBuilder.createPredicate(cb, query fieldPath, filter);
-            filterPredicate = this.createFilterPredicate(cb, query, fieldPath, filter); //create predicate using AttributeMapper resolver
+            filterPredicate = this.createFilterPredicate(context, cb, query, fieldPath, filter); //create predicate using AttributeMapper resolver
 
             return filterPredicate;
         }
 
+        /**
+         * Method builds keyset (seek) predicate which selects rows positioned after the last row of previous page
+         * Row-value comparison (a, b) &gt; (x, y) is expanded to portable form: (a &gt; x) OR (a = x AND b &gt; y)
+         * @param cb target CriteriaBuilder object (used for JPA Criteria query)
+         * @param query target CriteriaQuery (sort columns are resolved from its roots/joins)
+         * @param rootEntity query root entity (base for sort column paths)
+         * @param sorts ordered list of sort columns (last one must be unique tie-breaker)
+         * @param lastValues sort column values of the last row from previous page
+         * @return built JPA Predicate used for JPA Criteria builder query
+         */
+        private Predicate createKeysetPredicate(PredicateContext<E> context, CriteriaBuilder cb, CriteriaQuery<?> query, Class<?> rootEntity, List<QuerySort> sorts, String[] lastValues)
+        {
+            Predicate keysetPredicate = null;
+
+            for(int i = 0; i < sorts.size(); i++)
+            {
+                QuerySort sort = sorts.get(i);
+                if(sort.getSortType() != null) throw new IllegalArgumentException(String.format("Keyset pagination does NOT support sorting with type conversion: %s!", sort.getColumnEntityPath().getValue()));
+
+                Predicate seekPredicate = this.createKeysetSeekPredicate(context, cb, query, rootEntity, sort, lastValues[i]);
+                if(seekPredicate == null) continue; //nothing sorts after NULL value
+
+                //NOTICE: new predicate objects are created for every disjunction (criteria nodes are not reused in query tree)
+                Predicate equalPrefix = null;
+                for(int j = 0; j < i; j++)
+                {
+                    Predicate equalPredicate = this.createKeysetEqualPredicate(context, cb, query, rootEntity, sorts.get(j), lastValues[j]);
+                    equalPrefix = PredicateUtil.combinePredicates(cb, equalPrefix, equalPredicate, QueryExpression.LogicOperator.AND);
+                }
+
+                Predicate disjunction = PredicateUtil.combinePredicates(cb, equalPrefix, seekPredicate, QueryExpression.LogicOperator.AND);
+                keysetPredicate = PredicateUtil.combinePredicates(cb, keysetPredicate, disjunction, QueryExpression.LogicOperator.OR);
+            }
+
+            //NOTICE: no row sorts after the last row (e.g. all NULL values in DESC order) - always-false predicate
+            if(keysetPredicate == null) keysetPredicate = cb.disjunction();
+
+            return keysetPredicate;
+        }
+
+        //NOTICE: NULL sort values are treated as lowest values - matches explicit null-ordering of keyset ORDER BY (see getSorting)
+        private Predicate createKeysetSeekPredicate(PredicateContext<E> context, CriteriaBuilder cb, CriteriaQuery<?> query, Class<?> rootEntity, QuerySort sort, String lastValue)
+        {
+            String columnPath = sort.getColumnEntityPath().getValue();
+            boolean descending = sort.getDirection() == QuerySort.Direction.DESC;
+
+            if(lastValue == null)
+            {
+                return (descending) ? null : this.createPredicate(context, cb, query, rootEntity, new QueryExpression.Filter<String>(rootEntity, columnPath, QueryExpression.CompareOperator.IsNotNULL));
+            }
+
+            QueryExpression.CompareOperator seekOperator = (descending) ? QueryExpression.CompareOperator.LT : QueryExpression.CompareOperator.GT;
+            Predicate seekPredicate = this.createPredicate(context, cb, query, rootEntity, new QueryExpression.Filter<String>(rootEntity, columnPath, seekOperator, lastValue));
+            if(descending) seekPredicate = cb.or(seekPredicate, this.createPredicate(context, cb, query, rootEntity, new QueryExpression.Filter<String>(rootEntity, columnPath, QueryExpression.CompareOperator.IsNULL)));
+
+            return seekPredicate;
+        }
+
+        private Predicate createKeysetEqualPredicate(PredicateContext<E> context, CriteriaBuilder cb, CriteriaQuery<?> query, Class<?> rootEntity, QuerySort sort, String lastValue)
+        {
+            String columnPath = sort.getColumnEntityPath().getValue();
+
+            return (lastValue != null)
+                    ? this.createPredicate(context, cb, query, rootEntity, new QueryExpression.Filter<String>(rootEntity, columnPath, QueryExpression.CompareOperator.EQ, lastValue))
+                    : this.createPredicate(context, cb, query, rootEntity, new QueryExpression.Filter<String>(rootEntity, columnPath, QueryExpression.CompareOperator.IsNULL));
+        }
+
         /**
          * Method resolves & updates Filter.values for applied EntityService.AttributeMapper
          * @param cb target CriteriaBuilder object (used for JPA Criteria query)
@@ -912,7 +2295,7 @@ public interface EntityService<E>
          * @param <T>
          * @return built JPA Predicate used for JPA Criteria builder query
          */
-        private <T extends Comparable<? super T>> Predicate createFilterPredicate(CriteriaBuilder cb, CriteriaQuery<?> query, Path<? extends T> filterColumn, QueryExpression.Filter<T> filter)
+        private <T extends Comparable<? super T>> Predicate createFilterPredicate(PredicateContext<E> context, CriteriaBuilder cb, CriteriaQuery<?> query, Path<? extends T> filterColumn, QueryExpression.Filter<T> filter)
         {
             Predicate filterPredicate = null;
 
@@ -926,7 +2309,7 @@ public interface EntityService<E>
             if(convertAnnot != null && AttributeMapper.class.isAssignableFrom(convertAnnot.converter()) && !convertAnnot.disableConversion())
             {
                 Class<?> converterClazz = convertAnnot.converter();
-                if(es.isLoggingEnabled()) logger.info(String.format("Converting filter to its mapped DB values: %s", filter));
+                if(context.es().isLoggingEnabled()) logger.info(String.format("Converting filter to its mapped DB values: %s", filter));
 
                 try
                 {
@@ -949,46 +2332,46 @@ public interface EntityService<E>
                             //QueryExpression.Filter<T> defaultFilter = new QueryExpression.Filter(filter.getEntity(), filter.getColumnPath(), filter.getCompareOperator(), filter.getValueModifier(), attributeMapper.convertToDatabaseValue(attributeMapper.getDefaultValue()));
                             //if(this.isLoggingEnabled()) logger.info(String.format("Converted value '%s' to value: %s", val, defaultFilter));
                             QueryExpression.Filter<T> allMappedFilter = new QueryExpression.Filter(filter.getRootEntity(), filter.getColumnEntityPath().getValue(), filter.getCompareOperator(), filter.getValueModifier(), attributeMapper.getAllMappedValues());
-                            if(es.isLoggingEnabled()) logger.info(String.format("Converted value '%s' to NOT values: %s", val, allMappedFilter));
+                            if(context.es().isLoggingEnabled()) logger.info(String.format("Converted value '%s' to NOT values: %s", val, allMappedFilter));
 
-                            //Predicate pDefault = this.createPredicate(cb, query, filterColumn, defaultFilter);
-                            Predicate pNotMapped = this.createPredicate(cb, query, filterColumn, allMappedFilter).not();
+                            //Predicate pDefault = this.createPredicate(context, cb, query, filterColumn, defaultFilter);
+                            Predicate pNotMapped = this.createPredicate(context, cb, query, filterColumn, allMappedFilter).not();
                             //Predicate pDefaultOrNotMapped = cb.or(pDefault, pNotMapped);
                             filterPredicate = PredicateUtil.combinePredicates(cb, filterPredicate, pNotMapped, QueryExpression.LogicOperator.OR);
                         }
                         else
                         {
                             QueryExpression.Filter<T> mappedFilter = new QueryExpression.Filter(filter.getRootEntity(), filter.getColumnEntityPath().getValue(), filter.getCompareOperator(), filter.getValueModifier(), attributeMapper.mapToDatabaseValues(val));
-                            if(es.isLoggingEnabled()) logger.info(String.format("Converted value '%s' to values: %s", val, mappedFilter));
+                            if(context.es().isLoggingEnabled()) logger.info(String.format("Converted value '%s' to values: %s", val, mappedFilter));
 
-                            Predicate pMapped = this.createPredicate(cb, query, filterColumn, mappedFilter);
+                            Predicate pMapped = this.createPredicate(context, cb, query, filterColumn, mappedFilter);
                             filterPredicate = PredicateUtil.combinePredicates(cb, filterPredicate, pMapped, QueryExpression.LogicOperator.OR);
                         }
                     }
                 }
                 catch(NoSuchMethodException | IllegalAccessException | InstantiationException | InvocationTargetException ex)
                 {
-                    filterPredicate = this.createPredicate(cb, query, filterColumn, filter);
+                    filterPredicate = this.createPredicate(context, cb, query, filterColumn, filter);
                     logger.log(Level.WARNING, String.format("Could not obtain instance of %s class - using original filter: %s", converterClazz.getSimpleName(), filter), ex);
                 }
             }
             else    //NOTICE: default flow (fields without custom mapper)
             {
-                filterPredicate = this.createPredicate(cb, query, filterColumn, filter);
+                filterPredicate = this.createPredicate(context, cb, query, filterColumn, filter);
             }
 
             return filterPredicate;
         }
 
-        private <T extends Comparable<? super T>> Predicate createPredicateFromEntityPath(CriteriaBuilder cb, CriteriaQuery<?> query, Path<?> entityPath, QueryExpression.Filter<T> filter)
+        private <T extends Comparable<? super T>> Predicate createPredicateFromEntityPath(PredicateContext<E> context, CriteriaBuilder cb, CriteriaQuery<?> query, Path<?> entityPath, QueryExpression.Filter<T> filter)
         {
             String columnName = ReflectionHelper.getFieldNameFromPath(filter.getColumnEntityPath().getValue());
             Path<? extends T> filterColumn = entityPath.get(columnName);
 
-            return this.createPredicate(cb, query, filterColumn, filter);
+            return this.createPredicate(context, cb, query, filterColumn, filter);
         }
 
-        private <T extends Comparable<? super T>> Predicate createPredicate(CriteriaBuilder cb, CriteriaQuery<?> query, Path<? extends T> filterColumn, QueryExpression.Filter<T> filter)
+        private <T extends Comparable<? super T>> Predicate createPredicate(PredicateContext<E> context, CriteriaBuilder cb, CriteriaQuery<?> query, Path<? extends T> filterColumn, QueryExpression.Filter<T> filter)
         {
             Predicate p = null;
 
@@ -997,6 +2380,7 @@ public interface EntityService<E>
             if(comparator == null) throw new RuntimeException(String.format("Filter (%s) - QueryExpression.Filter.Cmp must NOT be null!", filter.toString()));
 
             Expression<? extends T> cmpFilterColumn = filterColumn;
+            CollectionSubquery<T> collectionSubquery = null;
             Subquery<Long> subquery = null;
 
             //convert filter column to comparison type
@@ -1004,7 +2388,7 @@ public interface EntityService<E>
             {
                 cmpFilterColumn = (Expression<? extends T>) filterColumn.as(Boolean.class);
             }
-            else if(comparator == QueryExpression.CompareOperator.LIKE && !String.class.isAssignableFrom(filterColumn.getJavaType()))
+            else if((comparator == QueryExpression.CompareOperator.LIKE || comparator == QueryExpression.CompareOperator.SEARCH) && !String.class.isAssignableFrom(filterColumn.getJavaType()))
             {
                 cmpFilterColumn = (Expression<? extends T>) filterColumn.as(String.class);
             }
@@ -1012,9 +2396,9 @@ public interface EntityService<E>
             {
                 //NOTICE: filterColumn is "fictional-query" Path on subqueryComparators types (consistency & value cast/parse purpose only)
                 //NOTICE: filterColumn is replaced with "correct-subquery" Path in generateCountSubquery() method
-                Map.Entry<Subquery<Long>, Path<? extends T>> subqueryPathEntry = this.generateCountSubquery(cb, query, filterColumn, filter);
-                subquery = subqueryPathEntry.getKey();
-                cmpFilterColumn = subqueryPathEntry.getValue();
+                collectionSubquery = this.generateCountSubquery(context, cb, query, filterColumn, filter);
+                subquery = collectionSubquery.subquery();
+                cmpFilterColumn = collectionSubquery.filterColumn();
             }
 
             //convert filter values to comparison type
@@ -1031,6 +2415,22 @@ public interface EntityService<E>
                 filter.setValue((T[]) values);
             }
 
+            //NOTICE: multi-value filters are bound as padded IN-list or single array value (by value count)
+            Object[] cmpValues = filter.getValue();
+            boolean arrayBinding = false;
+            if(EntityService.valueComparators.contains(comparator) && InListStrategy.isInListComparator(comparator) && ArrayUtils.isNotEmpty(cmpValues))
+            {
+                InListStrategy inListStrategy = context.es().getInListStrategy();
+                arrayBinding = inListStrategy.isArrayBinding(context.em(), comparator, cmpValues.length);
+                cmpValues = inListStrategy.resolveValues(context.em(), comparator, cmpFilterColumn.getJavaType(), cmpValues);
+            }
+
+            //NOTICE: query-plan template replaces filter values with named parameters (bound per request)
+            if(context.parameterBinder() != null && EntityService.valueComparators.contains(comparator))
+            {
+                cmpValues = context.parameterBinder().bindParameters(cb, filter, cmpFilterColumn.getJavaType(), cmpValues);
+            }
+
             switch(comparator)
             {
                 case TRUE:
@@ -1072,10 +2472,11 @@ public interface EntityService<E>
                 case EQ:
                 {
                     Predicate eq = null;
-                    for(Comparable<?> val : filter.getValue())
+                    for(Object val : cmpValues)
                     {
-                        if(eq == null) eq = cb.equal(cmpFilterColumn, val);
-                        else eq = cb.or(eq, cb.equal(cmpFilterColumn, val));
+                        Predicate valEq = (val instanceof Expression) ? cb.equal(cmpFilterColumn, (Expression<?>) val) : cb.equal(cmpFilterColumn, val);
+                        if(eq == null) eq = valEq;
+                        else eq = cb.or(eq, valEq);
                     }
                     p = eq;
                     break;
@@ -1084,10 +2485,11 @@ public interface EntityService<E>
                 case NEQ:
                 {
                     Predicate neq = null;
-                    for(Comparable<?> val : filter.getValue())
+                    for(Object val : cmpValues)
                     {
-                        if(neq == null) neq = cb.notEqual(cmpFilterColumn, val);
-                        else neq = cb.or(neq, cb.notEqual(cmpFilterColumn, val));
+                        Predicate valNeq = (val instanceof Expression) ? cb.notEqual(cmpFilterColumn, (Expression<?>) val) : cb.notEqual(cmpFilterColumn, val);
+                        if(neq == null) neq = valNeq;
+                        else neq = cb.or(neq, valNeq);
                     }
                     //NOTICE: non-existing join value could not be resolved with not-equals (results as false)
                     //SOLUTION: non-existing left-join OR not-equals value
@@ -1098,22 +2500,39 @@ public interface EntityService<E>
                 case LIKE:
                 {
                     Predicate like = null;
-                    for(Comparable<?> val : filter.getValue())
+                    for(Object val : cmpValues)
                     {
-                        if(like == null) like = cb.like((Expression<String>) cmpFilterColumn, String.valueOf(val));
-                        else like = cb.or(like, cb.like((Expression<String>) cmpFilterColumn, String.valueOf(val)));
+                        Predicate valLike = (val instanceof Expression) ? cb.like((Expression<String>) cmpFilterColumn, (Expression<String>) val) : cb.like((Expression<String>) cmpFilterColumn, String.valueOf(val));
+                        if(like == null) like = valLike;
+                        else like = cb.or(like, valLike);
                     }
                     p = like;
                     break;
                 }
 
+                case SEARCH:    //full-text search (SearchMode.FULL_TEXT)
+                {
+                    SearchProvider searchProvider = context.es().getSearchProvider();
+                    Predicate search = null;
+                    for(Object val : cmpValues)
+                    {
+                        Expression<String> searchValue = (val instanceof Expression) ? (Expression<String>) val : cb.literal(String.valueOf(val));
+                        Predicate valSearch = searchProvider.createSearchPredicate(context.em(), cb, (Expression<String>) cmpFilterColumn, searchValue);
+                        if(search == null) search = valSearch;
+                        else search = cb.or(search, valSearch);
+                    }
+                    p = search;
+                    break;
+                }
+
                 case GT:
                 {
                     Predicate gt = null;
-                    for(Comparable<?> val : filter.getValue())
+                    for(Object val : cmpValues)
                     {
-                        if(gt == null) gt = cb.greaterThan(cmpFilterColumn, (T) val);
-                        else gt = cb.or(gt, cb.greaterThan(cmpFilterColumn, (T) val));
+                        Predicate valGt = (val instanceof Expression) ? cb.greaterThan(cmpFilterColumn, (Expression<? extends T>) val) : cb.greaterThan(cmpFilterColumn, (T) val);
+                        if(gt == null) gt = valGt;
+                        else gt = cb.or(gt, valGt);
                     }
                     p = gt;
                     break;
@@ -1122,10 +2541,11 @@ public interface EntityService<E>
                 case GToE:
                 {
                     Predicate gte = null;
-                    for(Comparable<?> val : filter.getValue())
+                    for(Object val : cmpValues)
                     {
-                        if(gte == null) gte = cb.greaterThanOrEqualTo(cmpFilterColumn, (T) val);
-                        else gte = cb.or(gte, cb.greaterThanOrEqualTo(cmpFilterColumn, (T) val));
+                        Predicate valGte = (val instanceof Expression) ? cb.greaterThanOrEqualTo(cmpFilterColumn, (Expression<? extends T>) val) : cb.greaterThanOrEqualTo(cmpFilterColumn, (T) val);
+                        if(gte == null) gte = valGte;
+                        else gte = cb.or(gte, valGte);
                     }
                     p = gte;
                     break;
@@ -1134,10 +2554,11 @@ public interface EntityService<E>
                 case LT:
                 {
                     Predicate lt = null;
-                    for(Comparable<?> val : filter.getValue())
+                    for(Object val : cmpValues)
                     {
-                        if(lt == null) lt = cb.lessThan(cmpFilterColumn, (T) val);
-                        else lt = cb.or(lt, cb.lessThan(cmpFilterColumn, (T) val));
+                        Predicate valLt = (val instanceof Expression) ? cb.lessThan(cmpFilterColumn, (Expression<? extends T>) val) : cb.lessThan(cmpFilterColumn, (T) val);
+                        if(lt == null) lt = valLt;
+                        else lt = cb.or(lt, valLt);
                     }
                     p = lt;
                     break;
@@ -1146,10 +2567,11 @@ public interface EntityService<E>
                 case LToE:
                 {
                     Predicate lte = null;
-                    for(Comparable<?> val : filter.getValue())
+                    for(Object val : cmpValues)
                     {
-                        if(lte == null) lte = cb.lessThanOrEqualTo(cmpFilterColumn, (T) val);
-                        else lte = cb.or(lte, cb.lessThanOrEqualTo(cmpFilterColumn, (T) val));
+                        Predicate valLte = (val instanceof Expression) ? cb.lessThanOrEqualTo(cmpFilterColumn, (Expression<? extends T>) val) : cb.lessThanOrEqualTo(cmpFilterColumn, (T) val);
+                        if(lte == null) lte = valLte;
+                        else lte = cb.or(lte, valLte);
                     }
                     p = lte;
                     break;
@@ -1159,15 +2581,13 @@ public interface EntityService<E>
                 {
                     if(ArrayUtils.isNotEmpty(filter.getValue()))
                     {
-                        CriteriaBuilder.In<Comparable<?>> in = cb.in(cmpFilterColumn);
-                        Arrays.stream(filter.getValue()).forEach(in::value);
-                        p = in;
+                        p = context.es().getInListStrategy().createInPredicate(cb, cmpFilterColumn, cmpValues, arrayBinding);
                     }
                     else
                     {
                         //NOTICE: empty IN will fail as SQL syntax error
                         //SOLUTION: always false statement
-                        p = cb.isNull(Core.findEntityRootPath(query.getRoots(), es.getEntityClass()));
+                        p = cb.isNull(Core.findEntityRootPath(query.getRoots(), context.es().getEntityClass()));
                     }
                     break;
                 }
@@ -1176,15 +2596,13 @@ public interface EntityService<E>
                 {
                     if(ArrayUtils.isNotEmpty(filter.getValue()))
                     {
-                        CriteriaBuilder.In<Comparable<?>> notIn = cb.in(cmpFilterColumn);
-                        Arrays.stream(filter.getValue()).forEach(notIn::value);
-                        p = notIn.not();
+                        p = cb.not(context.es().getInListStrategy().createInPredicate(cb, cmpFilterColumn, cmpValues, arrayBinding));
                     }
                     else
                     {
                         //NOTICE: empty NOT-IN will fail as SQL syntax error
                         //SOLUTION: always true statement
-                        p = cb.isNotNull(Core.findEntityRootPath(query.getRoots(), es.getEntityClass()));
+                        p = cb.isNotNull(Core.findEntityRootPath(query.getRoots(), context.es().getEntityClass()));
                     }
                     break;
                 }
@@ -1192,28 +2610,35 @@ public interface EntityService<E>
                 case EACH: //every/each listed
                 //case EVERY:
                 {
-                    CriteriaBuilder.In<Comparable<?>> subqueryIn = cb.in(cmpFilterColumn);
-                    Arrays.stream(filter.getValue()).forEach(subqueryIn::value);
+                    //NOTICE: both strategies match distinct values - duplicate values (in collection or in filter) are NOT counted twice
+                    long distinctValues = (ArrayUtils.isNotEmpty(filter.getValue())) ? Arrays.stream(filter.getValue()).distinct().count() : 0L;
+                    if(distinctValues > 0 && this.isSemiJoinStrategy(context))   //NOTICE: empty values keep COUNT semantics (every row matches)
+                    {
+                        p = this.createGroupSemiJoin(context, cb, query, collectionSubquery, cmpValues, arrayBinding, distinctValues);
+                        break;
+                    }
+
+                    Predicate subqueryIn = context.es().getInListStrategy().createInPredicate(cb, cmpFilterColumn, cmpValues, arrayBinding);
 
                     List<Expression<?>> subqueryPredicates = new ArrayList<>(subquery.getRestriction().getExpressions());
                     subqueryPredicates.add(subqueryIn);
                     subquery.where(subqueryPredicates.toArray(new Predicate[]{}));
+                    subquery.select(cb.countDistinct(cmpFilterColumn));
 
-                    p = cb.equal(subquery, cb.literal(filter.getValue().length));
+                    p = cb.equal(subquery, cb.literal(distinctValues));
                     break;
                 }
 
                 case NotEACH: //none listed
                 //case NotEVERY:
                 {
-                    CriteriaBuilder.In<Comparable<?>> subqueryIn = cb.in(cmpFilterColumn);
-                    Arrays.stream(filter.getValue()).forEach(subqueryIn::value);
+                    Predicate subqueryIn = context.es().getInListStrategy().createInPredicate(cb, cmpFilterColumn, cmpValues, arrayBinding);
 
                     List<Expression<?>> subqueryPredicates = new ArrayList<>(subquery.getRestriction().getExpressions());
                     subqueryPredicates.add(subqueryIn);
                     subquery.where(subqueryPredicates.toArray(new Predicate[]{}));
 
-                    p = cb.equal(subquery, cb.literal(0L));
+                    p = (this.isSemiJoinStrategy(context)) ? cb.not(cb.exists(subquery.select(cb.literal(1L)))) : cb.equal(subquery, cb.literal(0L));
                     break;
                 }
 
@@ -1221,28 +2646,26 @@ public interface EntityService<E>
                 //case AnyEXCEPT:
                 //case SomeEXCEPT:
                 {
-                    CriteriaBuilder.In<Comparable<?>> subqueryIn = cb.in(cmpFilterColumn);
-                    Arrays.stream(filter.getValue()).forEach(subqueryIn::value);
+                    Predicate subqueryIn = context.es().getInListStrategy().createInPredicate(cb, cmpFilterColumn, cmpValues, arrayBinding);
 
                     List<Expression<?>> subqueryPredicates = new ArrayList<>(subquery.getRestriction().getExpressions());
-                    subqueryPredicates.add(subqueryIn.not());
+                    subqueryPredicates.add(cb.not(subqueryIn));
                     subquery.where(subqueryPredicates.toArray(new Predicate[]{}));
 
-                    p = cb.greaterThan(subquery, cb.literal(0L));
+                    p = (this.isSemiJoinStrategy(context)) ? cb.exists(subquery.select(cb.literal(1L))) : cb.greaterThan(subquery, cb.literal(0L));
                     break;
                 }
 
                 case NotEXCEPT: //none except listed
                 //case NoneEXCEPT:
                 {
-                    CriteriaBuilder.In<Comparable<?>> subqueryIn = cb.in(cmpFilterColumn);
-                    Arrays.stream(filter.getValue()).forEach(subqueryIn::value);
+                    Predicate subqueryIn = context.es().getInListStrategy().createInPredicate(cb, cmpFilterColumn, cmpValues, arrayBinding);
 
                     List<Expression<?>> subqueryPredicates = new ArrayList<>(subquery.getRestriction().getExpressions());
-                    subqueryPredicates.add(subqueryIn.not());
+                    subqueryPredicates.add(cb.not(subqueryIn));
                     subquery.where(subqueryPredicates.toArray(new Predicate[]{}));
 
-                    p = cb.equal(subquery, cb.literal(0L));
+                    p = (this.isSemiJoinStrategy(context)) ? cb.not(cb.exists(subquery.select(cb.literal(1L)))) : cb.equal(subquery, cb.literal(0L));
                     break;
                 }
 
@@ -1251,7 +2674,7 @@ public interface EntityService<E>
 
                 //case ANY: //'IN' comparator alternative with subquery
                 //{
-                //    Subquery<Long> subquery = this.generateCountSubquery(cb, query, filterColumn, filter);
+                //    Subquery<Long> subquery = this.generateCountSubquery(context, cb, query, filterColumn, filter);
                 //    p = cb.greaterThan(subquery, cb.literal(0L));
                 //    break;
                 //}
@@ -1267,7 +2690,7 @@ public interface EntityService<E>
             return p;
         }
 
-        private <T extends Comparable<? super T>> Map.Entry<Subquery<Long>, Path<? extends T>> generateCountSubquery(CriteriaBuilder cb, CriteriaQuery<?> query, Path<? extends T> filterColumn, QueryExpression.Filter<T> filter)
+        private <T extends Comparable<? super T>> CollectionSubquery<T> generateCountSubquery(PredicateContext<E> context, CriteriaBuilder cb, CriteriaQuery<?> query, Path<? extends T> filterColumn, QueryExpression.Filter<T> filter)
         {
             //Root root = Core.findRootPath(query.getRoots(), this.getEntityClass());
             //Path<?> parentFilterPath = filterColumn.getParentPath();
@@ -1275,7 +2698,7 @@ public interface EntityService<E>
 
             String filterEntityPath = ReflectionHelper.getPathWithoutLastItem(filter.getColumnEntityPath().getValue());
             String filterEntityParentPath = ReflectionHelper.getPathWithoutLastItem(filterEntityPath);
-            Class<?> filterEntityParentType = es.getEntityClass(); //grandparentFilterPath.getJavaType();
+            Class<?> filterEntityParentType = context.es().getEntityClass(); //grandparentFilterPath.getJavaType();
             if(filterEntityParentPath != null)
             {
                 Optional<Field> filterEntityParentField = ReflectionHelper.findFieldByPath(filterEntityParentType, filterEntityParentPath);
@@ -1306,7 +2729,41 @@ public interface EntityService<E>
             subquery.where(Collections.singletonList(queryJoinRestriction).toArray(new Predicate[]{}));
             subquery.select(cb.count(filterEntityJoinPath)); //subquery.select(filterColumn);
 
-            return new AbstractMap.SimpleImmutableEntry<>(subquery, filterColumn);
+            return new CollectionSubquery<>(subquery, filterColumn, grandparentFilterPath, joinEntity, joinColumnName, columnName);
+        }
+
+        private boolean isSemiJoinStrategy(PredicateContext<E> context)
+        {
+            SubqueryStrategy subqueryStrategy = context.es().getSubqueryStrategy();
+            if(subqueryStrategy == SubqueryStrategy.DIALECT) return EsUtil.supportsSemiJoinStrategy(context.em());
+
+            return subqueryStrategy == SubqueryStrategy.SEMI_JOIN;
+        }
+
+        //NOTICE: EACH semi-join is uncorrelated subquery (evaluated once) - parent ids having all listed values: parent.id IN (SELECT p.id ... GROUP BY p.id HAVING COUNT(DISTINCT column) = n)
+        private <T> Predicate createGroupSemiJoin(PredicateContext<E> context, CriteriaBuilder cb, CriteriaQuery<?> query, CollectionSubquery<T> collectionSubquery, Object[] cmpValues, boolean arrayBinding, long distinctValues)
+        {
+            EntityType<?> joinEntityType = context.em().getMetamodel().entity(collectionSubquery.joinEntity());
+            String idName = joinEntityType.getId(joinEntityType.getIdType().getJavaType()).getName();
+
+            Subquery<Object> groupSubquery = query.subquery(Object.class);
+            Root<?> parentRoot = groupSubquery.from(collectionSubquery.joinEntity());
+            Path<Object> idPath = parentRoot.get(idName);
+            Path<?> column = parentRoot.join(collectionSubquery.joinColumnName()).get(collectionSubquery.columnName());
+
+            groupSubquery.select(idPath)
+                    .where(context.es().getInListStrategy().createInPredicate(cb, column, cmpValues, arrayBinding))
+                    .groupBy(idPath)
+                    .having(cb.equal(cb.countDistinct(column), cb.literal(distinctValues)));
+
+            return cb.in(collectionSubquery.outerPath().get(idName)).value(groupSubquery);
+        }
+
+        /**
+         * Correlated count-subquery of the to-many filter column (subquery comparators) &amp; paths of the collection join (semi-join strategy)
+         */
+        private record CollectionSubquery<T>(Subquery<Long> subquery, Path<? extends T> filterColumn, Path<?> outerPath, Class<?> joinEntity, String joinColumnName, String columnName)
+        {
         }
     }
 
@@ -1343,6 +2800,11 @@ public interface EntityService<E>
             return query;
         }
 
+        private static <T> CriteriaQuery<T> copyQuery(CriteriaQuery<T> orgQuery)
+        {
+            return ((SqmSelectStatement<T>) orgQuery).copy(SqmCopyContext.simpleContext());
+        }
+
         private static CriteriaQuery<Tuple> replicateTupleQuery(CriteriaBuilder cb, CriteriaQuery<?> orgQuery)
         {
             CriteriaQuery<Tuple> query = cb.createTupleQuery();
@@ -1444,6 +2906,25 @@ public interface EntityService<E>
             else return Core.rootsContainJoinToMany(query.getRoots());
         }
 
+        private static <E> boolean queryContainsFetchToMany(CriteriaQuery<E> query)
+        {
+            return Core.fetchesContainJoinToMany(new ArrayList<>(query.getRoots()));
+        }
+
+        private static boolean fetchesContainJoinToMany(Collection<? extends FetchParent<?, ?>> fetchParents)
+        {
+            for(FetchParent<?, ?> fp : fetchParents)
+            {
+                for(Fetch<?, ?> f : fp.getFetches())
+                {
+                    if(f.getAttribute().isCollection()) return true;
+                    if(f instanceof FetchParent && Core.fetchesContainJoinToMany(Collections.singletonList((FetchParent<?, ?>) f))) return true;
+                }
+            }
+
+            return false;
+        }
+
         private static boolean rootsContainJoinToMany(Set<? extends From<?, ?>> froms)
         {
             boolean joinToMany = false;
@@ -1891,6 +3372,12 @@ public interface EntityService<E>
 
             return predicate;
         }
+
+        private static void addInValue(CriteriaBuilder.In<Comparable<?>> in, Object value)
+        {
+            if(value instanceof Expression) in.value((Expression<? extends Comparable<?>>) value);
+            else in.value((Comparable<?>) value);
+        }
     }
 
     /**
@@ -1898,6 +3385,9 @@ public interface EntityService<E>
      */
     public static class EsUtil
     {
+        private static final ThreadLocal<Boolean> QUERY_EXECUTOR_THREAD = new ThreadLocal<>();
+        static final Executor DEFAULT_QUERY_EXECUTOR = EsUtil.createDefaultQueryExecutor();
+
         public static <E> void logQuery(QueryType queryType, TypedQuery<E> dataQuery, long queryStartTimeNs)
         {
             long queryTimeMs = EsUtil.calculateQueryTimeMs(queryStartTimeNs);
@@ -1919,7 +3409,7 @@ public interface EntityService<E>
             return queryTimeMs;
         }
 
-        private static <T extends Comparable<? super T>> T[] getModValues(QueryExpression.Filter<T> filter)
+        static <T extends Comparable<? super T>> T[] getModValues(QueryExpression.Filter<T> filter)
         {
             switch(filter.getValueModifier())
             {
@@ -1935,7 +3425,7 @@ public interface EntityService<E>
             }
         }
 
-        private static <T> Comparable<?>[] convertValuesToComparable(Class typeClazz, T[] values)
+        static <T> Comparable<?>[] convertValuesToComparable(Class typeClazz, T[] values)
         {
             return Arrays.stream(values).map(v -> EsUtil.convertValueToComparable(typeClazz, v)).toArray(Comparable[]::new);
         }
@@ -1953,7 +3443,381 @@ public interface EntityService<E>
             return (Comparable<?>) value;
         }
 
-        private static String getDistinctValueKey(QueryExpression distinctQuery)
+        private static String convertValueToCursor(Object value)
+        {
+            if(value == null) return null;
+            if(value instanceof Calendar) value = ((Calendar) value).getTime();
+
+            if(value instanceof Date)
+            {
+                //NOTICE: same format pattern is used by Helper.parseValue() when cursor values are parsed back
+                String dateFormatPattern = System.getProperty(ConstantsUtil.ENTITY_SERVICE_DATE_FORMAT_PATTERN, DateTimeFormatUtil.TIMESTAMP_PATTERN_ISO8601);
+                return DateTimeFormatUtil.formatDateTime(dateFormatPattern, (Date) value);
+            }
+
+            if(value instanceof Enum) return ((Enum<?>) value).name();
+
+            return String.valueOf(value);
+        }
+
+        /**
+         * Creates keyset cursor from sort values of the content row
+         * @param row content row (sort values are selected after content columns)
+         * @param sortIndex index of the first sort value
+         * @return encoded keyset cursor
+         */
+        private static String createKeysetCursor(Object[] row, int sortIndex)
+        {
+            return EsUtil.encodeKeysetCursor(Arrays.stream(row, sortIndex, row.length).map(EsUtil::convertValueToCursor).toArray(String[]::new));
+        }
+
+        /**
+         * Checks if field-path (from root entity) contains to-many (collection) attribute
+         * NOTICE: path items which are NOT managed types or attributes (e.g. cross-join) are NOT resolved
+         */
+        private static boolean isToManyPath(Metamodel metamodel, Class<?> rootEntity, String fieldPath)
+        {
+            if(StringUtils.isBlank(fieldPath)) return false;
+
+            Class<?> pathType = rootEntity;
+            for(String pathItem : StringUtils.split(fieldPath, ReflectionHelper.PATH_SEPARATOR))
+            {
+                Attribute<?, ?> attribute = null;
+                try
+                {
+                    attribute = metamodel.managedType(pathType).getAttribute(pathItem);
+                }
+                catch(IllegalArgumentException ex)
+                {
+                    return false;
+                }
+
+                if(attribute.isCollection()) return true;
+                pathType = attribute.getJavaType();
+            }
+
+            return false;
+        }
+
+        private static String encodeKeysetCursor(String[] values)
+        {
+            Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+
+            return Arrays.stream(values)
+                    .map(v -> (v != null) ? encoder.encodeToString(v.getBytes(StandardCharsets.UTF_8)) : EntityService.KEYSET_CURSOR_NULL_VALUE)
+                    .collect(Collectors.joining(EntityService.KEYSET_CURSOR_SEPARATOR));
+        }
+
+        private static String[] decodeKeysetCursor(String cursor)
+        {
+            if(StringUtils.isBlank(cursor)) return null;
+
+            try
+            {
+                Base64.Decoder decoder = Base64.getUrlDecoder();
+
+                return Arrays.stream(cursor.trim().split(Pattern.quote(EntityService.KEYSET_CURSOR_SEPARATOR), -1))
+                        .map(v -> EntityService.KEYSET_CURSOR_NULL_VALUE.equals(v) ? null : new String(decoder.decode(v), StandardCharsets.UTF_8))
+                        .toArray(String[]::new);
+            }
+            catch(IllegalArgumentException ex)
+            {
+                throw new IllegalArgumentException(String.format("Keyset cursor '%s' is NOT valid!", cursor), ex);
+            }
+        }
+
+        //NOTICE: number of concurrently running side-queries (DB connections) is bounded - virtual threads wait for semaphore permits, pool threads for queued tasks
+        private static Executor createDefaultQueryExecutor()
+        {
+            int threads = Integer.getInteger(ConstantsUtil.ENTITY_SERVICE_QUERY_EXECUTOR_THREADS, 10);
+            if(threads <= 0) throw new IllegalArgumentException(String.format("EntityService query executor threads must be positive: %d", threads));
+
+            //NOTICE: virtual-thread executor is resolved reflectively (available from Java 21) - fixed daemon thread-pool is used otherwise (Java 17)
+            try
+            {
+                Method virtualThreadExecutor = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+                Executor executor = (Executor) virtualThreadExecutor.invoke(null);
+                Semaphore permits = new Semaphore(threads);
+
+                return runnable -> executor.execute(() ->
+                {
+                    QUERY_EXECUTOR_THREAD.set(true);
+                    permits.acquireUninterruptibly();
+                    try
+                    {
+                        runnable.run();
+                    }
+                    finally
+                    {
+                        permits.release();
+                    }
+                });
+            }
+            catch(ReflectiveOperationException ex)
+            {
+                logger.log(Level.FINE, "Virtual threads are NOT available - fixed thread-pool is used as EntityService query executor", ex);
+            }
+
+            AtomicInteger threadNumber = new AtomicInteger();
+            return Executors.newFixedThreadPool(threads, runnable ->
+            {
+                Thread thread = new Thread(() ->
+                {
+                    QUERY_EXECUTOR_THREAD.set(true);
+                    runnable.run();
+                }, "entity-service-query-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        private static <T> Stream<T> streamScrollableResults(EntityManager em, ScrollableResults<T> scrollableResults, int clearInterval)
+        {
+            Spliterator<T> scrollSpliterator = new Spliterators.AbstractSpliterator<T>(Long.MAX_VALUE, Spliterator.ORDERED)
+            {
+                private long rowCount = 0;
+
+                @Override
+                public boolean tryAdvance(Consumer<? super T> action)
+                {
+                    //NOTICE: persistence context is cleared before next batch of rows (previously streamed entities are detached)
+                    if(this.rowCount > 0 && this.rowCount % clearInterval == 0) em.clear();
+                    if(!scrollableResults.next()) return false;
+
+                    this.rowCount++;
+                    action.accept(scrollableResults.get());
+                    return true;
+                }
+            };
+
+            return StreamSupport.stream(scrollSpliterator, false).onClose(scrollableResults::close);
+        }
+
+        /**
+         * Sets read-only session (entities are loaded read-only &amp; session is NOT flushed) of own EntityManager
+         * Resource-local transaction is started if EntityManager is not joined to transaction - it is rolled back by endReadOnly
+         */
+        private static EntityTransaction beginReadOnly(EntityManager em)
+        {
+            Session session = em.unwrap(Session.class);
+            session.setDefaultReadOnly(true);
+            session.setHibernateFlushMode(FlushMode.MANUAL);
+
+            EntityTransaction transaction = (!em.isJoinedToTransaction()) ? EsUtil.getResourceLocalTransaction(em) : null;
+            if(transaction != null) transaction.begin();
+
+            return transaction;
+        }
+
+        private static void endReadOnly(EntityManager em, EntityTransaction transaction)
+        {
+            try
+            {
+                if(transaction != null && transaction.isActive()) transaction.rollback();  //read-only transaction
+            }
+            finally
+            {
+                em.close();
+            }
+        }
+
+        private static EntityTransaction getResourceLocalTransaction(EntityManager em)
+        {
+            try
+            {
+                return em.getTransaction();
+            }
+            catch(IllegalStateException ex) //JTA EntityManager
+            {
+                return null;
+            }
+        }
+
+        private static <T> CompletableFuture<T> supplyQueryAsync(EntityManagerFactory emf, Executor executor, Function<EntityManager, T> query)
+        {
+            AtomicReference<EntityManager> runningEm = new AtomicReference<>();
+            Supplier<T> querySupplier = () ->
+            {
+                //WARNING: EntityManager is NOT thread-safe - each concurrent query requires separate EntityManager (outside of caller transaction)
+                EntityManager em = emf.createEntityManager();
+                runningEm.set(em);
+                try
+                {
+                    return query.apply(em);
+                }
+                finally
+                {
+                    runningEm.set(null);
+                    em.close();
+                }
+            };
+
+            //NOTICE: nested parallel query of query-executor thread (e.g. parallel batch of parallel data-queries) is executed inline - bounded executor can NOT deadlock
+            if(Boolean.TRUE.equals(QUERY_EXECUTOR_THREAD.get()))
+            {
+                try
+                {
+                    return CompletableFuture.completedFuture(querySupplier.get());
+                }
+                catch(RuntimeException ex)
+                {
+                    return CompletableFuture.failedFuture(ex);
+                }
+            }
+
+            //NOTICE: queued query of cancelled future is NOT executed - running query is cancelled on DB (JDBC Statement.cancel)
+            CompletableFuture<T> queryFuture = CompletableFuture.supplyAsync(querySupplier, executor);
+            queryFuture.whenComplete((result, ex) ->
+            {
+                EntityManager em = runningEm.get();
+                if(queryFuture.isCancelled() && em != null)
+                {
+                    try
+                    {
+                        em.unwrap(Session.class).cancelQuery();
+                    }
+                    catch(RuntimeException cancelEx)
+                    {
+                        logger.log(Level.FINE, "Could NOT cancel running parallel query!", cancelEx);
+                    }
+                }
+            });
+
+            return queryFuture;
+        }
+
+        /**
+         * Waits for all parallel queries - fails fast if any of them fails (remaining queries are cancelled)
+         * @param queryFutures futures of the parallel queries
+         * @param timeoutMs timeout of waiting in milliseconds (0 waits without timeout) - remaining queries are cancelled when it elapses
+         */
+        static void joinAllQueries(Collection<? extends CompletableFuture<?>> queryFutures, long timeoutMs)
+        {
+            CompletableFuture<Void> allFuture = CompletableFuture.allOf(queryFutures.toArray(new CompletableFuture[0]));
+            queryFutures.forEach(queryFuture -> queryFuture.whenComplete((result, ex) ->
+            {
+                if(ex != null) allFuture.completeExceptionally(ex);
+            }));
+
+            try
+            {
+                if(timeoutMs > 0) allFuture.get(timeoutMs, TimeUnit.MILLISECONDS);
+                else allFuture.get();
+            }
+            catch(TimeoutException ex)
+            {
+                EsUtil.cancelQueries(queryFutures);
+                throw new RuntimeException(String.format("Parallel queries did NOT complete within %d ms!", timeoutMs), ex);
+            }
+            catch(InterruptedException ex)
+            {
+                EsUtil.cancelQueries(queryFutures);
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Waiting for parallel queries was interrupted!", ex);
+            }
+            catch(ExecutionException ex)
+            {
+                EsUtil.cancelQueries(queryFutures);
+                if(ex.getCause() instanceof RuntimeException) throw (RuntimeException) ex.getCause();
+                throw new RuntimeException("Parallel query failed!", ex.getCause());
+            }
+        }
+
+        private static void cancelQueries(Collection<? extends CompletableFuture<?>> queryFutures)
+        {
+            queryFutures.forEach(queryFuture -> queryFuture.cancel(true));
+        }
+
+        //NOTICE: query future is already completed (joined by joinAllQueries)
+        static <T> T joinQuery(CompletableFuture<T> queryFuture)
+        {
+            try
+            {
+                return queryFuture.join();
+            }
+            catch(CompletionException ex)
+            {
+                if(ex.getCause() instanceof RuntimeException) throw (RuntimeException) ex.getCause();
+                throw ex;
+            }
+        }
+
+        private static Map<String, Map<Object, Object>> joinQueries(Map<String, CompletableFuture<Map<Object, Object>>> queryFutures)
+        {
+            Map<String, Map<Object, Object>> queryValues = new HashMap<>();
+            for(Map.Entry<String, CompletableFuture<Map<Object, Object>>> queryFuture : queryFutures.entrySet())
+            {
+                queryValues.put(queryFuture.getKey(), EsUtil.joinQuery(queryFuture.getValue()));
+            }
+
+            return queryValues;
+        }
+
+        private static String getIdAttributeName(EntityManager em, Class<?> entity)
+        {
+            EntityType<?> entityType = em.getMetamodel().entity(entity);
+
+            return entityType.getSingularAttributes().stream()
+                    .filter(SingularAttribute::isId)
+                    .map(Attribute::getName)
+                    .findAny().orElseThrow(() -> new RuntimeException(String.format("Single Id attribute NOT FOUND for ENTITY Class: %s!", entity.getSimpleName())));
+        }
+
+        //NOTICE: functions of the FunctionContributor are registered only for supported dialects
+        private static boolean isFunctionRegistered(EntityManager em, String functionName)
+        {
+            try
+            {
+                SessionFactoryImplementor sessionFactory = em.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class);
+                return sessionFactory.getQueryEngine().getSqmFunctionRegistry().findFunctionDescriptor(functionName) != null;
+            }
+            catch(RuntimeException ex)
+            {
+                logger.log(Level.WARNING, String.format("Could NOT resolve registration of the function: %s", functionName), ex);
+                return false;
+            }
+        }
+
+        private static boolean supportsSemiJoinStrategy(EntityManager em)
+        {
+            try
+            {
+                Dialect dialect = em.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect();
+                return dialect instanceof PostgreSQLDialect || dialect instanceof CockroachDialect || dialect instanceof MySQLDialect || dialect instanceof H2Dialect || dialect instanceof HSQLDialect;
+            }
+            catch(RuntimeException ex)
+            {
+                logger.log(Level.WARNING, "Could NOT resolve DB dialect - using COUNT subquery strategy!", ex);
+                return false;
+            }
+        }
+
+        private static boolean supportsUnionAll(EntityManager em)
+        {
+            try
+            {
+                SessionFactoryImplementor sessionFactory = em.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class);
+                return sessionFactory.getJdbcServices().getDialect().supportsUnionAll();
+            }
+            catch(RuntimeException ex)
+            {
+                logger.log(Level.WARNING, "Could NOT resolve DB dialect UNION ALL support - using per-column distinct-queries!", ex);
+                return false;
+            }
+        }
+
+        private static Map<String, Map<Object, Object>> joinBatchQueries(List<CompletableFuture<Map<String, Map<Object, Object>>>> batchFutures)
+        {
+            Map<String, Map<Object, Object>> queryValues = new HashMap<>();
+            for(CompletableFuture<Map<String, Map<Object, Object>>> batchFuture : batchFutures)
+            {
+                queryValues.putAll(EsUtil.joinQuery(batchFuture));
+            }
+
+            return queryValues;
+        }
+
+        static String getDistinctValueKey(QueryExpression distinctQuery)
         {
             String key = distinctQuery.getName();
 
@@ -1970,7 +3834,46 @@ public interface EntityService<E>
             return key;
         }
 
-        private static String getMetaValueKey(QueryExpression metaQuery)
+        /**
+         * Meta-expressions with equal batch key are aggregated by single query (same label columns, filters &amp; distinct flag)
+         */
+        private static String getMetaBatchKey(QueryExpression metaQuery)
+        {
+            //NOTICE: label columns are ignored for entity-count (NULL value column)
+            Pair<Class<?>, String> labelPath = (metaQuery.getValueColumnEntityPath() != null) ? metaQuery.getLabelColumnEntityPath() : null;
+
+            StringBuilder batchKey = new StringBuilder(QueryPlanCache.getEntityPathShape(labelPath));
+            batchKey.append('|').append(metaQuery.isDistinct());
+            if(metaQuery.getFilters() != null)
+            {
+                for(QueryExpression.Filter<?> filter : metaQuery.getFilters())
+                {
+                    batchKey.append('|').append(filter).append(':').append(filter.getValueModifier());
+                }
+            }
+
+            return batchKey.toString();
+        }
+
+        private static int getAggSelectionSize(QueryExpression metaQuery)
+        {
+            return (metaQuery.getValueColumnEntityPath() != null && metaQuery.getFunc() == QueryExpression.Function.AVG) ? 2 : 1;
+        }
+
+        private static int getAggSelectionSize(List<QueryExpression> metaBatch)
+        {
+            return metaBatch.stream().mapToInt(EsUtil::getAggSelectionSize).sum();
+        }
+
+        //NOTICE: label columns are selected only with value column (see buildAggQuery)
+        private static int getLabelSelectionSize(QueryExpression metaQuery)
+        {
+            if(metaQuery.getValueColumnEntityPath() == null || metaQuery.getLabelColumnEntityPath() == null) return 0;
+
+            return metaQuery.getLabelColumnEntityPath().getValue().split(EntityService.LABEL_PATHS_SEPARATOR).length;
+        }
+
+        static String getMetaValueKey(QueryExpression metaQuery)
         {
             String key = metaQuery.getName();
 
@@ -2053,41 +3956,12 @@ public interface EntityService<E>
             return vals;
         }
 
+        //NOTICE: parser is resolved once per type (see ValueParser)
         private static Comparable parseValue(Class clazz, String value)
         {
             try
             {
-                if(Boolean.class.isAssignableFrom(clazz) || boolean.class.isAssignableFrom(clazz)) return Boolean.parseBoolean(value);
-                if(Byte.class.isAssignableFrom(clazz) || byte.class.isAssignableFrom(clazz)) return Byte.parseByte(value);
-                if(Short.class.isAssignableFrom(clazz) || short.class.isAssignableFrom(clazz)) return Short.parseShort(value);
-                if(Integer.class.isAssignableFrom(clazz) || int.class.isAssignableFrom(clazz)) return Integer.parseInt(value);
-                if(Long.class.isAssignableFrom(clazz) || long.class.isAssignableFrom(clazz)) return Long.parseLong(value);
-                if(Float.class.isAssignableFrom(clazz) || float.class.isAssignableFrom(clazz)) return Float.parseFloat(value);
-                if(Double.class.isAssignableFrom(clazz) || double.class.isAssignableFrom(clazz)) return Double.parseDouble(value);
-                //if(clazz.isEnum() || Enum.class.isAssignableFrom(clazz)) return Enum.valueOf(clazz, value);
-                if(clazz.isEnum() || Enum.class.isAssignableFrom(clazz))
-                {
-                    return (Comparable) Arrays.stream(clazz.getEnumConstants())
-                            .filter(e -> ((Enum) e).name().equalsIgnoreCase(value)).findAny()
-                            .orElseGet(() -> Enum.valueOf(clazz, value));
-                }
-                if (Date.class.isAssignableFrom(clazz)
-                    || Calendar.class.isAssignableFrom(clazz)
-                    || ( //Instant, LocalTime, OffsetTime, LocalDate, LocalDateTime, OffsetDateTime, ZonedDateTime
-                            Temporal.class.isAssignableFrom(clazz)
-                            && !Year.class.isAssignableFrom(clazz)
-                            && !YearMonth.class.isAssignableFrom(clazz)
-                    ))
-                {
-                    String dateFormatPattern = System.getProperty(ConstantsUtil.ENTITY_SERVICE_DATE_FORMAT_PATTERN, DateTimeFormatUtil.TIMESTAMP_PATTERN_ISO8601);
-                    Date dateValue = DateTimeFormatUtil.parseDateTime(dateFormatPattern, value);
-                    if (dateValue != null) {
-                        return dateValue;
-                    } else {
-                        Date wildcardDate = DateParserUtils.parseDate(value);
-                        return (wildcardDate != null) ? wildcardDate : value;
-                    }
-                }
+                return ValueParser.parse(clazz, value);
             }
             catch(Exception ex)
             {
@@ -2208,6 +4082,6 @@ public interface EntityService<E>
      */
     public static enum QueryType
     {
-        DATA, DISTINCT, AGGREGATION;
+        DATA, COUNT, DISTINCT, AGGREGATION;
     }
 }
@@ -0,0 +1,192 @@
+package info.nino.jpatron.services.entity;
+
+import info.nino.jpatron.request.QueryExpression;
+import jakarta.persistence.*;
+import jakarta.persistence.criteria.*;
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.lang3.ClassUtils;
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.dialect.CockroachDialect;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.HSQLDialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.type.StandardBasicTypes;
+
+import java.lang.reflect.*;
+import java.util.*;
+
+/**
+ * InListStrategy resolves SQL form of the multi-value filters (IN, NotIN, EACH, NotEACH, EXCEPT, NotEXCEPT) by value count
+ * Small lists are bound as IN-list padded to the next power of 2 (up to chunk size) - IN-lists of similar size share prepared statement &amp; query plan
+ * Lists above chunk size are split into padded IN-lists of chunk size combined with OR (e.g. Oracle limit of 1000 values per IN-list)
+ * Lists above array threshold are bound as single array parameter (column = any(?)) - statement size &amp; parameter count don't depend on value count
+ * NOTICE: array binding requires ArrayFunctionContributor (registered for PostgreSQL, CockroachDB, H2 &amp; HSQLDB dialects) - padded IN-lists are used otherwise
+ */
+public class InListStrategy
+{
+    public static final InListStrategy DEFAULT = new InListStrategy(true, 1000, -1);
+
+    public static final String ARRAY_IN_FUNCTION = "jpatron_in_array";
+
+    private static final List<QueryExpression.CompareOperator> IN_LIST_COMPARATORS = Arrays.asList(QueryExpression.CompareOperator.IN, QueryExpression.CompareOperator.NotIN, QueryExpression.CompareOperator.EACH, QueryExpression.CompareOperator.NotEACH, QueryExpression.CompareOperator.EXCEPT, QueryExpression.CompareOperator.NotEXCEPT);
+
+    private final boolean padding;
+    private final int chunkSize;
+    private final int arrayThreshold;
+
+    /**
+     * @param padding flag if IN-list values are padded to the next power of 2 (last value is repeated)
+     * @param chunkSize max number of values in single IN-list
+     * @param arrayThreshold value count above which values are bound as single array parameter (negative value disables array binding)
+     */
+    public InListStrategy(boolean padding, int chunkSize, int arrayThreshold)
+    {
+        if(chunkSize <= 0) throw new IllegalArgumentException(String.format("InListStrategy chunk size must be positive: %d", chunkSize));
+
+        this.padding = padding;
+        this.chunkSize = chunkSize;
+        this.arrayThreshold = arrayThreshold;
+    }
+
+    public static boolean isInListComparator(QueryExpression.CompareOperator comparator)
+    {
+        return IN_LIST_COMPARATORS.contains(comparator);
+    }
+
+    /**
+     * Resolves if values of the filter are bound as single array parameter
+     * @param em EntityManager of the query (array function registration is resolved from its EntityManagerFactory)
+     * @param comparator filter comparator
+     * @param size number of filter values
+     * @return boolean true/false
+     */
+    public boolean isArrayBinding(EntityManager em, QueryExpression.CompareOperator comparator, int size)
+    {
+        if(this.arrayThreshold < 0 || size <= this.arrayThreshold || !InListStrategy.isInListComparator(comparator)) return false;
+
+        return EntityService.EsUtil.isFunctionRegistered(em, ARRAY_IN_FUNCTION);
+    }
+
+    /**
+     * Number of bound values of the filter (part of the query-plan shape)
+     * @param em EntityManager of the query
+     * @param comparator filter comparator
+     * @param size number of filter values
+     * @return padded number of values (-1 if values are bound as array parameter)
+     */
+    public int getBoundSize(EntityManager em, QueryExpression.CompareOperator comparator, int size)
+    {
+        if(!InListStrategy.isInListComparator(comparator)) return size;
+        if(this.isArrayBinding(em, comparator, size)) return -1;
+
+        return this.getPaddedSize(size);
+    }
+
+    /**
+     * Resolves bound values of the filter - padded values or single array value
+     * @param em EntityManager of the query
+     * @param comparator filter comparator
+     * @param type type of the filter column (array component type)
+     * @param values filter values (converted to column type)
+     * @return bound values
+     */
+    public Object[] resolveValues(EntityManager em, QueryExpression.CompareOperator comparator, Class<?> type, Object[] values)
+    {
+        if(ArrayUtils.isEmpty(values) || !InListStrategy.isInListComparator(comparator)) return values;
+        if(this.isArrayBinding(em, comparator, values.length)) return new Object[] { InListStrategy.toArray(type, values) };
+
+        int paddedSize = this.getPaddedSize(values.length);
+        if(paddedSize == values.length) return values;
+
+        Object[] paddedValues = Arrays.copyOf(values, paddedSize);
+        Arrays.fill(paddedValues, values.length, paddedSize, values[values.length - 1]);
+
+        return paddedValues;
+    }
+
+    /**
+     * Creates IN predicate of the bound values (IN-list chunks combined with OR or array predicate)
+     * @param cb CriteriaBuilder object
+     * @param column filter column
+     * @param values bound values (literal values or parameter expressions)
+     * @param arrayBinding flag if values contain single array value (isArrayBinding)
+     * @return IN predicate
+     */
+    public Predicate createInPredicate(CriteriaBuilder cb, Expression<?> column, Object[] values, boolean arrayBinding)
+    {
+        if(arrayBinding)
+        {
+            Expression<?> arrayValue = (values[0] instanceof Expression) ? (Expression<?>) values[0] : cb.literal(values[0]);
+            return cb.isTrue(cb.function(ARRAY_IN_FUNCTION, Boolean.class, column, arrayValue));
+        }
+
+        Predicate predicate = null;
+        for(int from = 0; from < values.length; from += this.chunkSize)
+        {
+            CriteriaBuilder.In<Comparable<?>> in = cb.in((Expression<? extends Comparable<?>>) column);
+            Arrays.stream(values, from, Math.min(from + this.chunkSize, values.length)).forEach(val -> EntityService.PredicateUtil.addInValue(in, val));
+
+            predicate = (predicate == null) ? in : cb.or(predicate, in);
+        }
+
+        //NOTICE: empty values keep previous (empty IN-list) behaviour
+        return (predicate != null) ? predicate : cb.in((Expression<? extends Comparable<?>>) column);
+    }
+
+    private int getPaddedSize(int size)
+    {
+        if(!this.padding || size <= 1) return size;
+        if(size > this.chunkSize) return ((size + this.chunkSize - 1) / this.chunkSize) * this.chunkSize;
+
+        return Math.min(Integer.highestOneBit(size - 1) << 1, this.chunkSize);
+    }
+
+    private static Object toArray(Class<?> type, Object[] values)
+    {
+        Class<?> componentType = ClassUtils.primitiveToWrapper(type);
+        Object array = Array.newInstance(componentType, values.length);
+        for(int i = 0; i < values.length; i++)
+        {
+            if(!componentType.isInstance(values[i])) throw new IllegalArgumentException(String.format("IN-list value '%s' (%s) is NOT assignable to array type: %s", values[i], values[i].getClass().getSimpleName(), componentType.getSimpleName()));
+            Array.set(array, i, values[i]);
+        }
+
+        return array;
+    }
+
+    public boolean isPadding()
+    {
+        return this.padding;
+    }
+
+    public int getChunkSize()
+    {
+        return this.chunkSize;
+    }
+
+    public int getArrayThreshold()
+    {
+        return this.arrayThreshold;
+    }
+
+    /**
+     * Registers array IN-list function (column = any(array)) for dialects supporting array parameters
+     * Registered by Hibernate service loader (META-INF/services/org.hibernate.boot.model.FunctionContributor)
+     */
+    public static class ArrayFunctionContributor implements FunctionContributor
+    {
+        @Override
+        public void contributeFunctions(FunctionContributions functionContributions)
+        {
+            Dialect dialect = functionContributions.getDialect();
+            if(!(dialect instanceof PostgreSQLDialect || dialect instanceof CockroachDialect || dialect instanceof H2Dialect || dialect instanceof HSQLDialect)) return;
+
+            functionContributions.getFunctionRegistry().patternDescriptorBuilder(ARRAY_IN_FUNCTION, "(?1 = any(?2))")
+                    .setInvariantType(functionContributions.getTypeConfiguration().getBasicTypeRegistry().resolve(StandardBasicTypes.BOOLEAN))
+                    .setExactArgumentCount(2)
+                    .register();
+        }
+    }
+}
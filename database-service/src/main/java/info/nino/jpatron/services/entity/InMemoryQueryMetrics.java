@@ -0,0 +1,186 @@
+package info.nino.jpatron.services.entity;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * InMemoryQueryMetrics aggregates query metrics in memory - lock-free LongAdder counters &amp; log2-bucket timing histograms
+ * Metrics are scraped by getSnapshot() (e.g. exposed by application metrics endpoint or bridged to metrics registry)
+ * NOTICE: percentiles are estimated from histogram buckets (upper bound of the power-of-two bucket, capped by max value)
+ */
+public class InMemoryQueryMetrics implements QueryMetrics
+{
+    private final Map<Class<?>, QueryTypeMetrics[]> metrics = new ConcurrentHashMap<>();
+
+    @Override
+    public void recordBuild(Class<?> entity, EntityService.QueryType queryType, long buildTimeNs)
+    {
+        this.getMetrics(entity, queryType).build.record(buildTimeNs);
+    }
+
+    @Override
+    public void recordExecution(Class<?> entity, EntityService.QueryType queryType, long executionTimeNs, long rows)
+    {
+        QueryTypeMetrics queryTypeMetrics = this.getMetrics(entity, queryType);
+        queryTypeMetrics.execution.record(executionTimeNs);
+        queryTypeMetrics.rows.add(rows);
+    }
+
+    @Override
+    public void recordPostProcessing(Class<?> entity, EntityService.QueryType queryType, long postProcessingTimeNs)
+    {
+        this.getMetrics(entity, queryType).postProcessing.record(postProcessingTimeNs);
+    }
+
+    /**
+     * Metrics of the root entity &amp; EntityService.QueryType
+     * @param entity root entity of the queries
+     * @param queryType type of the queries
+     * @return QueryTypeMetrics object (empty if none query was recorded)
+     */
+    public QueryTypeMetrics getMetrics(Class<?> entity, EntityService.QueryType queryType)
+    {
+        //NOTICE: metrics of all query types are created at once (lock-free reads of existing entity metrics)
+        QueryTypeMetrics[] entityMetrics = this.metrics.computeIfAbsent(entity, e -> Arrays.stream(EntityService.QueryType.values()).map(qt -> new QueryTypeMetrics()).toArray(QueryTypeMetrics[]::new));
+        return entityMetrics[queryType.ordinal()];
+    }
+
+    /**
+     * Flat snapshot of recorded metrics - keys are metric names prefixed by entity name &amp; query type (e.g. 'Person.DATA.execution.count')
+     * @return map of metric names &amp; values (sorted by name)
+     */
+    public Map<String, Number> getSnapshot()
+    {
+        Map<String, Number> snapshot = new TreeMap<>();
+        for(Map.Entry<Class<?>, QueryTypeMetrics[]> entityMetrics : this.metrics.entrySet())
+        {
+            for(EntityService.QueryType queryType : EntityService.QueryType.values())
+            {
+                QueryTypeMetrics queryTypeMetrics = entityMetrics.getValue()[queryType.ordinal()];
+                if(queryTypeMetrics.build.getCount() == 0 && queryTypeMetrics.execution.getCount() == 0 && queryTypeMetrics.postProcessing.getCount() == 0) continue;
+
+                String prefix = String.format("%s.%s", entityMetrics.getKey().getSimpleName(), queryType);
+                queryTypeMetrics.build.addSnapshot(snapshot, prefix + ".build");
+                queryTypeMetrics.execution.addSnapshot(snapshot, prefix + ".execution");
+                queryTypeMetrics.postProcessing.addSnapshot(snapshot, prefix + ".post-processing");
+                snapshot.put(prefix + ".rows", queryTypeMetrics.getRows());
+            }
+        }
+
+        return snapshot;
+    }
+
+    public void reset()
+    {
+        this.metrics.clear();
+    }
+
+    /**
+     * Metrics of the root entity &amp; EntityService.QueryType queries
+     */
+    public static class QueryTypeMetrics
+    {
+        private final Timer build = new Timer();
+        private final Timer execution = new Timer();
+        private final Timer postProcessing = new Timer();
+        private final LongAdder rows = new LongAdder();
+
+        public Timer getBuild()
+        {
+            return build;
+        }
+
+        public Timer getExecution()
+        {
+            return execution;
+        }
+
+        public Timer getPostProcessing()
+        {
+            return postProcessing;
+        }
+
+        public long getRows()
+        {
+            return rows.sum();
+        }
+    }
+
+    /**
+     * Lock-free timer - count, total &amp; max time and histogram of power-of-two (nanoseconds) buckets
+     */
+    public static class Timer
+    {
+        private static final int BUCKETS = Long.SIZE - 1;  //non-negative long values
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalTimeNs = new LongAdder();
+        private final LongAccumulator maxTimeNs = new LongAccumulator(Long::max, 0L);
+        private final LongAdder[] buckets = new LongAdder[BUCKETS];
+
+        public Timer()
+        {
+            for(int i = 0; i < BUCKETS; i++) this.buckets[i] = new LongAdder();
+        }
+
+        public void record(long timeNs)
+        {
+            timeNs = Math.max(timeNs, 0L);
+
+            this.count.increment();
+            this.totalTimeNs.add(timeNs);
+            this.maxTimeNs.accumulate(timeNs);
+            this.buckets[Math.max(BUCKETS - Long.numberOfLeadingZeros(timeNs), 0)].increment();    //bucket i: [2^i, 2^(i+1)) nanoseconds
+        }
+
+        public long getCount()
+        {
+            return count.sum();
+        }
+
+        public long getTotalTimeNs()
+        {
+            return totalTimeNs.sum();
+        }
+
+        public long getMaxTimeNs()
+        {
+            return maxTimeNs.get();
+        }
+
+        /**
+         * Estimated percentile of recorded times
+         * @param percentile percentile (0-100)
+         * @return upper bound of the histogram bucket containing percentile (capped by max time) or 0 if none time was recorded
+         */
+        public long getPercentileNs(double percentile)
+        {
+            if(percentile < 0 || percentile > 100) throw new IllegalArgumentException(String.format("Percentile must be between 0 and 100: %s", percentile));
+
+            long[] bucketCounts = Arrays.stream(this.buckets).mapToLong(LongAdder::sum).toArray();
+            long total = Arrays.stream(bucketCounts).sum();
+            if(total == 0) return 0L;
+
+            long rank = Math.max((long) Math.ceil(percentile / 100d * total), 1L);
+            long cumulative = 0L;
+            for(int i = 0; i < BUCKETS; i++)
+            {
+                cumulative += bucketCounts[i];
+                if(cumulative >= rank) return Math.min((1L << (i + 1)) - 1, this.getMaxTimeNs());  //NOTICE: upper bound of last bucket overflows to Long.MAX_VALUE
+            }
+
+            return this.getMaxTimeNs();
+        }
+
+        private void addSnapshot(Map<String, Number> snapshot, String prefix)
+        {
+            snapshot.put(prefix + ".count", this.getCount());
+            snapshot.put(prefix + ".time.total.ns", this.getTotalTimeNs());
+            snapshot.put(prefix + ".time.max.ns", this.getMaxTimeNs());
+            snapshot.put(prefix + ".time.p50.ns", this.getPercentileNs(50));
+            snapshot.put(prefix + ".time.p99.ns", this.getPercentileNs(99));
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package info.nino.jpatron.services.entity;
+
+
+
+/**
+ * QueryMetrics records timings &amp; row counts of the EntityService queries (per root entity &amp; EntityService.QueryType)
+ * Recorded phases: criteria-build (including query-plan template copy), execution (including result fetching) &amp; post-processing (e.g. distinct/meta values merging)
+ * NOTICE: methods are invoked on query threads (parallel side-queries) - implementations must be thread-safe &amp; non-blocking
+ */
+public interface QueryMetrics
+{
+    public static final QueryMetrics NOOP = new QueryMetrics() {};
+
+    /**
+     * Records criteria-build time of the query
+     * @param entity root entity of the query
+     * @param queryType type of the query
+     * @param buildTimeNs criteria-build time (nanoseconds)
+     */
+    public default void recordBuild(Class<?> entity, EntityService.QueryType queryType, long buildTimeNs)
+    {
+    }
+
+    /**
+     * Records execution of the query
+     * @param entity root entity of the query
+     * @param queryType type of the query
+     * @param executionTimeNs execution time including result fetching (nanoseconds)
+     * @param rows number of returned rows
+     */
+    public default void recordExecution(Class<?> entity, EntityService.QueryType queryType, long executionTimeNs, long rows)
+    {
+    }
+
+    /**
+     * Records post-processing time of the query results
+     * @param entity root entity of the query
+     * @param queryType type of the query
+     * @param postProcessingTimeNs post-processing time (nanoseconds)
+     */
+    public default void recordPostProcessing(Class<?> entity, EntityService.QueryType queryType, long postProcessingTimeNs)
+    {
+    }
+}
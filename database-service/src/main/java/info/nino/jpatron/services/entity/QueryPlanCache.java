@@ -0,0 +1,393 @@
+package info.nino.jpatron.services.entity;
+
+import info.nino.jpatron.query.PageRequest;
+import info.nino.jpatron.request.QueryExpression;
+import info.nino.jpatron.request.QuerySort;
+import jakarta.persistence.*;
+import jakarta.persistence.criteria.*;
+import org.apache.commons.lang3.ClassUtils;
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * QueryPlanCache holds compiled data-query templates keyed by normalized PageRequest shape (bounded LRU cache)
+ * Query shape consists of root entity, filter paths, operators &amp; value arity, sorts, fetch paths &amp; entity-graph paths
+ * Template filter values are named query parameters - requests which differ only in filter values skip criteria construction
+ * NOTICE: filters on EntityService.AttributeMapper fields &amp; subquery comparators are not cacheable (query structure depends on filter values)
+ */
+public class QueryPlanCache
+{
+    private static final String PARAMETER_NAME_FORMAT = "jpf%d_%d";
+
+    private final int maxSize;
+    private final Map<String, QueryPlan> plans;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    public QueryPlanCache(int maxSize)
+    {
+        if(maxSize <= 0) throw new IllegalArgumentException(String.format("QueryPlanCache max size must be positive: %d", maxSize));
+
+        this.maxSize = maxSize;
+        this.plans = new LinkedHashMap<>(16, 0.75f, true) //NOTICE: access-order (LRU)
+        {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, QueryPlan> eldest)
+            {
+                boolean evict = this.size() > QueryPlanCache.this.maxSize;
+                if(evict) QueryPlanCache.this.evictionCount.increment();
+                return evict;
+            }
+        };
+    }
+
+    public int getMaxSize()
+    {
+        return this.maxSize;
+    }
+
+    public int getSize()
+    {
+        synchronized(this.plans)
+        {
+            return this.plans.size();
+        }
+    }
+
+    public long getHitCount()
+    {
+        return this.hitCount.sum();
+    }
+
+    public long getMissCount()
+    {
+        return this.missCount.sum();
+    }
+
+    public long getEvictionCount()
+    {
+        return this.evictionCount.sum();
+    }
+
+    public double getHitRatio()
+    {
+        long hits = this.getHitCount();
+        long requests = hits + this.getMissCount();
+        return (requests > 0) ? (double) hits / requests : 0d;
+    }
+
+    public void clear()
+    {
+        synchronized(this.plans)
+        {
+            this.plans.clear();
+        }
+    }
+
+    QueryPlan getPlan(String shapeKey)
+    {
+        QueryPlan plan = null;
+        synchronized(this.plans)
+        {
+            plan = this.plans.get(shapeKey);
+        }
+
+        if(plan != null && plan.isCacheable()) this.hitCount.increment();
+        else this.missCount.increment();
+
+        return plan;
+    }
+
+    private QueryPlan putPlan(String shapeKey, CriteriaQuery<?> dataQuery, ParameterBinder binder)
+    {
+        //NOTICE: not cacheable shapes are stored as well (skip parameter binding on subsequent requests)
+        QueryPlan plan = (binder.isCacheable()) ? new QueryPlan(EntityService.Core.copyQuery(dataQuery), binder.getParameterTypes()) : new QueryPlan(null, null);
+        synchronized(this.plans)
+        {
+            this.plans.put(shapeKey, plan);
+        }
+
+        return (plan.isCacheable()) ? plan : null;
+    }
+
+    static String createShapeKey(Class<?> entity, PageRequest<?> request)
+    {
+        return QueryPlanCache.createShapeKey(entity, request, null, null);
+    }
+
+    //NOTICE: value arity of the shape is bound value count of the InListStrategy (padded IN-lists of similar size share query plan)
+    static String createShapeKey(Class<?> entity, PageRequest<?> request, EntityManager em, InListStrategy inListStrategy)
+    {
+        StringBuilder shapeKey = new StringBuilder(entity.getName());
+        shapeKey.append("|distinct=").append(request.isDistinctDataset());
+        shapeKey.append("|keyset=").append(request.isKeysetPagination());
+        shapeKey.append("|filters=");
+        QueryPlanCache.appendShape(shapeKey, request.getQueryFilters(), em, inListStrategy);
+
+        shapeKey.append("|sorts=");
+        if(request.getSorts() != null)
+        {
+            for(QuerySort sort : request.getSorts())
+            {
+                shapeKey.append(QueryPlanCache.getEntityPathShape(sort.getColumnEntityPath()))
+                        .append(':').append(sort.getDirection())
+                        .append(':').append((sort.getSortType() != null) ? sort.getSortType().getName() : null)
+                        .append(';');
+            }
+        }
+
+        shapeKey.append("|fetch=").append(Arrays.toString(request.getFetchEntityPaths()));
+        shapeKey.append("|graph=").append(Arrays.toString(request.getEntityGraphPaths()));
+
+        return shapeKey.toString();
+    }
+
+    static String createSideQueryKey(EntityService.QueryType queryType, QueryExpression queryExpression)
+    {
+        StringBuilder sideQueryKey = new StringBuilder(queryType.name());
+        sideQueryKey.append('|').append(QueryPlanCache.getEntityPathShape(queryExpression.getValueColumnEntityPath()));
+        sideQueryKey.append('|').append(QueryPlanCache.getEntityPathShape(queryExpression.getLabelColumnEntityPath()));
+        sideQueryKey.append('|').append(queryExpression.getFunc());
+        sideQueryKey.append('|').append(queryExpression.isDistinct());
+
+        //NOTICE: side-query filters are static query-expression filters - their values are part of the key
+        if(queryExpression.getFilters() != null)
+        {
+            for(QueryExpression.Filter<?> filter : queryExpression.getFilters())
+            {
+                sideQueryKey.append('|').append(filter).append(':').append(filter.getValueModifier());
+            }
+        }
+
+        return sideQueryKey.toString();
+    }
+
+    private static void appendShape(StringBuilder shapeKey, QueryExpression.CompoundFilter compoundFilter, EntityManager em, InListStrategy inListStrategy)
+    {
+        if(compoundFilter == null) return;
+
+        shapeKey.append(compoundFilter.getLogicOperator()).append('(');
+        if(compoundFilter.getFilters() != null)
+        {
+            for(QueryExpression.Filter<?> filter : compoundFilter.getFilters())
+            {
+                int arity = QueryPlanCache.getModValues(filter).length;
+                if(inListStrategy != null) arity = inListStrategy.getBoundSize(em, filter.getCompareOperator(), arity);
+
+                shapeKey.append(QueryPlanCache.getEntityPathShape(filter.getColumnEntityPath()))
+                        .append(':').append(filter.getCompareOperator())
+                        .append(':').append(filter.getValueModifier())
+                        .append(':').append(arity)
+                        .append(';');
+            }
+        }
+
+        if(compoundFilter.getCompoundFilters() != null)
+        {
+            for(QueryExpression.CompoundFilter subFilter : compoundFilter.getCompoundFilters())
+            {
+                QueryPlanCache.appendShape(shapeKey, subFilter, em, inListStrategy);
+            }
+        }
+        shapeKey.append(')');
+    }
+
+    private static String getEntityPathShape(Pair<Class<?>, String> entityPath)
+    {
+        if(entityPath == null) return null;
+        return ((entityPath.getKey() != null) ? entityPath.getKey().getName() : null) + "#" + entityPath.getValue();
+    }
+
+    static List<QueryExpression.Filter<?>> flattenFilters(QueryExpression.CompoundFilter compoundFilter)
+    {
+        List<QueryExpression.Filter<?>> filters = new ArrayList<>();
+        QueryPlanCache.flattenFilters(compoundFilter, filters);
+
+        return filters;
+    }
+
+    private static void flattenFilters(QueryExpression.CompoundFilter compoundFilter, List<QueryExpression.Filter<?>> filters)
+    {
+        if(compoundFilter == null) return;
+        if(compoundFilter.getFilters() != null) filters.addAll(compoundFilter.getFilters());
+        if(compoundFilter.getCompoundFilters() != null) compoundFilter.getCompoundFilters().forEach(cf -> QueryPlanCache.flattenFilters(cf, filters));
+    }
+
+    //NOTICE: value modifiers (e.g. SPLIT) are applied before value arity is resolved (same as EntityService.PredicateBuilder)
+    private static Object[] getModValues(QueryExpression.Filter filter)
+    {
+        if(filter.getValue() == null) return new Object[0];
+        return (filter.getValueModifier() != null) ? EntityService.EsUtil.getModValues(filter) : filter.getValue();
+    }
+
+    private static String getParameterName(int filterIndex, int valueIndex)
+    {
+        return String.format(PARAMETER_NAME_FORMAT, filterIndex, valueIndex);
+    }
+
+    private static Object getParameterValue(QueryExpression.CompareOperator comparator, Object value)
+    {
+        return (comparator == QueryExpression.CompareOperator.LIKE || comparator == QueryExpression.CompareOperator.SEARCH) ? String.valueOf(value) : value;
+    }
+
+    private static void bindParameters(Query query, PlanBinding binding)
+    {
+        if(binding == null || binding.getParameters().isEmpty()) return;
+
+        Set<String> queryParameters = query.getParameters().stream().map(Parameter::getName).filter(Objects::nonNull).collect(Collectors.toSet());
+        for(Map.Entry<String, Object> parameter : binding.getParameters().entrySet())
+        {
+            if(queryParameters.contains(parameter.getKey())) query.setParameter(parameter.getKey(), parameter.getValue());
+        }
+    }
+
+    /**
+     * Cached query plan - data-query template &amp; side-query (count, distinct, meta) templates of the same query shape
+     */
+    static class QueryPlan
+    {
+        private final CriteriaQuery<?> dataQuery;
+        private final Map<Integer, Class<?>> parameterTypes;
+        private final Map<String, CriteriaQuery<Tuple>> sideQueries = new HashMap<>();
+
+        private QueryPlan(CriteriaQuery<?> dataQuery, Map<Integer, Class<?>> parameterTypes)
+        {
+            this.dataQuery = dataQuery;
+            this.parameterTypes = parameterTypes;
+        }
+
+        boolean isCacheable()
+        {
+            return this.dataQuery != null;
+        }
+
+        //WARNING: CriteriaQuery is NOT thread-safe - template is copied under lock and never executed directly
+        synchronized CriteriaQuery<?> copyDataQuery()
+        {
+            return EntityService.Core.copyQuery(this.dataQuery);
+        }
+
+        synchronized CriteriaQuery<Tuple> resolveSideQuery(String sideQueryKey, Supplier<CriteriaQuery<Tuple>> sideQueryBuilder)
+        {
+            CriteriaQuery<Tuple> sideQuery = this.sideQueries.get(sideQueryKey);
+            if(sideQuery != null) return EntityService.Core.copyQuery(sideQuery);
+
+            sideQuery = sideQueryBuilder.get();
+            this.sideQueries.put(sideQueryKey, EntityService.Core.copyQuery(sideQuery));
+
+            return sideQuery;
+        }
+
+        private Map<String, Object> resolveParameters(EntityManager em, QueryExpression.CompoundFilter queryFilters, InListStrategy inListStrategy)
+        {
+            Map<String, Object> parameters = new HashMap<>();
+
+            List<QueryExpression.Filter<?>> filters = QueryPlanCache.flattenFilters(queryFilters);
+            for(Map.Entry<Integer, Class<?>> parameterType : this.parameterTypes.entrySet())
+            {
+                QueryExpression.Filter<?> filter = filters.get(parameterType.getKey());
+                Comparable<?>[] cmpValues = EntityService.EsUtil.convertValuesToComparable(parameterType.getValue(), QueryPlanCache.getModValues(filter));
+                Object[] values = inListStrategy.resolveValues(em, filter.getCompareOperator(), parameterType.getValue(), cmpValues);
+
+                for(int i = 0; i < values.length; i++)
+                {
+                    String name = QueryPlanCache.getParameterName(parameterType.getKey(), i);
+                    parameters.put(name, QueryPlanCache.getParameterValue(filter.getCompareOperator(), values[i]));
+                }
+            }
+
+            return parameters;
+        }
+    }
+
+    /**
+     * Per-request binding of the query plan (plan is null if query shape is not cacheable) &amp; its parameter values
+     */
+    static class PlanBinding
+    {
+        private final QueryPlan plan;
+        private final Map<String, Object> parameters;
+
+        PlanBinding(QueryPlan plan, Map<String, Object> parameters)
+        {
+            this.plan = plan;
+            this.parameters = parameters;
+        }
+
+        QueryPlan getPlan()
+        {
+            return this.plan;
+        }
+
+        private Map<String, Object> getParameters()
+        {
+            return this.parameters;
+        }
+    }
+
+    /**
+     * Collects named parameters while template data-query is built (used by EntityService.PredicateBuilder instead of literal filter values)
+     */
+    static class ParameterBinder
+    {
+        private final Map<QueryExpression.Filter<?>, Integer> filterIndexes = new IdentityHashMap<>();
+        private final Map<Integer, Class<?>> parameterTypes = new HashMap<>();
+        private final Map<String, Object> parameterValues = new HashMap<>();
+        private boolean cacheable = true;
+
+        ParameterBinder(QueryExpression.CompoundFilter queryFilters)
+        {
+            List<QueryExpression.Filter<?>> filters = QueryPlanCache.flattenFilters(queryFilters);
+            for(int i = 0; i < filters.size(); i++)
+            {
+                //NOTICE: same Filter instance used multiple times can NOT be mapped to single filter index
+                if(this.filterIndexes.putIfAbsent(filters.get(i), i) != null) this.cacheable = false;
+            }
+        }
+
+        private Object[] bindParameters(CriteriaBuilder cb, QueryExpression.Filter<?> filter, Class<?> cmpFilterType, Object[] values)
+        {
+            Integer filterIndex = this.filterIndexes.get(filter);
+            if(filterIndex == null || values == null || this.parameterTypes.containsKey(filterIndex) || EntityService.subqueryComparators.contains(filter.getCompareOperator()))
+            {
+                this.cacheable = false; //NOTICE: derived filter (e.g. EntityService.AttributeMapper values) or subquery comparator - literal values are used
+                return values;
+            }
+
+            QueryExpression.CompareOperator comparator = filter.getCompareOperator();
+            Class<?> parameterClass = (comparator == QueryExpression.CompareOperator.LIKE || comparator == QueryExpression.CompareOperator.SEARCH) ? String.class : ClassUtils.primitiveToWrapper(cmpFilterType);
+            this.parameterTypes.put(filterIndex, cmpFilterType);
+
+            Object[] parameters = new Object[values.length];
+            for(int i = 0; i < values.length; i++)
+            {
+                String name = QueryPlanCache.getParameterName(filterIndex, i);
+                parameters[i] = cb.parameter((values[i] != null && values[i].getClass().isArray()) ? values[i].getClass() : parameterClass, name);   //array binding (InListStrategy)
+                this.parameterValues.put(name, QueryPlanCache.getParameterValue(comparator, values[i]));
+            }
+
+            return parameters;
+        }
+
+        private boolean isCacheable()
+        {
+            return this.cacheable;
+        }
+
+        private Map<Integer, Class<?>> getParameterTypes()
+        {
+            return this.parameterTypes;
+        }
+
+        Map<String, Object> getParameterValues()
+        {
+            return this.parameterValues;
+        }
+    }
+}
@@ -0,0 +1,513 @@
+package info.nino.jpatron.services.entity;
+
+import info.nino.jpatron.helpers.ReflectionHelper;
+import info.nino.jpatron.query.PageRequest;
+import info.nino.jpatron.request.QueryExpression;
+import jakarta.persistence.*;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.Metamodel;
+import jakarta.persistence.metamodel.PluralAttribute;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+
+/**
+ * ResultCache holds distinct &amp; meta values keyed by canonical request filters &amp; QueryExpression (bounded LRU cache)
+ * Cached values expire after request TTL (PageRequest.metaCacheTtl) and are invalidated by Hibernate post-commit insert/update/delete events of related entities
+ * Cached values are indexed by related entities - invalidation removes only values of the changed entity (no scan of the whole cache)
+ * WARNING: bulk (JPQL/native) updates do NOT trigger entity events - use invalidate(Class) or values are refreshed after TTL expiration
+ */
+public class ResultCache
+{
+    private final int maxSize;
+    private final Map<String, CacheEntry> entries;
+    private final Map<Class<?>, Set<String>> entityKeys = new HashMap<>();   //NOTICE: cache keys by related entity (guarded by entries lock)
+    private final Set<SessionFactoryImplementor> listenerFactories = Collections.newSetFromMap(new WeakHashMap<>());
+    private final InvalidationListener invalidationListener = new InvalidationListener(this);
+
+    //NOTICE: generations are incremented by each invalidation - values loaded during invalidation of their related entities are NOT cached
+    private final Map<Class<?>, AtomicLong> entityGenerations = new ConcurrentHashMap<>();
+    private final AtomicLong clearGeneration = new AtomicLong();
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder invalidationCount = new LongAdder();
+
+    public ResultCache(int maxSize)
+    {
+        if(maxSize <= 0) throw new IllegalArgumentException(String.format("ResultCache max size must be positive: %d", maxSize));
+
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) //NOTICE: access-order (LRU)
+        {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest)
+            {
+                boolean evict = this.size() > ResultCache.this.maxSize;
+                if(evict)
+                {
+                    ResultCache.this.unindexEntry(eldest.getKey(), eldest.getValue());
+                    ResultCache.this.evictionCount.increment();
+                }
+                return evict;
+            }
+        };
+    }
+
+    public int getMaxSize()
+    {
+        return this.maxSize;
+    }
+
+    public int getSize()
+    {
+        synchronized(this.entries)
+        {
+            return this.entries.size();
+        }
+    }
+
+    public long getHitCount()
+    {
+        return this.hitCount.sum();
+    }
+
+    public long getMissCount()
+    {
+        return this.missCount.sum();
+    }
+
+    /**
+     * Number of cached values evicted by cache size limit or TTL expiration
+     */
+    public long getEvictionCount()
+    {
+        return this.evictionCount.sum();
+    }
+
+    /**
+     * Number of cached values invalidated by entity changes
+     */
+    public long getInvalidationCount()
+    {
+        return this.invalidationCount.sum();
+    }
+
+    public double getHitRatio()
+    {
+        long hits = this.getHitCount();
+        long requests = hits + this.getMissCount();
+        return (requests > 0) ? (double) hits / requests : 0d;
+    }
+
+    public void clear()
+    {
+        synchronized(this.entries)
+        {
+            this.clearGeneration.incrementAndGet();
+            this.entries.clear();
+            this.entityKeys.clear();
+        }
+    }
+
+    /**
+     * Invalidates cached values related to the entity Class (or any of its super-classes)
+     * @param entity changed entity Class
+     */
+    public void invalidate(Class<?> entity)
+    {
+        //NOTICE: values related to super-class of changed entity are invalidated as well (e.g. polymorphic query of the super-class)
+        List<Class<?>> changedEntities = new ArrayList<>();
+        for(Class<?> clazz = entity; clazz != null && clazz != Object.class; clazz = clazz.getSuperclass())
+        {
+            changedEntities.add(clazz);
+
+            AtomicLong entityGeneration = this.entityGenerations.get(clazz);
+            if(entityGeneration != null) entityGeneration.incrementAndGet();
+        }
+
+        int invalidated = 0;
+        synchronized(this.entries)
+        {
+            for(Class<?> changedEntity : changedEntities)
+            {
+                Set<String> cacheKeys = this.entityKeys.remove(changedEntity);
+                if(cacheKeys == null) continue;
+
+                for(String cacheKey : cacheKeys)
+                {
+                    CacheEntry entry = this.entries.remove(cacheKey);
+                    if(entry == null) continue;
+
+                    this.unindexEntry(cacheKey, entry);
+                    invalidated++;
+                }
+            }
+        }
+
+        if(invalidated > 0) this.invalidationCount.add(invalidated);
+    }
+
+    private CacheLookup lookup(EntityManager em, Class<?> entity, PageRequest<?> request, String filtersKey, EntityService.QueryType queryType, Set<QueryExpression> columns)
+    {
+        this.registerInvalidationListener(em.getEntityManagerFactory());
+
+        long ttlNs = TimeUnit.SECONDS.toNanos(request.getMetaCacheTtl());
+        CacheLookup lookup = new CacheLookup(this, this.clearGeneration.get());
+
+        Set<Class<?>> requestEntities = null;
+        for(QueryExpression column : columns)
+        {
+            String valueKey = (queryType == EntityService.QueryType.DISTINCT) ? EntityService.EsUtil.getDistinctValueKey(column) : EntityService.EsUtil.getMetaValueKey(column);
+            String cacheKey = filtersKey + "|" + QueryPlanCache.createSideQueryKey(queryType, column) + "|" + valueKey;
+
+            Map<Object, Object> values = this.getValues(cacheKey, ttlNs);
+            if(values != null)
+            {
+                lookup.addCachedValues(valueKey, values);
+                continue;
+            }
+
+            if(requestEntities == null) requestEntities = ResultCache.getRequestEntities(em.getMetamodel(), entity, request);
+            Set<Class<?>> relatedEntities = new HashSet<>(requestEntities);
+            ResultCache.addColumnEntities(em.getMetamodel(), column, relatedEntities);
+
+            lookup.addMissingColumn(column, valueKey, new MissingEntry(cacheKey, this.getEntityGenerations(relatedEntities)));
+        }
+
+        return lookup;
+    }
+
+    private Map<Object, Object> getValues(String cacheKey, long ttlNs)
+    {
+        CacheEntry entry = null;
+        synchronized(this.entries)
+        {
+            entry = this.entries.get(cacheKey);
+            if(entry != null && System.nanoTime() - entry.createdNs > ttlNs)
+            {
+                this.entries.remove(cacheKey);
+                this.unindexEntry(cacheKey, entry);
+                this.evictionCount.increment();
+                entry = null;
+            }
+        }
+
+        if(entry != null) this.hitCount.increment();
+        else this.missCount.increment();
+
+        //NOTICE: cached values are copied (values map might be modified by the caller)
+        return (entry != null) ? new HashMap<>(entry.values) : null;
+    }
+
+    private void putValues(long clearGeneration, MissingEntry missingEntry, Map<Object, Object> values)
+    {
+        synchronized(this.entries)
+        {
+            //NOTICE: related entity might be changed (or cache cleared) while values were loaded
+            if(this.clearGeneration.get() != clearGeneration) return;
+            for(Map.Entry<Class<?>, Long> entityGeneration : missingEntry.entityGenerations().entrySet())
+            {
+                if(this.entityGenerations.get(entityGeneration.getKey()).get() != entityGeneration.getValue()) return;
+            }
+
+            CacheEntry entry = new CacheEntry(new HashMap<>(values), missingEntry.entityGenerations().keySet());
+            CacheEntry previousEntry = this.entries.put(missingEntry.cacheKey(), entry);
+            if(previousEntry != null) this.unindexEntry(missingEntry.cacheKey(), previousEntry);
+
+            for(Class<?> relatedEntity : entry.relatedEntities)
+            {
+                this.entityKeys.computeIfAbsent(relatedEntity, e -> new HashSet<>()).add(missingEntry.cacheKey());
+            }
+        }
+    }
+
+    //NOTICE: must be called within entries lock
+    private void unindexEntry(String cacheKey, CacheEntry entry)
+    {
+        for(Class<?> relatedEntity : entry.relatedEntities)
+        {
+            Set<String> cacheKeys = this.entityKeys.get(relatedEntity);
+            if(cacheKeys != null && cacheKeys.remove(cacheKey) && cacheKeys.isEmpty()) this.entityKeys.remove(relatedEntity);
+        }
+    }
+
+    private Map<Class<?>, Long> getEntityGenerations(Set<Class<?>> relatedEntities)
+    {
+        Map<Class<?>, Long> generations = new HashMap<>();
+        for(Class<?> relatedEntity : relatedEntities)
+        {
+            generations.put(relatedEntity, this.entityGenerations.computeIfAbsent(relatedEntity, e -> new AtomicLong()).get());
+        }
+
+        return generations;
+    }
+
+    private void registerInvalidationListener(EntityManagerFactory emf)
+    {
+        try
+        {
+            SessionFactoryImplementor sessionFactory = emf.unwrap(SessionFactoryImplementor.class);
+            synchronized(this.listenerFactories)
+            {
+                if(!this.listenerFactories.add(sessionFactory)) return;
+            }
+
+            //NOTICE: post-commit events - uncommitted (or rolled-back) changes do NOT invalidate cached values
+            EventListenerRegistry listenerRegistry = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+            listenerRegistry.appendListeners(EventType.POST_COMMIT_INSERT, this.invalidationListener);
+            listenerRegistry.appendListeners(EventType.POST_COMMIT_UPDATE, this.invalidationListener);
+            listenerRegistry.appendListeners(EventType.POST_COMMIT_DELETE, this.invalidationListener);
+        }
+        catch(RuntimeException ex)
+        {
+            EntityService.logger.log(Level.WARNING, "Could NOT register ResultCache invalidation listeners - cached values are refreshed only after TTL expiration!", ex);
+        }
+    }
+
+    static String createFiltersKey(Class<?> entity, PageRequest<?> request)
+    {
+        StringBuilder filtersKey = new StringBuilder(entity.getName());
+        filtersKey.append("|filters=").append(ResultCache.getCanonicalFilters(request.getQueryFilters()));
+        filtersKey.append("|fetch=").append(Arrays.toString(request.getFetchEntityPaths()));
+
+        return filtersKey.toString();
+    }
+
+    //NOTICE: filters &amp; sub-filters are sorted (order of compound filter operands does NOT change the result)
+    private static String getCanonicalFilters(QueryExpression.CompoundFilter compoundFilter)
+    {
+        if(compoundFilter == null) return "";
+
+        List<String> operands = new ArrayList<>();
+        if(compoundFilter.getFilters() != null)
+        {
+            for(QueryExpression.Filter<?> filter : compoundFilter.getFilters())
+            {
+                operands.add(QueryPlanCache.getEntityPathShape(filter.getColumnEntityPath()) + ":" + filter.getCompareOperator() + ":" + filter.getValueModifier() + ":" + Arrays.toString(filter.getValue()));
+            }
+        }
+
+        if(compoundFilter.getCompoundFilters() != null)
+        {
+            for(QueryExpression.CompoundFilter subFilter : compoundFilter.getCompoundFilters())
+            {
+                operands.add(ResultCache.getCanonicalFilters(subFilter));
+            }
+        }
+
+        Collections.sort(operands);
+        return compoundFilter.getLogicOperator() + "(" + String.join(";", operands) + ")";
+    }
+
+    private static Set<Class<?>> getRequestEntities(Metamodel metamodel, Class<?> entity, PageRequest<?> request)
+    {
+        Set<Class<?>> entities = new HashSet<>();
+        entities.add(entity);
+
+        for(QueryExpression.Filter<?> filter : QueryPlanCache.flattenFilters(request.getQueryFilters()))
+        {
+            ResultCache.addPathEntities(metamodel, entity, filter.getColumnEntityPath(), entities);
+        }
+
+        if(request.getFetchEntityPaths() != null)
+        {
+            for(String fetchPath : request.getFetchEntityPaths())
+            {
+                ResultCache.addPathEntities(metamodel, entity, new ImmutablePair<>(null, fetchPath), entities);
+            }
+        }
+
+        return entities;
+    }
+
+    private static void addColumnEntities(Metamodel metamodel, QueryExpression column, Set<Class<?>> entities)
+    {
+        Class<?> rootEntity = column.getRootEntity();
+        if(rootEntity != null) entities.add(rootEntity);
+
+        ResultCache.addPathEntities(metamodel, rootEntity, column.getValueColumnEntityPath(), entities);
+        if(column.getLabelColumnEntityPath() != null)
+        {
+            for(String labelPath : column.getLabelColumnEntityPath().getValue().split(EntityService.LABEL_PATHS_SEPARATOR))
+            {
+                ResultCache.addPathEntities(metamodel, rootEntity, new ImmutablePair<>(column.getLabelColumnEntityPath().getKey(), labelPath.trim()), entities);
+            }
+        }
+
+        if(column.getFilters() != null)
+        {
+            for(QueryExpression.Filter<?> filter : column.getFilters())
+            {
+                ResultCache.addPathEntities(metamodel, rootEntity, filter.getColumnEntityPath(), entities);
+            }
+        }
+    }
+
+    /**
+     * Adds entity of the path field &amp; all entities joined along the path (from root entity)
+     * WARNING: cross-join path items are NOT resolved - changes of cross-joined entities are refreshed only after TTL expiration
+     */
+    private static void addPathEntities(Metamodel metamodel, Class<?> rootEntity, Pair<Class<?>, String> entityPath, Set<Class<?>> entities)
+    {
+        if(entityPath == null) return;
+        if(entityPath.getKey() != null) entities.add(entityPath.getKey());
+        if(rootEntity == null || entityPath.getValue() == null) return;
+
+        Class<?> pathType = rootEntity;
+        for(String pathItem : StringUtils.split(entityPath.getValue(), ReflectionHelper.PATH_SEPARATOR))
+        {
+            Attribute<?, ?> attribute = null;
+            try
+            {
+                attribute = metamodel.managedType(pathType).getAttribute(pathItem);
+            }
+            catch(IllegalArgumentException ex)
+            {
+                return; //NOT managed type or attribute (e.g. cross-join)
+            }
+
+            pathType = (attribute instanceof PluralAttribute) ? ((PluralAttribute<?, ?, ?>) attribute).getElementType().getJavaType() : attribute.getJavaType();
+            if(attribute.isAssociation()) entities.add(pathType);
+        }
+    }
+
+    private static class CacheEntry
+    {
+        private final long createdNs = System.nanoTime();
+        private final Map<Object, Object> values;
+        private final Set<Class<?>> relatedEntities;
+
+        private CacheEntry(Map<Object, Object> values, Set<Class<?>> relatedEntities)
+        {
+            this.values = values;
+            this.relatedEntities = relatedEntities;
+        }
+    }
+
+    /**
+     * Missing cache entry - cache key &amp; generations of related entities at lookup time
+     */
+    private record MissingEntry(String cacheKey, Map<Class<?>, Long> entityGenerations)
+    {
+    }
+
+    /**
+     * ResultCache.CacheLookup holds cached values &amp; missing columns of single request
+     * Missing columns are queried by the caller and completed values are stored back to the cache
+     */
+    public static class CacheLookup
+    {
+        private final ResultCache resultCache;
+        private final long clearGeneration;
+        private final Set<QueryExpression> missingColumns = new LinkedHashSet<>();
+        private final Map<String, MissingEntry> missingEntries = new HashMap<>();
+        private final Map<String, Map<Object, Object>> cachedValues = new HashMap<>();
+
+        //NOTICE: pass-through lookup (caching disabled) - all columns are missing
+        CacheLookup(Set<QueryExpression> columns)
+        {
+            this.resultCache = null;
+            this.clearGeneration = 0;
+            if(columns != null) this.missingColumns.addAll(columns);
+        }
+
+        private CacheLookup(ResultCache resultCache, long clearGeneration)
+        {
+            this.resultCache = resultCache;
+            this.clearGeneration = clearGeneration;
+        }
+
+        Set<QueryExpression> getMissingColumns()
+        {
+            return this.missingColumns;
+        }
+
+        private void addCachedValues(String valueKey, Map<Object, Object> values)
+        {
+            if(this.cachedValues.containsKey(valueKey)) throw new RuntimeException(String.format("Values '%s' key is duplicate!", valueKey));
+            this.cachedValues.put(valueKey, values);
+        }
+
+        private void addMissingColumn(QueryExpression column, String valueKey, MissingEntry missingEntry)
+        {
+            this.missingColumns.add(column);
+            this.missingEntries.put(valueKey, missingEntry);
+        }
+
+        Map<String, Map<Object, Object>> complete(Map<String, Map<Object, Object>> queriedValues)
+        {
+            if(this.resultCache == null) return queriedValues;
+
+            for(Map.Entry<String, MissingEntry> missingEntry : this.missingEntries.entrySet())
+            {
+                Map<Object, Object> values = queriedValues.get(missingEntry.getKey());
+                if(values != null) this.resultCache.putValues(this.clearGeneration, missingEntry.getValue(), values);
+            }
+
+            Map<String, Map<Object, Object>> values = new HashMap<>(queriedValues);
+            for(Map.Entry<String, Map<Object, Object>> cachedEntry : this.cachedValues.entrySet())
+            {
+                if(values.containsKey(cachedEntry.getKey())) throw new RuntimeException(String.format("Values '%s' key is duplicate!", cachedEntry.getKey()));
+                values.put(cachedEntry.getKey(), cachedEntry.getValue());
+            }
+
+            return values;
+        }
+    }
+
+    /**
+     * ResultCache.InvalidationListener invalidates cached values on committed entity insert/update/delete
+     */
+    private static class InvalidationListener implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener
+    {
+        private final transient ResultCache resultCache;
+
+        private InvalidationListener(ResultCache resultCache)
+        {
+            this.resultCache = resultCache;
+        }
+
+        @Override
+        public void onPostInsert(PostInsertEvent event)
+        {
+            this.resultCache.invalidate(event.getPersister().getMappedClass());
+        }
+
+        @Override
+        public void onPostUpdate(PostUpdateEvent event)
+        {
+            this.resultCache.invalidate(event.getPersister().getMappedClass());
+        }
+
+        @Override
+        public void onPostDelete(PostDeleteEvent event)
+        {
+            this.resultCache.invalidate(event.getPersister().getMappedClass());
+        }
+
+        @Override
+        public boolean requiresPostCommitHandling(EntityPersister persister)
+        {
+            return true;
+        }
+    }
+}
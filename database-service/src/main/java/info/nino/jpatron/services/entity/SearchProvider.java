@@ -0,0 +1,20 @@
+package info.nino.jpatron.services.entity;
+
+import jakarta.persistence.*;
+import jakarta.persistence.criteria.*;
+
+/**
+ * SearchProvider creates predicates of the full-text search filters (SEARCH comparator of SearchMode.FULL_TEXT endpoints)
+ */
+public interface SearchProvider
+{
+    /**
+     * Creates search predicate of single search field &amp; value (predicates of all search fields are combined with OR)
+     * @param em EntityManager of the query
+     * @param cb CriteriaBuilder object
+     * @param column search field column
+     * @param value search value (literal or parameter expression)
+     * @return search predicate
+     */
+    public Predicate createSearchPredicate(EntityManager em, CriteriaBuilder cb, Expression<String> column, Expression<String> value);
+}
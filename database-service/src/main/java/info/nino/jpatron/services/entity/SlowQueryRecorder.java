@@ -0,0 +1,203 @@
+package info.nino.jpatron.services.entity;
+
+import info.nino.jpatron.query.PageRequest;
+import jakarta.persistence.*;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.logging.Level;
+import java.util.stream.Collectors;
+
+/**
+ * SlowQueryRecorder captures queries exceeding slow-query threshold - rendered SQL, bind values, returned rows, wall time
+ * &amp; originating request (endpoint resource method &amp; PageRequest shape)
+ * Last N slow queries are kept in bounded lock-free ring buffer (oldest entries are overwritten) &amp; optionally logged as structured (key=value) message
+ * NOTICE: rendered SQL is captured only if SqlCaptureInspector is registered as Hibernate statement inspector - HQL is recorded otherwise
+ */
+public class SlowQueryRecorder
+{
+    private static final int MAX_CAPTURED_STATEMENTS = 32;
+    private static final ThreadLocal<List<String>> CAPTURED_STATEMENTS = new ThreadLocal<>();
+
+    private final int capacity;
+    private final long thresholdMs;
+    private final boolean logEnabled;
+    private final AtomicReferenceArray<SlowQuery> entries;
+    private final AtomicLong sequence = new AtomicLong();
+
+    /**
+     * @param capacity number of the last slow queries kept in memory
+     * @param thresholdMs default slow-query threshold in milliseconds (overridden by PageRequest.slowQueryThreshold)
+     */
+    public SlowQueryRecorder(int capacity, long thresholdMs)
+    {
+        this(capacity, thresholdMs, false);
+    }
+
+    /**
+     * @param capacity number of the last slow queries kept in memory
+     * @param thresholdMs default slow-query threshold in milliseconds (overridden by PageRequest.slowQueryThreshold)
+     * @param logEnabled flag if slow queries are logged (WARNING level)
+     */
+    public SlowQueryRecorder(int capacity, long thresholdMs, boolean logEnabled)
+    {
+        if(capacity <= 0) throw new IllegalArgumentException(String.format("SlowQueryRecorder capacity must be positive: %d", capacity));
+        if(thresholdMs < 0) throw new IllegalArgumentException(String.format("SlowQueryRecorder threshold must NOT be negative: %d", thresholdMs));
+
+        this.capacity = capacity;
+        this.thresholdMs = thresholdMs;
+        this.logEnabled = logEnabled;
+        this.entries = new AtomicReferenceArray<>(capacity);
+    }
+
+    /**
+     * Starts capturing of SQL statements executed by current thread (until query execution is recorded or capture is stopped)
+     */
+    public void startCapture()
+    {
+        CAPTURED_STATEMENTS.set(new ArrayList<>());
+    }
+
+    /**
+     * Stops capturing of SQL statements executed by current thread (called after query execution - also if execution fails)
+     */
+    public void stopCapture()
+    {
+        CAPTURED_STATEMENTS.remove();
+    }
+
+    /**
+     * Records executed query if execution time exceeds slow-query threshold of the request
+     * @param entity root entity of the query
+     * @param queryType type of the query
+     * @param request originating PageRequest
+     * @param query executed query
+     * @param executionTimeNs execution time including result fetching (nanoseconds)
+     * @param rows number of returned rows
+     */
+    public void record(Class<?> entity, EntityService.QueryType queryType, PageRequest<?> request, Query query, long executionTimeNs, long rows)
+    {
+        List<String> statements = CAPTURED_STATEMENTS.get();
+        this.stopCapture();
+
+        long thresholdMs = (request != null && request.getSlowQueryThreshold() >= 0) ? request.getSlowQueryThreshold() : this.thresholdMs;
+        if(executionTimeNs < TimeUnit.MILLISECONDS.toNanos(thresholdMs)) return;
+
+        //NOTICE: SQL, bind values & request shape are resolved only for slow queries
+        List<String> sql = (statements != null && !statements.isEmpty()) ? statements : Collections.singletonList(query.unwrap(org.hibernate.query.Query.class).getQueryString());
+        String endpoint = (request != null) ? request.getEndpoint() : null;
+        String requestShape = (request != null) ? QueryPlanCache.createShapeKey(entity, request) : null;
+
+        SlowQuery slowQuery = new SlowQuery(Instant.now(), endpoint, entity, queryType, requestShape, sql, SlowQueryRecorder.getBindValues(query), rows, TimeUnit.NANOSECONDS.toMillis(executionTimeNs));
+        this.entries.set((int) (this.sequence.getAndIncrement() % this.capacity), slowQuery);
+
+        if(this.logEnabled)
+        {
+            EntityService.logger.log(Level.WARNING, String.format("EntityService slow query: endpoint=%s entity=%s type=%s timeMs=%d rows=%d shape=\"%s\" sql=\"%s\" binds=%s",
+                    slowQuery.endpoint(), entity.getSimpleName(), queryType, slowQuery.timeMs(), rows, requestShape, String.join("; ", sql), slowQuery.bindValues()));
+        }
+    }
+
+    //NOTICE: values of criteria literals are bound as (implicit) parameters - inaccessible values are recorded as '?'
+    private static Map<String, Object> getBindValues(Query query)
+    {
+        Map<String, Object> bindValues = new LinkedHashMap<>();
+
+        int index = 0;
+        for(jakarta.persistence.Parameter<?> parameter : query.getParameters())
+        {
+            index++;
+            String name = (parameter.getName() != null) ? parameter.getName() : String.valueOf((parameter.getPosition() != null) ? parameter.getPosition() : index);
+            try
+            {
+                bindValues.put(name, (query.isBound(parameter)) ? query.getParameterValue(parameter) : null);
+            }
+            catch(RuntimeException ex)
+            {
+                bindValues.put(name, "?");
+            }
+        }
+
+        return bindValues;
+    }
+
+    /**
+     * Recorded slow queries (newest first)
+     * @return list of SlowQuery objects
+     */
+    public List<SlowQuery> getEntries()
+    {
+        //NOTICE: snapshot is weakly consistent - entries recorded concurrently may (or may not) be included
+        long last = this.sequence.get();
+        List<SlowQuery> slowQueries = new ArrayList<>();
+        for(long i = last - 1; i >= Math.max(last - this.capacity, 0); i--)
+        {
+            SlowQuery slowQuery = this.entries.get((int) (i % this.capacity));
+            if(slowQuery != null) slowQueries.add(slowQuery);
+        }
+
+        return slowQueries;
+    }
+
+    /**
+     * Recorded slow queries of the endpoint (newest first)
+     * @param endpoint name of the originating endpoint (resource method)
+     * @return list of SlowQuery objects
+     */
+    public List<SlowQuery> getEntries(String endpoint)
+    {
+        return this.getEntries().stream().filter(sq -> Objects.equals(endpoint, sq.endpoint())).collect(Collectors.toList());
+    }
+
+    public void clear()
+    {
+        for(int i = 0; i < this.capacity; i++) this.entries.set(i, null);
+    }
+
+    public int getCapacity()
+    {
+        return capacity;
+    }
+
+    public long getThresholdMs()
+    {
+        return thresholdMs;
+    }
+
+    /**
+     * Recorded slow query
+     * @param timestamp time of recording
+     * @param endpoint originating endpoint (resource method) or null
+     * @param entity root entity of the query
+     * @param queryType type of the query
+     * @param requestShape shape of the originating PageRequest (filter paths &amp; operators, sorts, pagination - without values)
+     * @param sql rendered SQL statements executed by the query (or HQL if statements were not captured)
+     * @param bindValues bound parameter values
+     * @param rows number of returned rows
+     * @param timeMs execution time including result fetching (milliseconds)
+     */
+    public record SlowQuery(Instant timestamp, String endpoint, Class<?> entity, EntityService.QueryType queryType, String requestShape, List<String> sql, Map<String, Object> bindValues, long rows, long timeMs)
+    {
+    }
+
+    /**
+     * Hibernate statement inspector capturing rendered SQL of the queries recorded by SlowQueryRecorder (SQL is NOT modified)
+     * Registration (persistence unit property): hibernate.session_factory.statement_inspector = info.nino.jpatron.services.entity.SlowQueryRecorder$SqlCaptureInspector
+     */
+    public static class SqlCaptureInspector implements StatementInspector
+    {
+        @Override
+        public String inspect(String sql)
+        {
+            //NOTICE: all statements between query start & recording are captured (e.g. secondary selects of entity-graph)
+            List<String> statements = CAPTURED_STATEMENTS.get();
+            if(statements != null && statements.size() < MAX_CAPTURED_STATEMENTS) statements.add(sql);
+
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package info.nino.jpatron.services.entity;
+
+/**
+ * Enum strategies of the to-many collection comparators (EACH, NotEACH, EXCEPT, NotEXCEPT) used in EntityService.PredicateBuilder
+ * COUNT - correlated COUNT subquery compared with number of values (evaluated per outer row; EACH counts distinct values)
+ * SEMI_JOIN - EXISTS/NOT EXISTS subquery with value predicate (EACH: uncorrelated GROUP BY/HAVING subquery of matching parent ids)
+ * DIALECT - SEMI_JOIN for PostgreSQL, CockroachDB, MySQL/MariaDB, H2 &amp; HSQLDB dialects, COUNT for other dialects
+ */
+public enum SubqueryStrategy
+{
+    COUNT, SEMI_JOIN, DIALECT;
+}
@@ -0,0 +1,211 @@
+package info.nino.jpatron.services.entity;
+
+import com.github.sisyphsu.dateparser.DateParserUtils;
+import info.nino.jpatron.helpers.ConstantsUtil;
+import info.nino.jpatron.helpers.DateTimeFormatUtil;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.text.ParsePosition;
+import java.time.*;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoField;
+import java.time.temporal.Temporal;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQueries;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Registry of String value parsers - parser is resolved once per target (entity attribute) class
+ * Parses String values of the API request (filters, cursors) to Comparable values of the entity attribute type
+ * Supported types: String, primitives &amp; wrappers, BigDecimal, BigInteger, UUID, enums (case-insensitive),
+ * java.time types (Instant, LocalDate, LocalDateTime, LocalTime, OffsetDateTime, OffsetTime, ZonedDateTime, Year, YearMonth, Duration)
+ * and legacy Date/Calendar types (parsed to java.util.Date) - values of other types are not parsed (String value is returned)
+ * Date-time values are parsed with pattern of the 'jpatron.database-service.parser.date.format-pattern' system property (ISO-8601 by default),
+ * ISO-8601 date/time formats &amp; finally with (expensive) wildcard date parser
+ */
+public final class ValueParser
+{
+    private static final Function<String, Comparable<?>> STRING_PARSER = value -> value;
+
+    //NOTICE: ISO formats are tried after configured pattern (e.g. cursor values of java.time types are formatted with toString())
+    private static final DateTimeFormatter[] ISO_FORMATTERS = {
+            DateTimeFormatter.ISO_DATE_TIME,
+            DateTimeFormatter.ISO_LOCAL_DATE,
+            DateTimeFormatter.ISO_TIME
+    };
+
+    private static final Map<Class<?>, Function<String, ? extends Comparable<?>>> CUSTOM_PARSERS = new ConcurrentHashMap<>();
+
+    private static final ClassValue<Function<String, ? extends Comparable<?>>> PARSERS = new ClassValue<>()
+    {
+        @Override
+        protected Function<String, ? extends Comparable<?>> computeValue(Class<?> clazz)
+        {
+            return ValueParser.resolveParser(clazz);
+        }
+    };
+
+    private ValueParser()
+    {
+    }
+
+    /**
+     * Registers custom parser of the type (e.g. custom value type or attribute converter type)
+     * Custom parser has priority over built-in parser of the same type
+     * @param clazz parsed (entity attribute) type
+     * @param parser parser of the String value (throws exception if value is invalid)
+     */
+    public static <T extends Comparable<? super T>> void register(Class<T> clazz, Function<String, T> parser)
+    {
+        CUSTOM_PARSERS.put(clazz, parser);
+    }
+
+    /**
+     * Resolved (cached) parser of the type
+     * @param clazz parsed (entity attribute) type
+     * @return parser of the String value (throws exception if value is invalid)
+     */
+    public static Function<String, ? extends Comparable<?>> forClass(Class<?> clazz)
+    {
+        Function<String, ? extends Comparable<?>> parser = CUSTOM_PARSERS.get(clazz);
+        return (parser != null) ? parser : PARSERS.get(clazz);
+    }
+
+    /**
+     * Parses String value to Comparable value of the type
+     * @param clazz parsed (entity attribute) type
+     * @param value String value
+     * @return parsed value (or original String value if type is not supported)
+     * @throws RuntimeException if value is not valid value of the type
+     */
+    public static Comparable<?> parse(Class<?> clazz, String value)
+    {
+        return ValueParser.forClass(clazz).apply(value);
+    }
+
+    private static Function<String, ? extends Comparable<?>> resolveParser(Class<?> clazz)
+    {
+        if(String.class == clazz) return STRING_PARSER;
+        if(Boolean.class == clazz || boolean.class == clazz) return Boolean::valueOf;
+        if(Byte.class == clazz || byte.class == clazz) return Byte::valueOf;
+        if(Short.class == clazz || short.class == clazz) return Short::valueOf;
+        if(Integer.class == clazz || int.class == clazz) return Integer::valueOf;
+        if(Long.class == clazz || long.class == clazz) return Long::valueOf;
+        if(Float.class == clazz || float.class == clazz) return Float::valueOf;
+        if(Double.class == clazz || double.class == clazz) return Double::valueOf;
+        if(BigDecimal.class == clazz) return BigDecimal::new;
+        if(BigInteger.class == clazz) return BigInteger::new;
+        if(UUID.class == clazz) return UUID::fromString;
+        if(clazz.isEnum() || Enum.class.isAssignableFrom(clazz)) return ValueParser.enumParser(clazz);
+
+        if(Instant.class == clazz) return value -> ValueParser.toInstant(ValueParser.parseTemporal(value));
+        if(LocalDate.class == clazz) return value -> ValueParser.toLocalDateTime(ValueParser.parseTemporal(value)).toLocalDate();
+        if(LocalDateTime.class == clazz) return value -> ValueParser.toLocalDateTime(ValueParser.parseTemporal(value));
+        if(LocalTime.class == clazz) return value -> ValueParser.toLocalTime(ValueParser.parseTemporal(value));
+        if(OffsetDateTime.class == clazz) return value -> ValueParser.toZonedDateTime(ValueParser.parseTemporal(value)).toOffsetDateTime();
+        if(ZonedDateTime.class == clazz) return value -> ValueParser.toZonedDateTime(ValueParser.parseTemporal(value));
+        if(OffsetTime.class == clazz) return value -> ValueParser.toOffsetTime(ValueParser.parseTemporal(value));
+        if(Year.class == clazz) return Year::parse;
+        if(YearMonth.class == clazz) return YearMonth::parse;
+        if(Duration.class == clazz) return Duration::parse;
+
+        //NOTICE: legacy date types (and other temporal types) are parsed to java.util.Date
+        if(Date.class.isAssignableFrom(clazz) || Calendar.class.isAssignableFrom(clazz) || Temporal.class.isAssignableFrom(clazz))
+        {
+            return value -> Date.from(ValueParser.toInstant(ValueParser.parseTemporal(value)));
+        }
+
+        return STRING_PARSER;
+    }
+
+    //NOTICE: enum constants are matched case-insensitive (first matching constant in declaration order)
+    private static Function<String, ? extends Comparable<?>> enumParser(Class<?> clazz)
+    {
+        Class<?> enumClass = (clazz.isEnum()) ? clazz : clazz.getSuperclass();   //enum constant with body
+        Object[] enumConstants = enumClass.getEnumConstants();
+        if(enumConstants == null) return STRING_PARSER;
+
+        Map<String, Enum<?>> constants = new HashMap<>();
+        for(Object enumConstant : enumConstants)
+        {
+            constants.putIfAbsent(((Enum<?>) enumConstant).name().toUpperCase(Locale.ROOT), (Enum<?>) enumConstant);
+        }
+
+        return value ->
+        {
+            Enum<?> enumConstant = constants.get(value.toUpperCase(Locale.ROOT));
+            if(enumConstant == null) throw new IllegalArgumentException(String.format("No enum constant %s.%s", enumClass.getCanonicalName(), value));
+
+            return enumConstant;
+        };
+    }
+
+    private static TemporalAccessor parseTemporal(String value)
+    {
+        String dateFormatPattern = System.getProperty(ConstantsUtil.ENTITY_SERVICE_DATE_FORMAT_PATTERN, DateTimeFormatUtil.TIMESTAMP_PATTERN_ISO8601);
+
+        TemporalAccessor temporal = ValueParser.parseTemporal(DateTimeFormatUtil.getDateTimeFormatter(dateFormatPattern), value);
+        for(int i = 0; temporal == null && i < ISO_FORMATTERS.length; i++)
+        {
+            temporal = ValueParser.parseTemporal(ISO_FORMATTERS[i], value);
+        }
+
+        //WARNING: wildcard date parser is expensive - only used if value doesn't match any format
+        return (temporal != null) ? temporal : DateParserUtils.parseDate(value).toInstant();
+    }
+
+    //NOTICE: unresolved parsing doesn't throw exception if value doesn't match the format
+    private static TemporalAccessor parseTemporal(DateTimeFormatter formatter, String value)
+    {
+        ParsePosition position = new ParsePosition(0);
+        formatter.parseUnresolved(value, position);
+        if(position.getErrorIndex() >= 0 || position.getIndex() != value.length()) return null;
+
+        return formatter.parse(value);
+    }
+
+    private static Instant toInstant(TemporalAccessor temporal)
+    {
+        if(temporal.isSupported(ChronoField.INSTANT_SECONDS)) return Instant.from(temporal);
+
+        return ValueParser.toLocalDateTime(temporal).atZone(ZoneId.systemDefault()).toInstant();
+    }
+
+    //NOTICE: date-time values with offset/zone are converted to system time-zone (same as java.util.Date values)
+    private static LocalDateTime toLocalDateTime(TemporalAccessor temporal)
+    {
+        if(temporal.isSupported(ChronoField.INSTANT_SECONDS)) return LocalDateTime.ofInstant(Instant.from(temporal), ZoneId.systemDefault());
+
+        LocalDate date = temporal.query(TemporalQueries.localDate());
+        if(date == null) throw new DateTimeException(String.format("Date-time value '%s' doesn't contain date!", temporal));
+
+        LocalTime time = temporal.query(TemporalQueries.localTime());
+        return (time != null) ? date.atTime(time) : date.atStartOfDay();
+    }
+
+    private static LocalTime toLocalTime(TemporalAccessor temporal)
+    {
+        if(temporal.isSupported(ChronoField.INSTANT_SECONDS)) return LocalDateTime.ofInstant(Instant.from(temporal), ZoneId.systemDefault()).toLocalTime();
+
+        LocalTime time = temporal.query(TemporalQueries.localTime());
+        return (time != null) ? time : LocalTime.MIDNIGHT;
+    }
+
+    private static ZonedDateTime toZonedDateTime(TemporalAccessor temporal)
+    {
+        ZoneId zone = temporal.query(TemporalQueries.zone());
+        return ValueParser.toInstant(temporal).atZone((zone != null) ? zone : ZoneId.systemDefault());
+    }
+
+    private static OffsetTime toOffsetTime(TemporalAccessor temporal)
+    {
+        if(temporal.isSupported(ChronoField.INSTANT_SECONDS)) return ValueParser.toZonedDateTime(temporal).toOffsetDateTime().toOffsetTime();
+
+        ZoneOffset offset = temporal.query(TemporalQueries.offset());
+        LocalTime time = ValueParser.toLocalTime(temporal);
+        return OffsetTime.of(time, (offset != null) ? offset : ZoneId.systemDefault().getRules().getOffset(Instant.now()));
+    }
+}
@@ -0,0 +1,45 @@
+package info.nino.jpatron.services.entity;
+
+import info.nino.jpatron.pagination.Page;
+import info.nino.jpatron.query.RequestBuilder;
+import info.nino.jpatron.services.entity.model.ItemEntity;
+import jakarta.persistence.EntityManager;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Sequential batch must NOT change caller EntityManager (persistence context, read-only default &amp; flush mode)
+ */
+public class BatchQueryTest extends EntityServiceTestBase {
+
+    @Override
+    protected void seedDatabase(EntityManager em) {
+        for (long i = 1; i <= 3; i++) {
+            em.persist(new ItemEntity(i, "Item " + i));
+        }
+    }
+
+    @Test
+    public void testSequentialBatchLeavesCallerEntityManagerUntouched() {
+        Session session = em.unwrap(Session.class);
+        FlushMode flushMode = session.getHibernateFlushMode();
+
+        Map<String, Page<?>> pages = new BatchQuery()
+                .add("first", new TestService<>(em, ItemEntity.class), RequestBuilder.init(ItemEntity.class, 2, 1).addSorting("id").build())
+                .add("all", new TestService<>(em, ItemEntity.class), RequestBuilder.init(ItemEntity.class).build())
+                .execute(em);
+
+        assertEquals(2, pages.get("first").getContent().size());
+        assertEquals(3, pages.get("all").getContent().size());
+
+        assertFalse(session.isDefaultReadOnly());
+        assertEquals(flushMode, session.getHibernateFlushMode());
+        pages.get("all").getContent().forEach(item -> assertFalse(em.contains(item)));
+    }
+}
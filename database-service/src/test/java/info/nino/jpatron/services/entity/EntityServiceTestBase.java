@@ -0,0 +1,107 @@
+package info.nino.jpatron.services.entity;
+
+import info.nino.jpatron.services.entity.model.ItemEntity;
+import info.nino.jpatron.services.entity.model.TagEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Base of the query-engine tests on in-memory H2 database (persistence unit jpatron-database-service-test)
+ * Each test class has its own named database - test classes executed in parallel do NOT share (create-drop) tables
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public abstract class EntityServiceTestBase {
+
+    private static final String PERSISTENCE_UNIT = "jpatron-database-service-test";
+
+    protected EntityManagerFactory emf;
+    protected EntityManager em;
+
+    @BeforeAll
+    public void openDatabase() {
+        String url = String.format("jdbc:h2:mem:%s;DB_CLOSE_DELAY=-1", this.getClass().getName());
+        emf = Persistence.createEntityManagerFactory(PERSISTENCE_UNIT, Map.of("jakarta.persistence.jdbc.url", url));
+        em = emf.createEntityManager();
+
+        em.getTransaction().begin();
+        this.seedDatabase(em);
+        em.getTransaction().commit();
+        em.clear();
+    }
+
+    @AfterAll
+    public void closeDatabase() {
+        em.close();
+        emf.close();
+    }
+
+    /**
+     * Seeding hook of the test class - executed in transaction (persistence context is cleared after commit)
+     */
+    protected abstract void seedDatabase(EntityManager em);
+
+    /**
+     * Persists items with given names (item ids 1..N)
+     */
+    protected static List<ItemEntity> persistItems(EntityManager em, String... itemNames) {
+        List<ItemEntity> items = new ArrayList<>();
+        for (int i = 0; i < itemNames.length; i++) {
+            ItemEntity item = new ItemEntity((long) i + 1, itemNames[i]);
+            em.persist(item);
+            items.add(item);
+        }
+
+        return items;
+    }
+
+    /**
+     * Persists items "Item N" (item ids 1..N) with tags of given names (tag ids are sequential)
+     */
+    protected static List<ItemEntity> persistItemTags(EntityManager em, String[][] itemTags) {
+        List<ItemEntity> items = new ArrayList<>();
+        long tagId = 1;
+        for (int i = 0; i < itemTags.length; i++) {
+            ItemEntity item = new ItemEntity((long) i + 1, "Item " + (i + 1));
+            em.persist(item);
+            items.add(item);
+
+            for (String tag : itemTags[i]) {
+                em.persist(new TagEntity(tagId++, tag, item));
+            }
+        }
+
+        return items;
+    }
+
+    /**
+     * EntityService of the test database - test classes extend it to override service configuration
+     */
+    protected static class TestService<E> implements EntityService<E> {
+
+        private final EntityManager em;
+        private final Class<E> entityClass;
+
+        protected TestService(EntityManager em, Class<E> entityClass) {
+            this.em = em;
+            this.entityClass = entityClass;
+        }
+
+        @Override
+        public EntityManager getEntityManager() {
+            return this.em;
+        }
+
+        @Override
+        public Class<E> getEntityClass() {
+            return this.entityClass;
+        }
+    }
+}
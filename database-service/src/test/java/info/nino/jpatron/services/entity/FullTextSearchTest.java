@@ -0,0 +1,140 @@
+package info.nino.jpatron.services.entity;
+
+import info.nino.jpatron.query.PageRequest;
+import info.nino.jpatron.query.RequestBuilder;
+import info.nino.jpatron.request.ApiRequest;
+import info.nino.jpatron.request.QueryExpression;
+import info.nino.jpatron.request.SearchMode;
+import info.nino.jpatron.services.entity.model.ItemEntity;
+import jakarta.persistence.EntityManager;
+import org.apache.commons.collections4.MultiValuedMap;
+import org.apache.commons.collections4.multimap.HashSetValuedHashMap;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Full-text search filters (SearchMode.FULL_TEXT) - request mapping to SEARCH filters &amp; LIKE fallback of the H2 dialect
+ */
+public class FullTextSearchTest extends EntityServiceTestBase {
+
+    private static final String[] ITEM_NAMES = {
+            "100% cotton",      //item 1
+            "100 percent",      //item 2
+            "snake_case",       //item 3
+            "snakeXcase",       //item 4
+            "Blue shirt",       //item 5
+            "wow!"              //item 6
+    };
+
+    @Override
+    protected void seedDatabase(EntityManager em) {
+        persistItems(em, ITEM_NAMES);
+    }
+
+    @Test
+    public void testFullTextSearchFilterMapping() {
+        List<QueryExpression.Filter<?>> filters = this.searchFilters(SearchMode.FULL_TEXT, QueryExpression.ValueModifier.LikeLR, "cotton");
+        assertEquals(1, filters.size());
+        assertEquals(QueryExpression.CompareOperator.SEARCH, filters.get(0).getCompareOperator());
+        assertEquals(QueryExpression.ValueModifier.NONE, filters.get(0).getValueModifier());
+        assertArrayEquals(new Object[] { "cotton" }, filters.get(0).getValue());
+
+        for (QueryExpression.ValueModifier splitModifier : Arrays.asList(QueryExpression.ValueModifier.SPLIT, QueryExpression.ValueModifier.SplitLikeLR)) {
+            filters = this.searchFilters(SearchMode.FULL_TEXT, splitModifier, "Blue cotton");
+            assertEquals(QueryExpression.CompareOperator.SEARCH, filters.get(0).getCompareOperator());
+            assertEquals(QueryExpression.ValueModifier.SPLIT, filters.get(0).getValueModifier(), splitModifier.name());
+        }
+
+        filters = this.searchFilters(SearchMode.LIKE, QueryExpression.ValueModifier.LikeLR, "cotton");
+        assertEquals(QueryExpression.CompareOperator.LIKE, filters.get(0).getCompareOperator());
+        assertEquals(QueryExpression.ValueModifier.LikeLR, filters.get(0).getValueModifier());
+    }
+
+    @Test
+    public void testLikeFallback() {
+        this.assertSearch(Set.of(1L), QueryExpression.ValueModifier.LikeLR, "cotton");
+        this.assertSearch(Set.of(1L, 5L), QueryExpression.ValueModifier.SplitLikeLR, "Blue cotton");
+        this.assertSearch(Set.of(), QueryExpression.ValueModifier.LikeLR, "Blue cotton");
+    }
+
+    @Test
+    public void testLikeFallbackKeepsLikeWildcards() {
+        this.assertSearch(Set.of(1L, 2L), QueryExpression.ValueModifier.LikeLR, "100%");
+        this.assertSearch(Set.of(3L, 4L), QueryExpression.ValueModifier.LikeLR, "snake_case");
+        this.assertSearch(Set.of(6L), QueryExpression.ValueModifier.LikeLR, "!");
+        this.assertSearch(Set.of(1L, 2L, 3L, 4L, 5L, 6L), QueryExpression.ValueModifier.LikeLR, "%");
+        this.assertSearch(Set.of(1L, 2L, 3L, 4L, 5L, 6L), QueryExpression.ValueModifier.LikeLR, "%_");
+    }
+
+    private void assertSearch(Set<Long> expectedIds, QueryExpression.ValueModifier modifier, String value) {
+        //LIKE fallback of full-text search must match the same items as LIKE search
+        assertEquals(new TreeSet<>(expectedIds), this.search(SearchMode.LIKE, modifier, value, null), String.format("'%s' LIKE", value));
+
+        QueryPlanCache queryPlanCache = new QueryPlanCache(10);
+        for (QueryPlanCache planCache : new QueryPlanCache[] { null, queryPlanCache, queryPlanCache }) {
+            Set<Long> ids = this.search(SearchMode.FULL_TEXT, modifier, value, planCache);
+            assertEquals(new TreeSet<>(expectedIds), ids, String.format("'%s' planCache=%s", value, planCache != null));
+        }
+    }
+
+    private Set<Long> search(SearchMode searchMode, QueryExpression.ValueModifier modifier, String value, QueryPlanCache planCache) {
+        return new ItemService(em, planCache).dataQuery(this.createRequest(searchMode, modifier, value)).getContent().stream()
+                .map(ItemEntity::getId)
+                .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    private List<QueryExpression.Filter<?>> searchFilters(SearchMode searchMode, QueryExpression.ValueModifier modifier, String value) {
+        List<QueryExpression.Filter<?>> filters = new ArrayList<>();
+        this.collectFilters(this.createRequest(searchMode, modifier, value).getQueryFilters(), filters);
+
+        return filters;
+    }
+
+    private void collectFilters(QueryExpression.CompoundFilter compoundFilter, List<QueryExpression.Filter<?>> filters) {
+        if (compoundFilter.getFilters() != null) {
+            filters.addAll(compoundFilter.getFilters());
+        }
+
+        if (compoundFilter.getCompoundFilters() != null) {
+            compoundFilter.getCompoundFilters().forEach(cf -> this.collectFilters(cf, filters));
+        }
+    }
+
+    private PageRequest<ItemEntity> createRequest(SearchMode searchMode, QueryExpression.ValueModifier modifier, String value) {
+        MultiValuedMap<QueryExpression.ValueModifier, String> searchValues = new HashSetValuedHashMap<>();
+        searchValues.put(modifier, value);
+
+        ApiRequest.QueryParams queryParams = new ApiRequest.QueryParams(null, null);
+        queryParams.setSearches(Map.of(ItemEntity.class, Map.of("name", searchValues)));
+
+        ApiRequest<ItemEntity> apiRequest = new ApiRequest<>(ItemEntity.class, queryParams, false, true, null, null) { };
+        apiRequest.setSearchMode(searchMode);
+
+        return RequestBuilder.init(apiRequest).build();
+    }
+
+    private static class ItemService extends TestService<ItemEntity> {
+
+        private final QueryPlanCache queryPlanCache;
+
+        private ItemService(EntityManager em, QueryPlanCache queryPlanCache) {
+            super(em, ItemEntity.class);
+            this.queryPlanCache = queryPlanCache;
+        }
+
+        @Override
+        public QueryPlanCache getQueryPlanCache() {
+            return this.queryPlanCache;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package info.nino.jpatron.services.entity;
+
+import info.nino.jpatron.query.RequestBuilder;
+import info.nino.jpatron.request.QueryExpression;
+import info.nino.jpatron.services.entity.model.ItemEntity;
+import info.nino.jpatron.services.entity.model.TagEntity;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Multi-value filters above array threshold (array binding) &amp; above chunk size (chunked IN-lists) must match plain IN-list results
+ * Each filter is executed with &amp; without query-plan cache (plan template is executed twice to hit the cache)
+ */
+public class InListQueryTest extends EntityServiceTestBase {
+
+    private static final int ITEMS = 12;
+    private static final int ARRAY_THRESHOLD = 4;
+
+    private static final QueryExpression.CompareOperator IN = QueryExpression.CompareOperator.IN;
+    private static final QueryExpression.CompareOperator NOT_IN = QueryExpression.CompareOperator.NotIN;
+    private static final QueryExpression.CompareOperator EACH = QueryExpression.CompareOperator.EACH;
+    private static final QueryExpression.CompareOperator NOT_EACH = QueryExpression.CompareOperator.NotEACH;
+
+    @Override
+    protected void seedDatabase(EntityManager em) {
+        //item N has tags t1..tN
+        long tagId = 1;
+        for (int i = 1; i <= ITEMS; i++) {
+            ItemEntity item = new ItemEntity((long) i, "Item " + i);
+            em.persist(item);
+
+            for (int t = 1; t <= i; t++) {
+                em.persist(new TagEntity(tagId++, "t" + t, item));
+            }
+        }
+    }
+
+    @Test
+    public void testArrayBindingIsApplied() {
+        InListStrategy strategy = new InListStrategy(true, 1000, ARRAY_THRESHOLD);
+
+        assertTrue(strategy.isArrayBinding(em, IN, ARRAY_THRESHOLD + 1));
+        assertEquals(-1, strategy.getBoundSize(em, EACH, ARRAY_THRESHOLD + 1));
+        assertEquals(ARRAY_THRESHOLD, strategy.getBoundSize(em, IN, ARRAY_THRESHOLD));
+    }
+
+    @Test
+    public void testInAboveArrayThreshold() {
+        Long[] ids = this.ids(1, 6);
+
+        this.assertAllStrategies(this.idRange(1, 6), rb -> rb.addAndFilter("id", IN, ids));
+        this.assertAllStrategies(this.idRange(7, ITEMS), rb -> rb.addAndFilter("id", NOT_IN, ids));
+    }
+
+    @Test
+    public void testEachAboveArrayThreshold() {
+        String[] tags = this.tags(1, 6);
+
+        this.assertAllStrategies(this.idRange(6, ITEMS), rb -> rb.addAndFilter("tags.name", EACH, tags));
+        this.assertAllStrategies(this.idRange(1, 5), rb -> rb.addAndFilter("tags.name", NOT_EACH, tags));
+    }
+
+    @Test
+    public void testChunkedInLists() {
+        this.assertAllStrategies(this.idRange(1, ITEMS), rb -> rb.addAndFilter("id", IN, this.ids(1, 1500)));
+        this.assertAllStrategies(this.idRange(1, 2), rb -> rb.addAndFilter("id", NOT_IN, this.ids(3, 1502)));
+        this.assertAllStrategies(Set.of(), rb -> rb.addAndFilter("tags.name", EACH, this.tags(1, 1001)));
+        this.assertAllStrategies(this.idRange(1, ITEMS), rb -> rb.addAndFilter("tags.name", NOT_EACH, this.tags(1, 1001)));
+    }
+
+    private void assertAllStrategies(Set<Long> expectedIds, Function<RequestBuilder<ItemEntity>, RequestBuilder<ItemEntity>> filter) {
+        InListStrategy[] strategies = {
+                InListStrategy.DEFAULT,
+                new InListStrategy(true, 1000, ARRAY_THRESHOLD),
+                new InListStrategy(false, 1000, ARRAY_THRESHOLD)
+        };
+
+        for (InListStrategy strategy : strategies) {
+            QueryPlanCache queryPlanCache = new QueryPlanCache(10);
+            for (QueryPlanCache planCache : new QueryPlanCache[] { null, queryPlanCache, queryPlanCache }) {
+                ItemService itemService = new ItemService(em, strategy, planCache);
+                Set<Long> ids = itemService.dataQuery(filter.apply(RequestBuilder.init(ItemEntity.class)).build()).getContent().stream()
+                        .map(ItemEntity::getId)
+                        .collect(Collectors.toCollection(TreeSet::new));
+
+                String message = String.format("padding=%s arrayThreshold=%d planCache=%s", strategy.isPadding(), strategy.getArrayThreshold(), planCache != null);
+                assertEquals(new TreeSet<>(expectedIds), ids, message);
+            }
+        }
+    }
+
+    private Set<Long> idRange(long from, long to) {
+        return LongStream.rangeClosed(from, to).boxed().collect(Collectors.toSet());
+    }
+
+    private Long[] ids(long from, long to) {
+        return LongStream.rangeClosed(from, to).boxed().toArray(Long[]::new);
+    }
+
+    private String[] tags(int from, int to) {
+        return IntStream.rangeClosed(from, to).mapToObj(t -> "t" + t).toArray(String[]::new);
+    }
+
+    private static class ItemService extends TestService<ItemEntity> {
+
+        private final InListStrategy inListStrategy;
+        private final QueryPlanCache queryPlanCache;
+
+        private ItemService(EntityManager em, InListStrategy inListStrategy, QueryPlanCache queryPlanCache) {
+            super(em, ItemEntity.class);
+            this.inListStrategy = inListStrategy;
+            this.queryPlanCache = queryPlanCache;
+        }
+
+        @Override
+        public InListStrategy getInListStrategy() {
+            return this.inListStrategy;
+        }
+
+        @Override
+        public QueryPlanCache getQueryPlanCache() {
+            return this.queryPlanCache;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package info.nino.jpatron.services.entity;
+
+import info.nino.jpatron.request.QueryExpression;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class InListStrategyTest {
+
+    private static final QueryExpression.CompareOperator IN = QueryExpression.CompareOperator.IN;
+
+    @Test
+    public void testPaddedValues() {
+        InListStrategy strategy = new InListStrategy(true, 1000, -1);
+
+        assertArrayEquals(new Object[] { 1L }, strategy.resolveValues(null, IN, Long.class, new Object[] { 1L }));
+        assertArrayEquals(new Object[] { 1L, 2L, 3L, 3L }, strategy.resolveValues(null, IN, Long.class, new Object[] { 1L, 2L, 3L }));
+        assertArrayEquals(new Object[] { 1L, 2L, 3L, 4L, 5L, 5L, 5L, 5L }, strategy.resolveValues(null, QueryExpression.CompareOperator.NotEACH, Long.class, new Object[] { 1L, 2L, 3L, 4L, 5L }));
+
+        Object[] values = new Object[] { "a", "b", "c" };
+        assertSame(values, strategy.resolveValues(null, QueryExpression.CompareOperator.EQ, String.class, values));
+    }
+
+    @Test
+    public void testBoundSize() {
+        InListStrategy strategy = new InListStrategy(true, 1000, -1);
+
+        assertEquals(0, strategy.getBoundSize(null, IN, 0));
+        assertEquals(16, strategy.getBoundSize(null, IN, 9));
+        assertEquals(16, strategy.getBoundSize(null, IN, 16));
+        assertEquals(1000, strategy.getBoundSize(null, IN, 600));
+        assertEquals(3000, strategy.getBoundSize(null, IN, 2001));
+        assertEquals(3, strategy.getBoundSize(null, QueryExpression.CompareOperator.LIKE, 3));
+
+        InListStrategy noPadding = new InListStrategy(false, 1000, -1);
+        assertEquals(9, noPadding.getBoundSize(null, IN, 9));
+        assertFalse(noPadding.isArrayBinding(null, IN, 100_000));
+    }
+
+    @Test
+    public void testInvalidChunkSize() {
+        assertThrows(IllegalArgumentException.class, () -> new InListStrategy(true, 0, -1));
+    }
+}
@@ -0,0 +1,63 @@
+package info.nino.jpatron.services.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class InMemoryQueryMetricsTest {
+
+    private static class Person {
+    }
+
+    @Test
+    public void testTimerPercentiles() {
+        InMemoryQueryMetrics.Timer timer = new InMemoryQueryMetrics.Timer();
+        assertEquals(0L, timer.getPercentileNs(99));
+
+        for (int i = 0; i < 99; i++) timer.record(100);     //bucket [64, 128)
+        timer.record(5_000);                                 //bucket [4096, 8192)
+
+        assertEquals(100, timer.getCount());
+        assertEquals(99 * 100 + 5_000, timer.getTotalTimeNs());
+        assertEquals(5_000, timer.getMaxTimeNs());
+        assertEquals(127, timer.getPercentileNs(50));
+        assertEquals(127, timer.getPercentileNs(99));
+        assertEquals(5_000, timer.getPercentileNs(100));
+        assertThrows(IllegalArgumentException.class, () -> timer.getPercentileNs(101));
+    }
+
+    @Test
+    public void testTimerEdgeValues() {
+        InMemoryQueryMetrics.Timer timer = new InMemoryQueryMetrics.Timer();
+        timer.record(-1);
+        timer.record(Long.MAX_VALUE);
+
+        assertEquals(1L, timer.getPercentileNs(50));
+        assertEquals(Long.MAX_VALUE, timer.getPercentileNs(100));
+    }
+
+    @Test
+    public void testSnapshotPerEntityAndQueryType() {
+        InMemoryQueryMetrics metrics = new InMemoryQueryMetrics();
+        metrics.recordBuild(Person.class, EntityService.QueryType.DATA, 1_000);
+        metrics.recordExecution(Person.class, EntityService.QueryType.DATA, 2_000, 20);
+        metrics.recordExecution(Person.class, EntityService.QueryType.DATA, 3_000, 5);
+        metrics.recordPostProcessing(Person.class, EntityService.QueryType.AGGREGATION, 500);
+
+        Map<String, Number> snapshot = metrics.getSnapshot();
+        assertEquals(1L, snapshot.get("Person.DATA.build.count"));
+        assertEquals(2L, snapshot.get("Person.DATA.execution.count"));
+        assertEquals(5_000L, snapshot.get("Person.DATA.execution.time.total.ns"));
+        assertEquals(25L, snapshot.get("Person.DATA.rows"));
+        assertFalse(snapshot.containsKey("Person.COUNT.execution.count"));
+        assertEquals(1L, snapshot.get("Person.AGGREGATION.post-processing.count"));
+
+        metrics.reset();
+        assertTrue(metrics.getSnapshot().isEmpty());
+    }
+}
@@ -0,0 +1,73 @@
+package info.nino.jpatron.services.entity;
+
+import info.nino.jpatron.pagination.Page;
+import info.nino.jpatron.query.RequestBuilder;
+import info.nino.jpatron.request.QuerySort;
+import info.nino.jpatron.services.entity.model.ItemEntity;
+import info.nino.jpatron.services.entity.model.TagEntity;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Keyset pagination - cursor is resolved from selected sort columns &amp; to-many sort columns are rejected
+ */
+public class KeysetPaginationTest extends EntityServiceTestBase {
+
+    private static final String[] ITEM_NAMES = { "b", "a", "c" };
+    private static final long[] TAG_ITEMS = { 1, 2, 1, 3, 2 };
+
+    @Override
+    protected void seedDatabase(EntityManager em) {
+        List<ItemEntity> items = persistItems(em, ITEM_NAMES);
+        for (int i = 0; i < TAG_ITEMS.length; i++) {
+            em.persist(new TagEntity((long) i + 1, "tag " + (i + 1), items.get((int) TAG_ITEMS[i] - 1)));
+        }
+    }
+
+    @Test
+    public void testKeysetPagesSortedByRootColumn() {
+        RequestBuilder<ItemEntity> requestBuilder = RequestBuilder.init(ItemEntity.class, 2, 1)
+                .addSorting("name", QuerySort.Direction.DESC);
+
+        assertEquals(List.of(List.of(3L, 1L), List.of(2L)), this.queryKeysetPages(new TestService<>(em, ItemEntity.class), requestBuilder, ItemEntity::getId));
+    }
+
+    @Test
+    public void testKeysetPagesSortedByToOneColumn() {
+        //tags sorted by name of the item (a: 2, 5 | b: 1, 3 | c: 4) - id tie-breaker is added to sorts
+        RequestBuilder<TagEntity> requestBuilder = RequestBuilder.init(TagEntity.class, 2, 1)
+                .addSorting("item.name", QuerySort.Direction.ASC);
+
+        assertEquals(List.of(List.of(2L, 5L), List.of(1L, 3L), List.of(4L)), this.queryKeysetPages(new TestService<>(em, TagEntity.class), requestBuilder, TagEntity::getId));
+    }
+
+    @Test
+    public void testKeysetSortByToManyColumnRejected() {
+        RequestBuilder<ItemEntity> requestBuilder = RequestBuilder.init(ItemEntity.class, 2, 1)
+                .addSorting("tags.name", QuerySort.Direction.ASC)
+                .setCursor("");
+
+        assertThrows(IllegalArgumentException.class, () -> new TestService<>(em, ItemEntity.class).dataQuery(requestBuilder.build()));
+    }
+
+    private <T> List<List<Long>> queryKeysetPages(EntityService<T> service, RequestBuilder<T> requestBuilder, Function<T, Long> idMapper) {
+        List<List<Long>> pages = new ArrayList<>();
+
+        String cursor = "";
+        while (cursor != null) {
+            Page<T> page = service.dataQuery(requestBuilder.setCursor(cursor).build());
+            pages.add(page.getContent().stream().map(idMapper).collect(Collectors.toList()));
+            cursor = page.getCursor();
+        }
+
+        return pages;
+    }
+}
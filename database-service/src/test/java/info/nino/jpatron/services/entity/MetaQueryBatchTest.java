@@ -0,0 +1,71 @@
+package info.nino.jpatron.services.entity;
+
+import info.nino.jpatron.query.PageRequest;
+import info.nino.jpatron.query.RequestBuilder;
+import info.nino.jpatron.request.QueryExpression;
+import info.nino.jpatron.services.entity.model.ItemEntity;
+import info.nino.jpatron.services.entity.model.TagEntity;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Meta-query batching - batches with different label columns are combined by UNION ALL query &amp; demultiplexed by branch tag
+ */
+public class MetaQueryBatchTest extends EntityServiceTestBase {
+
+    private static final String[] ITEM_NAMES = { "b", "a", "c" };
+    private static final String[][] TAGS = { { "x", "1" }, { "y", "2" }, { "y", "1" }, { "x", "3" }, { "x", "2" } };   //tag name & item id
+
+    @Override
+    protected void seedDatabase(EntityManager em) {
+        List<ItemEntity> items = persistItems(em, ITEM_NAMES);
+        for (int i = 0; i < TAGS.length; i++) {
+            em.persist(new TagEntity((long) i + 1, TAGS[i][0], items.get(Integer.parseInt(TAGS[i][1]) - 1)));
+        }
+    }
+
+    @Test
+    public void testMetaUnionOfDifferentLabels() {
+        Map<String, Map<Object, Object>> metaValues = new TagService(em, true).metaQuery(this.createRequest());
+
+        assertEquals(Map.of("a", 2L, "b", 2L, "c", 1L), metaValues.get("itemNames"));
+        assertEquals(Map.of("x", 3L, "y", 2L), metaValues.get("tagNames"));
+        assertEquals(Map.of("ax", 1L, "ay", 1L, "bx", 1L, "by", 1L, "cx", 1L), metaValues.get("itemTagNames"));
+        assertEquals(Map.of("1", 2.0, "2", 3.5, "3", 4.0), metaValues.get("avgTagIds"));
+    }
+
+    @Test
+    public void testMetaUnionMatchesSeparateQueries() {
+        assertEquals(new TagService(em, false).metaQuery(this.createRequest()), new TagService(em, true).metaQuery(this.createRequest()));
+    }
+
+    private PageRequest<TagEntity> createRequest() {
+        //COUNT batches (different label columns) are combined by one union query - AVG batch selects different types (separate query)
+        return RequestBuilder.init(TagEntity.class)
+                .addMeta("itemNames", "item.name", QueryExpression.Function.COUNT, "id")
+                .addMeta("tagNames", "name", QueryExpression.Function.COUNT, "id")
+                .addMeta("itemTagNames", "item.name,name", QueryExpression.Function.COUNT, "id")
+                .addMeta("avgTagIds", "item.id", QueryExpression.Function.AVG, "id")
+                .build();
+    }
+
+    private static class TagService extends TestService<TagEntity> {
+
+        private final boolean metaQueryBatching;
+
+        private TagService(EntityManager em, boolean metaQueryBatching) {
+            super(em, TagEntity.class);
+            this.metaQueryBatching = metaQueryBatching;
+        }
+
+        @Override
+        public boolean isMetaQueryBatchingEnabled() {
+            return this.metaQueryBatching;
+        }
+    }
+}
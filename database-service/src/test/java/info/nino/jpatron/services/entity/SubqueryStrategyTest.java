@@ -0,0 +1,106 @@
+package info.nino.jpatron.services.entity;
+
+import info.nino.jpatron.query.RequestBuilder;
+import info.nino.jpatron.request.QueryExpression;
+import info.nino.jpatron.services.entity.model.ItemEntity;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Semi-join strategy of the to-many collection comparators must match COUNT subquery semantics
+ */
+public class SubqueryStrategyTest extends EntityServiceTestBase {
+
+    private static final String[][] ITEM_TAGS = {
+            { "a", "b" },       //item 1
+            { "a" },            //item 2
+            { "b", "c" },       //item 3
+            { },                //item 4
+            { "a", "b", "c" },  //item 5
+            { "a", "a" }        //item 6: duplicate values
+    };
+
+    @Override
+    protected void seedDatabase(EntityManager em) {
+        persistItemTags(em, ITEM_TAGS);
+    }
+
+    @Test
+    public void testEach() {
+        this.assertStrategies(Set.of(1L, 5L), QueryExpression.CompareOperator.EACH, "a", "b");
+        this.assertStrategies(Set.of(3L, 5L), QueryExpression.CompareOperator.EACH, "c");
+        this.assertStrategies(Set.of(), QueryExpression.CompareOperator.EACH, "a", "d");
+    }
+
+    @Test
+    public void testEachWithDuplicateValues() {
+        this.assertStrategies(Set.of(1L, 2L, 5L, 6L), QueryExpression.CompareOperator.EACH, "a");
+        this.assertStrategies(Set.of(1L, 2L, 5L, 6L), QueryExpression.CompareOperator.EACH, "a", "a");
+        this.assertStrategies(Set.of(1L, 5L), QueryExpression.CompareOperator.EACH, "a", "b");
+        this.assertStrategies(Set.of(1L, 5L), QueryExpression.CompareOperator.EACH, "a", "b", "b");
+    }
+
+    @Test
+    public void testNotEach() {
+        this.assertStrategies(Set.of(4L), QueryExpression.CompareOperator.NotEACH, "a", "b");
+        this.assertStrategies(Set.of(1L, 2L, 4L, 6L), QueryExpression.CompareOperator.NotEACH, "c");
+    }
+
+    @Test
+    public void testExcept() {
+        this.assertStrategies(Set.of(3L, 5L), QueryExpression.CompareOperator.EXCEPT, "a", "b");
+        this.assertStrategies(Set.of(1L, 2L, 3L, 5L, 6L), QueryExpression.CompareOperator.EXCEPT, "c");
+    }
+
+    @Test
+    public void testNotExcept() {
+        this.assertStrategies(Set.of(1L, 2L, 4L, 6L), QueryExpression.CompareOperator.NotEXCEPT, "a", "b");
+        this.assertStrategies(Set.of(4L), QueryExpression.CompareOperator.NotEXCEPT, "c");
+    }
+
+    @Test
+    public void testCombinedFilters() {
+        for (SubqueryStrategy strategy : SubqueryStrategy.values()) {
+            RequestBuilder<ItemEntity> requestBuilder = RequestBuilder.init(ItemEntity.class)
+                    .addAndFilter("tags.name", QueryExpression.CompareOperator.EACH, "a")
+                    .addAndFilter("tags.name", QueryExpression.CompareOperator.NotEXCEPT, "a", "b");
+
+            assertEquals(Set.of(1L, 2L, 6L), this.queryIds(strategy, requestBuilder), strategy.name());
+        }
+    }
+
+    private void assertStrategies(Set<Long> expectedIds, QueryExpression.CompareOperator comparator, String... values) {
+        for (SubqueryStrategy strategy : SubqueryStrategy.values()) {
+            RequestBuilder<ItemEntity> requestBuilder = RequestBuilder.init(ItemEntity.class).addAndFilter("tags.name", comparator, values);
+
+            assertEquals(new TreeSet<>(expectedIds), this.queryIds(strategy, requestBuilder), String.format("%s %s", strategy, comparator));
+        }
+    }
+
+    private Set<Long> queryIds(SubqueryStrategy strategy, RequestBuilder<ItemEntity> requestBuilder) {
+        return new ItemService(em, strategy).dataQuery(requestBuilder.build()).getContent().stream()
+                .map(ItemEntity::getId)
+                .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    private static class ItemService extends TestService<ItemEntity> {
+
+        private final SubqueryStrategy subqueryStrategy;
+
+        private ItemService(EntityManager em, SubqueryStrategy subqueryStrategy) {
+            super(em, ItemEntity.class);
+            this.subqueryStrategy = subqueryStrategy;
+        }
+
+        @Override
+        public SubqueryStrategy getSubqueryStrategy() {
+            return this.subqueryStrategy;
+        }
+    }
+}
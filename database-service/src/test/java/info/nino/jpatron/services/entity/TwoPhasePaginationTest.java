@@ -0,0 +1,102 @@
+package info.nino.jpatron.services.entity;
+
+import info.nino.jpatron.pagination.Page;
+import info.nino.jpatron.query.RequestBuilder;
+import info.nino.jpatron.request.QueryExpression;
+import info.nino.jpatron.request.QuerySort;
+import info.nino.jpatron.services.entity.model.ItemEntity;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Two-phase pagination sorted by to-many relation column must return each root entity once &amp; full pages
+ * Keyset pages of to-many joined (grouped) id-query must be seeked by the same values they are ordered by
+ */
+public class TwoPhasePaginationTest extends EntityServiceTestBase {
+
+    private static final String[][] ITEM_TAGS = {
+            { "c", "a" },       //item 1: MIN a, MAX c
+            { "b" },            //item 2: MIN b, MAX b
+            { "d", "e" },       //item 3: MIN d, MAX e
+            { "a", "f" },       //item 4: MIN a, MAX f
+            { "c" }             //item 5: MIN c, MAX c
+    };
+
+    @Override
+    protected void seedDatabase(EntityManager em) {
+        persistItemTags(em, ITEM_TAGS);
+    }
+
+    @Test
+    public void testSortByToManyColumnAscending() {
+        assertEquals(List.of(1L, 4L), this.queryPageIds(QuerySort.Direction.ASC, 1));
+        assertEquals(List.of(2L, 5L), this.queryPageIds(QuerySort.Direction.ASC, 2));
+        assertEquals(List.of(3L), this.queryPageIds(QuerySort.Direction.ASC, 3));
+    }
+
+    @Test
+    public void testSortByToManyColumnDescending() {
+        assertEquals(List.of(4L, 3L), this.queryPageIds(QuerySort.Direction.DESC, 1));
+        assertEquals(List.of(1L, 5L), this.queryPageIds(QuerySort.Direction.DESC, 2));
+        assertEquals(List.of(2L), this.queryPageIds(QuerySort.Direction.DESC, 3));
+    }
+
+    @Test
+    public void testKeysetPagesOfToManyJoin() {
+        //items 1 (tags c, a), 4 (tag a) & 5 (tag c) - item 1 is joined twice
+        RequestBuilder<ItemEntity> requestBuilder = RequestBuilder.init(ItemEntity.class, 2, 1)
+                .setDistinct(true)
+                .addAndFilter("tags.name", QueryExpression.CompareOperator.EQ, "a", "c")
+                .addSorting("name", QuerySort.Direction.DESC);
+
+        List<List<Long>> pages = new ArrayList<>();
+        String cursor = "";
+        while (cursor != null) {
+            Page<ItemEntity> page = new ItemService(em).dataQuery(requestBuilder.setCursor(cursor).build());
+            pages.add(page.getContent().stream().map(ItemEntity::getId).collect(Collectors.toList()));
+            cursor = page.getCursor();
+        }
+
+        assertEquals(List.of(List.of(5L, 4L), List.of(1L)), pages);
+    }
+
+    @Test
+    public void testKeysetSortByToManyColumnRejected() {
+        RequestBuilder<ItemEntity> requestBuilder = RequestBuilder.init(ItemEntity.class, 2, 1)
+                .setDistinct(true)
+                .addSorting("tags.name", QuerySort.Direction.ASC)
+                .setCursor("");
+
+        assertThrows(IllegalArgumentException.class, () -> new ItemService(em).dataQuery(requestBuilder.build()));
+    }
+
+    private List<Long> queryPageIds(QuerySort.Direction direction, int pageNumber) {
+        RequestBuilder<ItemEntity> requestBuilder = RequestBuilder.init(ItemEntity.class, 2, pageNumber)
+                .setDistinct(true)
+                .addSorting("tags.name", direction)
+                .addSorting("id", QuerySort.Direction.ASC);
+
+        return new ItemService(em).dataQuery(requestBuilder.build()).getContent().stream()
+                .map(ItemEntity::getId)
+                .collect(Collectors.toList());
+    }
+
+    private static class ItemService extends TestService<ItemEntity> {
+
+        private ItemService(EntityManager em) {
+            super(em, ItemEntity.class);
+        }
+
+        @Override
+        public boolean isTwoPhasePaginationEnabled() {
+            return true;
+        }
+    }
+}
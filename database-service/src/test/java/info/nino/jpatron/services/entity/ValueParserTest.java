@@ -0,0 +1,64 @@
+package info.nino.jpatron.services.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ValueParserTest {
+
+    private enum Status { ACTIVE, INACTIVE }
+
+    @Test
+    public void testPrimitiveAndNumberValues() {
+        assertEquals(5, ValueParser.parse(int.class, "5"));
+        assertEquals(5L, ValueParser.parse(Long.class, "5"));
+        assertEquals(true, ValueParser.parse(boolean.class, "TRUE"));
+        assertEquals(new BigDecimal("1.50"), ValueParser.parse(BigDecimal.class, "1.50"));
+        assertEquals("value", ValueParser.parse(Object.class, "value"));
+        assertThrows(NumberFormatException.class, () -> ValueParser.parse(Integer.class, "five"));
+    }
+
+    @Test
+    public void testEnumValuesAreCaseInsensitive() {
+        assertSame(Status.INACTIVE, ValueParser.parse(Status.class, "inactive"));
+        assertThrows(IllegalArgumentException.class, () -> ValueParser.parse(Status.class, "deleted"));
+    }
+
+    @Test
+    public void testDateTimeValues() {
+        String timestamp = "2001-07-04T12:08:56.235-07:00";
+        Instant instant = OffsetDateTime.parse(timestamp).toInstant();
+
+        assertEquals(Date.from(instant), ValueParser.parse(Date.class, timestamp));
+        assertEquals(instant, ValueParser.parse(Instant.class, timestamp));
+        assertEquals(instant, ((OffsetDateTime) ValueParser.parse(OffsetDateTime.class, timestamp)).toInstant());
+        assertEquals(LocalDate.of(2024, 1, 31), ValueParser.parse(LocalDate.class, "2024-01-31"));
+        assertEquals(LocalDateTime.of(2024, 1, 31, 10, 15), ValueParser.parse(LocalDateTime.class, "2024-01-31T10:15"));
+        assertEquals(YearMonth.of(2024, 2), ValueParser.parse(YearMonth.class, "2024-02"));
+    }
+
+    @Test
+    public void testCustomParser() {
+        ValueParser.register(CustomValue.class, CustomValue::new);
+
+        assertEquals(new CustomValue("x"), ValueParser.parse(CustomValue.class, "x"));
+    }
+
+    private record CustomValue(String value) implements Comparable<CustomValue> {
+
+        @Override
+        public int compareTo(CustomValue other) {
+            return this.value.compareTo(other.value);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package info.nino.jpatron.services.entity.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Entity
+@Table(name = "item")
+public class ItemEntity {
+
+    @Id
+    private Long id;
+
+    private String name;
+
+    @OneToMany(mappedBy = "item", fetch = FetchType.LAZY)
+    private List<TagEntity> tags = new ArrayList<>();
+
+    public ItemEntity() {
+    }
+
+    public ItemEntity(Long id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<TagEntity> getTags() {
+        return tags;
+    }
+}
@@ -0,0 +1,41 @@
+package info.nino.jpatron.services.entity.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(name = "tag")
+public class TagEntity {
+
+    @Id
+    private Long id;
+
+    private String name;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    private ItemEntity item;
+
+    public TagEntity() {
+    }
+
+    public TagEntity(Long id, String name, ItemEntity item) {
+        this.id = id;
+        this.name = name;
+        this.item = item;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public ItemEntity getItem() {
+        return item;
+    }
+}
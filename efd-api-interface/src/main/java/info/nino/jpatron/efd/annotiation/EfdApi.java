@@ -1,5 +1,7 @@
 package info.nino.jpatron.efd.annotiation;
 
+import info.nino.jpatron.request.CountMode;
+import info.nino.jpatron.request.SearchMode;
 import jakarta.ws.rs.NameBinding;
 
 import java.lang.annotation.*;
@@ -31,6 +33,28 @@ public @interface EfdApi {
      */
     boolean pagination() default true;
 
+    /**
+     * Total-count strategy of the paginated result list
+     * EXACT by default - total items/pages are resolved with separate count query
+     * NONE - count query is skipped, HAS_NEXT - only next page availability is resolved, ESTIMATED - dialect-provided estimate for large tables
+     * @return count mode of the paginated endpoint
+     */
+    CountMode countMode() default CountMode.EXACT;
+
+    /**
+     * Time-to-live (in seconds) of cached distinct &amp; meta values of the endpoint
+     * 0 by default - distinct &amp; meta values are NOT cached (EntityService must also provide ResultCache instance)
+     * @return cache TTL of distinct &amp; meta values in seconds
+     */
+    long metaCacheTtl() default 0;
+
+    /**
+     * Slow-query threshold (in milliseconds) of the endpoint queries
+     * -1 by default - threshold of the EntityService SlowQueryRecorder is used (EntityService must provide SlowQueryRecorder instance)
+     * @return slow-query threshold in milliseconds
+     */
+    long slowQueryThreshold() default -1;
+
     /**
      * Flag which determines if result list should be distinct
      * True by default - result list values will be de-duplicated
@@ -57,6 +81,15 @@ public @interface EfdApi {
      */
     String[] searchPaths() default {"."};
 
+    /**
+     * Search strategy of the search query-param (search paths are resolved the same way for all modes)
+     * LIKE by default - search values are matched with LIKE '%value%' on every search field
+     * FULL_TEXT - search values are matched with full-text search of the EntityService SearchProvider (LIKE if DB dialect doesn't support it)
+     * NOTICE: LIKE fallback of FULL_TEXT search matches LIKE '%value%' - LIKE wildcards (%, _) of search values are NOT escaped
+     * @return search mode of the endpoint
+     */
+    SearchMode searchMode() default SearchMode.LIKE;
+
     /**
      * List of entity-paths which should be eager-loaded alongside result DTO object - preload entities (optimize fetching related entities)
      * This is performance optimization property - ensures related entities are eager-loaded (meant for related objects which will be immediately used)
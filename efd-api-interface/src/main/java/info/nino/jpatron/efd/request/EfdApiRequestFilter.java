@@ -3,11 +3,14 @@ package info.nino.jpatron.efd.request;
 import info.nino.jpatron.efd.annotiation.EfdApi;
 import info.nino.jpatron.efd.annotiation.EfdApiInject;
 import info.nino.jpatron.helpers.ConstantsUtil;
+import info.nino.jpatron.helpers.FieldPathMatcher;
 import info.nino.jpatron.helpers.ReflectionHelper;
-import info.nino.jpatron.helpers.RegexHelper;
 import info.nino.jpatron.request.ApiRequest;
+import info.nino.jpatron.request.ApiRequestMetrics;
 import info.nino.jpatron.request.QueryExpression;
+import info.nino.jpatron.request.QueryExpressionParser;
 import info.nino.jpatron.request.QuerySort;
+import info.nino.jpatron.request.SearchMode;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.Priority;
 import jakarta.enterprise.event.Event;
@@ -27,10 +30,8 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 
-import java.lang.reflect.Method;
 import java.util.*;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -42,10 +43,6 @@ import java.util.stream.Collectors;
 public class EfdApiRequestFilter implements ContainerRequestFilter {
 
     private static final String QUERY_VALUE_SEPARATOR = String.valueOf(ConstantsUtil.COMMA);
-    private static final char QUERY_VALUE_LEFT_BRACKET = '(';
-    private static final char QUERY_VALUE_RIGHT_BRACKET = ')';
-    private static final char QUERY_VALUE_ESCAPE_CHAR = '\\';
-    private static final char QUERY_VALUE_QUOTE = '"';
     private static final char FIELD_PATH_CONCATENATOR = '.';
     private static final String SORT_DESC_SIGN = "-";
     private static final String SORT_ASC_SIGN = "+";
@@ -53,6 +50,12 @@ public class EfdApiRequestFilter implements ContainerRequestFilter {
     private static final Integer DEFAULT_PAGE_SIZE = 10;
     private static final String DEFAULT_SEARCH_ESCAPE_CHARACTERS = "%:[%],_:[_]";
 
+    //NOTICE: parsed query expressions are shared (cached) between requests
+    private static final QueryExpressionParser QUERY_PARSER = new QueryExpressionParser(EfdApiRequest.Comparator.values(),
+            EfdApiRequest.CompoundOperator.AND, EfdApiRequest.CompoundOperator.OR, QueryExpressionParser.DEFAULT_CACHE_SIZE);
+
+    public static final ApiRequestMetrics METRICS = ApiRequestMetrics.of("efd-api");
+
     @Context
     ResourceInfo resourceInfo;
 
@@ -64,14 +67,15 @@ public class EfdApiRequestFilter implements ContainerRequestFilter {
     @ConfigProperty(name = ConstantsUtil.EFD_API_INTERFACE_SEARCH_ESCAPE_CHARACTERS, defaultValue = DEFAULT_SEARCH_ESCAPE_CHARACTERS)
     Instance<String[]> configPropertySearchEscapeCharacters;
 
-    private List<String> regexAllowedPaths = null;
+    private FieldPathMatcher allowedPathsMatcher = null;
     private Map<String, String> searchEscapeCharacters = null;
 
     @PostConstruct
     public void init() {
-        this.regexAllowedPaths = RegexHelper.compileRegexWildcards(".*");
+        this.allowedPathsMatcher = FieldPathMatcher.of(".*");
 
-        if (this.configPropertySearchEscapeCharacters.isUnsatisfied()) {
+        //NOTICE: config property is not injected when filter is used outside of CDI container (e.g. benchmarks)
+        if (this.configPropertySearchEscapeCharacters == null || this.configPropertySearchEscapeCharacters.isUnsatisfied()) {
             String searchEscapeCharactersConfig = System.getProperty(ConstantsUtil.EFD_API_INTERFACE_SEARCH_ESCAPE_CHARACTERS, DEFAULT_SEARCH_ESCAPE_CHARACTERS);
             this.initSearchEscapeCharactersMap(Arrays.stream(searchEscapeCharactersConfig.split(String.valueOf(ConstantsUtil.COMMA))).map(String::trim).toArray(String[]::new));
         } else {
@@ -87,34 +91,43 @@ public class EfdApiRequestFilter implements ContainerRequestFilter {
 
     @Override
     public void filter(ContainerRequestContext requestContext) {
-        Method resourceMethod = this.resourceInfo.getResourceMethod();
-        EfdApi efdApiAnn = resourceMethod.getAnnotation(EfdApi.class);
-        if (efdApiAnn == null) {
-            Class<?> resourceClass = this.resourceInfo.getResourceClass();
-            efdApiAnn = resourceClass.getAnnotation(EfdApi.class);
-        }
-
-        Class<?> dtoClass = efdApiAnn.value();
-        if (Object.class.equals(dtoClass)) { //dtoClass.isAnnotationPresent(jakarta.persistence.Entity)
+        //NOTICE: annotation values & DTO/entity classes are resolved once per resource method
+        EfdEndpointDescriptor endpoint = EfdEndpointDescriptor.of(this.resourceInfo.getResourceClass(), this.resourceInfo.getResourceMethod());
+        if (!endpoint.isEnabled()) {
             return;
         }
 
-        Class<?> entityClass = ReflectionHelper.resolveEntityClassFromDtoClass(dtoClass);
+        Class<?> dtoClass = endpoint.getDtoClass();
+        MultivaluedMap<String, String> reqQueryParams = requestContext.getUriInfo().getQueryParameters();
 
-        boolean pagination = efdApiAnn.pagination();
-        boolean distinct = efdApiAnn.distinctDataset();
-        boolean readOnly = efdApiAnn.readOnlyDataset();
-        String[] searchPaths = efdApiAnn.searchPaths();
-        String[] entityGraphPaths = efdApiAnn.entityGraphPaths();
+        ApiRequest.QueryParams queryParams;
+        long resolveStartTimeNs = System.nanoTime();
+        try {
+            //NOTICE: full-text search values are NOT escaped - bracket escaping ([%]) is MSSQL LIKE syntax (invalid in full-text search expressions)
+            queryParams = this.resolveQueryParams(dtoClass, reqQueryParams, endpoint.isPagination(), endpoint.getSearchMode() != SearchMode.FULL_TEXT,
+                    () -> endpoint.getSearchFieldsPaths(() -> this.resolveSearchFieldsPaths(dtoClass, endpoint.getSearchPaths())));
+        } catch (RuntimeException | Error ex) {
+            METRICS.recordRejectedRequest(System.nanoTime() - resolveStartTimeNs);
+            throw ex;
+        }
 
-        MultivaluedMap<String, String> reqQueryParams = requestContext.getUriInfo().getQueryParameters();
-        ApiRequest.QueryParams queryParams = this.resolveQueryParams(dtoClass, reqQueryParams, searchPaths, pagination);
+        METRICS.recordRequest(queryParams, System.nanoTime() - resolveStartTimeNs);
 
-        EfdApiRequest request = new EfdApiRequest(entityClass, queryParams, distinct, readOnly, entityGraphPaths);
+        EfdApiRequest request = new EfdApiRequest(endpoint.getEntityClass(), queryParams, endpoint.isDistinctDataset(), endpoint.isReadOnlyDataset(), endpoint.getEntityGraphPaths());
+        request.setCountMode(endpoint.getCountMode());
+        request.setMetaCacheTtl(endpoint.getMetaCacheTtl());
+        request.setSlowQueryThreshold(endpoint.getSlowQueryThreshold());
+        request.setSearchMode(endpoint.getSearchMode());
+        request.setEndpoint(endpoint.getEndpoint());
         this.requestEvent.fire(request);
     }
 
     public ApiRequest.QueryParams resolveQueryParams(Class<?> dtoClass, MultivaluedMap<String, String> queryParams, String[] searchPaths, boolean pagination) {
+        return this.resolveQueryParams(dtoClass, queryParams, pagination, true, () -> this.resolveSearchFieldsPaths(dtoClass, searchPaths));
+    }
+
+    private ApiRequest.QueryParams resolveQueryParams(Class<?> dtoClass, MultivaluedMap<String, String> queryParams, boolean pagination,
+                                                      boolean escapeSearchValues, Supplier<Map<String, Class<?>>> searchFieldsPaths) {
 
         Integer defaultPageSize = (pagination) ? DEFAULT_PAGE_SIZE : null;
         Integer defaultPageNumber = (pagination) ? DEFAULT_PAGE_NUMBER : null;
@@ -137,6 +150,11 @@ public class EfdApiRequestFilter implements ContainerRequestFilter {
                     requestQueryParams.setPageSize(Integer.parseInt(v.get(0)));
                 }
 
+                boolean cursorIsPresent = QueryParamType.CURSOR.getName().equals(k);
+                if (valueIsPresent && cursorIsPresent) {
+                    requestQueryParams.setCursor(v.get(0).trim()); //empty value requests first page of keyset pagination
+                }
+
                 // Sort query params
                 boolean sortIsPresent = QueryParamType.SORT.getName().equals(k);
                 if (valueIsPresent && sortIsPresent) {
@@ -154,14 +172,14 @@ public class EfdApiRequestFilter implements ContainerRequestFilter {
                 //Filter query params
                 boolean filterIsPresent = QueryParamType.QUERY.getName().equals(k);
                 if (valueIsPresent && filterIsPresent) {
-                    QueryExpression.CompoundFilter compoundQueryTerm = this.parseQueryExpression(dtoClass, v);
+                    QueryExpression.CompoundFilter compoundQueryTerm = QUERY_PARSER.parse(v, dtoClass, fieldPath -> this.checkIfPathAllowed(fieldPath, this.allowedPathsMatcher));
                     requestQueryParams.setCompoundFilter(compoundQueryTerm);
                 }
 
                 //Search query params
                 boolean searchIsPresent = QueryParamType.SEARCH.getName().equals(k);
                 if (valueIsPresent && searchIsPresent) {
-                    var searches = parseSearchExpression(requestQueryParams.getSearches(), dtoClass, searchPaths, v);
+                    var searches = parseSearchExpression(requestQueryParams.getSearches(), searchFieldsPaths.get(), v, escapeSearchValues);
                     requestQueryParams.setSearches(searches);
                 }
             }
@@ -171,16 +189,16 @@ public class EfdApiRequestFilter implements ContainerRequestFilter {
     }
 
     private Pair<Class<?>, String> findEntityFieldByPath(Class<?> clazz, String path) {
-        this.checkIfPathAllowed(path, this.regexAllowedPaths);
+        this.checkIfPathAllowed(path, this.allowedPathsMatcher);
         return ReflectionHelper.findEntityFieldByPath(clazz, path, false);
     }
 
-    private void checkIfPathAllowed(String fieldPath, List<String> regexAllowedPaths) {
-        if (regexAllowedPaths == null) {
+    private void checkIfPathAllowed(String fieldPath, FieldPathMatcher allowedPathsMatcher) {
+        if (allowedPathsMatcher == null) {
             throw new IllegalStateException("Allowed field-paths not defined!");
         }
 
-        if (regexAllowedPaths.stream().noneMatch(fieldPath::matches)) { //".field.path"
+        if (!allowedPathsMatcher.matches(fieldPath)) {
             throw new IllegalAccessError(String.format("Field path '%s' NOT ALLOWED!", fieldPath));
         }
     }
@@ -237,218 +255,19 @@ public class EfdApiRequestFilter implements ContainerRequestFilter {
             if (!entityFilters.containsKey(fieldPath)) entityFilters.put(fieldPath, new HashSetValuedHashMap<>());
             MultiValuedMap<QueryExpression.CompareOperator, String> filterOps = entityFilters.get(fieldPath);
 
-            values = values.stream().map(String::trim).map(this::removeSurroundingQuotes).toList();
+            values = values.stream().map(String::trim).map(QueryExpressionParser::removeSurroundingQuotes).toList();
             filterOps.putAll(QueryExpression.CompareOperator.EQ, values);
         }
 
         return filters;
     }
 
-    private QueryExpression.CompoundFilter parseQueryExpression(Class<?> clazz, List<String> queryTerms) {
-
-        List<QueryExpression.CompoundFilter> compoundQueryTerms = queryTerms.stream()
-                .map(queryTerm -> this.parseQueryExpression(null, clazz, queryTerm))
-                .toList();
-
-        return (compoundQueryTerms.size() > 1)
-                ? new QueryExpression.CompoundFilter(QueryExpression.LogicOperator.AND, compoundQueryTerms.toArray(new QueryExpression.CompoundFilter[0]))
-                : compoundQueryTerms.get(0);
-    }
-
-    private QueryExpression.CompoundFilter parseQueryExpression(QueryExpression.CompoundFilter parentTerm,
-                                                                Class<?> clazz, String queryTerm) {
-
-        //NOTICE: same level compound hierarchy nesting priority: OR -> AND -> (compound)
-        queryTerm = queryTerm.trim();
-
-        // Handle parentheses (sub query term)
-        if (queryTerm.length() > 2
-                && queryTerm.indexOf(QUERY_VALUE_LEFT_BRACKET) == 0
-                && indexOfFirstUnescapedChar(queryTerm, QUERY_VALUE_RIGHT_BRACKET) == queryTerm.length() - 1) {
-            var subQueryEndIndex = queryTerm.length() - 1;
-            var subExpression = queryTerm.substring(1, subQueryEndIndex);
-            queryTerm = queryTerm.substring(subQueryEndIndex + 1);
-
-            var subTerm = parseQueryExpression(null, clazz, subExpression);
-
-            if (parentTerm != null) {
-                parentTerm.addCompoundFilters(subTerm);
-            } else {
-                parentTerm = subTerm;
-            }
-        }
-
-        if (queryTerm.isBlank()) {
-            return parentTerm;
-        }
-
-        // Check for logical operators (AND / OR)
-        String andOperand = (" %s ").formatted(EfdApiRequest.CompoundOperator.AND.getValue());
-        String orOperand = (" %s ").formatted(EfdApiRequest.CompoundOperator.OR.getValue());
-        var literalsFirstIndex = findFirstIndexesForLiteralsOnQueryRootLevel(queryTerm, andOperand, orOperand);
-        int andIndex = literalsFirstIndex.get(andOperand);
-        int orIndex = literalsFirstIndex.get(orOperand);
-
-        String left = null;
-        String right = null;
-        QueryExpression.LogicOperator compoundOperator = null;
-        if (andIndex != -1 && (orIndex == -1 || andIndex < orIndex)) {
-            left = queryTerm.substring(0, andIndex).trim();
-            right = queryTerm.substring(andIndex + andOperand.length()).trim();
-            compoundOperator = QueryExpression.LogicOperator.AND;
-        } else if (orIndex != -1 && (andIndex == -1 || orIndex < andIndex)) {
-            left = queryTerm.substring(0, orIndex).trim();
-            right = queryTerm.substring(orIndex + orOperand.length()).trim();
-            compoundOperator = QueryExpression.LogicOperator.OR;
-        }
-
-        if (parentTerm == null) {
-            //NOTICE: compoundOperator can be null
-            parentTerm = new QueryExpression.CompoundFilter((compoundOperator != null) ? compoundOperator : QueryExpression.LogicOperator.AND);
-        }
-
-        if (compoundOperator == null) {
-            var simpleTerm = parseSimpleTerm(clazz, queryTerm);
-            parentTerm.addFilters(simpleTerm);
-        } else {
-            if (compoundOperator == QueryExpression.LogicOperator.AND
-                    && parentTerm.getLogicOperator() == QueryExpression.LogicOperator.OR) {
-                //hierarchy priority: current AND compound should be added to parent OR
-                QueryExpression.CompoundFilter newCompound = new QueryExpression.CompoundFilter(compoundOperator);
-                parentTerm.addCompoundFilters(newCompound);
-                parentTerm = newCompound;
-            }
-
-            parseQueryExpression(parentTerm, clazz, left);
-
-            if (compoundOperator == QueryExpression.LogicOperator.OR
-                    && parentTerm.getLogicOperator() == QueryExpression.LogicOperator.AND) {
-                //hierarchy priority: current OR compound should switch place with parent AND
-                QueryExpression.CompoundFilter newCompound = new QueryExpression.CompoundFilter(compoundOperator);
-                newCompound.addCompoundFilters(parentTerm);
-                parentTerm = newCompound;
-            }
-
-            var rightTerm = parseQueryExpression(parentTerm, clazz, right);
-
-            //current compound is AND while next (right) is OR - right part of expression has priority (in parent "AND" recursion iteration)
-            if (orIndex > andIndex) {
-                parentTerm = rightTerm;
-            }
-        }
-
-        return parentTerm;
-    }
-
-    private QueryExpression.Filter<?> parseSimpleTerm(Class<?> clazz, String query) {
-        Pattern termRegex = Pattern.compile("^([^\\s:=<>!#^~]+)[\\s]*(:[=<>!#^~]{0,2})[\\s]*([^\\n]*)");
-        Matcher termMatcher = termRegex.matcher(query);
-        if (termMatcher.matches()) {
-            String fieldPath = termMatcher.group(1);
-            this.checkIfPathAllowed(fieldPath, this.regexAllowedPaths);
-
-            EfdApiRequest.Comparator cmp = Arrays.stream(EfdApiRequest.Comparator.values())
-                    .filter(c -> c.getValue().equals(termMatcher.group(2)))
-                    .findAny().orElseThrow();
-            String value = termMatcher.group(3).trim();
-
-            if (cmp == EfdApiRequest.Comparator.IN) {
-                String[] values = this.splitCSValue(value);
-                return new QueryExpression.Filter<>(clazz, fieldPath, cmp.getCompareOperator(), values);
-            } else {
-                value = this.removeSurroundingQuotes(value);
-                return new QueryExpression.Filter<>(clazz, fieldPath, cmp.getCompareOperator(), value);
-            }
-        } else {
-            throw new IllegalArgumentException("Term '%s' doesn't match EFD REST-API guideline syntax!".formatted(query));
-        }
-    }
-
-    //helper method to find the top-level logical operator (ignoring nested ones)
-    private LinkedHashMap<String, Integer> findFirstIndexesForLiteralsOnQueryRootLevel(String query, String... literals) {
-        LinkedHashMap<String, Integer> literalIndexes = new LinkedHashMap<>();
-        Arrays.stream(literals).forEach(k -> literalIndexes.put(k, -1));
-
-        int depth = 0;
-        for (int i = 0; i < query.length(); i++) {
-            if (query.charAt(i) == QUERY_VALUE_LEFT_BRACKET && query.charAt(Math.abs(i - 1)) != QUERY_VALUE_ESCAPE_CHAR) {
-                depth++;
-            }
-            if (query.charAt(i) == QUERY_VALUE_RIGHT_BRACKET && query.charAt(Math.abs(i - 1)) != QUERY_VALUE_ESCAPE_CHAR) {
-                depth--;
-            }
-
-            if (depth == 0) {
-                for (Map.Entry<String, Integer> entry : literalIndexes.entrySet()) {
-                    if (entry.getValue() < 0 && query.startsWith(entry.getKey(), i)) {
-                        literalIndexes.put(entry.getKey(), i);
-                    }
-                }
-            }
-        }
-
-        return literalIndexes;
-    }
-
-    private int indexOfFirstUnescapedChar(String queryTerm, char character) {
-        int index = queryTerm.indexOf(character);
-        if (index > 0 && queryTerm.charAt(index - 1) == QUERY_VALUE_ESCAPE_CHAR) {
-            return indexOfFirstUnescapedChar(queryTerm.substring(index), character);
-        }
-
-        return index;
-    }
-
     public String[] splitCSValue(String csv) {
-        List<String> result = new ArrayList<>();
-
-        boolean insideQuotes = false;
-        StringBuilder currentField = new StringBuilder();
-
-        for (int i = 0; i < csv.length(); i++) {
-            char c = csv.charAt(i);
-
-            // Check for escaped quotes
-            if (c == QUERY_VALUE_ESCAPE_CHAR && i+1 < csv.length() && csv.charAt(i+1) == QUERY_VALUE_QUOTE) {
-                currentField.append(QUERY_VALUE_QUOTE); // Add the quote to the field
-                i++; // Skip the backslash
-            } else if (c == QUERY_VALUE_QUOTE) {
-                insideQuotes = !insideQuotes;   // Toggle insideQuotes unless it is escaped
-            }
-
-            if (c == ConstantsUtil.COMMA && !insideQuotes) {
-                addValueToCSVList(result, currentField);
-            } else {
-                // Append the character to the current field
-                currentField.append(c);
-            }
-        }
-
-        addValueToCSVList(result, currentField); // Add the last field
-        return result.toArray(new String[0]);
+        return QueryExpressionParser.splitCSValue(csv);
     }
 
-    private void addValueToCSVList(List<String> resultList, StringBuilder currentField) {
-        String newField = currentField.toString().trim();
-        newField = removeSurroundingQuotes(newField);
-        resultList.add(newField);
-        currentField.setLength(0); // Clear the StringBuilder
-    }
-
-    private String removeSurroundingQuotes(String str) {
-        if (str != null && str.length() >= 2
-                && str.startsWith(String.valueOf(QUERY_VALUE_QUOTE))
-                && str.endsWith(String.valueOf(QUERY_VALUE_QUOTE))) {
-            return str.substring(1, str.length() - 1);
-        }
-
-        return str; // Return the original string if no quotes are present
-    }
-
-    private Map<Class<?>, Map<String, MultiValuedMap<QueryExpression.ValueModifier, String>>> parseSearchExpression(
-            Map<Class<?>, Map<String, MultiValuedMap<QueryExpression.ValueModifier, String>>> searches,
-            Class<?> clazz, String[] searchPaths, List<String> values) {
-
+    //NOTICE: resolves default (endpoint) search field-paths - String fields of the search paths
+    private Map<String, Class<?>> resolveSearchFieldsPaths(Class<?> clazz, String[] searchPaths) {
         Map<String, Class<?>> searchFieldsPaths = new HashMap<>();
         for (String searchPath : searchPaths) {
             if (searchPath.endsWith(String.valueOf(FIELD_PATH_CONCATENATOR))) {
@@ -465,11 +284,20 @@ public class EfdApiRequestFilter implements ContainerRequestFilter {
             }
         }
 
+        return searchFieldsPaths;
+    }
+
+    private Map<Class<?>, Map<String, MultiValuedMap<QueryExpression.ValueModifier, String>>> parseSearchExpression(
+            Map<Class<?>, Map<String, MultiValuedMap<QueryExpression.ValueModifier, String>>> searches,
+            Map<String, Class<?>> searchFieldsPaths, List<String> values, boolean escapeSearchValues) {
+
         if (MapUtils.isEmpty(searchFieldsPaths)) {
             throw new IllegalArgumentException("Search query-param is not supported - search paths are not resolved!");
         }
 
-        values = this.escapeSearchValuesForSqlLikeQuery(values);
+        if (escapeSearchValues) {
+            values = this.escapeSearchValuesForSqlLikeQuery(values);
+        }
 
         for (Map.Entry<String, Class<?>> searchField : searchFieldsPaths.entrySet()) {
             Class<?> searchEntity = searchField.getValue();
@@ -0,0 +1,142 @@
+package info.nino.jpatron.efd.request;
+
+import info.nino.jpatron.efd.annotiation.EfdApi;
+import info.nino.jpatron.helpers.ReflectionHelper;
+import info.nino.jpatron.request.CountMode;
+import info.nino.jpatron.request.SearchMode;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Resolved (per resource method) @EfdApi endpoint configuration
+ * Descriptor is resolved once - request filter only parses query-param values of each request
+ */
+public class EfdEndpointDescriptor {
+
+    //NOTICE: resource class scope - same (inherited) resource method can be annotated differently on each resource class
+    private static final ClassValue<Map<Method, EfdEndpointDescriptor>> DESCRIPTORS = new ClassValue<>() {
+        @Override
+        protected Map<Method, EfdEndpointDescriptor> computeValue(Class<?> resourceClass) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final Class<?> dtoClass;
+    private final Class<?> entityClass;
+    private final boolean pagination;
+    private final boolean distinctDataset;
+    private final boolean readOnlyDataset;
+    private final String[] searchPaths;
+    private final String[] entityGraphPaths;
+    private final CountMode countMode;
+    private final long metaCacheTtl;
+    private final long slowQueryThreshold;
+    private final SearchMode searchMode;
+    private final String endpoint;
+    private volatile Map<String, Class<?>> searchFieldsPaths;
+
+    private EfdEndpointDescriptor(EfdApi efdApiAnn, String endpoint) {
+        this.dtoClass = efdApiAnn.value();
+        this.entityClass = (this.isEnabled()) ? ReflectionHelper.resolveEntityClassFromDtoClass(this.dtoClass) : null;
+        this.pagination = efdApiAnn.pagination();
+        this.distinctDataset = efdApiAnn.distinctDataset();
+        this.readOnlyDataset = efdApiAnn.readOnlyDataset();
+        this.searchPaths = efdApiAnn.searchPaths();
+        this.entityGraphPaths = efdApiAnn.entityGraphPaths();
+        this.countMode = efdApiAnn.countMode();
+        this.metaCacheTtl = efdApiAnn.metaCacheTtl();
+        this.slowQueryThreshold = efdApiAnn.slowQueryThreshold();
+        this.searchMode = efdApiAnn.searchMode();
+        this.endpoint = endpoint;
+    }
+
+    /**
+     * Cached descriptor of the resource method - @EfdApi annotation of the method (or resource class)
+     * @param resourceClass JAX-RS resource class
+     * @param resourceMethod JAX-RS resource method
+     * @return endpoint descriptor
+     */
+    public static EfdEndpointDescriptor of(Class<?> resourceClass, Method resourceMethod) {
+        return DESCRIPTORS.get(resourceClass).computeIfAbsent(resourceMethod, m -> {
+            EfdApi efdApiAnn = m.getAnnotation(EfdApi.class);
+            if (efdApiAnn == null) {
+                efdApiAnn = resourceClass.getAnnotation(EfdApi.class);
+            }
+
+            return new EfdEndpointDescriptor(efdApiAnn, String.format("%s.%s", resourceClass.getSimpleName(), m.getName()));
+        });
+    }
+
+    /**
+     * @return false if endpoint DTO class is not defined (request is not resolved)
+     */
+    public boolean isEnabled() {
+        return !Object.class.equals(this.dtoClass); //dtoClass.isAnnotationPresent(jakarta.persistence.Entity)
+    }
+
+    public Class<?> getDtoClass() {
+        return dtoClass;
+    }
+
+    public Class<?> getEntityClass() {
+        return entityClass;
+    }
+
+    public boolean isPagination() {
+        return pagination;
+    }
+
+    public boolean isDistinctDataset() {
+        return distinctDataset;
+    }
+
+    public boolean isReadOnlyDataset() {
+        return readOnlyDataset;
+    }
+
+    public String[] getSearchPaths() {
+        return searchPaths;
+    }
+
+    public String[] getEntityGraphPaths() {
+        return entityGraphPaths.clone();
+    }
+
+    public CountMode getCountMode() {
+        return countMode;
+    }
+
+    public long getMetaCacheTtl() {
+        return metaCacheTtl;
+    }
+
+    public long getSlowQueryThreshold() {
+        return slowQueryThreshold;
+    }
+
+    public SearchMode getSearchMode() {
+        return searchMode;
+    }
+
+    /**
+     * @return name of the endpoint resource method (e.g. 'PersonResource.getPersons')
+     */
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    //NOTICE: default search field-paths (resolved from search paths) are resolved on first search request
+    public Map<String, Class<?>> getSearchFieldsPaths(Supplier<Map<String, Class<?>>> searchFieldsPathsResolver) {
+        Map<String, Class<?>> searchFieldsPaths = this.searchFieldsPaths;
+        if (searchFieldsPaths == null) {
+            searchFieldsPaths = Collections.unmodifiableMap(searchFieldsPathsResolver.get());
+            this.searchFieldsPaths = searchFieldsPaths;
+        }
+
+        return searchFieldsPaths;
+    }
+}
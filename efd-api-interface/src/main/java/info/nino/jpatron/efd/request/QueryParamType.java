@@ -4,6 +4,7 @@ public enum QueryParamType {
 
     PAGE_SIZE("pageSize"),
     PAGE_NUMBER("pageNumber"),
+    CURSOR("cursor"),
     SORT("sort"),
     QUERY("query"),
     SEARCH("search");
@@ -37,6 +37,9 @@ public class EfdApiListResponse<T> implements EfdResponseInterface {
                                             page.getPageSize(),
                                             page.getTotalPages(),
                                             page.getTotalItems());
+        this.metadata.setEstimated(page.isEstimated() ? Boolean.TRUE : null);
+        this.metadata.setHasNext(page.getHasNext());
+        this.metadata.setCursor(page.getCursor());
     }
 
     public List<T> getData() {
@@ -5,7 +5,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 
 @JsonInclude(JsonInclude.Include.NON_NULL)
-@JsonPropertyOrder({ "pageSize", "pageNumber", "totalPages", "totalItems" })
+@JsonPropertyOrder({ "pageSize", "pageNumber", "totalPages", "totalItems", "estimated", "hasNext", "cursor" })
 public class EfdApiMetadata {
 
     @JsonProperty("pageSize")
@@ -20,6 +20,15 @@ public class EfdApiMetadata {
     @JsonProperty("totalItems")
     private Long totalItems;
 
+    @JsonProperty("estimated")
+    private Boolean estimated;
+
+    @JsonProperty("hasNext")
+    private Boolean hasNext;
+
+    @JsonProperty("cursor")
+    private String cursor;
+
     public EfdApiMetadata(Integer pageNumber, Integer pageSize, Long totalPages, Long totalItems) {
         this.pageNumber = pageNumber;
         this.pageSize = pageSize;
@@ -58,4 +67,28 @@ public class EfdApiMetadata {
     public void setTotalItems(Long totalItems) {
         this.totalItems = totalItems;
     }
+
+    public Boolean getEstimated() {
+        return estimated;
+    }
+
+    public void setEstimated(Boolean estimated) {
+        this.estimated = estimated;
+    }
+
+    public Boolean getHasNext() {
+        return hasNext;
+    }
+
+    public void setHasNext(Boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public void setCursor(String cursor) {
+        this.cursor = cursor;
+    }
 }
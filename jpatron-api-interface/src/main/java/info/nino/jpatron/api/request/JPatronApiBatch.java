@@ -0,0 +1,164 @@
+package info.nino.jpatron.api.request;
+
+import info.nino.jpatron.api.annotiation.JPatronApi;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.MultivaluedMap;
+import org.apache.commons.lang3.StringUtils;
+
+import java.lang.reflect.Method;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JAX-RS helper of the batch endpoint - resolves named query strings of registered @JPatronApi endpoints to JPatronApiRequest objects
+ * Resolved requests are executed by the application (e.g. BatchQuery on shared read-only transaction)
+ * and returned as one composite response (JPatronApiBatchResponse)
+ */
+public class JPatronApiBatch {
+
+    public static final int DEFAULT_MAX_REQUESTS = 20;
+
+    private final Map<String, JPatronEndpointDescriptor> endpoints = new ConcurrentHashMap<>();
+    private final JPatronApiRequestFilter requestFilter = new JPatronApiRequestFilter();
+    private final int maxRequests;
+
+    private JPatronApiBatch(int maxRequests) {
+        this.maxRequests = maxRequests;
+    }
+
+    public static JPatronApiBatch init() {
+        return JPatronApiBatch.init(DEFAULT_MAX_REQUESTS);
+    }
+
+    /**
+     * @param maxRequests maximum number of requests in the batch
+     * @return JPatronApiBatch object
+     */
+    public static JPatronApiBatch init(int maxRequests) {
+        if (maxRequests <= 0) {
+            throw new IllegalArgumentException(String.format("Batch max requests must be positive: %d", maxRequests));
+        }
+
+        return new JPatronApiBatch(maxRequests);
+    }
+
+    /**
+     * Registers endpoint of the batch - @JPatronApi configuration of the resource method (or resource class) is used
+     * @param endpoint name of the endpoint in batch request
+     * @param resourceClass JAX-RS resource class
+     * @param resourceMethod name of the JAX-RS resource method
+     * @return JPatronApiBatch object
+     */
+    public JPatronApiBatch register(String endpoint, Class<?> resourceClass, String resourceMethod) {
+        Method method = Arrays.stream(resourceClass.getMethods())
+                .filter(m -> m.getName().equals(resourceMethod))
+                .filter(m -> m.isAnnotationPresent(JPatronApi.class) || resourceClass.isAnnotationPresent(JPatronApi.class))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(String.format("@JPatronApi resource method %s.%s NOT FOUND!", resourceClass.getSimpleName(), resourceMethod)));
+
+        JPatronEndpointDescriptor descriptor = JPatronEndpointDescriptor.of(resourceClass, method);
+        if (!descriptor.isEnabled()) {
+            throw new IllegalArgumentException(String.format("@JPatronApi resource method %s.%s has no DTO class!", resourceClass.getSimpleName(), resourceMethod));
+        }
+
+        this.endpoints.put(endpoint, descriptor);
+        return this;
+    }
+
+    /**
+     * Resolves requests of the batch (in order of batch request items)
+     * @param batchRequest batch request
+     * @return named JPatronApiRequest objects
+     * @throws IllegalArgumentException if batch is too large, request name is duplicate or endpoint is not registered
+     */
+    public Map<String, JPatronApiRequest<?>> resolveRequests(JPatronApiBatchRequest batchRequest) {
+        if (batchRequest == null || batchRequest.getRequests() == null) {
+            return Collections.emptyMap();
+        }
+
+        if (batchRequest.getRequests().size() > this.maxRequests) {
+            throw new IllegalArgumentException(String.format("Batch contains %d requests (max %d)!", batchRequest.getRequests().size(), this.maxRequests));
+        }
+
+        Map<String, JPatronApiRequest<?>> requests = new LinkedHashMap<>();
+        for (JPatronApiBatchRequest.Item item : batchRequest.getRequests()) {
+            String name = StringUtils.defaultIfBlank(item.getName(), item.getEndpoint());
+            if (requests.containsKey(name)) {
+                throw new IllegalArgumentException(String.format("Batch request '%s' name is duplicate!", name));
+            }
+
+            requests.put(name, this.resolveRequest(item.getEndpoint(), item.getQuery()));
+        }
+
+        return requests;
+    }
+
+    /**
+     * Resolves request of the registered endpoint
+     * @param endpoint name of the registered endpoint
+     * @param query encoded query string (e.g. 'filter[name]=John&amp;page[size]=5')
+     * @return resolved JPatronApiRequest object
+     */
+    public JPatronApiRequest<?> resolveRequest(String endpoint, String query) {
+        return this.requestFilter.resolveRequest(this.getEndpoint(endpoint), JPatronApiBatch.parseQueryString(query));
+    }
+
+    /**
+     * @param endpoint name of the registered endpoint
+     * @return response DTO class of the endpoint
+     */
+    public Class<?> getDtoClass(String endpoint) {
+        return this.getEndpoint(endpoint).getDtoClass();
+    }
+
+    /**
+     * @param request request resolved by the batch
+     * @return response DTO class of the request endpoint
+     */
+    public Class<?> getDtoClass(JPatronApiRequest<?> request) {
+        return this.endpoints.values().stream()
+                .filter(e -> e.getEndpoint().equals(request.getEndpoint()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(String.format("Batch endpoint of request '%s' is NOT registered!", request.getEndpoint())))
+                .getDtoClass();
+    }
+
+    private JPatronEndpointDescriptor getEndpoint(String endpoint) {
+        JPatronEndpointDescriptor descriptor = (endpoint != null) ? this.endpoints.get(endpoint) : null;
+        if (descriptor == null) {
+            throw new IllegalArgumentException(String.format("Batch endpoint '%s' is NOT registered!", endpoint));
+        }
+
+        return descriptor;
+    }
+
+    /**
+     * Parses encoded query string to (decoded) query-params
+     * @param query encoded query string (with or without leading '?')
+     * @return query-params map
+     */
+    public static MultivaluedMap<String, String> parseQueryString(String query) {
+        MultivaluedMap<String, String> queryParams = new MultivaluedHashMap<>();
+        if (StringUtils.isBlank(query)) {
+            return queryParams;
+        }
+
+        for (String param : StringUtils.removeStart(query.trim(), "?").split("&")) {
+            if (param.isEmpty()) {
+                continue;
+            }
+
+            int separatorIndex = param.indexOf('=');
+            String key = (separatorIndex >= 0) ? param.substring(0, separatorIndex) : param;
+            String value = (separatorIndex >= 0) ? param.substring(separatorIndex + 1) : StringUtils.EMPTY;
+            queryParams.add(URLDecoder.decode(key, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+
+        return queryParams;
+    }
+}
@@ -0,0 +1,90 @@
+package info.nino.jpatron.api.request;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * jPatron API batch request (request body) - list of named encoded query strings of registered endpoints
+ * e.g. {"requests": [{"name": "activePersons", "endpoint": "persons", "query": "filter[status]=ACTIVE&amp;page[size]=5"}]}
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({"requests"})
+public class JPatronApiBatchRequest implements Serializable {
+
+    @JsonProperty("requests")
+    private List<Item> requests = new ArrayList<>();
+
+    public JPatronApiBatchRequest() {
+
+    }
+
+    public List<Item> getRequests() {
+        return requests;
+    }
+
+    public void setRequests(List<Item> requests) {
+        this.requests = requests;
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @JsonPropertyOrder({"name", "endpoint", "query"})
+    public static class Item implements Serializable {
+
+        /**
+         * Unique name of the request (key of the composite response) - endpoint name by default
+         */
+        @JsonProperty("name")
+        private String name;
+
+        /**
+         * Name of the registered endpoint (see JPatronApiBatch.register())
+         */
+        @JsonProperty("endpoint")
+        private String endpoint;
+
+        /**
+         * Encoded query string of the request (same query-params as endpoint request)
+         */
+        @JsonProperty("query")
+        private String query;
+
+        public Item() {
+
+        }
+
+        public Item(String name, String endpoint, String query) {
+            this.name = name;
+            this.endpoint = endpoint;
+            this.query = query;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getEndpoint() {
+            return endpoint;
+        }
+
+        public void setEndpoint(String endpoint) {
+            this.endpoint = endpoint;
+        }
+
+        public String getQuery() {
+            return query;
+        }
+
+        public void setQuery(String query) {
+            this.query = query;
+        }
+    }
+}
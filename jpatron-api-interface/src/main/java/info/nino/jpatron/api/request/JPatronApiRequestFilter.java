@@ -5,11 +5,14 @@ import info.nino.jpatron.api.annotiation.JPatronApiInject;
 import info.nino.jpatron.helpers.ConstantsUtil;
 import info.nino.jpatron.helpers.ReflectionHelper;
 import info.nino.jpatron.request.ApiRequest;
+import info.nino.jpatron.request.ApiRequestMetrics;
 import info.nino.jpatron.request.QueryExpression;
+import info.nino.jpatron.request.QueryExpressionParser;
 import info.nino.jpatron.request.QuerySort;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.Priority;
 import jakarta.enterprise.event.Event;
+import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.Priorities;
 import jakarta.ws.rs.container.ContainerRequestContext;
@@ -22,11 +25,12 @@ import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.collections4.MultiValuedMap;
 import org.apache.commons.collections4.multimap.HashSetValuedHashMap;
+import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 
 import java.lang.reflect.Field;
-import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.util.*;
 import java.util.regex.Matcher;
@@ -42,15 +46,12 @@ import java.util.stream.Collectors;
 public class JPatronApiRequestFilter implements ContainerRequestFilter {
 
     private static final String QUERY_VALUE_SEPARATOR = String.valueOf(ConstantsUtil.COMMA);
-    private static final char QUERY_VALUE_LEFT_BRACKET = '(';
-    private static final char QUERY_VALUE_RIGHT_BRACKET = ')';
-    private static final char QUERY_VALUE_ESCAPE_CHAR = '\\';
-    private static final char QUERY_VALUE_QUOTE = '"';
     private static final char FIELD_PATH_CONCATENATOR = '.';
     private static final String SORT_DESC_SIGN = "-";
     private static final String SORT_ASC_SIGN = "+";
     private static final String QUERY_PROPERTY_PAGE_SIZE = "size";
     private static final String QUERY_PROPERTY_PAGE_NUMBER = "number";
+    private static final String QUERY_PROPERTY_PAGE_CURSOR = "cursor";
 
     private static final Integer DEFAULT_PAGE_NUMBER = 1;
     private static final Integer DEFAULT_PAGE_SIZE = 10;
@@ -59,6 +60,19 @@ public class JPatronApiRequestFilter implements ContainerRequestFilter {
     private static final QueryExpression.ValueModifier DEFAULT_SEARCH_MODIFIER = QueryExpression.ValueModifier.LikeLR;
     private static final QueryExpression.Function DEFAULT_META_FUNCTION = QueryExpression.Function.COUNT;
 
+    private static final Pattern QUERY_PARAM_REGEX = Pattern.compile("^([^\\[\\]\\s]+)(?:\\[([^\\[\\]\\s]+)\\])?(?:\\[([^\\[\\]\\s]+)\\])?");
+    private static final Pattern NUMBER_VALUE_REGEX = Pattern.compile("\\d+");
+
+    //NOTICE: parsed query expressions are shared (cached) between requests
+    private static final QueryExpressionParser QUERY_PARSER = new QueryExpressionParser(JPatronApiRequest.Comparator.values(),
+            JPatronApiRequest.CompoundOperator.AND, JPatronApiRequest.CompoundOperator.OR, QueryExpressionParser.DEFAULT_CACHE_SIZE);
+
+    public static final ApiRequestMetrics METRICS = ApiRequestMetrics.of("jpatron-api");
+
+    @Inject
+    @ConfigProperty(name = ConstantsUtil.JPATRON_API_INTERFACE_THROW_INVALID_PATH_EXCEPTION, defaultValue = BooleanUtils.TRUE)
+    Instance<Boolean> configPropertyThrowInvalidPathExceptions;
+
     @Context
     ResourceInfo resourceInfo;
 
@@ -66,40 +80,56 @@ public class JPatronApiRequestFilter implements ContainerRequestFilter {
     @JPatronApiInject
     Event<JPatronApiRequest<?>> requestEvent;
 
+    //NOTICE: initialized from system property as filter is also used outside of CDI container (e.g. batch endpoint, benchmarks)
+    private boolean throwInvalidPathExceptions = BooleanUtils.toBoolean(System.getProperty(ConstantsUtil.JPATRON_API_INTERFACE_THROW_INVALID_PATH_EXCEPTION, BooleanUtils.TRUE));
+
     @PostConstruct
     public void init() {
-
+        if (this.configPropertyThrowInvalidPathExceptions != null && !this.configPropertyThrowInvalidPathExceptions.isUnsatisfied()) {
+            this.throwInvalidPathExceptions = this.configPropertyThrowInvalidPathExceptions.get();
+        }
     }
 
     @Override
     public void filter(ContainerRequestContext requestContext) {
-        Method resourceMethod = this.resourceInfo.getResourceMethod();
-        JPatronApi JPatronApiAnn = resourceMethod.getAnnotation(JPatronApi.class);
-        if (JPatronApiAnn == null) {
-            Class<?> resourceClass = this.resourceInfo.getResourceClass();
-            JPatronApiAnn = resourceClass.getAnnotation(JPatronApi.class);
+        //NOTICE: annotation values, DTO/entity classes & allowed-paths matcher are resolved once per resource method
+        JPatronEndpointDescriptor endpoint = JPatronEndpointDescriptor.of(this.resourceInfo.getResourceClass(), this.resourceInfo.getResourceMethod());
+        if (!endpoint.isEnabled()) {
+            return;
         }
 
-        Class<?> dtoClass = JPatronApiAnn.value();
-        if (Object.class.equals(dtoClass)) { //dtoClass.isAnnotationPresent(jakarta.persistence.Entity)
-            return;
+        JPatronApiRequest<?> request = this.resolveRequest(endpoint, requestContext.getUriInfo().getQueryParameters());
+        this.requestEvent.fire(request);
+    }
+
+    /**
+     * Resolves jPatron API request of the endpoint from request query-params
+     * @param endpoint descriptor of the endpoint (resource method)
+     * @param reqQueryParams request query-params
+     * @return resolved JPatronApiRequest object
+     */
+    public JPatronApiRequest<?> resolveRequest(JPatronEndpointDescriptor endpoint, MultivaluedMap<String, String> reqQueryParams) {
+        JPatronRequestContext reqContext = new JPatronRequestContext(endpoint, reqQueryParams);
+
+        ApiRequest.QueryParams queryParams;
+        long resolveStartTimeNs = System.nanoTime();
+        try {
+            queryParams = this.resolveQueryParams(reqContext);
+        } catch (RuntimeException | Error ex) {
+            METRICS.recordRejectedRequest(System.nanoTime() - resolveStartTimeNs);
+            throw ex;
         }
 
-        String[] searchPaths = JPatronApiAnn.searchPaths();
-        boolean pagination = JPatronApiAnn.pagination();
-        boolean allowEntityPaths = JPatronApiAnn.allowEntityPaths();
-        String[] allowedPaths = JPatronApiAnn.allowedPaths();
-        MultivaluedMap<String, String> reqQueryParams = requestContext.getUriInfo().getQueryParameters();
-        JPatronRequestContext reqContext = new JPatronRequestContext(dtoClass, searchPaths, pagination, allowEntityPaths, allowedPaths, reqQueryParams);
-        ApiRequest.QueryParams queryParams = this.resolveQueryParams(reqContext);
+        METRICS.recordRequest(queryParams, System.nanoTime() - resolveStartTimeNs);
 
-        Class<?> entityClass = ReflectionHelper.resolveEntityClassFromDtoClass(dtoClass);
-        boolean distinct = JPatronApiAnn.distinctDataset();
-        boolean readOnly = JPatronApiAnn.readOnlyDataset();
-        String[] entityGraphPaths = JPatronApiAnn.entityGraphPaths();
-        JPatronApiRequest<?> request = new JPatronApiRequest<>(entityClass, queryParams, distinct, readOnly, entityGraphPaths);
+        JPatronApiRequest<?> request = new JPatronApiRequest<>(endpoint.getEntityClass(), queryParams, endpoint.isDistinctDataset(), endpoint.isReadOnlyDataset(), endpoint.getEntityGraphPaths());
+        request.setCountMode(endpoint.getCountMode());
+        request.setMetaCacheTtl(endpoint.getMetaCacheTtl());
+        request.setSlowQueryThreshold(endpoint.getSlowQueryThreshold());
+        request.setSearchMode(endpoint.getSearchMode());
+        request.setEndpoint(endpoint.getEndpoint());
 
-        this.requestEvent.fire(request);
+        return request;
     }
 
     public ApiRequest.QueryParams resolveQueryParams(JPatronRequestContext requestContext) {
@@ -112,13 +142,10 @@ public class JPatronApiRequestFilter implements ContainerRequestFilter {
             return requestQueryParams;
         }
 
-        String jpatronApiQueryParamRegex = "^([^\\[\\]\\s]+)(?:\\[([^\\[\\]\\s]+)\\])?(?:\\[([^\\[\\]\\s]+)\\])?";
-        Pattern queryParamRegex = Pattern.compile(jpatronApiQueryParamRegex);
-
         for (Map.Entry<String, List<String>> entry : requestContext.getQueryParams().entrySet()) {
             String key = entry.getKey();
             List<String> value = entry.getValue();
-            Matcher queryParamMatcher = queryParamRegex.matcher(key);
+            Matcher queryParamMatcher = QUERY_PARAM_REGEX.matcher(key);
             if (!queryParamMatcher.matches()) {
                 continue;
             }
@@ -137,7 +164,17 @@ public class JPatronApiRequestFilter implements ContainerRequestFilter {
 
                 // Page query params
                 case PAGE: {
-                    if (!valueIsPresent || value.size() != 1 || !value.get(0).matches("\\d+")) {
+                    //NOTICE: opaque keyset-pagination cursor (empty value requests first page of keyset pagination)
+                    if ((QUERY_PROPERTY_PAGE_CURSOR).equals(property)) {
+                        if (!valueIsPresent || value.size() != 1) {
+                            throw new IllegalArgumentException(String.format("Invalid value '%s' in '%s' query parameter!", value, key));
+                        }
+
+                        requestQueryParams.setCursor(value.get(0).trim());
+                        break;
+                    }
+
+                    if (!valueIsPresent || value.size() != 1 || !NUMBER_VALUE_REGEX.matcher(value.get(0)).matches()) {
                         throw new IllegalArgumentException(String.format("Invalid value '%s' in '%s' query parameter!", value, key));
                     }
 
@@ -174,6 +211,19 @@ public class JPatronApiRequestFilter implements ContainerRequestFilter {
                     break;
                 }
 
+                // Sparse fieldset query params
+                case FIELDS: {
+                    //NOTICE: only root resource fieldset is supported - type is DTO Class name (fields[PersonDTO]) or omitted (fields)
+                    Class<?> dtoClass = requestContext.getClazz();
+                    if (property != null && !property.equals(dtoClass.getSimpleName()) && !property.equals(dtoClass.getTypeName())) {
+                        break;
+                    }
+
+                    var fields = this.parseFieldsQueryParam(requestContext, requestQueryParams.getFields(), value);
+                    requestQueryParams.setFields(fields);
+                    break;
+                }
+
                 // Property filter (simple) params
                 case FILTER: {
                     if (!valueIsPresent) {
@@ -196,7 +246,7 @@ public class JPatronApiRequestFilter implements ContainerRequestFilter {
                         throw new IllegalArgumentException(String.format("Invalid value '%s' for '%s' query parameter!", value, key));
                     }
 
-                    QueryExpression.CompoundFilter compoundQueryTerm = this.parseQueryExpression(requestContext, value);
+                    QueryExpression.CompoundFilter compoundQueryTerm = QUERY_PARSER.parse(value, requestContext.getClazz(), fieldPath -> this.checkIfPathAllowed(requestContext, fieldPath));
                     requestQueryParams.setCompoundFilter(compoundQueryTerm);
                     break;
                 }
@@ -239,11 +289,11 @@ public class JPatronApiRequestFilter implements ContainerRequestFilter {
     }
 
     private void checkIfPathAllowed(JPatronRequestContext requestContext, String fieldPath) {
-        if (requestContext.getRegexAllowedPaths() == null) {
+        if (requestContext.getAllowedPathsMatcher() == null) {
             throw new IllegalStateException("Allowed field-paths not defined!");
         }
 
-        if (requestContext.getRegexAllowedPaths().stream().noneMatch(fieldPath::matches)) { //".field.path"
+        if (!requestContext.getAllowedPathsMatcher().matches(fieldPath)) {
             throw new IllegalAccessError(String.format("Field path '%s' NOT ALLOWED!", fieldPath));
         }
     }
@@ -312,6 +362,35 @@ public class JPatronApiRequestFilter implements ContainerRequestFilter {
         return includes;
     }
 
+    private Set<String> parseFieldsQueryParam(JPatronRequestContext requestContext,
+                                              Set<String> fields,
+                                              List<String> value) {
+        if (fields == null) {
+            fields = new LinkedHashSet<>(List.of(ConstantsUtil.ID_FIELD));  //id is always included
+        }
+
+        LinkedList<String> fieldValues = CollectionUtils.emptyIfNull(value).stream().map(s -> s.split(QUERY_VALUE_SEPARATOR)).flatMap(m -> Arrays.stream(m.clone())).collect(Collectors.toCollection(LinkedList::new));
+
+        for (String fieldName : fieldValues) {
+            fieldName = fieldName.trim();   //remove leading and trailing spaces
+            if (fieldName.isEmpty()) {
+                continue;
+            }
+
+            if (ReflectionHelper.findModelField(requestContext.getClazz(), fieldName).isEmpty()) {
+                if (this.throwInvalidPathExceptions) {
+                    throw new IllegalArgumentException(String.format("Field '%s' NOT FOUND in DTO Class: %s!", fieldName, requestContext.getClazz().getSimpleName()));
+                }
+
+                continue;
+            }
+
+            fields.add(fieldName);
+        }
+
+        return fields;
+    }
+
     private Map<Class<?>, Map<String, MultiValuedMap<QueryExpression.CompareOperator, String>>> parsePropertyFilter(
             JPatronRequestContext requestContext,
             Map<Class<?>, Map<String, MultiValuedMap<QueryExpression.CompareOperator, String>>> filters,
@@ -329,214 +408,15 @@ public class JPatronApiRequestFilter implements ContainerRequestFilter {
             if (!entityFilters.containsKey(fieldPath)) entityFilters.put(fieldPath, new HashSetValuedHashMap<>());
             MultiValuedMap<QueryExpression.CompareOperator, String> filterOps = entityFilters.get(fieldPath);
 
-            values = values.stream().map(String::trim).map(this::removeSurroundingQuotes).toList();
+            values = values.stream().map(String::trim).map(QueryExpressionParser::removeSurroundingQuotes).toList();
             filterOps.putAll(cmp, values);
         }
 
         return filters;
     }
 
-    private QueryExpression.CompoundFilter parseQueryExpression(JPatronRequestContext requestContext,
-                                                                List<String> queryTerms) {
-        List<QueryExpression.CompoundFilter> compoundQueryTerms = queryTerms.stream()
-                .map(queryTerm -> this.parseQueryExpression(requestContext, null, queryTerm))
-                .toList();
-
-        return (compoundQueryTerms.size() > 1)
-                ? new QueryExpression.CompoundFilter(QueryExpression.LogicOperator.AND, compoundQueryTerms.toArray(new QueryExpression.CompoundFilter[0]))
-                : compoundQueryTerms.get(0);
-    }
-
-    private QueryExpression.CompoundFilter parseQueryExpression(JPatronRequestContext requestContext,
-                                                                QueryExpression.CompoundFilter parentTerm,
-                                                                String queryTerm) {
-        //NOTICE: same level compound hierarchy nesting priority: OR -> AND -> (compound)
-        queryTerm = queryTerm.trim();
-
-        // Handle parentheses (sub query term)
-        if (queryTerm.length() > 2
-                && queryTerm.indexOf(QUERY_VALUE_LEFT_BRACKET) == 0
-                && indexOfFirstUnescapedChar(queryTerm, QUERY_VALUE_RIGHT_BRACKET) == queryTerm.length() - 1) {
-            var subQueryEndIndex = queryTerm.length() - 1;
-            var subExpression = queryTerm.substring(1, subQueryEndIndex);
-            queryTerm = queryTerm.substring(subQueryEndIndex + 1);
-
-            var subTerm = parseQueryExpression(requestContext, null, subExpression);
-
-            if (parentTerm != null) {
-                parentTerm.addCompoundFilters(subTerm);
-            } else {
-                parentTerm = subTerm;
-            }
-        }
-
-        if (queryTerm.isBlank()) {
-            return parentTerm;
-        }
-
-        // Check for logical operators (AND / OR)
-        String andOperand = (" %s ").formatted(JPatronApiRequest.CompoundOperator.AND.getValue());
-        String orOperand = (" %s ").formatted(JPatronApiRequest.CompoundOperator.OR.getValue());
-        var literalsFirstIndex = findFirstIndexesForLiteralsOnQueryRootLevel(queryTerm, andOperand, orOperand);
-        int andIndex = literalsFirstIndex.get(andOperand);
-        int orIndex = literalsFirstIndex.get(orOperand);
-
-        String left = null;
-        String right = null;
-        QueryExpression.LogicOperator compoundOperator = null;
-        if (andIndex != -1 && (orIndex == -1 || andIndex < orIndex)) {
-            left = queryTerm.substring(0, andIndex).trim();
-            right = queryTerm.substring(andIndex + andOperand.length()).trim();
-            compoundOperator = QueryExpression.LogicOperator.AND;
-        } else if (orIndex != -1 && (andIndex == -1 || orIndex < andIndex)) {
-            left = queryTerm.substring(0, orIndex).trim();
-            right = queryTerm.substring(orIndex + orOperand.length()).trim();
-            compoundOperator = QueryExpression.LogicOperator.OR;
-        }
-
-        if (parentTerm == null) {
-            //NOTICE: compoundOperator can be null
-            parentTerm = new QueryExpression.CompoundFilter((compoundOperator != null) ? compoundOperator : QueryExpression.LogicOperator.AND);
-        }
-
-        if (compoundOperator == null) {
-            var simpleTerm = parseSimpleTerm(requestContext, queryTerm);
-            parentTerm.addFilters(simpleTerm);
-        } else {
-            if (compoundOperator == QueryExpression.LogicOperator.AND
-                    && parentTerm.getLogicOperator() == QueryExpression.LogicOperator.OR) {
-                //hierarchy priority: current AND compound should be added to parent OR
-                QueryExpression.CompoundFilter newCompound = new QueryExpression.CompoundFilter(compoundOperator);
-                parentTerm.addCompoundFilters(newCompound);
-                parentTerm = newCompound;
-            }
-
-            parseQueryExpression(requestContext, parentTerm, left);
-
-            if (compoundOperator == QueryExpression.LogicOperator.OR
-                    && parentTerm.getLogicOperator() == QueryExpression.LogicOperator.AND) {
-                //hierarchy priority: current OR compound should switch place with parent AND
-                QueryExpression.CompoundFilter newCompound = new QueryExpression.CompoundFilter(compoundOperator);
-                newCompound.addCompoundFilters(parentTerm);
-                parentTerm = newCompound;
-            }
-
-            var rightTerm = parseQueryExpression(requestContext, parentTerm, right);
-
-            //current compound is AND while next (right) is OR - right part of expression has priority (in parent "AND" recursion iteration)
-            if (orIndex > andIndex) {
-                parentTerm = rightTerm;
-            }
-        }
-
-        return parentTerm;
-    }
-
-    private QueryExpression.Filter<?> parseSimpleTerm(JPatronRequestContext requestContext, String query) {
-        Pattern termRegex = Pattern.compile("^([^\\s:=<>!#^~]+)[\\s]*(:[=<>!#^~]{0,2})[\\s]*([^\\n]*)");
-        Matcher termMatcher = termRegex.matcher(query);
-        if (termMatcher.matches()) {
-            String fieldPath = termMatcher.group(1);
-            this.checkIfPathAllowed(requestContext, fieldPath);
-
-            JPatronApiRequest.Comparator cmp = Arrays.stream(JPatronApiRequest.Comparator.values())
-                    .filter(c -> c.getValue().equals(termMatcher.group(2)))
-                    .findAny().orElseThrow();
-            String value = termMatcher.group(3).trim();
-
-            if (cmp == JPatronApiRequest.Comparator.IN) {
-                String[] values = this.splitCSValue(value);
-                return new QueryExpression.Filter<>(requestContext.getClazz(), fieldPath, cmp.getCompareOperator(), values);
-            } else {
-                value = this.removeSurroundingQuotes(value);
-                return new QueryExpression.Filter<>(requestContext.getClazz(), fieldPath, cmp.getCompareOperator(), value);
-            }
-        } else {
-            throw new IllegalArgumentException("Term '%s' doesn't match JPatron REST-API guideline syntax!".formatted(query));
-        }
-    }
-
-    //helper method to find the top-level logical operator (ignoring nested ones)
-    private LinkedHashMap<String, Integer> findFirstIndexesForLiteralsOnQueryRootLevel(String query,
-                                                                                       String... literals) {
-        LinkedHashMap<String, Integer> literalIndexes = new LinkedHashMap<>();
-        Arrays.stream(literals).forEach(k -> literalIndexes.put(k, -1));
-
-        int depth = 0;
-        for (int i = 0; i < query.length(); i++) {
-            if (query.charAt(i) == QUERY_VALUE_LEFT_BRACKET && query.charAt(Math.abs(i - 1)) != QUERY_VALUE_ESCAPE_CHAR) {
-                depth++;
-            }
-            if (query.charAt(i) == QUERY_VALUE_RIGHT_BRACKET && query.charAt(Math.abs(i - 1)) != QUERY_VALUE_ESCAPE_CHAR) {
-                depth--;
-            }
-
-            if (depth == 0) {
-                for (Map.Entry<String, Integer> entry : literalIndexes.entrySet()) {
-                    if (entry.getValue() < 0 && query.startsWith(entry.getKey(), i)) {
-                        literalIndexes.put(entry.getKey(), i);
-                    }
-                }
-            }
-        }
-
-        return literalIndexes;
-    }
-
-    private int indexOfFirstUnescapedChar(String queryTerm, char character) {
-        int index = queryTerm.indexOf(character);
-        if (index > 0 && queryTerm.charAt(index - 1) == QUERY_VALUE_ESCAPE_CHAR) {
-            return indexOfFirstUnescapedChar(queryTerm.substring(index), character);
-        }
-
-        return index;
-    }
-
     public String[] splitCSValue(String csv) {
-        List<String> result = new ArrayList<>();
-
-        boolean insideQuotes = false;
-        StringBuilder currentField = new StringBuilder();
-
-        for (int i = 0; i < csv.length(); i++) {
-            char c = csv.charAt(i);
-
-            // Check for escaped quotes
-            if (c == QUERY_VALUE_ESCAPE_CHAR && i+1 < csv.length() && csv.charAt(i+1) == QUERY_VALUE_QUOTE) {
-                currentField.append(QUERY_VALUE_QUOTE); // Add the quote to the field
-                i++; // Skip the backslash
-            } else if (c == QUERY_VALUE_QUOTE) {
-                insideQuotes = !insideQuotes;   // Toggle insideQuotes unless it is escaped
-            }
-
-            if (c == ConstantsUtil.COMMA && !insideQuotes) {
-                addValueToCSVList(result, currentField);
-            } else {
-                // Append the character to the current field
-                currentField.append(c);
-            }
-        }
-
-        addValueToCSVList(result, currentField); // Add the last field
-        return result.toArray(new String[0]);
-    }
-
-    private void addValueToCSVList(List<String> resultList,
-                                   StringBuilder currentField) {
-        String newField = currentField.toString().trim();
-        newField = removeSurroundingQuotes(newField);
-        resultList.add(newField);
-        currentField.setLength(0); // Clear the StringBuilder
-    }
-
-    private String removeSurroundingQuotes(String str) {
-        if (str != null && str.length() >= 2
-                && str.startsWith(String.valueOf(QUERY_VALUE_QUOTE))
-                && str.endsWith(String.valueOf(QUERY_VALUE_QUOTE))) {
-            return str.substring(1, str.length() - 1);
-        }
-
-        return str; // Return the original string if no quotes are present
+        return QueryExpressionParser.splitCSValue(csv);
     }
 
     private Map<Class<?>, Map<String, MultiValuedMap<QueryExpression.ValueModifier, String>>> parseSearchExpression(
@@ -548,23 +428,10 @@ public class JPatronApiRequestFilter implements ContainerRequestFilter {
         if (reqSearchPath != null) {
             Pair<Class<?>, String> searchField = this.findEntityFieldByPath(requestContext, reqSearchPath);
             searchFieldsPaths.put(searchField.getValue(), searchField.getKey());
+        } else if (requestContext.getEndpoint() != null) {
+            searchFieldsPaths.putAll(requestContext.getEndpoint().getSearchFieldsPaths(() -> this.resolveSearchFieldsPaths(requestContext)));
         } else {
-            for (String searchPath : requestContext.getSearchPaths()) {
-                if (searchPath.endsWith(String.valueOf(FIELD_PATH_CONCATENATOR))) {
-                    String parentClassPath = searchPath.substring(0, searchPath.length() - 1);
-                    Class<?> searchFieldClass = ReflectionHelper.findFieldByPath(requestContext.getClazz(), parentClassPath)
-                            .map(f -> (Class) f.getType()).orElse(requestContext.getClazz());
-
-                    ReflectionHelper.getAllModelFields(searchFieldClass)
-                            .stream().filter(f -> f.getType() == String.class)
-                            .forEach(fieldPath -> searchFieldsPaths.put(
-                                    StringUtils.isNotBlank(parentClassPath) ? searchPath + fieldPath.getName() : fieldPath.getName(),
-                                    searchFieldClass));
-                } else {
-                    Pair<Class<?>, String> searchField = ReflectionHelper.findEntityFieldByPath(requestContext.getClazz(), searchPath, true);
-                    searchFieldsPaths.put(searchField.getValue(), searchField.getKey());
-                }
-            }
+            searchFieldsPaths.putAll(this.resolveSearchFieldsPaths(requestContext));
         }
 
         if (MapUtils.isEmpty(searchFieldsPaths)) {
@@ -589,6 +456,30 @@ public class JPatronApiRequestFilter implements ContainerRequestFilter {
         return searches;
     }
 
+    //NOTICE: resolves default (endpoint) search field-paths - String fields of the search paths
+    private Map<String, Class<?>> resolveSearchFieldsPaths(JPatronRequestContext requestContext) {
+        Map<String, Class<?>> searchFieldsPaths = new HashMap<>();
+
+        for (String searchPath : requestContext.getSearchPaths()) {
+            if (searchPath.endsWith(String.valueOf(FIELD_PATH_CONCATENATOR))) {
+                String parentClassPath = searchPath.substring(0, searchPath.length() - 1);
+                Class<?> searchFieldClass = ReflectionHelper.findFieldByPath(requestContext.getClazz(), parentClassPath)
+                        .map(f -> (Class) f.getType()).orElse(requestContext.getClazz());
+
+                ReflectionHelper.getAllModelFields(searchFieldClass)
+                        .stream().filter(f -> f.getType() == String.class)
+                        .forEach(fieldPath -> searchFieldsPaths.put(
+                                StringUtils.isNotBlank(parentClassPath) ? searchPath + fieldPath.getName() : fieldPath.getName(),
+                                searchFieldClass));
+            } else {
+                Pair<Class<?>, String> searchField = ReflectionHelper.findEntityFieldByPath(requestContext.getClazz(), searchPath, true);
+                searchFieldsPaths.put(searchField.getValue(), searchField.getKey());
+            }
+        }
+
+        return searchFieldsPaths;
+    }
+
     private Map<Class<?>, MultiValuedMap<String, String>> parseDistinctQueryParam(JPatronRequestContext requestContext,
                                                                                   Map<Class<?>, MultiValuedMap<String, String>> distinctValues,
                                                                                   String keyColumnPath, List<String> labelColumnPaths) {
@@ -0,0 +1,159 @@
+package info.nino.jpatron.api.request;
+
+import info.nino.jpatron.api.annotiation.JPatronApi;
+import info.nino.jpatron.helpers.FieldPathMatcher;
+import info.nino.jpatron.helpers.ReflectionHelper;
+import info.nino.jpatron.request.CountMode;
+import info.nino.jpatron.request.SearchMode;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Resolved (per resource method) @JPatronApi endpoint configuration
+ * Descriptor is resolved once - request filter only parses query-param values of each request
+ */
+public class JPatronEndpointDescriptor {
+
+    //NOTICE: resource class scope - same (inherited) resource method can be annotated differently on each resource class
+    private static final ClassValue<Map<Method, JPatronEndpointDescriptor>> DESCRIPTORS = new ClassValue<>() {
+        @Override
+        protected Map<Method, JPatronEndpointDescriptor> computeValue(Class<?> resourceClass) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final Class<?> dtoClass;
+    private final Class<?> entityClass;
+    private final String[] searchPaths;
+    private final boolean pagination;
+    private final boolean allowEntityPaths;
+    private final FieldPathMatcher allowedPathsMatcher;
+    private final boolean distinctDataset;
+    private final boolean readOnlyDataset;
+    private final String[] entityGraphPaths;
+    private final CountMode countMode;
+    private final long metaCacheTtl;
+    private final long slowQueryThreshold;
+    private final SearchMode searchMode;
+    private final String endpoint;
+    private volatile Map<String, Class<?>> searchFieldsPaths;
+
+    private JPatronEndpointDescriptor(JPatronApi jpatronApiAnn, String endpoint) {
+        this.dtoClass = jpatronApiAnn.value();
+        this.entityClass = (this.isEnabled()) ? ReflectionHelper.resolveEntityClassFromDtoClass(this.dtoClass) : null;
+        this.searchPaths = jpatronApiAnn.searchPaths();
+        this.pagination = jpatronApiAnn.pagination();
+        this.allowEntityPaths = jpatronApiAnn.allowEntityPaths();
+        this.allowedPathsMatcher = FieldPathMatcher.of(jpatronApiAnn.allowedPaths());
+        this.distinctDataset = jpatronApiAnn.distinctDataset();
+        this.readOnlyDataset = jpatronApiAnn.readOnlyDataset();
+        this.entityGraphPaths = jpatronApiAnn.entityGraphPaths();
+        this.countMode = jpatronApiAnn.countMode();
+        this.metaCacheTtl = jpatronApiAnn.metaCacheTtl();
+        this.slowQueryThreshold = jpatronApiAnn.slowQueryThreshold();
+        this.searchMode = jpatronApiAnn.searchMode();
+        this.endpoint = endpoint;
+
+        if (this.isEnabled()) {
+            ReflectionHelper.warmUpEntityFieldPaths(this.dtoClass, this.allowEntityPaths, jpatronApiAnn.allowedPaths());
+        }
+    }
+
+    /**
+     * Cached descriptor of the resource method - @JPatronApi annotation of the method (or resource class)
+     * @param resourceClass JAX-RS resource class
+     * @param resourceMethod JAX-RS resource method
+     * @return endpoint descriptor
+     */
+    public static JPatronEndpointDescriptor of(Class<?> resourceClass, Method resourceMethod) {
+        return DESCRIPTORS.get(resourceClass).computeIfAbsent(resourceMethod, m -> {
+            JPatronApi jpatronApiAnn = m.getAnnotation(JPatronApi.class);
+            if (jpatronApiAnn == null) {
+                jpatronApiAnn = resourceClass.getAnnotation(JPatronApi.class);
+            }
+
+            return new JPatronEndpointDescriptor(jpatronApiAnn, String.format("%s.%s", resourceClass.getSimpleName(), m.getName()));
+        });
+    }
+
+    /**
+     * @return false if endpoint DTO class is not defined (request is not resolved)
+     */
+    public boolean isEnabled() {
+        return !Object.class.equals(this.dtoClass); //dtoClass.isAnnotationPresent(jakarta.persistence.Entity)
+    }
+
+    public Class<?> getDtoClass() {
+        return dtoClass;
+    }
+
+    public Class<?> getEntityClass() {
+        return entityClass;
+    }
+
+    public String[] getSearchPaths() {
+        return searchPaths;
+    }
+
+    public boolean isPagination() {
+        return pagination;
+    }
+
+    public boolean isAllowEntityPaths() {
+        return allowEntityPaths;
+    }
+
+    public FieldPathMatcher getAllowedPathsMatcher() {
+        return allowedPathsMatcher;
+    }
+
+    public boolean isDistinctDataset() {
+        return distinctDataset;
+    }
+
+    public boolean isReadOnlyDataset() {
+        return readOnlyDataset;
+    }
+
+    public String[] getEntityGraphPaths() {
+        return entityGraphPaths.clone();
+    }
+
+    public CountMode getCountMode() {
+        return countMode;
+    }
+
+    public long getMetaCacheTtl() {
+        return metaCacheTtl;
+    }
+
+    public long getSlowQueryThreshold() {
+        return slowQueryThreshold;
+    }
+
+    public SearchMode getSearchMode() {
+        return searchMode;
+    }
+
+    /**
+     * @return name of the endpoint resource method (e.g. 'PersonResource.getPersons')
+     */
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    //NOTICE: default search field-paths (resolved from search paths) are resolved on first search request
+    public Map<String, Class<?>> getSearchFieldsPaths(Supplier<Map<String, Class<?>>> searchFieldsPathsResolver) {
+        Map<String, Class<?>> searchFieldsPaths = this.searchFieldsPaths;
+        if (searchFieldsPaths == null) {
+            searchFieldsPaths = Collections.unmodifiableMap(searchFieldsPathsResolver.get());
+            this.searchFieldsPaths = searchFieldsPaths;
+        }
+
+        return searchFieldsPaths;
+    }
+}
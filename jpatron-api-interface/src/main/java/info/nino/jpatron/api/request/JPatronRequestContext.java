@@ -1,10 +1,7 @@
 package info.nino.jpatron.api.request;
 
-import info.nino.jpatron.helpers.RegexHelper;
+import info.nino.jpatron.helpers.FieldPathMatcher;
 import jakarta.ws.rs.core.MultivaluedMap;
-import org.apache.commons.lang3.ArrayUtils;
-
-import java.util.List;
 
 public class JPatronRequestContext {
 
@@ -12,9 +9,21 @@ public class JPatronRequestContext {
     private String[] searchPaths;
     private boolean pagination;
     private boolean allowEntityPaths;
-    private List<String> regexAllowedPaths;
+    private FieldPathMatcher allowedPathsMatcher;
+    private JPatronEndpointDescriptor endpoint;
     private MultivaluedMap<String, String> queryParams;
 
+    public JPatronRequestContext(JPatronEndpointDescriptor endpoint,
+                                 MultivaluedMap<String, String> queryParams) {
+        this.clazz = endpoint.getDtoClass();
+        this.queryParams = queryParams;
+        this.searchPaths = endpoint.getSearchPaths();
+        this.pagination = endpoint.isPagination();
+        this.allowEntityPaths = endpoint.isAllowEntityPaths();
+        this.allowedPathsMatcher = endpoint.getAllowedPathsMatcher();
+        this.endpoint = endpoint;
+    }
+
     public JPatronRequestContext(Class<?> clazz,
                                  String[] searchPaths,
                                  boolean pagination,
@@ -26,7 +35,7 @@ public class JPatronRequestContext {
         this.searchPaths = searchPaths;
         this.pagination = pagination;
         this.allowEntityPaths = allowEntityPaths;
-        this.regexAllowedPaths = (ArrayUtils.isNotEmpty(allowedPaths)) ? RegexHelper.compileRegexWildcards(allowedPaths) : null;
+        this.allowedPathsMatcher = FieldPathMatcher.of(allowedPaths);
     }
 
     public Class<?> getClazz() {
@@ -45,9 +54,14 @@ public class JPatronRequestContext {
         return allowEntityPaths;
     }
 
-    public List<String> getRegexAllowedPaths()
+    public FieldPathMatcher getAllowedPathsMatcher()
     {
-        return regexAllowedPaths;
+        return allowedPathsMatcher;
+    }
+
+    //NOTICE: null if context is not created from (cached) endpoint descriptor
+    public JPatronEndpointDescriptor getEndpoint() {
+        return endpoint;
     }
 
     public MultivaluedMap<String, String> getQueryParams() {
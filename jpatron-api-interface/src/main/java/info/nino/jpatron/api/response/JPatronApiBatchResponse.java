@@ -0,0 +1,36 @@
+package info.nino.jpatron.api.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import info.nino.jpatron.response.ApiPageResponse;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * JPatron API batch (composite) response - named list responses of the batch requests
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({"responses"})
+public class JPatronApiBatchResponse implements JPatronResponseInterface {
+
+    @JsonProperty("responses")
+    private Map<String, JPatronApiListResponse<?>> responses = new LinkedHashMap<>();
+
+    public JPatronApiBatchResponse() {
+
+    }
+
+    public JPatronApiBatchResponse(Map<String, ? extends ApiPageResponse<?>> pages) {
+        pages.forEach((name, page) -> this.responses.put(name, new JPatronApiListResponse<>(page)));
+    }
+
+    public Map<String, JPatronApiListResponse<?>> getResponses() {
+        return responses;
+    }
+
+    public void setResponses(Map<String, JPatronApiListResponse<?>> responses) {
+        this.responses = responses;
+    }
+}
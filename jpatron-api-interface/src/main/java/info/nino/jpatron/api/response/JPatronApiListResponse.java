@@ -1,13 +1,18 @@
 package info.nino.jpatron.api.response;
 
 
+import com.fasterxml.jackson.annotation.JsonGetter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import info.nino.jpatron.response.ApiPageResponse;
+import info.nino.jpatron.response.SparseFieldset;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * JPatron API list response implementation
@@ -26,6 +31,9 @@ public class JPatronApiListResponse<T> implements JPatronResponseInterface {
     @JsonProperty("meta")
     protected JPatronApiMeta meta;
 
+    @JsonIgnore
+    private Set<String> fields;
+
     public JPatronApiListResponse() {
 
     }
@@ -47,13 +55,37 @@ public class JPatronApiListResponse<T> implements JPatronResponseInterface {
         //this.type = ReflectionHelper.findGenericClassParameter(page.getClass(), ApiPageResponse.class, 0).getName();
         this.data = page.getContent();
         this.meta = new JPatronApiMeta(page);
+        this.fields = page.getFields();
     }
 
+    @JsonIgnore
     public List<T> getData()
     {
         return data;
     }
 
+    //NOTICE: serialized data objects are pruned to requested sparse fieldset by their Jackson serializer (all attributes if fieldset is not requested)
+    @JsonGetter("data")
+    public List<?> getSerializedData()
+    {
+        if (this.fields == null || this.data == null) {
+            return this.data;
+        }
+
+        return this.data.stream().map(d -> new SparseFieldset(d, this.fields)).collect(Collectors.toList());
+    }
+
+    @JsonIgnore
+    public Set<String> getFields()
+    {
+        return fields;
+    }
+
+    public void setFields(Set<String> fields)
+    {
+        this.fields = fields;
+    }
+
     public void setData(List<T> data)
     {
         this.data = data;
@@ -27,6 +27,9 @@ public class JPatronApiMeta implements Serializable {
 
     public JPatronApiMeta(ApiPageResponse<?> page) {
         this.page = new JPatronApiPage(page.getPageNumber(), page.getPageSize(), page.getTotalPages(), page.getTotalItems());
+        this.page.setEstimated(page.isEstimated() ? Boolean.TRUE : null);
+        this.page.setHasNext(page.getHasNext());
+        this.page.setCursor(page.getCursor());
         this.distinctValues = page.getDistinctValues();
         this.metaValues = page.getMetaValues();
     }
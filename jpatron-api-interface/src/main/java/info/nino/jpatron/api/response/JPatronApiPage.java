@@ -8,7 +8,7 @@ import java.io.Serializable;
 import java.util.Map;
 
 @JsonInclude(JsonInclude.Include.NON_NULL)
-@JsonPropertyOrder({ "pageSize", "pageNumber", "totalPages", "totalItems" })
+@JsonPropertyOrder({ "pageSize", "pageNumber", "totalPages", "totalItems", "estimated", "hasNext", "cursor" })
 public class JPatronApiPage implements Serializable {
 
     @JsonProperty("pageSize")
@@ -23,6 +23,15 @@ public class JPatronApiPage implements Serializable {
     @JsonProperty("totalItems")
     private Long totalItems;
 
+    @JsonProperty("estimated")
+    private Boolean estimated;
+
+    @JsonProperty("hasNext")
+    private Boolean hasNext;
+
+    @JsonProperty("cursor")
+    private String cursor;
+
     public JPatronApiPage() {}
 
     public JPatronApiPage(Integer pageNumber, Integer pageSize, Long totalPages, Long totalItems) {
@@ -48,6 +57,18 @@ public class JPatronApiPage implements Serializable {
         if (page.containsKey("totalItems")) {
             this.totalItems = Long.parseLong(page.get("totalItems").toString());
         }
+
+        if (page.containsKey("estimated")) {
+            this.estimated = Boolean.parseBoolean(page.get("estimated").toString());
+        }
+
+        if (page.containsKey("hasNext")) {
+            this.hasNext = Boolean.parseBoolean(page.get("hasNext").toString());
+        }
+
+        if (page.containsKey("cursor")) {
+            this.cursor = page.get("cursor").toString();
+        }
     }
 
     public Integer getPageSize() {
@@ -81,4 +102,28 @@ public class JPatronApiPage implements Serializable {
     public void setTotalItems(Long totalItems) {
         this.totalItems = totalItems;
     }
+
+    public Boolean getEstimated() {
+        return estimated;
+    }
+
+    public void setEstimated(Boolean estimated) {
+        this.estimated = estimated;
+    }
+
+    public Boolean getHasNext() {
+        return hasNext;
+    }
+
+    public void setHasNext(Boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public void setCursor(String cursor) {
+        this.cursor = cursor;
+    }
 }
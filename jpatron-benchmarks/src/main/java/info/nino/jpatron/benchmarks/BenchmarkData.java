@@ -0,0 +1,146 @@
+package info.nino.jpatron.benchmarks;
+
+import info.nino.jpatron.benchmarks.model.AddressDto;
+import info.nino.jpatron.benchmarks.model.AddressEntity;
+import info.nino.jpatron.benchmarks.model.GenderDto;
+import info.nino.jpatron.benchmarks.model.GenderEntity;
+import info.nino.jpatron.benchmarks.model.PersonDto;
+import info.nino.jpatron.benchmarks.model.PersonEntity;
+import info.nino.jpatron.benchmarks.model.Status;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.MultivaluedMap;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Shared (deterministic) data of the benchmarks: request query params, DTO pages &amp; seeded H2 persistence unit
+ */
+public final class BenchmarkData
+{
+    public static final String PERSISTENCE_UNIT = "jpatron-benchmarks";
+
+    private static final String[] NAMES = { "Nino", "Ana", "Ivan", "Marija", "Luka", "Petra", "Marko", "Iva" };
+    private static final String[] CITIES = { "Zagreb", "Split", "Rijeka", "Osijek", "Zadar" };
+    private static final int ADDRESSES_PER_PERSON = 3;
+    private static final int SEED_BATCH_SIZE = 1000;
+
+    private BenchmarkData()
+    {
+    }
+
+    /**
+     * Creates request query params from key/value pairs (same key may be repeated)
+     * @param keyValues query param keys &amp; values (key1, value1, key2, value2, ...)
+     * @return MultivaluedMap of the query params
+     */
+    public static MultivaluedMap<String, String> queryParams(String... keyValues)
+    {
+        if(keyValues.length % 2 != 0) throw new IllegalArgumentException(String.format("Query params must be key/value pairs: %d values", keyValues.length));
+
+        MultivaluedMap<String, String> queryParams = new MultivaluedHashMap<>();
+        for(int i = 0; i < keyValues.length; i += 2)
+        {
+            queryParams.add(keyValues[i], keyValues[i + 1]);
+        }
+
+        return queryParams;
+    }
+
+    public static List<PersonDto> personDtos(int size)
+    {
+        GenderDto[] genders = { new GenderDto(1L, "m", "Male"), new GenderDto(2L, "f", "Female") };
+
+        List<PersonDto> persons = new ArrayList<>(size);
+        for(long id = 1; id <= size; id++)
+        {
+            List<AddressDto> addresses = new ArrayList<>(ADDRESSES_PER_PERSON);
+            for(int a = 0; a < ADDRESSES_PER_PERSON; a++)
+            {
+                addresses.add(new AddressDto(id * ADDRESSES_PER_PERSON + a, CITIES[(int) ((id + a) % CITIES.length)], "Street " + a));
+            }
+
+            persons.add(new PersonDto(id, BenchmarkData.name(id), BenchmarkData.age(id), BenchmarkData.status(id), BenchmarkData.dateCreated(id), genders[(int) (id % genders.length)], addresses));
+        }
+
+        return persons;
+    }
+
+    public static EntityManagerFactory seedDatabase(int size)
+    {
+        return BenchmarkData.seedDatabase(size, ADDRESSES_PER_PERSON, Map.of());
+    }
+
+    /**
+     * Creates entity manager factory of the in-memory H2 persistence unit &amp; seeds persons (with genders &amp; addresses)
+     * @param size number of seeded persons
+     * @param maxAddresses max number of addresses per person (persons have 0..maxAddresses addresses)
+     * @param properties additional persistence unit properties (e.g. Hibernate statistics)
+     * @return EntityManagerFactory object (closed by benchmark tear-down)
+     */
+    public static EntityManagerFactory seedDatabase(int size, int maxAddresses, Map<String, Object> properties)
+    {
+        EntityManagerFactory emf = Persistence.createEntityManagerFactory(PERSISTENCE_UNIT, properties);
+        EntityManager em = emf.createEntityManager();
+
+        try
+        {
+            em.getTransaction().begin();
+
+            GenderEntity[] genders = { new GenderEntity(1L, "m", "Male"), new GenderEntity(2L, "f", "Female") };
+            for(GenderEntity gender : genders) em.persist(gender);
+
+            for(long id = 1; id <= size; id++)
+            {
+                PersonEntity person = new PersonEntity(id, BenchmarkData.name(id), BenchmarkData.age(id), BenchmarkData.status(id), BenchmarkData.dateCreated(id), genders[(int) (id % genders.length)]);
+                em.persist(person);
+
+                //NOTICE: number of addresses varies per person (to-many filters match only some of them)
+                int addresses = (int) (id % (maxAddresses + 1));
+                for(int a = 0; a < addresses; a++)
+                {
+                    em.persist(new AddressEntity(id * maxAddresses + a, CITIES[(int) ((id + a) % CITIES.length)], "Street " + a, person));
+                }
+
+                if(id % SEED_BATCH_SIZE == 0)   //NOTICE: keeps persistence context small while seeding large datasets
+                {
+                    em.flush();
+                    em.clear();
+                }
+            }
+
+            em.getTransaction().commit();
+        }
+        finally
+        {
+            em.close();
+        }
+
+        return emf;
+    }
+
+    private static String name(long id)
+    {
+        return NAMES[(int) (id % NAMES.length)] + " " + id;
+    }
+
+    private static Integer age(long id)
+    {
+        return (int) (id % 80) + 10;
+    }
+
+    private static Status status(long id)
+    {
+        return Status.values()[(int) (id % Status.values().length)];
+    }
+
+    private static LocalDate dateCreated(long id)
+    {
+        return LocalDate.of(2020, 1, 1).plusDays(id);
+    }
+}
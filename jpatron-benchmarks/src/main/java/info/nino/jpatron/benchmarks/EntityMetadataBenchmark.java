@@ -0,0 +1,128 @@
+package info.nino.jpatron.benchmarks;
+
+import info.nino.jpatron.benchmarks.model.PersonEntity;
+import info.nino.jpatron.helpers.ReflectionHelper;
+import info.nino.jpatron.pagination.Page;
+import info.nino.jpatron.query.RequestBuilder;
+import info.nino.jpatron.services.entity.EntityMetadata;
+import info.nino.jpatron.services.entity.EntityService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request resolution of the EntityService metadata: EntityMetadata registry vs. reflection &amp; builder instantiation on every request
+ * Allocation per request is reported by gc profiler (gc.alloc.rate.norm - bytes per operation):
+ * builders instantiated per request vs. shared builder of the request-scoped service &amp; data-query of the same vs. request-scoped service
+ * Run: java -jar jpatron-benchmarks/target/benchmarks.jar EntityMetadataBenchmark -prof gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EntityMetadataBenchmark
+{
+    private EntityManagerFactory emf;
+    private EntityManager em;
+    private PersonService personService;
+    private RequestBuilder<PersonEntity> requestBuilder;
+
+    /**
+     * Service with reflectively resolved entity Class (getEntityClass() is NOT overridden)
+     */
+    public static class ResolvedPersonService implements EntityService<PersonEntity>
+    {
+        private final EntityManager em;
+
+        public ResolvedPersonService(EntityManager em)
+        {
+            this.em = em;
+        }
+
+        @Override
+        public EntityManager getEntityManager()
+        {
+            return this.em;
+        }
+    }
+
+    @Setup
+    public void setup()
+    {
+        this.emf = BenchmarkData.seedDatabase(1);
+        this.em = this.emf.createEntityManager();
+        this.personService = new PersonService(this.em, null);
+        this.requestBuilder = RequestBuilder.init(PersonEntity.class, 20, 1).addSorting("id");
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        this.em.close();
+        this.emf.close();
+    }
+
+    @Benchmark
+    public Class<?> entityClassByReflection()
+    {
+        return ReflectionHelper.findGenericClassParameterType(ResolvedPersonService.class, EntityService.class, 0);
+    }
+
+    @Benchmark
+    public Class<?> entityClassByRegistry()
+    {
+        return EntityMetadata.of(ResolvedPersonService.class).getEntityClass();
+    }
+
+    @Benchmark
+    public String idAttributeByMetamodel()
+    {
+        return this.em.getMetamodel().entity(PersonEntity.class).getId(Long.class).getName();
+    }
+
+    @Benchmark
+    public String idAttributeByRegistry()
+    {
+        return EntityMetadata.of(PersonService.class).getIdAttributeName(this.em, PersonEntity.class);
+    }
+
+    @Benchmark
+    public EntityService.QueryBuilder<PersonEntity> queryBuilderInstantiated()
+    {
+        //NOTICE: builders created per request (allocation reference of the registry)
+        return new EntityService.QueryBuilder<>(this.personService.getPredicateBuilderInstance());
+    }
+
+    @Benchmark
+    public EntityService.QueryBuilder<PersonEntity> queryBuilderOfSameService()
+    {
+        return this.personService.getQueryBuilderInstance();
+    }
+
+    @Benchmark
+    public EntityService.QueryBuilder<PersonEntity> queryBuilderOfRequestScopedService()
+    {
+        //NOTICE: request-scoped service instance - builder of the service Class is shared (service is NOT retained by registry)
+        return new PersonService(this.em, null).getQueryBuilderInstance();
+    }
+
+    @Benchmark
+    public Page<PersonEntity> dataQueryOfSameService()
+    {
+        this.em.clear();
+
+        return this.personService.dataQuery(this.requestBuilder.build());
+    }
+
+    @Benchmark
+    public Page<PersonEntity> dataQueryOfRequestScopedService()
+    {
+        this.em.clear();
+
+        return new PersonService(this.em, null).dataQuery(this.requestBuilder.build());
+    }
+}
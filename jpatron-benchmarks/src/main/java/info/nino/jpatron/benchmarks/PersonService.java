@@ -0,0 +1,43 @@
+package info.nino.jpatron.benchmarks;
+
+import info.nino.jpatron.benchmarks.model.PersonEntity;
+import info.nino.jpatron.services.entity.EntityService;
+import info.nino.jpatron.services.entity.QueryPlanCache;
+import jakarta.persistence.EntityManager;
+
+/**
+ * EntityService of the person entities (benchmarks &amp; load-test persistence unit)
+ */
+public class PersonService implements EntityService<PersonEntity>
+{
+    private final EntityManager em;
+    private final QueryPlanCache queryPlanCache;
+
+    /**
+     * @param em entity manager of the persistence unit
+     * @param queryPlanCache (shared) query-plan cache or null if query-plan caching is disabled
+     */
+    public PersonService(EntityManager em, QueryPlanCache queryPlanCache)
+    {
+        this.em = em;
+        this.queryPlanCache = queryPlanCache;
+    }
+
+    @Override
+    public EntityManager getEntityManager()
+    {
+        return this.em;
+    }
+
+    @Override
+    public Class<PersonEntity> getEntityClass()
+    {
+        return PersonEntity.class;
+    }
+
+    @Override
+    public QueryPlanCache getQueryPlanCache()
+    {
+        return this.queryPlanCache;
+    }
+}
@@ -0,0 +1,78 @@
+package info.nino.jpatron.benchmarks;
+
+import info.nino.jpatron.api.request.JPatronApiRequest;
+import info.nino.jpatron.api.request.JPatronApiRequestFilter;
+import info.nino.jpatron.api.request.JPatronRequestContext;
+import info.nino.jpatron.benchmarks.model.PersonDto;
+import info.nino.jpatron.benchmarks.model.PersonEntity;
+import info.nino.jpatron.pagination.Page;
+import info.nino.jpatron.query.RequestBuilder;
+import info.nino.jpatron.request.ApiRequest;
+import info.nino.jpatron.services.entity.QueryPlanCache;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Criteria query building &amp; execution of the EntityService data-query (in-memory H2 persistence unit)
+ * Predicate/query builders are internal to the EntityService - criteria construction cost is isolated by
+ * comparing data-query with disabled (criteria built on every request) &amp; enabled query-plan cache (criteria built once per query shape)
+ * Run: java -jar jpatron-benchmarks/target/benchmarks.jar QueryBuilderBenchmark -prof gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QueryBuilderBenchmark
+{
+    private static final int PERSONS = 1000;
+
+    @Param({ "false", "true" })
+    public boolean queryPlanCache;
+
+    private EntityManagerFactory emf;
+    private EntityManager em;
+    private PersonService personService;
+    private ApiRequest<PersonEntity> apiRequest;
+
+    @Setup
+    public void setup()
+    {
+        this.emf = BenchmarkData.seedDatabase(PERSONS);
+        this.em = this.emf.createEntityManager();
+
+        QueryPlanCache planCache = (this.queryPlanCache) ? new QueryPlanCache(100) : null;
+        this.personService = new PersonService(this.em, planCache);
+
+        JPatronApiRequestFilter requestFilter = new JPatronApiRequestFilter();
+        requestFilter.init();
+
+        ApiRequest.QueryParams queryParams = requestFilter.resolveQueryParams(new JPatronRequestContext(PersonDto.class, new String[] { "name" }, true, false, new String[] { ".*" }, BenchmarkData.queryParams(
+                "page[size]", "20",
+                "page[number]", "2",
+                "sort", "-age,name",
+                "query", "(name:~\"Nino\" OR name:~\"Ana\") AND age:>=18 AND gender.code:m AND status:^ACTIVE,PENDING")));
+
+        this.apiRequest = new JPatronApiRequest<>(PersonEntity.class, queryParams, false, true, null);
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        this.em.close();
+        this.emf.close();
+    }
+
+    @Benchmark
+    public Page<PersonEntity> dataQuery()
+    {
+        //NOTICE: persistence context is cleared so every invocation hydrates fetched entities
+        this.em.clear();
+
+        return this.personService.dataQuery(RequestBuilder.init(this.apiRequest).build());
+    }
+}
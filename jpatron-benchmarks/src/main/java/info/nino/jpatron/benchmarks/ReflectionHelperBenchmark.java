@@ -0,0 +1,53 @@
+package info.nino.jpatron.benchmarks;
+
+import info.nino.jpatron.benchmarks.model.PersonDto;
+import info.nino.jpatron.helpers.FieldPathMatcher;
+import info.nino.jpatron.helpers.ReflectionHelper;
+import org.apache.commons.lang3.tuple.Pair;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Field;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Field-path resolution of the request DTO paths: cached DTO-to-entity path resolution, uncached field lookup &amp; allowed-paths matching
+ * Run: java -jar jpatron-benchmarks/target/benchmarks.jar ReflectionHelperBenchmark -prof gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReflectionHelperBenchmark
+{
+    @Param({ "name", "gender.code", "addresses.city" })
+    public String path;
+
+    private FieldPathMatcher allowedPathsMatcher;
+
+    @Setup
+    public void setup()
+    {
+        this.allowedPathsMatcher = FieldPathMatcher.of("name", "age", "status", "gender.*", "addresses.", "!addresses.street");
+    }
+
+    @Benchmark
+    public Pair<Class<?>, String> findEntityFieldByPath()
+    {
+        return ReflectionHelper.findEntityFieldByPath(PersonDto.class, this.path, false);
+    }
+
+    @Benchmark
+    public Optional<Field> findFieldByPath()
+    {
+        return ReflectionHelper.findFieldByPath(PersonDto.class, this.path);
+    }
+
+    @Benchmark
+    public boolean allowedPathsMatcher()
+    {
+        return this.allowedPathsMatcher.matches(this.path);
+    }
+}
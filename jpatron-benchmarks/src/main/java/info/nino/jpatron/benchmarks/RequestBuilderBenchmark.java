@@ -0,0 +1,79 @@
+package info.nino.jpatron.benchmarks;
+
+import info.nino.jpatron.api.request.JPatronApiRequest;
+import info.nino.jpatron.api.request.JPatronApiRequestFilter;
+import info.nino.jpatron.api.request.JPatronRequestContext;
+import info.nino.jpatron.benchmarks.model.PersonDto;
+import info.nino.jpatron.benchmarks.model.PersonEntity;
+import info.nino.jpatron.helpers.FieldPathMatcher;
+import info.nino.jpatron.jsonapi.request.JsonApiRequest;
+import info.nino.jpatron.jsonapi.request.JsonApiRequestFilter;
+import info.nino.jpatron.query.PageRequest;
+import info.nino.jpatron.query.RequestBuilder;
+import info.nino.jpatron.request.ApiRequest;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversion of the resolved API request (ApiRequest) to database-service PageRequest by RequestBuilder.init()
+ * API requests are resolved by request filters in setup: JSON:API (filter/search maps) &amp; jPatron API (query expression)
+ * Run: java -jar jpatron-benchmarks/target/benchmarks.jar RequestBuilderBenchmark -prof gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequestBuilderBenchmark
+{
+    @Param({ "jsonApi", "jPatronApi" })
+    public String api;
+
+    private ApiRequest<PersonEntity> apiRequest;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup()
+    {
+        switch(this.api)
+        {
+            case "jsonApi" ->
+            {
+                JsonApiRequestFilter requestFilter = new JsonApiRequestFilter();
+                requestFilter.init();
+
+                ApiRequest.QueryParams queryParams = requestFilter.resolveQueryParams(PersonDto.class, BenchmarkData.queryParams(
+                        "page[size]", "20",
+                        "sort", "-age,name",
+                        "filter[name][LIKE]", "Nino",
+                        "filter[age][GToE]", "18",
+                        "filter[gender.code]", "m",
+                        "filter[status][IN]", "ACTIVE,PENDING",
+                        "search[name]", "Ana"), true, false, FieldPathMatcher.of(".*"));
+
+                this.apiRequest = new JsonApiRequest(PersonEntity.class, queryParams, false, true, null);
+            }
+            case "jPatronApi" ->
+            {
+                JPatronApiRequestFilter requestFilter = new JPatronApiRequestFilter();
+                requestFilter.init();
+
+                ApiRequest.QueryParams queryParams = requestFilter.resolveQueryParams(new JPatronRequestContext(PersonDto.class, new String[] { "name" }, true, false, new String[] { ".*" }, BenchmarkData.queryParams(
+                        "page[size]", "20",
+                        "sort", "-age,name",
+                        "query", "(name:~\"Nino\" OR name:~\"Ana\") AND age:>=18 AND gender.code:m AND status:^ACTIVE,PENDING")));
+
+                this.apiRequest = new JPatronApiRequest<>(PersonEntity.class, queryParams, false, true, null);
+            }
+            default -> throw new IllegalArgumentException(String.format("Unknown benchmark API: %s", this.api));
+        }
+    }
+
+    @Benchmark
+    public PageRequest<PersonEntity> requestBuilderInit()
+    {
+        return RequestBuilder.init(this.apiRequest).build();
+    }
+}
@@ -0,0 +1,92 @@
+package info.nino.jpatron.benchmarks;
+
+import info.nino.jpatron.api.request.JPatronApiRequestFilter;
+import info.nino.jpatron.api.request.JPatronRequestContext;
+import info.nino.jpatron.benchmarks.model.PersonDto;
+import info.nino.jpatron.efd.request.EfdApiRequestFilter;
+import info.nino.jpatron.helpers.FieldPathMatcher;
+import info.nino.jpatron.jsonapi.request.JsonApiRequestFilter;
+import info.nino.jpatron.request.ApiRequest;
+import jakarta.ws.rs.core.MultivaluedMap;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Request query params parsing of the JSON:API, jPatron API &amp; EFD API request filters (equivalent requests)
+ * Allowed-paths matcher is compiled in setup (same as cached endpoint descriptor of the request filter)
+ * Run: java -jar jpatron-benchmarks/target/benchmarks.jar RequestFilterBenchmark -prof gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequestFilterBenchmark
+{
+    private static final String[] SEARCH_PATHS = { "name" };
+
+    private final FieldPathMatcher allowedPathsMatcher = FieldPathMatcher.of(".*");
+
+    private JsonApiRequestFilter jsonApiRequestFilter;
+    private JPatronApiRequestFilter jPatronApiRequestFilter;
+    private EfdApiRequestFilter efdApiRequestFilter;
+
+    private MultivaluedMap<String, String> jsonApiQueryParams;
+    private MultivaluedMap<String, String> jPatronApiQueryParams;
+    private MultivaluedMap<String, String> efdApiQueryParams;
+
+    @Setup
+    public void setup()
+    {
+        this.jsonApiRequestFilter = new JsonApiRequestFilter();
+        this.jsonApiRequestFilter.init();
+        this.jPatronApiRequestFilter = new JPatronApiRequestFilter();
+        this.jPatronApiRequestFilter.init();
+        this.efdApiRequestFilter = new EfdApiRequestFilter();
+        this.efdApiRequestFilter.init();
+
+        this.jsonApiQueryParams = BenchmarkData.queryParams(
+                "page[size]", "20",
+                "page[number]", "2",
+                "sort", "-age,name",
+                "filter[name][LIKE]", "Nino",
+                "filter[age][GToE]", "18",
+                "filter[gender.code]", "m",
+                "filter[status][IN]", "ACTIVE,PENDING",
+                "search[name]", "Ana");
+
+        this.jPatronApiQueryParams = BenchmarkData.queryParams(
+                "page[size]", "20",
+                "page[number]", "2",
+                "sort", "-age,name",
+                "query", "(name:~\"Nino\" OR name:~\"Ana\") AND age:>=18 AND gender.code:m AND status:^ACTIVE,PENDING");
+
+        this.efdApiQueryParams = BenchmarkData.queryParams(
+                "pageSize", "20",
+                "pageNumber", "2",
+                "sort", "-age,name",
+                "query", "(name:~\"Nino\" OR name:~\"Ana\") AND age:>=18 AND gender.code:m AND status:^ACTIVE,PENDING",
+                "search", "Ana");
+    }
+
+    @Benchmark
+    public ApiRequest.QueryParams jsonApi()
+    {
+        return this.jsonApiRequestFilter.resolveQueryParams(PersonDto.class, this.jsonApiQueryParams, true, false, this.allowedPathsMatcher);
+    }
+
+    @Benchmark
+    public ApiRequest.QueryParams jPatronApi()
+    {
+        JPatronRequestContext requestContext = new JPatronRequestContext(PersonDto.class, SEARCH_PATHS, true, false, new String[] { ".*" }, this.jPatronApiQueryParams);
+        return this.jPatronApiRequestFilter.resolveQueryParams(requestContext);
+    }
+
+    @Benchmark
+    public ApiRequest.QueryParams efdApi()
+    {
+        return this.efdApiRequestFilter.resolveQueryParams(PersonDto.class, this.efdApiQueryParams, SEARCH_PATHS, true);
+    }
+}
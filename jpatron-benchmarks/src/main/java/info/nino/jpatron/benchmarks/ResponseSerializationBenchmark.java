@@ -0,0 +1,65 @@
+package info.nino.jpatron.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import info.nino.jpatron.api.response.JPatronApiListResponse;
+import info.nino.jpatron.benchmarks.model.PersonDto;
+import info.nino.jpatron.efd.response.EfdApiListResponse;
+import info.nino.jpatron.jsonapi.response.JsonApiListResponse;
+import info.nino.jpatron.pagination.Page;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Response construction &amp; Jackson serialization of the page of DTOs: JSON:API, jPatron API &amp; EFD API list responses
+ * Run: java -jar jpatron-benchmarks/target/benchmarks.jar ResponseSerializationBenchmark -prof gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseSerializationBenchmark
+{
+    @Param({ "10", "100" })
+    public int size;
+
+    @Param({ "false", "true" })
+    public boolean sparseFieldset;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private Page<PersonDto> page;
+
+    @Setup
+    public void setup()
+    {
+        this.page = new Page<>(1, this.size, 1000L, BenchmarkData.personDtos(this.size));
+        if(this.sparseFieldset) this.page.setFields(Set.of("id", "name", "age", "gender"));
+    }
+
+    @Benchmark
+    public byte[] jsonApi() throws JsonProcessingException
+    {
+        return this.objectMapper.writeValueAsBytes(new JsonApiListResponse<>(this.page));
+    }
+
+    @Benchmark
+    public byte[] jPatronApi() throws JsonProcessingException
+    {
+        return this.objectMapper.writeValueAsBytes(new JPatronApiListResponse<>(this.page));
+    }
+
+    @Benchmark
+    public byte[] efdApi() throws JsonProcessingException
+    {
+        return this.objectMapper.writeValueAsBytes(new EfdApiListResponse<>(this.page));
+    }
+}
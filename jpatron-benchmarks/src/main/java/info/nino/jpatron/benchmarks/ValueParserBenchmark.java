@@ -0,0 +1,101 @@
+package info.nino.jpatron.benchmarks;
+
+import com.github.sisyphsu.dateparser.DateParserUtils;
+import info.nino.jpatron.helpers.ConstantsUtil;
+import info.nino.jpatron.helpers.DateTimeFormatUtil;
+import info.nino.jpatron.services.entity.ValueParser;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.temporal.Temporal;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Filter value parsing: ValueParser registry vs. previous EntityService.Helper.parseValue() implementation
+ * Run: java -jar jpatron-benchmarks/target/benchmarks.jar ValueParserBenchmark -prof gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValueParserBenchmark
+{
+    public enum Status { ACTIVE, INACTIVE, PENDING, DELETED, ARCHIVED }
+
+    @Param({ "long", "enum", "date", "localDate", "wildcardDate" })
+    public String type;
+
+    private Class<?> typeClass;
+    private String value;
+
+    @Setup
+    public void setup()
+    {
+        switch(this.type)
+        {
+            case "long" -> { this.typeClass = Long.class; this.value = "1234567890"; }
+            case "enum" -> { this.typeClass = Status.class; this.value = "archived"; }
+            case "date" -> { this.typeClass = Date.class; this.value = "2001-07-04T12:08:56.235-07:00"; }
+            case "localDate" -> { this.typeClass = LocalDate.class; this.value = "2001-07-04"; }
+            case "wildcardDate" -> { this.typeClass = Date.class; this.value = "Jul 4, 2001 12:08"; }
+            default -> throw new IllegalArgumentException(String.format("Unknown benchmark type: %s", this.type));
+        }
+    }
+
+    @Benchmark
+    public Comparable<?> valueParser()
+    {
+        return ValueParser.parse(this.typeClass, this.value);
+    }
+
+    @Benchmark
+    public Comparable<?> legacyParseValue()
+    {
+        return ValueParserBenchmark.legacyParseValue(this.typeClass, this.value);
+    }
+
+    //NOTICE: copy of previous EntityService.Helper.parseValue() implementation (baseline)
+    private static Comparable legacyParseValue(Class clazz, String value)
+    {
+        try
+        {
+            if(Boolean.class.isAssignableFrom(clazz) || boolean.class.isAssignableFrom(clazz)) return Boolean.parseBoolean(value);
+            if(Byte.class.isAssignableFrom(clazz) || byte.class.isAssignableFrom(clazz)) return Byte.parseByte(value);
+            if(Short.class.isAssignableFrom(clazz) || short.class.isAssignableFrom(clazz)) return Short.parseShort(value);
+            if(Integer.class.isAssignableFrom(clazz) || int.class.isAssignableFrom(clazz)) return Integer.parseInt(value);
+            if(Long.class.isAssignableFrom(clazz) || long.class.isAssignableFrom(clazz)) return Long.parseLong(value);
+            if(Float.class.isAssignableFrom(clazz) || float.class.isAssignableFrom(clazz)) return Float.parseFloat(value);
+            if(Double.class.isAssignableFrom(clazz) || double.class.isAssignableFrom(clazz)) return Double.parseDouble(value);
+            if(clazz.isEnum() || Enum.class.isAssignableFrom(clazz))
+            {
+                return (Comparable) Arrays.stream(clazz.getEnumConstants())
+                        .filter(e -> ((Enum) e).name().equalsIgnoreCase(value)).findAny()
+                        .orElseGet(() -> Enum.valueOf(clazz, value));
+            }
+            if(Date.class.isAssignableFrom(clazz)
+                || Calendar.class.isAssignableFrom(clazz)
+                || (Temporal.class.isAssignableFrom(clazz) && !Year.class.isAssignableFrom(clazz) && !YearMonth.class.isAssignableFrom(clazz)))
+            {
+                String dateFormatPattern = System.getProperty(ConstantsUtil.ENTITY_SERVICE_DATE_FORMAT_PATTERN, DateTimeFormatUtil.TIMESTAMP_PATTERN_ISO8601);
+                Date dateValue = DateTimeFormatUtil.parseDateTime(dateFormatPattern, value);
+                if(dateValue != null) return dateValue;
+
+                Date wildcardDate = DateParserUtils.parseDate(value);
+                return (wildcardDate != null) ? wildcardDate : value;
+            }
+        }
+        catch(Exception ex)
+        {
+            //NOTICE: baseline logged warning &amp; returned original value
+        }
+
+        return value;
+    }
+}
@@ -0,0 +1,218 @@
+package info.nino.jpatron.benchmarks.loadtest;
+
+import info.nino.jpatron.api.request.JPatronApiRequest;
+import info.nino.jpatron.api.request.JPatronApiRequestFilter;
+import info.nino.jpatron.api.request.JPatronRequestContext;
+import info.nino.jpatron.benchmarks.BenchmarkData;
+import info.nino.jpatron.benchmarks.PersonService;
+import info.nino.jpatron.benchmarks.model.AddressDto;
+import info.nino.jpatron.benchmarks.model.GenderDto;
+import info.nino.jpatron.benchmarks.model.PersonDto;
+import info.nino.jpatron.benchmarks.model.PersonEntity;
+import info.nino.jpatron.pagination.Page;
+import info.nino.jpatron.query.RequestBuilder;
+import info.nino.jpatron.request.ApiRequest;
+import info.nino.jpatron.services.entity.QueryPlanCache;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * End-to-end load-test of the EntityService data-query (in-memory H2 persistence unit with generated dataset)
+ * Scenarios (jPatron API requests) are read from scenarios file - see {@link LoadTestScenario} for the file format
+ * Each scenario request is resolved by jPatron API request filter &amp; executed by EntityService on new EntityManager per iteration
+ * Reported per scenario: latency percentiles, fetched rows and SQL statements, entity loads &amp; collection fetches (Hibernate Statistics)
+ * WARNING: statements per request exceeding queries per request indicate N+1 selects (lazy relations loaded one by one)
+ * Configuration (system properties):
+ * 'loadtest.scenarios' - scenarios file path (default: bundled load-test-scenarios.properties),
+ * 'loadtest.persons' - generated persons (default: 10000), 'loadtest.max-addresses' - max addresses per person (default: 5),
+ * 'loadtest.warmup' - warm-up iterations (default: 20), 'loadtest.iterations' - measured iterations (default: 100),
+ * 'loadtest.query-plan-cache' - query-plan cache size (default: 0 - disabled)
+ * Run: java -Dloadtest.persons=100000 -cp jpatron-benchmarks/target/benchmarks.jar info.nino.jpatron.benchmarks.loadtest.LoadTest
+ */
+public class LoadTest
+{
+    private static final String DEFAULT_SCENARIOS_RESOURCE = "/load-test-scenarios.properties";
+    private static final String[] SEARCH_PATHS = { "name" };
+    private static final String[] ALLOWED_PATHS = { ".*" };
+    private static final double[] PERCENTILES = { 50, 90, 99 };
+
+    private final EntityManagerFactory emf;
+    private final Statistics statistics;
+    private final QueryPlanCache queryPlanCache;
+    private final JPatronApiRequestFilter requestFilter;
+    private final int warmupIterations;
+    private final int iterations;
+
+    public LoadTest(EntityManagerFactory emf, QueryPlanCache queryPlanCache, int warmupIterations, int iterations)
+    {
+        if(iterations <= 0) throw new IllegalArgumentException(String.format("Load-test iterations must be positive: %d", iterations));
+
+        this.emf = emf;
+        this.statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        this.statistics.setStatisticsEnabled(true);
+        this.queryPlanCache = queryPlanCache;
+        this.requestFilter = new JPatronApiRequestFilter();
+        this.requestFilter.init();
+        this.warmupIterations = warmupIterations;
+        this.iterations = iterations;
+    }
+
+    public static void main(String[] args) throws IOException
+    {
+        int persons = Integer.getInteger("loadtest.persons", 10000);
+        int maxAddresses = Integer.getInteger("loadtest.max-addresses", 5);
+        int warmupIterations = Integer.getInteger("loadtest.warmup", 20);
+        int iterations = Integer.getInteger("loadtest.iterations", 100);
+        int queryPlanCacheSize = Integer.getInteger("loadtest.query-plan-cache", 0);
+
+        List<LoadTestScenario> scenarios;
+        try(Reader reader = LoadTest.openScenarios(System.getProperty("loadtest.scenarios")))
+        {
+            scenarios = LoadTestScenario.read(reader);
+        }
+
+        System.out.printf("Generating dataset: %d persons (0..%d addresses per person)%n", persons, maxAddresses);
+        EntityManagerFactory emf = BenchmarkData.seedDatabase(persons, maxAddresses, Map.of("hibernate.generate_statistics", Boolean.TRUE.toString()));
+
+        try
+        {
+            QueryPlanCache queryPlanCache = (queryPlanCacheSize > 0) ? new QueryPlanCache(queryPlanCacheSize) : null;
+            LoadTest loadTest = new LoadTest(emf, queryPlanCache, warmupIterations, iterations);
+
+            System.out.printf("%-24s %12s %12s %12s %12s %12s %12s %12s %12s %12s%n",
+                    "scenario", "p50 [ms]", "p90 [ms]", "p99 [ms]", "max [ms]", "rows/req", "stmts/req", "queries/req", "loads/req", "fetches/req");
+
+            for(LoadTestScenario scenario : scenarios)
+            {
+                System.out.println(loadTest.run(scenario));
+            }
+        }
+        finally
+        {
+            emf.close();
+        }
+    }
+
+    private static Reader openScenarios(String scenariosPath) throws IOException
+    {
+        if(scenariosPath != null) return Files.newBufferedReader(Path.of(scenariosPath), StandardCharsets.UTF_8);
+
+        InputStream scenarios = LoadTest.class.getResourceAsStream(DEFAULT_SCENARIOS_RESOURCE);
+        if(scenarios == null) throw new IllegalStateException(String.format("Scenarios resource NOT FOUND: %s", DEFAULT_SCENARIOS_RESOURCE));
+
+        return new InputStreamReader(scenarios, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Runs scenario (warm-up &amp; measured iterations) - statistics are collected only for measured iterations
+     * @param scenario load-test scenario
+     * @return measured scenario result
+     */
+    public Result run(LoadTestScenario scenario)
+    {
+        ApiRequest<PersonEntity> apiRequest;
+        try
+        {
+            JPatronRequestContext requestContext = new JPatronRequestContext(PersonDto.class, SEARCH_PATHS, true, false, ALLOWED_PATHS, scenario.getQueryParams());
+            ApiRequest.QueryParams queryParams = this.requestFilter.resolveQueryParams(requestContext);
+            apiRequest = new JPatronApiRequest<>(PersonEntity.class, queryParams, scenario.isDistinctDataset(), true, scenario.getEntityGraphPaths());
+        }
+        catch(RuntimeException | Error e)
+        {
+            throw new IllegalArgumentException(String.format("Invalid scenario '%s': %s", scenario.getName(), e.getMessage()), e);
+        }
+
+        for(int i = 0; i < this.warmupIterations; i++)
+        {
+            this.execute(apiRequest, scenario.isMapToDto());
+        }
+
+        this.statistics.clear();
+
+        long rows = 0;
+        long[] latencies = new long[this.iterations];
+        for(int i = 0; i < this.iterations; i++)
+        {
+            long startTimeNs = System.nanoTime();
+            rows += this.execute(apiRequest, scenario.isMapToDto());
+            latencies[i] = System.nanoTime() - startTimeNs;
+        }
+
+        Arrays.sort(latencies);
+        double[] percentiles = Arrays.stream(PERCENTILES).map(p -> LoadTest.percentile(latencies, p) / 1_000_000d).toArray();
+
+        return new Result(scenario.getName(), percentiles, latencies[latencies.length - 1] / 1_000_000d,
+                (double) rows / this.iterations,
+                (double) this.statistics.getPrepareStatementCount() / this.iterations,
+                (double) this.statistics.getQueryExecutionCount() / this.iterations,
+                (double) this.statistics.getEntityLoadCount() / this.iterations,
+                (double) this.statistics.getCollectionFetchCount() / this.iterations);
+    }
+
+    //NOTICE: EntityManager per request (same as request-scoped persistence context of the application)
+    private int execute(ApiRequest<PersonEntity> apiRequest, boolean mapToDto)
+    {
+        EntityManager em = this.emf.createEntityManager();
+
+        try
+        {
+            PersonService personService = new PersonService(em, this.queryPlanCache);
+            Page<PersonEntity> page = personService.dataQuery(RequestBuilder.init(apiRequest).build());
+
+            if(mapToDto) page.getContent().forEach(LoadTest::toDto);
+
+            return page.getContent().size();
+        }
+        finally
+        {
+            em.close();
+        }
+    }
+
+    //NOTICE: DTO mapping reads lazy relations (N+1 selects if relations are not fetched by entity graph)
+    private static PersonDto toDto(PersonEntity person)
+    {
+        GenderDto gender = (person.getGender() != null) ? new GenderDto(person.getGender().getId(), person.getGender().getCode(), person.getGender().getName()) : null;
+        List<AddressDto> addresses = person.getAddresses().stream()
+                .map(a -> new AddressDto(a.getId(), a.getCity(), a.getStreet()))
+                .collect(Collectors.toList());
+
+        return new PersonDto(person.getId(), person.getName(), person.getAge(), person.getStatus(), person.getDateCreated(), gender, addresses);
+    }
+
+    //NOTICE: nearest-rank percentile of sorted values
+    private static long percentile(long[] sortedValues, double percentile)
+    {
+        int rank = (int) Math.ceil(percentile / 100d * sortedValues.length);
+        return sortedValues[Math.max(rank, 1) - 1];
+    }
+
+    /**
+     * Measured result of the load-test scenario (latencies in milliseconds, counts per request)
+     */
+    public record Result(String scenario, double[] latencyPercentiles, double maxLatency, double rows,
+                         double statements, double queries, double entityLoads, double collectionFetches)
+    {
+        @Override
+        public String toString()
+        {
+            return String.format("%-24s %12.3f %12.3f %12.3f %12.3f %12.1f %12.1f %12.1f %12.1f %12.1f",
+                    this.scenario, this.latencyPercentiles[0], this.latencyPercentiles[1], this.latencyPercentiles[2], this.maxLatency,
+                    this.rows, this.statements, this.queries, this.entityLoads, this.collectionFetches);
+        }
+    }
+}
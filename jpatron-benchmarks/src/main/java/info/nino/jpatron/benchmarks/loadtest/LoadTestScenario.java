@@ -0,0 +1,124 @@
+package info.nino.jpatron.benchmarks.loadtest;
+
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.MultivaluedMap;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Load-test scenario - jPatron API request declared in scenarios file
+ * Scenario is declared in single line: 'name=query-string' (e.g. 'active=page[size]=20&amp;filter[status]=ACTIVE')
+ * Query string is the same as in request URL (values are URL-decoded) - production request mix can be copied from access logs
+ * Load-test options (not passed to request filter): 'entityGraph' (CSV of entity-graph paths),
+ * 'distinctDataset' (true/false) &amp; 'mapToDto' (true/false - maps fetched entities with lazy relations to DTOs)
+ * Empty lines &amp; lines starting with '#' are ignored
+ */
+public class LoadTestScenario
+{
+    public static final String OPTION_ENTITY_GRAPH = "entityGraph";
+    public static final String OPTION_DISTINCT_DATASET = "distinctDataset";
+    public static final String OPTION_MAP_TO_DTO = "mapToDto";
+
+    private static final String COMMENT_PREFIX = "#";
+    private static final char NAME_SEPARATOR = '=';
+    private static final String PARAM_SEPARATOR = "&";
+    private static final char VALUE_SEPARATOR = '=';
+
+    private final String name;
+    private final MultivaluedMap<String, String> queryParams;
+    private final String[] entityGraphPaths;
+    private final boolean distinctDataset;
+    private final boolean mapToDto;
+
+    private LoadTestScenario(String name, MultivaluedMap<String, String> queryParams)
+    {
+        this.name = name;
+
+        String entityGraph = queryParams.getFirst(OPTION_ENTITY_GRAPH);
+        this.entityGraphPaths = (entityGraph != null && !entityGraph.isBlank()) ? entityGraph.split("\\s*,\\s*") : null;
+        this.distinctDataset = Boolean.parseBoolean(queryParams.getFirst(OPTION_DISTINCT_DATASET));
+        this.mapToDto = Boolean.parseBoolean(queryParams.getFirst(OPTION_MAP_TO_DTO));
+
+        queryParams.remove(OPTION_ENTITY_GRAPH);
+        queryParams.remove(OPTION_DISTINCT_DATASET);
+        queryParams.remove(OPTION_MAP_TO_DTO);
+        this.queryParams = queryParams;
+    }
+
+    /**
+     * Reads scenarios from scenarios file (in declaration order)
+     * @param reader scenarios file reader
+     * @return list of declared scenarios
+     * @throws IOException if scenarios file is not readable
+     */
+    public static List<LoadTestScenario> read(Reader reader) throws IOException
+    {
+        List<LoadTestScenario> scenarios = new ArrayList<>();
+
+        BufferedReader lineReader = new BufferedReader(reader);
+        int lineNumber = 0;
+        for(String line = lineReader.readLine(); line != null; line = lineReader.readLine())
+        {
+            lineNumber++;
+            line = line.trim();
+            if(line.isEmpty() || line.startsWith(COMMENT_PREFIX)) continue;
+
+            scenarios.add(LoadTestScenario.parse(line, lineNumber));
+        }
+
+        return scenarios;
+    }
+
+    private static LoadTestScenario parse(String line, int lineNumber)
+    {
+        int nameEnd = line.indexOf(NAME_SEPARATOR);
+        if(nameEnd <= 0) throw new IllegalArgumentException(String.format("Invalid scenario at line %d (expected 'name=query-string'): %s", lineNumber, line));
+
+        String name = line.substring(0, nameEnd).trim();
+        MultivaluedMap<String, String> queryParams = new MultivaluedHashMap<>();
+
+        for(String param : line.substring(nameEnd + 1).split(PARAM_SEPARATOR))
+        {
+            if(param.isBlank()) continue;
+
+            int valueStart = param.indexOf(VALUE_SEPARATOR);
+            String key = (valueStart >= 0) ? param.substring(0, valueStart) : param;
+            String value = (valueStart >= 0) ? param.substring(valueStart + 1) : "";   //NOTICE: value-less params (e.g. distinct[status])
+
+            queryParams.add(URLDecoder.decode(key.trim(), StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+
+        return new LoadTestScenario(name, queryParams);
+    }
+
+    public String getName()
+    {
+        return name;
+    }
+
+    public MultivaluedMap<String, String> getQueryParams()
+    {
+        return queryParams;
+    }
+
+    public String[] getEntityGraphPaths()
+    {
+        return entityGraphPaths;
+    }
+
+    public boolean isDistinctDataset()
+    {
+        return distinctDataset;
+    }
+
+    public boolean isMapToDto()
+    {
+        return mapToDto;
+    }
+}
@@ -0,0 +1,37 @@
+package info.nino.jpatron.benchmarks.model;
+
+import info.nino.jpatron.annotiation.EntityClass;
+
+@EntityClass(AddressEntity.class)
+public class AddressDto
+{
+    private Long id;
+    private String city;
+    private String street;
+
+    public AddressDto()
+    {
+    }
+
+    public AddressDto(Long id, String city, String street)
+    {
+        this.id = id;
+        this.city = city;
+        this.street = street;
+    }
+
+    public Long getId()
+    {
+        return id;
+    }
+
+    public String getCity()
+    {
+        return city;
+    }
+
+    public String getStreet()
+    {
+        return street;
+    }
+}
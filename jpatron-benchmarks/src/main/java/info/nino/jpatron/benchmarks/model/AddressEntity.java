@@ -0,0 +1,54 @@
+package info.nino.jpatron.benchmarks.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(name = "address")
+public class AddressEntity
+{
+    @Id
+    private Long id;
+
+    private String city;
+
+    private String street;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    private PersonEntity person;
+
+    public AddressEntity()
+    {
+    }
+
+    public AddressEntity(Long id, String city, String street, PersonEntity person)
+    {
+        this.id = id;
+        this.city = city;
+        this.street = street;
+        this.person = person;
+    }
+
+    public Long getId()
+    {
+        return id;
+    }
+
+    public String getCity()
+    {
+        return city;
+    }
+
+    public String getStreet()
+    {
+        return street;
+    }
+
+    public PersonEntity getPerson()
+    {
+        return person;
+    }
+}
@@ -0,0 +1,37 @@
+package info.nino.jpatron.benchmarks.model;
+
+import info.nino.jpatron.annotiation.EntityClass;
+
+@EntityClass(GenderEntity.class)
+public class GenderDto
+{
+    private Long id;
+    private String code;
+    private String name;
+
+    public GenderDto()
+    {
+    }
+
+    public GenderDto(Long id, String code, String name)
+    {
+        this.id = id;
+        this.code = code;
+        this.name = name;
+    }
+
+    public Long getId()
+    {
+        return id;
+    }
+
+    public String getCode()
+    {
+        return code;
+    }
+
+    public String getName()
+    {
+        return name;
+    }
+}
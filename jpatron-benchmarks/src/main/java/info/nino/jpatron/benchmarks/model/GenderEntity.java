@@ -0,0 +1,43 @@
+package info.nino.jpatron.benchmarks.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(name = "gender")
+public class GenderEntity
+{
+    @Id
+    private Long id;
+
+    private String code;
+
+    private String name;
+
+    public GenderEntity()
+    {
+    }
+
+    public GenderEntity(Long id, String code, String name)
+    {
+        this.id = id;
+        this.code = code;
+        this.name = name;
+    }
+
+    public Long getId()
+    {
+        return id;
+    }
+
+    public String getCode()
+    {
+        return code;
+    }
+
+    public String getName()
+    {
+        return name;
+    }
+}
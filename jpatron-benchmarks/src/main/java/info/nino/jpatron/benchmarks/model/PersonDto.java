@@ -0,0 +1,68 @@
+package info.nino.jpatron.benchmarks.model;
+
+import info.nino.jpatron.annotiation.EntityClass;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@EntityClass(PersonEntity.class)
+public class PersonDto
+{
+    private Long id;
+    private String name;
+    private Integer age;
+    private Status status;
+    private LocalDate dateCreated;
+    private GenderDto gender;
+    private List<AddressDto> addresses;
+
+    public PersonDto()
+    {
+    }
+
+    public PersonDto(Long id, String name, Integer age, Status status, LocalDate dateCreated, GenderDto gender, List<AddressDto> addresses)
+    {
+        this.id = id;
+        this.name = name;
+        this.age = age;
+        this.status = status;
+        this.dateCreated = dateCreated;
+        this.gender = gender;
+        this.addresses = addresses;
+    }
+
+    public Long getId()
+    {
+        return id;
+    }
+
+    public String getName()
+    {
+        return name;
+    }
+
+    public Integer getAge()
+    {
+        return age;
+    }
+
+    public Status getStatus()
+    {
+        return status;
+    }
+
+    public LocalDate getDateCreated()
+    {
+        return dateCreated;
+    }
+
+    public GenderDto getGender()
+    {
+        return gender;
+    }
+
+    public List<AddressDto> getAddresses()
+    {
+        return addresses;
+    }
+}
@@ -0,0 +1,86 @@
+package info.nino.jpatron.benchmarks.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+@Entity
+@Table(name = "person")
+public class PersonEntity
+{
+    @Id
+    private Long id;
+
+    private String name;
+
+    private Integer age;
+
+    @Enumerated(EnumType.STRING)
+    private Status status;
+
+    private LocalDate dateCreated;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    private GenderEntity gender;
+
+    @OneToMany(mappedBy = "person", fetch = FetchType.LAZY)
+    private List<AddressEntity> addresses = new ArrayList<>();
+
+    public PersonEntity()
+    {
+    }
+
+    public PersonEntity(Long id, String name, Integer age, Status status, LocalDate dateCreated, GenderEntity gender)
+    {
+        this.id = id;
+        this.name = name;
+        this.age = age;
+        this.status = status;
+        this.dateCreated = dateCreated;
+        this.gender = gender;
+    }
+
+    public Long getId()
+    {
+        return id;
+    }
+
+    public String getName()
+    {
+        return name;
+    }
+
+    public Integer getAge()
+    {
+        return age;
+    }
+
+    public Status getStatus()
+    {
+        return status;
+    }
+
+    public LocalDate getDateCreated()
+    {
+        return dateCreated;
+    }
+
+    public GenderEntity getGender()
+    {
+        return gender;
+    }
+
+    public List<AddressEntity> getAddresses()
+    {
+        return addresses;
+    }
+}
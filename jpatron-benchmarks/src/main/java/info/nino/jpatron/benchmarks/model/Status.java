@@ -0,0 +1,6 @@
+package info.nino.jpatron.benchmarks.model;
+
+public enum Status
+{
+    ACTIVE, INACTIVE, PENDING, ARCHIVED
+}
@@ -1,5 +1,6 @@
 package info.nino.jpatron.jsonapi.annotiation;
 
+import info.nino.jpatron.request.CountMode;
 import jakarta.ws.rs.NameBinding;
 
 import java.lang.annotation.*;
@@ -31,6 +32,28 @@ public @interface JsonApi
      */
     boolean pagination() default true;
 
+    /**
+     * Total-count strategy of the paginated result list
+     * EXACT by default - total items/pages are resolved with separate count query
+     * NONE - count query is skipped, HAS_NEXT - only next page availability is resolved, ESTIMATED - dialect-provided estimate for large tables
+     * @return count mode of the paginated endpoint
+     */
+    CountMode countMode() default CountMode.EXACT;
+
+    /**
+     * Time-to-live (in seconds) of cached distinct &amp; meta values of the endpoint
+     * 0 by default - distinct &amp; meta values are NOT cached (EntityService must also provide ResultCache instance)
+     * @return cache TTL of distinct &amp; meta values in seconds
+     */
+    long metaCacheTtl() default 0;
+
+    /**
+     * Slow-query threshold (in milliseconds) of the endpoint queries
+     * -1 by default - threshold of the EntityService SlowQueryRecorder is used (EntityService must provide SlowQueryRecorder instance)
+     * @return slow-query threshold in milliseconds
+     */
+    long slowQueryThreshold() default -1;
+
     /**
      * Flag which determines if result list should be distinct
      * True by default - result list values will be de-duplicated
@@ -3,8 +3,11 @@ package info.nino.jpatron.jsonapi.complex;
 import com.fasterxml.jackson.annotation.*;
 
 import java.lang.reflect.Method;
+import info.nino.jpatron.response.SparseFieldset;
+
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Type of `data` property object inside JsonApiResponse object
@@ -31,6 +34,9 @@ public class Data<T> implements java.io.Serializable {
     @JsonProperty(value = "meta", access = JsonProperty.Access.READ_ONLY)
     private Map<String, Object> meta = new HashMap<>();
 
+    @JsonIgnore
+    private Set<String> fields;
+
     @JsonIgnore
     private Map<String, Object> additionalProperties = new HashMap<String, Object>();
 
@@ -50,6 +56,11 @@ public class Data<T> implements java.io.Serializable {
         this.attributes = o;
     }
 
+    public Data(T o, Set<String> fields) {
+        this(o);
+        this.fields = fields;
+    }
+
     public Number getId() {
         return id;
     }
@@ -66,10 +77,30 @@ public class Data<T> implements java.io.Serializable {
         this.type = type;
     }
 
+    @JsonIgnore
     public T getAttributes() {
         return attributes;
     }
 
+    //NOTICE: serialized attributes are pruned to requested sparse fieldset by their Jackson serializer (all attributes if fieldset is not requested)
+    @JsonGetter("attributes")
+    public Object getSerializedAttributes() {
+        if (this.fields == null || this.attributes == null) {
+            return this.attributes;
+        }
+
+        return new SparseFieldset(this.attributes, this.fields);
+    }
+
+    @JsonIgnore
+    public Set<String> getFields() {
+        return fields;
+    }
+
+    public void setFields(Set<String> fields) {
+        this.fields = fields;
+    }
+
     public void setAttributes(T attributes) {
         this.attributes = attributes;
     }
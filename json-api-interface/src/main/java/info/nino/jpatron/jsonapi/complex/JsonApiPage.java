@@ -21,6 +21,15 @@ public class JsonApiPage {
     @JsonProperty("pages")
     private Long pages;
 
+    @JsonProperty("estimated")
+    private Boolean estimated;
+
+    @JsonProperty("hasNext")
+    private Boolean hasNext;
+
+    @JsonProperty("cursor")
+    private String cursor;
+
     public JsonApiPage() {}
     public JsonApiPage(Map<String, Object> page) {
         if (page.containsKey("total")) {
@@ -38,6 +47,18 @@ public class JsonApiPage {
         if (page.containsKey("size")) {
             this.size = Integer.parseInt(page.get("size").toString());
         }
+
+        if (page.containsKey("estimated")) {
+            this.estimated = Boolean.parseBoolean(page.get("estimated").toString());
+        }
+
+        if (page.containsKey("hasNext")) {
+            this.hasNext = Boolean.parseBoolean(page.get("hasNext").toString());
+        }
+
+        if (page.containsKey("cursor")) {
+            this.cursor = page.get("cursor").toString();
+        }
     }
     public JsonApiPage(Long total, Integer size, Integer current, Long pages) {
         this.total = total;
@@ -81,4 +102,34 @@ public class JsonApiPage {
     {
         this.pages = pages;
     }
+
+    public Boolean getEstimated()
+    {
+        return estimated;
+    }
+
+    public void setEstimated(Boolean estimated)
+    {
+        this.estimated = estimated;
+    }
+
+    public Boolean getHasNext()
+    {
+        return hasNext;
+    }
+
+    public void setHasNext(Boolean hasNext)
+    {
+        this.hasNext = hasNext;
+    }
+
+    public String getCursor()
+    {
+        return cursor;
+    }
+
+    public void setCursor(String cursor)
+    {
+        this.cursor = cursor;
+    }
 }
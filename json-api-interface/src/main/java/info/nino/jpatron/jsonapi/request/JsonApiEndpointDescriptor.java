@@ -0,0 +1,146 @@
+package info.nino.jpatron.jsonapi.request;
+
+import info.nino.jpatron.helpers.FieldPathMatcher;
+import info.nino.jpatron.helpers.ReflectionHelper;
+import info.nino.jpatron.jsonapi.annotiation.JsonApi;
+import info.nino.jpatron.request.CountMode;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolved (per resource method) @JsonApi endpoint configuration
+ * Descriptor is resolved once - request filter only parses query-param values of each request
+ */
+public class JsonApiEndpointDescriptor
+{
+    //NOTICE: resource class scope - same (inherited) resource method can be annotated differently on each resource class
+    private static final ClassValue<Map<Method, JsonApiEndpointDescriptor>> DESCRIPTORS = new ClassValue<>()
+    {
+        @Override
+        protected Map<Method, JsonApiEndpointDescriptor> computeValue(Class<?> resourceClass)
+        {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final Class<?> dtoClass;
+    private final Class<?> entityClass;
+    private final boolean pagination;
+    private final boolean distinctDataset;
+    private final boolean readOnlyDataset;
+    private final boolean allowEntityPaths;
+    private final FieldPathMatcher allowedPathsMatcher;
+    private final String[] entityGraphPaths;
+    private final CountMode countMode;
+    private final long metaCacheTtl;
+    private final long slowQueryThreshold;
+    private final String endpoint;
+
+    private JsonApiEndpointDescriptor(JsonApi jsonApiAnnot, String endpoint)
+    {
+        this.dtoClass = jsonApiAnnot.value();
+        this.entityClass = (this.isEnabled()) ? ReflectionHelper.resolveEntityClassFromDtoClass(this.dtoClass) : null;
+        this.pagination = jsonApiAnnot.pagination();
+        this.distinctDataset = jsonApiAnnot.distinctDataset();
+        this.readOnlyDataset = jsonApiAnnot.readOnlyDataset();
+        this.allowEntityPaths = jsonApiAnnot.allowEntityPaths();
+        this.allowedPathsMatcher = FieldPathMatcher.of(jsonApiAnnot.allowedPaths());
+        this.entityGraphPaths = jsonApiAnnot.entityGraphPaths();
+        this.countMode = jsonApiAnnot.countMode();
+        this.metaCacheTtl = jsonApiAnnot.metaCacheTtl();
+        this.slowQueryThreshold = jsonApiAnnot.slowQueryThreshold();
+        this.endpoint = endpoint;
+
+        if(this.isEnabled()) ReflectionHelper.warmUpEntityFieldPaths(this.dtoClass, this.allowEntityPaths, jsonApiAnnot.allowedPaths());
+    }
+
+    /**
+     * Cached descriptor of the resource method - @JsonApi annotation of the method (or resource class)
+     * @param resourceClass JAX-RS resource class
+     * @param resourceMethod JAX-RS resource method
+     * @return endpoint descriptor
+     */
+    public static JsonApiEndpointDescriptor of(Class<?> resourceClass, Method resourceMethod)
+    {
+        return DESCRIPTORS.get(resourceClass).computeIfAbsent(resourceMethod, m ->
+        {
+            JsonApi jsonApiAnnot = m.getAnnotation(JsonApi.class);
+            if(jsonApiAnnot == null) jsonApiAnnot = resourceClass.getAnnotation(JsonApi.class);
+
+            return new JsonApiEndpointDescriptor(jsonApiAnnot, String.format("%s.%s", resourceClass.getSimpleName(), m.getName()));
+        });
+    }
+
+    /**
+     * @return false if endpoint DTO class is not defined (request is not resolved)
+     */
+    public boolean isEnabled()
+    {
+        return !Object.class.equals(this.dtoClass);    //dtoClass.isAnnotationPresent(jakarta.persistence.Entity)
+    }
+
+    public Class<?> getDtoClass()
+    {
+        return dtoClass;
+    }
+
+    public Class<?> getEntityClass()
+    {
+        return entityClass;
+    }
+
+    public boolean isPagination()
+    {
+        return pagination;
+    }
+
+    public boolean isDistinctDataset()
+    {
+        return distinctDataset;
+    }
+
+    public boolean isReadOnlyDataset()
+    {
+        return readOnlyDataset;
+    }
+
+    public boolean isAllowEntityPaths()
+    {
+        return allowEntityPaths;
+    }
+
+    public FieldPathMatcher getAllowedPathsMatcher()
+    {
+        return allowedPathsMatcher;
+    }
+
+    public String[] getEntityGraphPaths()
+    {
+        return entityGraphPaths.clone();
+    }
+
+    public CountMode getCountMode()
+    {
+        return countMode;
+    }
+
+    public long getMetaCacheTtl()
+    {
+        return metaCacheTtl;
+    }
+
+    public long getSlowQueryThreshold()
+    {
+        return slowQueryThreshold;
+    }
+
+    /**
+     * @return name of the endpoint resource method (e.g. 'PersonResource.getPersons')
+     */
+    public String getEndpoint()
+    {
+        return endpoint;
+    }
+}
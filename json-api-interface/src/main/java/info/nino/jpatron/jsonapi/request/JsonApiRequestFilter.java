@@ -1,10 +1,11 @@
 package info.nino.jpatron.jsonapi.request;
 
 import info.nino.jpatron.helpers.ConstantsUtil;
+import info.nino.jpatron.helpers.FieldPathMatcher;
 import info.nino.jpatron.helpers.ReflectionHelper;
-import info.nino.jpatron.helpers.RegexHelper;
 import info.nino.jpatron.jsonapi.annotiation.JsonApi;
 import info.nino.jpatron.jsonapi.annotiation.JsonApiInject;
+import info.nino.jpatron.request.ApiRequestMetrics;
 import info.nino.jpatron.request.QueryExpression;
 import info.nino.jpatron.request.QuerySort;
 import jakarta.annotation.PostConstruct;
@@ -28,7 +29,6 @@ import org.apache.commons.lang3.StringUtils;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 
 import java.lang.reflect.Field;
-import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.util.*;
 import java.util.regex.Matcher;
@@ -51,6 +51,15 @@ public class JsonApiRequestFilter implements ContainerRequestFilter {   //, Requ
     private static final Integer DEFAULT_PAGE_NUMBER = 1;
     private static final Integer DEFAULT_PAGE_SIZE = 10;
 
+    private static final String QUERY_PARAM_REGEX = "^%s\\[([^\\[\\]\\s]+)\\](?:\\[([^\\[\\]\\s]+)\\])?";
+    private static final Pattern FILTER_REGEX = Pattern.compile(String.format(QUERY_PARAM_REGEX, QueryParamType.FILTER.getName()));
+    private static final Pattern SEARCH_REGEX = Pattern.compile(String.format(QUERY_PARAM_REGEX, QueryParamType.SEARCH.getName()));
+    private static final Pattern DISTINCT_REGEX = Pattern.compile(String.format(QUERY_PARAM_REGEX, QueryParamType.DISTINCT.getName()));
+    private static final Pattern META_REGEX = Pattern.compile(String.format(QUERY_PARAM_REGEX, QueryParamType.META.getName()));
+    private static final Pattern FIELDS_REGEX = Pattern.compile(String.format("^%s(?:\\[([^\\[\\]\\s]+)\\])?", QueryParamType.FIELDS.getName()));
+
+    public static final ApiRequestMetrics METRICS = ApiRequestMetrics.of("json-api");
+
     @Inject
     @ConfigProperty(name = ConstantsUtil.JSON_API_INTERFACE_THROW_INVALID_PATH_EXCEPTION, defaultValue = BooleanUtils.TRUE)
     Instance<Boolean> configPropertyThrowInvalidPathExceptions;
@@ -75,7 +84,8 @@ public class JsonApiRequestFilter implements ContainerRequestFilter {   //, Requ
     @PostConstruct
     public void init()
     {
-        if(this.configPropertyThrowInvalidPathExceptions.isUnsatisfied())
+        //NOTICE: config property is not injected when filter is used outside of CDI container (e.g. benchmarks)
+        if(this.configPropertyThrowInvalidPathExceptions == null || this.configPropertyThrowInvalidPathExceptions.isUnsatisfied())
         {
             String throwInvalidPathExceptionsConfig = System.getProperty(ConstantsUtil.JSON_API_INTERFACE_THROW_INVALID_PATH_EXCEPTION, BooleanUtils.TRUE);
             this.throwInvalidPathExceptions = BooleanUtils.toBoolean(throwInvalidPathExceptionsConfig);
@@ -92,60 +102,52 @@ public class JsonApiRequestFilter implements ContainerRequestFilter {   //, Requ
     {
         ResourceInfo resourceInfo = this.resourceInfo;
 
-        Method resourceMethod = resourceInfo.getResourceMethod();
-        JsonApi jsonApiAnnot = resourceMethod.getAnnotation(JsonApi.class);
-        if(jsonApiAnnot == null)
-        {
-            Class<?> resourceClass = resourceInfo.getResourceClass();
-            jsonApiAnnot = resourceClass.getAnnotation(JsonApi.class);
-        }
-
-        Class<?> dtoClass = jsonApiAnnot.value();
-        if(Object.class.equals(dtoClass)) return;    //dtoClass.isAnnotationPresent(jakarta.persistence.Entity)
+        //NOTICE: annotation values, DTO/entity classes & allowed-paths matcher are resolved once per resource method
+        JsonApiEndpointDescriptor endpoint = JsonApiEndpointDescriptor.of(resourceInfo.getResourceClass(), resourceInfo.getResourceMethod());
+        if(!endpoint.isEnabled()) return;
 
-        Class<?> entityClass = ReflectionHelper.resolveEntityClassFromDtoClass(dtoClass);
+        MultivaluedMap<String, String> reqQueryParams = requestContext.getUriInfo().getQueryParameters();
 
-        boolean pagination = jsonApiAnnot.pagination();
-        boolean distinct = jsonApiAnnot.distinctDataset();
-        boolean readOnly = jsonApiAnnot.readOnlyDataset();
-        boolean allowEntityPaths = jsonApiAnnot.allowEntityPaths();
-        String[] allowedPaths = jsonApiAnnot.allowedPaths();
-        //String[] fetchEntityPaths = jsonApiAnnot.fetchEntityPaths();
-        String[] entityGraphPaths = jsonApiAnnot.entityGraphPaths();
+        JsonApiRequest.QueryParams queryParams = null;
+        long resolveStartTimeNs = System.nanoTime();
+        try
+        {
+            queryParams = this.resolveQueryParams(endpoint.getDtoClass(), reqQueryParams, endpoint.isPagination(), endpoint.isAllowEntityPaths(), endpoint.getAllowedPathsMatcher());
+        }
+        catch(RuntimeException | Error ex)
+        {
+            METRICS.recordRejectedRequest(System.nanoTime() - resolveStartTimeNs);
+            throw ex;
+        }
 
-        MultivaluedMap<String, String> reqQueryParams = requestContext.getUriInfo().getQueryParameters();
-        JsonApiRequest.QueryParams queryParams = this.resolveQueryParams(dtoClass, reqQueryParams, allowEntityPaths, pagination, allowedPaths);
+        METRICS.recordRequest(queryParams, System.nanoTime() - resolveStartTimeNs);
 
-        JsonApiRequest jsonApiRequest = new JsonApiRequest(entityClass, queryParams, distinct, readOnly, entityGraphPaths);
+        JsonApiRequest jsonApiRequest = new JsonApiRequest(endpoint.getEntityClass(), queryParams, endpoint.isDistinctDataset(), endpoint.isReadOnlyDataset(), endpoint.getEntityGraphPaths());
+        jsonApiRequest.setCountMode(endpoint.getCountMode());
+        jsonApiRequest.setMetaCacheTtl(endpoint.getMetaCacheTtl());
+        jsonApiRequest.setSlowQueryThreshold(endpoint.getSlowQueryThreshold());
+        jsonApiRequest.setEndpoint(endpoint.getEndpoint());
         this.getJsonApiRequestEvent().fire(jsonApiRequest);
     }
 
     public JsonApiRequest.QueryParams resolveQueryParams(Class<?> dtoClass, MultivaluedMap<String, String> queryParams, boolean pagination, boolean allowEntityPaths, String[] allowedPaths)
+    {
+        return this.resolveQueryParams(dtoClass, queryParams, pagination, allowEntityPaths, FieldPathMatcher.of(allowedPaths));
+    }
+
+    public JsonApiRequest.QueryParams resolveQueryParams(Class<?> dtoClass, MultivaluedMap<String, String> queryParams, boolean pagination, boolean allowEntityPaths, FieldPathMatcher allowedPathsMatcher)
     {
         Integer pageSize = (pagination) ? JsonApiRequestFilter.DEFAULT_PAGE_SIZE : null;
         Integer pageNumber = (pagination) ? JsonApiRequestFilter.DEFAULT_PAGE_NUMBER : null;
+        String cursor = null;
         MultiValuedMap<Class<?>, String> includes = null;
+        Set<String> fields = null;
         Map<String, Map.Entry<Class<?>, QuerySort.Direction>> sort = null;
         Map<Class<?>, Map<String, MultiValuedMap<QueryExpression.CompareOperator, String>>> filters = null;
         Map<Class<?>, Map<String, MultiValuedMap<QueryExpression.ValueModifier, String>>> searches = null;
         Map<Class<?>, MultiValuedMap<String, String>> distinctValues = null;
         Map<Class<?>, Map<String, MultiValuedMap<QueryExpression.Function, String>>> metaValues = null;
 
-        String jsonApiQueryParamRegex = "^%s\\[([^\\[\\]\\s]+)\\](?:\\[([^\\[\\]\\s]+)\\])?";
-        List<String> regexAllowedPaths = (allowedPaths != null && allowedPaths.length > 0) ? RegexHelper.compileRegexWildcards(allowedPaths) : null;
-
-        String filterQueryParamRegex = String.format(jsonApiQueryParamRegex, QueryParamType.FILTER.getName());
-        Pattern filterRegex = Pattern.compile(filterQueryParamRegex);
-
-        String searchQueryParamRegex = String.format(jsonApiQueryParamRegex, QueryParamType.SEARCH.getName());
-        Pattern searchRegex = Pattern.compile(searchQueryParamRegex);
-
-        String distinctQueryParamRegex = String.format(jsonApiQueryParamRegex, QueryParamType.DISTINCT.getName());
-        Pattern distinctRegex = Pattern.compile(distinctQueryParamRegex);
-
-        String metaQueryParamRegex = String.format(jsonApiQueryParamRegex, QueryParamType.META.getName());
-        Pattern metaRegex = Pattern.compile(metaQueryParamRegex);
-
         if(queryParams != null && !queryParams.isEmpty())
         {
             for(Map.Entry<String, List<String>> entry : queryParams.entrySet())
@@ -167,6 +169,12 @@ public class JsonApiRequestFilter implements ContainerRequestFilter {   //, Requ
                     pageSize = Integer.parseInt(v.get(0));
                 }
 
+                boolean pageCursorIsPresent = k != null && !k.isEmpty() && QueryParamType.PAGE_CURSOR.getName().equals(k);
+                if(valueIsPresent && pageCursorIsPresent)
+                {
+                    cursor = v.get(0).trim(); //NOTICE: empty value requests first page of keyset pagination
+                }
+
                 // Sort query params
                 boolean sortIsPresent = k != null && !k.isEmpty() && QueryParamType.SORT.getName().equals(k);
                 if(valueIsPresent && sortIsPresent)
@@ -184,7 +192,7 @@ public class JsonApiRequestFilter implements ContainerRequestFilter {   //, Requ
                             sortPath = sortPath.substring(1);
                         }
 
-                        Map.Entry<Class<?>, String> sortField = this.findEntityFieldByPath(dtoClass, sortPath, allowEntityPaths, regexAllowedPaths);
+                        Map.Entry<Class<?>, String> sortField = this.findEntityFieldByPath(dtoClass, sortPath, allowEntityPaths, allowedPathsMatcher);
 
                         if(sortField != null)
                         {
@@ -212,7 +220,7 @@ public class JsonApiRequestFilter implements ContainerRequestFilter {   //, Requ
                         includePath = includePath.trim();   //remove leading and trailing spaces
                         if(includePath.isEmpty()) continue;
 
-                        Map.Entry<Class<?>, String> includeClassField = this.findEntityFieldByPath(dtoClass, includePath, allowEntityPaths, regexAllowedPaths);
+                        Map.Entry<Class<?>, String> includeClassField = this.findEntityFieldByPath(dtoClass, includePath, allowEntityPaths, allowedPathsMatcher);
 
                         if(includeClassField != null)
                         {
@@ -228,8 +236,36 @@ public class JsonApiRequestFilter implements ContainerRequestFilter {   //, Requ
                     }
                 }
 
+                //Sparse fieldset query params
+                Matcher fieldsMatcher = FIELDS_REGEX.matcher(k);
+                boolean fieldsIsPresent = k != null && !k.isEmpty() && fieldsMatcher.matches();
+                if(fieldsIsPresent)
+                {
+                    //NOTICE: only root resource fieldset is supported - type is DTO Class name (fields[PersonDTO]) or omitted (fields)
+                    String fieldsType = fieldsMatcher.group(1);
+                    if(fieldsType == null || fieldsType.equals(dtoClass.getSimpleName()) || fieldsType.equals(dtoClass.getTypeName()))
+                    {
+                        if(fields == null) fields = new LinkedHashSet<>(List.of(ConstantsUtil.ID_FIELD));   //id is always included
+                        LinkedList<String> fieldValues = CollectionUtils.emptyIfNull(v).stream().map(s -> s.split(QUERY_PARAM_VALUE_SEPARATOR)).flatMap(m -> Arrays.stream(m.clone())).collect(Collectors.toCollection(LinkedList::new));
+
+                        for(String fieldName : fieldValues)
+                        {
+                            fieldName = fieldName.trim();   //remove leading and trailing spaces
+                            if(fieldName.isEmpty()) continue;
+
+                            if(!ReflectionHelper.findModelField(dtoClass, fieldName).isPresent())
+                            {
+                                if(this.throwInvalidPathExceptions) throw new IllegalStateException(String.format("Field '%s' NOT FOUND in DTO Class: %s!", fieldName, dtoClass.getSimpleName()));
+                                else continue;
+                            }
+
+                            fields.add(fieldName);
+                        }
+                    }
+                }
+
                 //Filter query params
-                Matcher filterMatcher = filterRegex.matcher(k);
+                Matcher filterMatcher = FILTER_REGEX.matcher(k);
                 boolean filterIsPresent = k != null && !k.isEmpty() && filterMatcher.matches();
                 if(filterIsPresent)
                 {
@@ -237,7 +273,7 @@ public class JsonApiRequestFilter implements ContainerRequestFilter {   //, Requ
                     String operator = (filterMatcher.group(2) != null) ? filterMatcher.group(2) : JsonApiRequestFilter.DEFAULT_FILTER_COMPARATOR;
                     List<String> filterValues = v;
 
-                    Map.Entry<Class<?>, String> filterField = this.findEntityFieldByPath(dtoClass, filterPath, allowEntityPaths, regexAllowedPaths);
+                    Map.Entry<Class<?>, String> filterField = this.findEntityFieldByPath(dtoClass, filterPath, allowEntityPaths, allowedPathsMatcher);
 
                     if(filterField != null)
                     {
@@ -255,7 +291,7 @@ public class JsonApiRequestFilter implements ContainerRequestFilter {   //, Requ
                 }
 
                 //Search query params
-                Matcher searchMatcher = searchRegex.matcher(k);
+                Matcher searchMatcher = SEARCH_REGEX.matcher(k);
                 boolean searchIsPresent = k != null && !k.isEmpty() && searchMatcher.matches();
                 if(searchIsPresent)
                 {
@@ -263,7 +299,7 @@ public class JsonApiRequestFilter implements ContainerRequestFilter {   //, Requ
                     String searchModifier = (searchMatcher.group(2) != null) ? searchMatcher.group(2) : JsonApiRequestFilter.DEFAULT_SEARCH_MODIFIER;
                     List<String> searchValues = v;
 
-                    Map.Entry<Class<?>, String> searchField = this.findEntityFieldByPath(dtoClass, searchPath, allowEntityPaths, regexAllowedPaths);
+                    Map.Entry<Class<?>, String> searchField = this.findEntityFieldByPath(dtoClass, searchPath, allowEntityPaths, allowedPathsMatcher);
 
                     if(searchField != null)
                     {
@@ -281,14 +317,14 @@ public class JsonApiRequestFilter implements ContainerRequestFilter {   //, Requ
                 }
 
                 //Distinct query params
-                Matcher distinctMatcher = distinctRegex.matcher(k);
+                Matcher distinctMatcher = DISTINCT_REGEX.matcher(k);
                 boolean distinctIsPresent = k != null && !k.isEmpty() && distinctMatcher.matches();
                 if(distinctIsPresent)
                 {
                     String keyColumnPath = distinctMatcher.group(1);
                     List<String> labelColumnPaths = v;
 
-                    Map.Entry<Class<?>, String> keyField = this.findEntityFieldByPath(dtoClass, keyColumnPath, allowEntityPaths, regexAllowedPaths);
+                    Map.Entry<Class<?>, String> keyField = this.findEntityFieldByPath(dtoClass, keyColumnPath, allowEntityPaths, allowedPathsMatcher);
 
                     if(keyField != null)
                     {
@@ -302,7 +338,7 @@ public class JsonApiRequestFilter implements ContainerRequestFilter {   //, Requ
                         {
                             if(StringUtils.isNotBlank(labelColumnPath))
                             {
-                                Map.Entry<Class<?>, String> labelField = this.findEntityFieldByPath(dtoClass, labelColumnPath, allowEntityPaths, regexAllowedPaths);
+                                Map.Entry<Class<?>, String> labelField = this.findEntityFieldByPath(dtoClass, labelColumnPath, allowEntityPaths, allowedPathsMatcher);
                                 if(labelField != null)
                                 {
                                     //NOTICE allowed: if(keyField.getKey() != labelField.getKey()) throw new RuntimeException(String.format("Distinct KEY Entity (%s) different from LABEL Entity (%s)!", keyField.getKey(), labelField.getKey()));
@@ -320,7 +356,7 @@ public class JsonApiRequestFilter implements ContainerRequestFilter {   //, Requ
                 }
 
                 //Meta query params
-                Matcher metaMatcher = metaRegex.matcher(k);
+                Matcher metaMatcher = META_REGEX.matcher(k);
                 boolean metaIsPresent = k != null && !k.isEmpty() && metaMatcher.matches();
                 if(metaIsPresent)
                 {
@@ -328,7 +364,7 @@ public class JsonApiRequestFilter implements ContainerRequestFilter {   //, Requ
                     String function = (metaMatcher.group(2) != null) ? metaMatcher.group(2) : JsonApiRequestFilter.DEFAULT_META_FUNCTION;
                     List<String> labelColumnPaths = v;
 
-                    Map.Entry<Class<?>, String> valueField = this.findEntityFieldByPath(dtoClass, valueColumnPath, allowEntityPaths, regexAllowedPaths);
+                    Map.Entry<Class<?>, String> valueField = this.findEntityFieldByPath(dtoClass, valueColumnPath, allowEntityPaths, allowedPathsMatcher);
 
                     if(valueField != null)
                     {
@@ -345,7 +381,7 @@ public class JsonApiRequestFilter implements ContainerRequestFilter {   //, Requ
                         {
                             if(StringUtils.isNotBlank(labelColumnPath))
                             {
-                                Map.Entry<Class<?>, String> labelField = this.findEntityFieldByPath(dtoClass, labelColumnPath, allowEntityPaths, regexAllowedPaths);
+                                Map.Entry<Class<?>, String> labelField = this.findEntityFieldByPath(dtoClass, labelColumnPath, allowEntityPaths, allowedPathsMatcher);
                                 if(labelField != null)
                                 {
                                     metaFuncs.put(QueryExpression.Function.valueOf(function), labelField.getValue());
@@ -362,8 +398,10 @@ public class JsonApiRequestFilter implements ContainerRequestFilter {   //, Requ
         }
 
         JsonApiRequest.QueryParams requestQueryParams = new JsonApiRequest.QueryParams(pageSize, pageNumber);
+        if(cursor != null) requestQueryParams.setCursor(cursor);
         if(sort != null) requestQueryParams.setSort(sort);
         if(includes != null) requestQueryParams.setIncludes(includes);
+        if(fields != null) requestQueryParams.setFields(fields);
         if(filters != null) requestQueryParams.setFilters(filters);
         if(searches != null) requestQueryParams.setSearches(searches);
         if(distinctValues != null) requestQueryParams.setDistinctValues(distinctValues);
@@ -372,12 +410,12 @@ public class JsonApiRequestFilter implements ContainerRequestFilter {   //, Requ
         return requestQueryParams;
     }
 
-    private Map.Entry<Class<?>, String> findEntityFieldByPath(Class<?> clazz, String path, boolean allowEntityDive, List<String> regexAllowedPaths)
+    private Map.Entry<Class<?>, String> findEntityFieldByPath(Class<?> clazz, String path, boolean allowEntityDive, FieldPathMatcher allowedPathsMatcher)
     {
         try
         {
             Map.Entry<Class<?>, String> entityField = ReflectionHelper.findEntityFieldByPath(clazz, path, allowEntityDive);
-            this.checkIfPathAllowed(path, regexAllowedPaths);
+            this.checkIfPathAllowed(path, allowedPathsMatcher);
             return entityField;
         }
         catch(IllegalStateException ex)
@@ -393,9 +431,9 @@ public class JsonApiRequestFilter implements ContainerRequestFilter {   //, Requ
         }
     }
 
-    private void checkIfPathAllowed(String fieldPath, List<String> regexAllowedPaths) throws RuntimeException
+    private void checkIfPathAllowed(String fieldPath, FieldPathMatcher allowedPathsMatcher) throws RuntimeException
     {
-        if(regexAllowedPaths != null && regexAllowedPaths.stream().noneMatch(rgx -> (ReflectionHelper.PATH_SEPARATOR + fieldPath).matches(rgx)))    //".field.path"
+        if(allowedPathsMatcher != null && !allowedPathsMatcher.matches(fieldPath))
         {
             throw new IllegalAccessError(String.format("Field path '%s' NOT ALLOWED!", fieldPath));
         }
@@ -5,6 +5,7 @@ public enum QueryParamType {
     PAGE("page"),
     PAGE_SIZE("page[size]"),
     PAGE_NUMBER("page[number]"),
+    PAGE_CURSOR("page[cursor]"),
     SORT("sort"),
     FILTER("filter"),
     SEARCH("search"),
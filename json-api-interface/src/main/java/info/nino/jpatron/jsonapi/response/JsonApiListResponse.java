@@ -8,6 +8,7 @@ import info.nino.jpatron.response.ApiPageResponse;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 /**
  * JSON:API response implementation
@@ -24,9 +25,12 @@ public class JsonApiListResponse<T> extends JsonApiResponse<List<T>> {
 
     public JsonApiListResponse(ApiPageResponse<T> page)
     {
-        this.setListData(page.getContent());
+        this.setListData(page.getContent(), page.getFields());
 
         JsonApiPage p = new JsonApiPage(page.getTotalItems(), page.getPageSize(), page.getPageNumber(), page.getTotalPages());
+        p.setEstimated(page.isEstimated() ? Boolean.TRUE : null);
+        p.setHasNext(page.getHasNext());
+        p.setCursor(page.getCursor());
         this.setPage(p);
 
         if(page.getDistinctValues() != null) this.getMeta().put("distinctValues", page.getDistinctValues());
@@ -60,9 +64,13 @@ public class JsonApiListResponse<T> extends JsonApiResponse<List<T>> {
     }
 
     public void setListData(List<T> list) {
+        this.setListData(list, null);
+    }
+
+    public void setListData(List<T> list, Set<String> fields) {
         List<Data<T>> data = new ArrayList<>(list.size());
         for (T t : list) {
-            data.add(new Data<>(t));
+            data.add(new Data<>(t, fields));
         }
 
         this.data = data;